@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -150,6 +151,13 @@ final class REngine implements Engine, Engine.Timings {
 
     @CompilationFinal private RSyntaxNode replPrintCallNode;
 
+    /**
+     * Sources parsed by {@link #preInitialize()}, keyed by their content, which is used by the
+     * first evaluation of the same content. The paths of the sources may differ once the image
+     * runs. Cleared when the engine is activated.
+     */
+    private final HashMap<String, List<RSyntaxNode>> preParsedSources = new HashMap<>();
+
     private REngine(RContext context) {
         this.context = context;
         this.childTimes = new long[]{0, 0};
@@ -159,6 +167,17 @@ final class REngine implements Engine, Engine.Timings {
         return new REngine(context);
     }
 
+    @Override
+    public void preInitialize() {
+        for (Source source : RBuiltinPackages.preInitialize(context)) {
+            try {
+                preParsedSources.put(source.getCharacters().toString(), parseSource(source));
+            } catch (ParseException e) {
+                throw new RInternalError(e, "error while parsing %s", source.getName());
+            }
+        }
+    }
+
     @Override
     public void activate(REnvironment.ContextStateImpl stateREnvironment) {
         RInstrumentation.activate(context);
@@ -183,6 +202,7 @@ final class REngine implements Engine, Engine.Timings {
         REnvironment.baseInitialize(baseFrame, globalFrame);
         context.getStateRFFI().initializeVariables(context);
         RBuiltinPackages.loadBase(context, baseFrame);
+        preParsedSources.clear();
         RGraphics.initialize(context);
         if (context.getOption(LoadProfiles)) {
             StartupTiming.timestamp("Before Profiles Loaded");
@@ -298,6 +318,12 @@ final class REngine implements Engine, Engine.Timings {
     }
 
     private List<RSyntaxNode> parseSource(Source source) throws ParseException {
+        if (!preParsedSources.isEmpty()) {
+            List<RSyntaxNode> preParsed = preParsedSources.remove(source.getCharacters().toString());
+            if (preParsed != null) {
+                return preParsed;
+            }
+        }
         RParserFactory.Parser parser = RParserFactory.getParser();
         return parser.script(source, new RASTBuilder(true), context.getLanguage());
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,8 +27,6 @@ import static com.oracle.truffle.r.runtime.ffi.RFFILog.logDownCall;
 import static com.oracle.truffle.r.runtime.ffi.RFFILog.logDownCallReturn;
 import static com.oracle.truffle.r.runtime.ffi.RFFILog.logEnabled;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.oracle.truffle.api.CompilerAsserts;
@@ -73,6 +71,7 @@ import com.oracle.truffle.r.runtime.ffi.RFFIVariables;
 import com.oracle.truffle.r.runtime.ffi.StatsRFFI;
 import com.oracle.truffle.r.runtime.ffi.ToolsRFFI;
 import com.oracle.truffle.r.runtime.ffi.ZipRFFI;
+import com.oracle.truffle.r.runtime.ffi.util.NativeArena;
 import com.oracle.truffle.r.runtime.ffi.util.NativeMemory;
 
 public class TruffleNFI_Context extends RFFIContext {
@@ -102,11 +101,10 @@ public class TruffleNFI_Context extends RFFIContext {
     private RuntimeException lastException;
 
     /**
-     * Memory allocated using Rf_alloc, which should be reclaimed at every down-call exit. Note:
-     * this is less efficient than GNUR's version, we may need to implement it properly should the
-     * performance be a problem.
+     * Memory allocated using R_alloc, which is reclaimed at every down-call exit. Each down-call
+     * opens a new scope of the arena.
      */
-    public final ArrayDeque<ArrayList<Long>> transientAllocations = new ArrayDeque<>();
+    public final NativeArena transientAllocations = new NativeArena();
 
     public void setLastUpCallException(RuntimeException ex) {
         assert ex == null || lastException == null : "last up-call exception is already set";
@@ -384,6 +382,7 @@ public class TruffleNFI_Context extends RFFIContext {
                 // these stay on the same thread
                 break;
         }
+        transientAllocations.dispose();
         super.beforeDispose(context);
     }
 
@@ -413,16 +412,11 @@ public class TruffleNFI_Context extends RFFIContext {
     @Override
     public Object beforeDowncall(MaterializedFrame frame, RFFIFactory.Type rffiType) {
         Object tokenFromSuper = super.beforeDowncall(frame, RFFIFactory.Type.NFI);
-        addTransientAllocationsFrame();
+        transientAllocations.pushScope();
         acquireLock();
         return new Object[]{tokenFromSuper, pushCallbacks()};
     }
 
-    @TruffleBoundary
-    private void addTransientAllocationsFrame() {
-        transientAllocations.push(new ArrayList<>());
-    }
-
     @Override
     public void beforeUpcall(RContext context, boolean canRunGc, Type rffiType) {
         super.beforeUpcall(context, canRunGc, rffiType);
@@ -436,7 +430,7 @@ public class TruffleNFI_Context extends RFFIContext {
         Object[] tokens = (Object[]) beforeValue;
         super.afterDowncall(tokens[0], rffiType, profiles);
         popCallbacks((long) tokens[1]);
-        freeCurrentTransientAllocations();
+        transientAllocations.popScope();
         RuntimeException lastUpCallEx = getLastUpCallException();
         setLastUpCallException(null);
         releaseLock();
@@ -446,13 +440,6 @@ public class TruffleNFI_Context extends RFFIContext {
         }
     }
 
-    @TruffleBoundary
-    private void freeCurrentTransientAllocations() {
-        for (Long ptr : transientAllocations.pop()) {
-            NativeMemory.free(ptr, "Rf_alloc");
-        }
-    }
-
     public static TruffleNFI_Context getInstance() {
         return RContext.getInstance().getStateRFFI(TruffleNFI_Context.class);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -408,6 +408,9 @@ public final class FFIProcessor extends AbstractProcessor {
         w.append("        if (RFFILog.logEnabled()) {\n");
         w.append("            RFFILog.logUpCall(\"" + name + "\", arguments);\n");
         w.append("        }\n");
+        w.append("        if (RFFILog.upCallCountsEnabled()) {\n");
+        w.append("            RFFILog.countUpCall(\"" + name + "\");\n");
+        w.append("        }\n");
         w.append("        RContext ctx = RContext.getInstance(interopLib);\n");
         w.append("        RFFIContext rffiCtx = ctxProfile.profile(ctx.getStateRFFI());\n");
 
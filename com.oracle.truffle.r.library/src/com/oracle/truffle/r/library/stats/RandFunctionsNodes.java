@@ -2,7 +2,7 @@
  * Copyright (c) 1995, 1996, 1997  Robert Gentleman and Ross Ihaka
  * Copyright (c) 1998-2013, The R Core Team
  * Copyright (c) 2003-2015, The R Foundation
- * Copyright (c) 2016, 2022, Oracle and/or its affiliates
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -31,12 +31,14 @@ import java.util.Arrays;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.ImportStatic;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.BranchProfile;
+import com.oracle.truffle.api.profiles.ConditionProfile;
 import com.oracle.truffle.api.profiles.LoopConditionProfile;
 import com.oracle.truffle.r.library.stats.RandFunctionsNodesFactory.ConvertToLengthNodeGen;
 import com.oracle.truffle.r.library.stats.RandFunctionsNodesFactory.RandFunction1NodeGen;
@@ -61,6 +63,7 @@ import com.oracle.truffle.r.runtime.data.nodes.VectorAccess;
 import com.oracle.truffle.r.runtime.data.nodes.VectorAccess.SequentialIterator;
 import com.oracle.truffle.r.runtime.nmath.RandomFunctions.RandFunction1_Double;
 import com.oracle.truffle.r.runtime.nmath.RandomFunctions.RandFunction2_Double;
+import com.oracle.truffle.r.runtime.nmath.RandomFunctions.RandFunction2_DoubleBulk;
 import com.oracle.truffle.r.runtime.nmath.RandomFunctions.RandFunction3_DoubleBase;
 import com.oracle.truffle.r.runtime.nmath.RandomFunctions.RandomNumberProvider;
 import com.oracle.truffle.r.runtime.nodes.RBaseNode;
@@ -75,6 +78,12 @@ import com.oracle.truffle.r.runtime.rng.RRNG;
 public final class RandFunctionsNodes {
     private static final RDoubleVector DUMMY_VECTOR = RDataFactory.createDoubleVectorFromScalar(1);
 
+    /**
+     * Minimal length of the result for which functions implementing
+     * {@link RandFunction2_DoubleBulk} generate the whole vector at once.
+     */
+    private static final int BULK_GENERATION_LENGTH = 64;
+
     private RandFunctionsNodes() {
         // static class
     }
@@ -247,6 +256,8 @@ public final class RandFunctionsNodes {
 
     protected abstract static class RandFunctionDoubleExecutorNode extends RandFunctionIterator {
 
+        private final ConditionProfile bulkProfile = ConditionProfile.createBinaryProfile();
+
         protected RandFunctionDoubleExecutorNode(Supplier<? extends RandFunction3_DoubleBase> functionFactory) {
             super(functionFactory);
         }
@@ -270,6 +281,12 @@ public final class RandFunctionsNodes {
 
             boolean nans = false;
             double[] result = new double[length];
+            if (bulkProfile.profile(length >= BULK_GENERATION_LENGTH && aAccess.getLength(aIter) == 1 && bAccess.getLength(bIter) == 1)) {
+                if (generateBulk(function, a.getDataAt(0), b.getDataAt(0), randProvider, result)) {
+                    putRNGState();
+                    return RDataFactory.createDoubleVector(result, RDataFactory.COMPLETE_VECTOR);
+                }
+            }
             loopConditionProfile.profileCounted(length);
             for (int i = 0; loopConditionProfile.inject(i < length); i++) {
                 aAccess.nextWithWrap(aIter);
@@ -289,6 +306,11 @@ public final class RandFunctionsNodes {
             return RDataFactory.createDoubleVector(result, !nans);
         }
 
+        @TruffleBoundary
+        private static boolean generateBulk(RandFunction3_DoubleBase function, double a, double b, RandomNumberProvider randProvider, double[] result) {
+            return function instanceof RandFunction2_DoubleBulk && ((RandFunction2_DoubleBulk) function).generateBulk(a, b, randProvider, result);
+        }
+
         @Specialization(replaces = "cached")
         protected RDoubleVector generic(int length, RDoubleVector a, RDoubleVector b, RDoubleVector c, RandomNumberProvider randProvider,
                         @Cached("createFunction()") RandFunction3_DoubleBase function) {
@@ -2,7 +2,7 @@
  * Copyright (c) 1995, 1996, 1997  Robert Gentleman and Ross Ihaka
  * Copyright (c) 1998-2013, The R Core Team
  * Copyright (c) 2003-2015, The R Foundation
- * Copyright (c) 2016, 2020, Oracle and/or its affiliates
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -24,6 +24,7 @@ import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.numericValue
 import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.toBoolean;
 
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.Node;
@@ -43,6 +44,8 @@ import com.oracle.truffle.r.nodes.profile.VectorLengthProfile;
 import com.oracle.truffle.r.runtime.RError;
 import com.oracle.truffle.r.runtime.RError.Message;
 import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.context.FastROptions;
+import com.oracle.truffle.r.runtime.context.RContext;
 import com.oracle.truffle.r.runtime.data.RDataFactory;
 import com.oracle.truffle.r.runtime.data.RDoubleVector;
 import com.oracle.truffle.r.runtime.nmath.MathFunctions.Function2_1;
@@ -51,12 +54,18 @@ import com.oracle.truffle.r.runtime.nmath.MathFunctions.Function3_1;
 import com.oracle.truffle.r.runtime.nmath.MathFunctions.Function3_2;
 import com.oracle.truffle.r.runtime.nmath.MathFunctions.Function4_1;
 import com.oracle.truffle.r.runtime.nmath.MathFunctions.Function4_2;
+import com.oracle.truffle.r.runtime.nmath.distr.BulkDistributions;
 import com.oracle.truffle.r.runtime.nodes.RBaseNode;
 import com.oracle.truffle.r.runtime.ops.na.NACheck;
 
 // inspired by arithmetic.c
 
 public final class StatsFunctionsNodes {
+    /**
+     * Minimal result length for which the evaluation is delegated to {@link BulkDistributions}.
+     */
+    private static final int BULK_EVALUATION_LENGTH = 1024;
+
     @CompilationFinal private static final RDoubleVector DUMMY_VECTOR = RDataFactory.createDoubleVectorFromScalar(1);
 
     private StatsFunctionsNodes() {
@@ -69,6 +78,7 @@ public final class StatsFunctionsNodes {
         final NACheck bCheck = NACheck.create();
         final NACheck cCheck = NACheck.create();
         final NACheck dCheck = NACheck.create();
+        final ConditionProfile bulk = ConditionProfile.createBinaryProfile();
         final ConditionProfile copyAttrsFromA = ConditionProfile.createBinaryProfile();
         final ConditionProfile copyAttrsFromB = ConditionProfile.createBinaryProfile();
         final ConditionProfile copyAttrsFromC = ConditionProfile.createBinaryProfile();
@@ -96,33 +106,39 @@ public final class StatsFunctionsNodes {
 
         boolean complete = true;
         boolean nans = false;
-        profiles.aCheck.enable(a);
-        profiles.bCheck.enable(b);
-        profiles.cCheck.enable(c);
-        profiles.dCheck.enable(d);
-        profiles.loopConditionProfile.profileCounted(length);
-        for (int i = 0; profiles.loopConditionProfile.inject(i < length); i++) {
-            double aValue = a.getDataAt(i % aLength);
-            double bValue = b.getDataAt(i % bLength);
-            double cValue = c.getDataAt(i % cLength);
-            double dValue = d.getDataAt(i % dLength);
-            double value;
-            if (Double.isNaN(aValue) || Double.isNaN(bValue) || Double.isNaN(cValue) || Double.isNaN(dValue)) {
-                profiles.nan.enter();
-                if (profiles.aCheck.check(aValue) || profiles.bCheck.check(bValue) || profiles.cCheck.check(cValue) || profiles.cCheck.check(dValue)) {
-                    value = RRuntime.DOUBLE_NA;
-                    complete = false;
-                } else {
-                    value = Double.NaN;
-                }
-            } else {
-                value = function.evaluate(aValue, bValue, cValue, dValue, x, y);
-                if (Double.isNaN(value)) {
+        if (profiles.bulk.profile(length >= BULK_EVALUATION_LENGTH)) {
+            int flags = evaluateBulk(function, a, b, c, d, x, y, result);
+            complete = (flags & BulkDistributions.RESULT_HAS_NA) == 0;
+            nans = (flags & BulkDistributions.RESULT_NANS_PRODUCED) != 0;
+        } else {
+            profiles.aCheck.enable(a);
+            profiles.bCheck.enable(b);
+            profiles.cCheck.enable(c);
+            profiles.dCheck.enable(d);
+            profiles.loopConditionProfile.profileCounted(length);
+            for (int i = 0; profiles.loopConditionProfile.inject(i < length); i++) {
+                double aValue = a.getDataAt(i % aLength);
+                double bValue = b.getDataAt(i % bLength);
+                double cValue = c.getDataAt(i % cLength);
+                double dValue = d.getDataAt(i % dLength);
+                double value;
+                if (Double.isNaN(aValue) || Double.isNaN(bValue) || Double.isNaN(cValue) || Double.isNaN(dValue)) {
                     profiles.nan.enter();
-                    nans = true;
+                    if (profiles.aCheck.check(aValue) || profiles.bCheck.check(bValue) || profiles.cCheck.check(cValue) || profiles.dCheck.check(dValue)) {
+                        value = RRuntime.DOUBLE_NA;
+                        complete = false;
+                    } else {
+                        value = Double.NaN;
+                    }
+                } else {
+                    value = function.evaluate(aValue, bValue, cValue, dValue, x, y);
+                    if (Double.isNaN(value)) {
+                        profiles.nan.enter();
+                        nans = true;
+                    }
                 }
+                result[i] = value;
             }
-            result[i] = value;
         }
         if (nans) {
             RError.warning(RError.SHOW_CALLER, RError.Message.NAN_PRODUCED);
@@ -143,6 +159,12 @@ public final class StatsFunctionsNodes {
         return resultVec;
     }
 
+    @TruffleBoundary
+    private static int evaluateBulk(Function4_2 function, RDoubleVector a, RDoubleVector b, RDoubleVector c, RDoubleVector d, boolean x, boolean y, double[] result) {
+        int parallelThreshold = RContext.getInstance().getNonNegativeIntOption(FastROptions.NMathParallelThreshold);
+        return BulkDistributions.evaluate(function, a.getReadonlyData(), b.getReadonlyData(), c.getReadonlyData(), d.getReadonlyData(), x, y, result, parallelThreshold);
+    }
+
     private static void castBoolean(Casts casts, int index, byte defaultValue) {
         // defensively we map missing to the default values
         casts.arg(index).asLogicalVector().findFirst(defaultValue).map(toBoolean());
@@ -0,0 +1,790 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.library.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.IntPredicate;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.r.runtime.RInternalError;
+import com.oracle.truffle.r.runtime.RRuntime;
+
+/**
+ * Splits a delimited text file into columns the same way {@code scan} does for {@code read.table}
+ * with a single character {@code sep}, i.e., quotes are recognized anywhere in a field, a doubled
+ * quote inside quotes stands for the quote itself, the comment character ends the line and blank
+ * lines are skipped. The data part of the file is split at line boundaries into ranges that are
+ * processed in parallel by the common fork-join pool.
+ * <p>
+ * Columns selected by the caller are parsed directly into {@code int[]} or {@code double[]} arrays
+ * as long as all their fields are plain decimal numbers, see {@link LineParser#parseNumber}, which
+ * {@code type.convert} reads as the same values. A column with any other field is read again as
+ * strings, together with the other such columns, in a second pass over the file.
+ * <p>
+ * The reader handles only the common shape of the input: every data line must have the same number
+ * of fields, no quoted field may span more lines and the file must be valid UTF-8. Anything else
+ * makes {@link #read} return {@code null} and the caller is expected to fall back to the generic
+ * implementation, which reports errors and handles the corner cases.
+ */
+public final class DelimitedFileReader {
+
+    public interface ChannelOpener {
+        SeekableByteChannel open() throws IOException;
+    }
+
+    public static final class Result {
+        /**
+         * Column names read from the header line or {@code null} if there is no header.
+         */
+        public final String[] header;
+        /**
+         * The columns, each is a {@code String[]} with {@link RRuntime#STRING_NA} for the
+         * {@code naStrings}, or, for a column whose numbers were parsed, an {@code int[]} or
+         * {@code double[]} with {@link RRuntime#INT_NA} or {@link RRuntime#DOUBLE_NA} for the
+         * {@code naStrings} and empty fields.
+         */
+        public final Object[] columns;
+        public final int rows;
+
+        Result(String[] header, Object[] columns, int rows) {
+            this.header = header;
+            this.columns = columns;
+            this.rows = rows;
+        }
+    }
+
+    /**
+     * The header and the lines to skip must fit into this many bytes from the start of the file.
+     */
+    static final int HEAD_SIZE = 1 << 20;
+    static final int BLOCK_SIZE = 8 << 20;
+    /**
+     * Default minimal size of the range of the file processed by one task.
+     */
+    public static final long DEFAULT_TASK_SIZE = 16 << 20;
+    private static final int MAX_COLUMNS = 1 << 16;
+    private static final int FAIL = -1;
+    // never equal to a byte value
+    private static final int NO_CHAR = 0x100;
+
+    // the kinds of columns
+    private static final int INT = 0;
+    private static final int DOUBLE = 1;
+    private static final int STRING = 2;
+    /**
+     * A column whose numbers were parsed, but which has a field that is not a plain number.
+     */
+    private static final int NOT_NUMERIC = 3;
+
+    /**
+     * Numbers with up to this many digits are computed exactly from an integer mantissa and a
+     * power of ten.
+     */
+    private static final int MAX_EXACT_DIGITS = 15;
+    /**
+     * Numbers with more digits are left to {@code type.convert}, which reads at most 19 significant
+     * digits.
+     */
+    private static final int MAX_DIGITS = 18;
+    private static final double[] POWERS_OF_TEN = new double[MAX_EXACT_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final byte sep;
+    private final boolean[] isQuote = new boolean[128];
+    private final int comment;
+    private final byte[][] naStrings;
+
+    private DelimitedFileReader(byte sep, String quoteSet, int comment, String[] naStrings) {
+        this.sep = sep;
+        for (int i = 0; i < quoteSet.length(); i++) {
+            isQuote[quoteSet.charAt(i)] = true;
+        }
+        this.comment = comment;
+        this.naStrings = new byte[naStrings.length][];
+        for (int i = 0; i < naStrings.length; i++) {
+            this.naStrings[i] = naStrings[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Reads the file, returns {@code null} if the file or the arguments are not supported.
+     *
+     * @param sep the field separator, must be an ASCII character
+     * @param quoteSet the quoting characters, ASCII only
+     * @param commentChar the comment character or an empty string
+     * @param naStrings field values that are turned into NA
+     * @param numericColumns selects the columns whose numbers may be parsed directly, {@code null}
+     *            reads all columns as strings
+     * @param taskSize minimal size of the part of the file processed by one thread, use
+     *            {@link Long#MAX_VALUE} to read the file in the calling thread
+     */
+    @TruffleBoundary
+    public static Result read(ChannelOpener opener, long size, char sep, String quoteSet, String commentChar, boolean header, int skip, String[] naStrings, IntPredicate numericColumns,
+                    long taskSize) throws IOException {
+        int comment = commentChar.isEmpty() ? NO_CHAR : commentChar.charAt(0);
+        if (!isSpecialCharAllowed(sep) || (comment != NO_CHAR && (!isSpecialCharAllowed((char) comment) || comment == sep))) {
+            return null;
+        }
+        for (int i = 0; i < quoteSet.length(); i++) {
+            char q = quoteSet.charAt(i);
+            if (!isSpecialCharAllowed(q) || q == sep || q == comment) {
+                return null;
+            }
+        }
+        return new DelimitedFileReader((byte) sep, quoteSet, comment, naStrings).read(opener, size, header, skip, numericColumns, taskSize);
+    }
+
+    private static boolean isSpecialCharAllowed(char c) {
+        return c > 0 && c < 128 && c != '\n' && c != '\r';
+    }
+
+    private Result read(ChannelOpener opener, long size, boolean hasHeader, int skip, IntPredicate numericColumns, long taskSize) throws IOException {
+        long dataStart;
+        String[] header = null;
+        int ncol;
+        try (SeekableByteChannel channel = opener.open()) {
+            byte[] head = new byte[(int) Math.min(size, HEAD_SIZE)];
+            readFully(channel, 0, head, 0, head.length);
+            boolean wholeFile = head.length == size;
+            LineParser parser = new LineParser(MAX_COLUMNS);
+            int pos = 0;
+            for (int i = 0; i < skip; i++) {
+                int nl = indexOfNewLine(head, pos, head.length);
+                if (nl < 0) {
+                    return null;
+                }
+                pos = nl + 1;
+            }
+            // the header or the first data line determines the number of columns
+            while (true) {
+                if (pos >= head.length) {
+                    return null;
+                }
+                int nl = indexOfNewLine(head, pos, head.length);
+                if (nl < 0 && !wholeFile) {
+                    return null;
+                }
+                int lineEnd = nl < 0 ? head.length : nl;
+                int end = stripCR(head, pos, lineEnd);
+                if (isBlank(head, pos, end)) {
+                    pos = lineEnd + 1;
+                    continue;
+                }
+                int count = parser.parse(head, pos, end);
+                if (count == FAIL) {
+                    return null;
+                }
+                ncol = count;
+                if (hasHeader) {
+                    header = new String[count];
+                    for (int i = 0; i < count; i++) {
+                        String name = parser.field(i);
+                        if (name == null) {
+                            return null;
+                        }
+                        // the header is read with strip.white = TRUE
+                        header[i] = name.trim();
+                    }
+                    pos = lineEnd + 1;
+                }
+                break;
+            }
+            dataStart = Math.min(pos, size);
+        }
+
+        long[] bounds = computeBounds(opener, dataStart, size, taskSize);
+        boolean[] strings = new boolean[ncol];
+        for (int j = 0; j < ncol; j++) {
+            strings[j] = numericColumns == null || !numericColumns.test(j);
+        }
+        while (true) {
+            ColumnBuffer[] results = readRanges(opener, bounds, strings);
+            if (results == null) {
+                return null;
+            }
+            boolean again = false;
+            for (ColumnBuffer result : results) {
+                for (int j = 0; j < ncol; j++) {
+                    if (result.kinds[j] == NOT_NUMERIC) {
+                        strings[j] = true;
+                        again = true;
+                    }
+                }
+            }
+            if (!again) {
+                return merge(header, ncol, results);
+            }
+            // the fields of these columns are needed as strings, the other columns do not change
+        }
+    }
+
+    private ColumnBuffer[] readRanges(ChannelOpener opener, long[] bounds, boolean[] strings) throws IOException {
+        int tasks = bounds.length - 1;
+        ColumnBuffer[] results = new ColumnBuffer[tasks];
+        if (tasks == 1) {
+            try (SeekableByteChannel channel = opener.open()) {
+                results[0] = new RangeTask(channel, bounds[0], bounds[1], strings).call();
+            }
+        } else {
+            List<SeekableByteChannel> channels = new ArrayList<>(tasks);
+            try {
+                List<Future<ColumnBuffer>> futures = new ArrayList<>(tasks);
+                for (int i = 0; i < tasks; i++) {
+                    SeekableByteChannel channel = opener.open();
+                    channels.add(channel);
+                    futures.add(ForkJoinPool.commonPool().submit(new RangeTask(channel, bounds[i], bounds[i + 1], strings)));
+                }
+                for (int i = 0; i < tasks; i++) {
+                    results[i] = futures.get(i).get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw RInternalError.shouldNotReachHere(e.getCause());
+            } finally {
+                for (SeekableByteChannel channel : channels) {
+                    channel.close();
+                }
+            }
+        }
+        for (ColumnBuffer result : results) {
+            if (result == null) {
+                return null;
+            }
+        }
+        return results;
+    }
+
+    private static long[] computeBounds(ChannelOpener opener, long dataStart, long size, long taskSize) throws IOException {
+        long dataLength = size - dataStart;
+        int tasks = 1;
+        if (dataLength / 2 >= taskSize) {
+            int maxTasks = 4 * ForkJoinPool.getCommonPoolParallelism();
+            tasks = (int) Math.max(1, Math.min(maxTasks, dataLength / taskSize));
+        }
+        long[] bounds = new long[tasks + 1];
+        bounds[0] = dataStart;
+        bounds[tasks] = size;
+        if (tasks > 1) {
+            try (SeekableByteChannel channel = opener.open()) {
+                for (int i = 1; i < tasks; i++) {
+                    long nominal = dataStart + dataLength / tasks * i;
+                    bounds[i] = Math.max(bounds[i - 1], nextLineStart(channel, nominal, size));
+                }
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Returns the offset of the first line that starts at or after {@code pos}.
+     */
+    private static long nextLineStart(SeekableByteChannel channel, long pos, long size) throws IOException {
+        byte[] buf = new byte[64 * 1024];
+        long offset = pos - 1;
+        while (offset < size) {
+            int n = (int) Math.min(buf.length, size - offset);
+            readFully(channel, offset, buf, 0, n);
+            int nl = indexOfNewLine(buf, 0, n);
+            if (nl >= 0) {
+                return offset + nl + 1;
+            }
+            offset += n;
+        }
+        return size;
+    }
+
+    private static Result merge(String[] header, int ncol, ColumnBuffer[] results) {
+        long total = 0;
+        for (ColumnBuffer result : results) {
+            total += result.rows;
+        }
+        if (total == 0 || total > Integer.MAX_VALUE) {
+            return null;
+        }
+        int rows = (int) total;
+        Object[] columns = new Object[ncol];
+        for (int j = 0; j < ncol; j++) {
+            int kind = results[0].kinds[j];
+            for (ColumnBuffer result : results) {
+                // ranges without a fraction have integer columns
+                if (result.kinds[j] == DOUBLE) {
+                    kind = DOUBLE;
+                }
+            }
+            if (results.length == 1) {
+                columns[j] = results[0].trim(j, rows);
+            } else if (kind == STRING) {
+                String[] column = new String[rows];
+                int pos = 0;
+                for (ColumnBuffer result : results) {
+                    System.arraycopy(result.columns[j], 0, column, pos, result.rows);
+                    pos += result.rows;
+                }
+                columns[j] = column;
+            } else if (kind == INT) {
+                int[] column = new int[rows];
+                int pos = 0;
+                for (ColumnBuffer result : results) {
+                    System.arraycopy(result.columns[j], 0, column, pos, result.rows);
+                    pos += result.rows;
+                }
+                columns[j] = column;
+            } else {
+                double[] column = new double[rows];
+                int pos = 0;
+                for (ColumnBuffer result : results) {
+                    if (result.kinds[j] == INT) {
+                        toDouble((int[]) result.columns[j], column, pos, result.rows);
+                    } else {
+                        System.arraycopy(result.columns[j], 0, column, pos, result.rows);
+                    }
+                    pos += result.rows;
+                }
+                columns[j] = column;
+            }
+        }
+        return new Result(header, columns, rows);
+    }
+
+    private static void toDouble(int[] from, double[] to, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            to[offset + i] = from[i] == RRuntime.INT_NA ? RRuntime.DOUBLE_NA : from[i];
+        }
+    }
+
+    private static final class ColumnBuffer {
+        private final int[] kinds;
+        private final Object[] columns;
+        private int capacity;
+        private int rows;
+
+        ColumnBuffer(boolean[] strings, int capacity) {
+            this.kinds = new int[strings.length];
+            this.columns = new Object[strings.length];
+            this.capacity = capacity;
+            for (int j = 0; j < strings.length; j++) {
+                kinds[j] = strings[j] ? STRING : INT;
+                columns[j] = strings[j] ? new String[capacity] : new int[capacity];
+            }
+        }
+
+        /**
+         * Returns {@code false} if a string field is not valid UTF-8.
+         */
+        boolean add(LineParser parser) {
+            if (rows == capacity) {
+                capacity = Math.max(16, rows + (rows >> 1));
+                for (int j = 0; j < columns.length; j++) {
+                    switch (kinds[j]) {
+                        case INT:
+                            columns[j] = Arrays.copyOf((int[]) columns[j], capacity);
+                            break;
+                        case DOUBLE:
+                            columns[j] = Arrays.copyOf((double[]) columns[j], capacity);
+                            break;
+                        case STRING:
+                            columns[j] = Arrays.copyOf((String[]) columns[j], capacity);
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            }
+            for (int j = 0; j < columns.length; j++) {
+                switch (kinds[j]) {
+                    case STRING:
+                        String value = parser.isNAString(j) ? RRuntime.STRING_NA : parser.field(j);
+                        if (value == null) {
+                            return false;
+                        }
+                        ((String[]) columns[j])[rows] = value;
+                        break;
+                    case INT:
+                    case DOUBLE:
+                        addNumber(parser, j);
+                        break;
+                    default:
+                        // the column is read again as strings
+                        break;
+                }
+            }
+            rows++;
+            return true;
+        }
+
+        private void addNumber(LineParser parser, int j) {
+            // type.convert treats empty fields as NA
+            int kind = parser.isEmpty(j) || parser.isNAString(j) ? FAIL : parser.parseNumber(j);
+            if (kind == DOUBLE && kinds[j] == INT) {
+                double[] column = new double[capacity];
+                toDouble((int[]) columns[j], column, 0, rows);
+                columns[j] = column;
+                kinds[j] = DOUBLE;
+            }
+            if (kind == STRING) {
+                kinds[j] = NOT_NUMERIC;
+                columns[j] = null;
+            } else if (kinds[j] == INT) {
+                ((int[]) columns[j])[rows] = kind == FAIL ? RRuntime.INT_NA : parser.intValue;
+            } else if (kind == FAIL) {
+                ((double[]) columns[j])[rows] = RRuntime.DOUBLE_NA;
+            } else {
+                ((double[]) columns[j])[rows] = kind == INT ? parser.intValue : parser.doubleValue;
+            }
+        }
+
+        Object trim(int j, int length) {
+            switch (kinds[j]) {
+                case INT:
+                    int[] ints = (int[]) columns[j];
+                    return ints.length == length ? ints : Arrays.copyOf(ints, length);
+                case DOUBLE:
+                    double[] doubles = (double[]) columns[j];
+                    return doubles.length == length ? doubles : Arrays.copyOf(doubles, length);
+                default:
+                    String[] strings = (String[]) columns[j];
+                    return strings.length == length ? strings : Arrays.copyOf(strings, length);
+            }
+        }
+    }
+
+    /**
+     * Parses the lines in the given range of the file. Returns {@code null} if any of the lines is
+     * not supported.
+     */
+    private final class RangeTask implements Callable<ColumnBuffer> {
+        private final SeekableByteChannel channel;
+        private final long from;
+        private final long to;
+        private final boolean[] strings;
+
+        RangeTask(SeekableByteChannel channel, long from, long to, boolean[] strings) {
+            this.channel = channel;
+            this.from = from;
+            this.to = to;
+            this.strings = strings;
+        }
+
+        @Override
+        public ColumnBuffer call() throws IOException {
+            int ncol = strings.length;
+            // rough estimate of the number of lines, it is only the initial capacity
+            ColumnBuffer out = new ColumnBuffer(strings, (int) Math.min(1 << 20, Math.max(16, (to - from) / (8L * ncol))));
+            if (from >= to) {
+                return out;
+            }
+            LineParser parser = new LineParser(ncol);
+            byte[] buf = new byte[(int) Math.max(1024, Math.min(BLOCK_SIZE, to - from))];
+            long filePos = from;
+            int carry = 0;
+            while (true) {
+                if (carry == buf.length) {
+                    buf = Arrays.copyOf(buf, buf.length * 2);
+                }
+                int n = (int) Math.min(buf.length - carry, to - filePos);
+                readFully(channel, filePos, buf, carry, n);
+                filePos += n;
+                int limit = carry + n;
+                boolean last = filePos >= to;
+                int lineStart = 0;
+                while (lineStart < limit) {
+                    int nl = indexOfNewLine(buf, lineStart, limit);
+                    if (nl < 0 && !last) {
+                        break;
+                    }
+                    int lineEnd = nl < 0 ? limit : nl;
+                    int end = stripCR(buf, lineStart, lineEnd);
+                    if (!isBlank(buf, lineStart, end)) {
+                        if (parser.parse(buf, lineStart, end) != ncol || !out.add(parser)) {
+                            return null;
+                        }
+                    }
+                    lineStart = lineEnd + 1;
+                }
+                if (last) {
+                    return out;
+                }
+                carry = limit - lineStart;
+                System.arraycopy(buf, lineStart, buf, 0, carry);
+            }
+        }
+    }
+
+    /**
+     * Splits one line into fields, which are only decoded or parsed on demand. Not thread safe,
+     * every task has its own instance.
+     */
+    private final class LineParser {
+        private final int[] starts;
+        private final int[] ends;
+        /**
+         * Quoted fields are copied to {@link #tmp} without the quotes, the other fields are read
+         * from {@link #line}.
+         */
+        private final boolean[] quoted;
+        private byte[] line;
+        private byte[] tmp = new byte[256];
+        private int tmpLength;
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPORT).onUnmappableCharacter(CodingErrorAction.REPORT);
+
+        // the result of parseNumber
+        int intValue;
+        double doubleValue;
+
+        LineParser(int maxFields) {
+            this.starts = new int[maxFields];
+            this.ends = new int[maxFields];
+            this.quoted = new boolean[maxFields];
+        }
+
+        /**
+         * Returns the number of fields or {@link #FAIL}. The line must not include the line
+         * terminator.
+         */
+        int parse(byte[] buf, int start, int lineEnd) {
+            line = buf;
+            tmpLength = 0;
+            int end = lineEnd;
+            int n = 0;
+            int i = start;
+            while (true) {
+                if (n == starts.length) {
+                    return FAIL;
+                }
+                int fieldStart = i;
+                int tmpStart = tmpLength;
+                boolean isQuoted = false;
+                while (i < end) {
+                    byte c = buf[i];
+                    if (c == sep) {
+                        break;
+                    } else if (c == comment) {
+                        end = i;
+                        break;
+                    } else if (c == '\r' || c == 0) {
+                        return FAIL;
+                    } else if (c > 0 && isQuote[c]) {
+                        isQuoted = true;
+                        appendTmp(buf, fieldStart, i);
+                        i++;
+                        while (true) {
+                            int quoteStart = i;
+                            while (i < end && buf[i] != c) {
+                                if (buf[i] == '\r' || buf[i] == 0) {
+                                    return FAIL;
+                                }
+                                i++;
+                            }
+                            if (i >= end) {
+                                // unterminated quote, e.g., a field spanning more lines
+                                return FAIL;
+                            }
+                            appendTmp(buf, quoteStart, i);
+                            i++;
+                            if (i < end && buf[i] == c) {
+                                // doubled quote stands for the quote itself
+                                appendTmp(buf, i, i + 1);
+                                i++;
+                            } else {
+                                break;
+                            }
+                        }
+                        fieldStart = i;
+                    } else {
+                        i++;
+                    }
+                }
+                if (isQuoted) {
+                    appendTmp(buf, fieldStart, i);
+                    starts[n] = tmpStart;
+                    ends[n] = tmpLength;
+                } else {
+                    starts[n] = fieldStart;
+                    ends[n] = i;
+                }
+                quoted[n] = isQuoted;
+                n++;
+                if (i < end && buf[i] == sep) {
+                    i++;
+                } else {
+                    return n;
+                }
+            }
+        }
+
+        private byte[] bytes(int j) {
+            return quoted[j] ? tmp : line;
+        }
+
+        /**
+         * Returns the field as a string or {@code null} if it is not valid UTF-8.
+         */
+        String field(int j) {
+            return decode(bytes(j), starts[j], ends[j]);
+        }
+
+        boolean isEmpty(int j) {
+            return starts[j] == ends[j];
+        }
+
+        boolean isNAString(int j) {
+            byte[] b = bytes(j);
+            int length = ends[j] - starts[j];
+            for (byte[] na : naStrings) {
+                if (na.length == length && Arrays.equals(na, 0, length, b, starts[j], ends[j])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Parses a plain decimal number, i.e., an optional minus sign, an integer part without
+         * leading zeros and an optional fraction after a dot, and returns {@link #INT} or
+         * {@link #DOUBLE} with the value in {@link #intValue} or {@link #doubleValue}. Anything
+         * else, including exponents, hexadecimal numbers, {@code Inf}, leading plus signs, white
+         * space, negative zero and numbers with more than {@link #MAX_DIGITS} digits, is left to
+         * {@code type.convert} and {@link #STRING} is returned. Integers outside of the range of R
+         * integers are read as doubles, like {@code type.convert} does.
+         */
+        int parseNumber(int j) {
+            byte[] b = bytes(j);
+            int end = ends[j];
+            int i = starts[j];
+            boolean negative = i < end && b[i] == '-';
+            if (negative) {
+                i++;
+            }
+            int intStart = i;
+            long mantissa = 0;
+            while (i < end && b[i] >= '0' && b[i] <= '9' && i - intStart < MAX_DIGITS) {
+                mantissa = mantissa * 10 + (b[i++] - '0');
+            }
+            int intDigits = i - intStart;
+            if (intDigits == 0 || (intDigits > 1 && b[intStart] == '0')) {
+                return STRING;
+            }
+            int fractionDigits = 0;
+            if (i < end && b[i] == '.') {
+                i++;
+                while (i < end && b[i] >= '0' && b[i] <= '9' && intDigits + fractionDigits < MAX_DIGITS) {
+                    mantissa = mantissa * 10 + (b[i++] - '0');
+                    fractionDigits++;
+                }
+                if (fractionDigits == 0) {
+                    return STRING;
+                }
+            }
+            if (i != end || (negative && mantissa == 0 && fractionDigits > 0)) {
+                return STRING;
+            }
+            long value = negative ? -mantissa : mantissa;
+            if (fractionDigits == 0 && value > Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                intValue = (int) value;
+                return INT;
+            }
+            if (intDigits + fractionDigits <= MAX_EXACT_DIGITS) {
+                // both values are exact doubles, so the quotient is correctly rounded
+                doubleValue = value / POWERS_OF_TEN[fractionDigits];
+            } else {
+                doubleValue = Double.parseDouble(new String(b, starts[j], end - starts[j], StandardCharsets.ISO_8859_1));
+            }
+            return DOUBLE;
+        }
+
+        private void appendTmp(byte[] buf, int from, int to) {
+            int length = to - from;
+            if (tmpLength + length > tmp.length) {
+                tmp = Arrays.copyOf(tmp, Math.max(tmp.length * 2, tmpLength + length));
+            }
+            System.arraycopy(buf, from, tmp, tmpLength, length);
+            tmpLength += length;
+        }
+
+        private String decode(byte[] buf, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (buf[i] < 0) {
+                    try {
+                        CharBuffer chars = decoder.reset().decode(ByteBuffer.wrap(buf, from, to - from));
+                        return chars.toString();
+                    } catch (CharacterCodingException e) {
+                        return null;
+                    }
+                }
+            }
+            return new String(buf, from, to - from, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    private boolean isBlank(byte[] buf, int start, int end) {
+        return start == end || buf[start] == comment;
+    }
+
+    private static int stripCR(byte[] buf, int start, int end) {
+        return end > start && buf[end - 1] == '\r' ? end - 1 : end;
+    }
+
+    private static int indexOfNewLine(byte[] buf, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buf[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void readFully(SeekableByteChannel channel, long position, byte[] buf, int offset, int length) throws IOException {
+        channel.position(position);
+        ByteBuffer bb = ByteBuffer.wrap(buf, offset, length);
+        while (bb.hasRemaining()) {
+            if (channel.read(bb) < 0) {
+                throw new IOException("unexpected end of file");
+            }
+        }
+    }
+}
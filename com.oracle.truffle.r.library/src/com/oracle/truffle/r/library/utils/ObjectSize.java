@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -43,23 +43,24 @@ public abstract class ObjectSize extends RExternalBuiltinNode.Arg1 {
     }
 
     @Specialization
-    protected int objectSize(@SuppressWarnings("unused") int o) {
+    protected double objectSize(@SuppressWarnings("unused") int o) {
         return RObjectSize.INT_SIZE;
     }
 
     @Specialization
-    protected int objectSize(@SuppressWarnings("unused") double o) {
+    protected double objectSize(@SuppressWarnings("unused") double o) {
         return RObjectSize.DOUBLE_SIZE;
     }
 
     @Specialization
-    protected int objectSize(@SuppressWarnings("unused") byte o) {
+    protected double objectSize(@SuppressWarnings("unused") byte o) {
         return RObjectSize.BYTE_SIZE;
     }
 
     @Fallback
     @TruffleBoundary
-    protected int objectSize(Object o) {
-        return (int) (RObjectSize.getRecursiveObjectSize(o));
+    protected double objectSize(Object o) {
+        // as in GNU R, the result is a double, so that sizes over 2GB do not overflow
+        return RObjectSize.getRecursiveObjectSize(o);
     }
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.library.utils;
+
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.stringValue;
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.toBoolean;
+import static com.oracle.truffle.r.runtime.builtins.RBehavior.IO;
+import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.INTERNAL;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.function.IntPredicate;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleFile;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
+import com.oracle.truffle.r.runtime.RError;
+import com.oracle.truffle.r.runtime.RLocale;
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.builtins.RBuiltin;
+import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RNull;
+import com.oracle.truffle.r.runtime.data.RStringVector;
+
+/**
+ * Fast path of {@code read.table} for plain delimited files, see {@link DelimitedFileReader}. The
+ * result is the list of columns named by the header (or {@code V1, V2, ...}) before
+ * {@code check.names} is applied, columns with {@code colClasses} {@code "NULL"} are {@code NULL}.
+ * Returns {@code NULL} when the file or the arguments are not supported, the caller then uses the
+ * generic {@code read.table} implementation.
+ */
+@RBuiltin(name = ".fastr.readtable", kind = INTERNAL, parameterNames = {"file", "header", "sep", "quote", "na.strings", "colClasses", "skip", "comment.char"}, behavior = IO)
+public abstract class ReadTableFast extends RBuiltinNode.Arg8 {
+
+    static {
+        Casts casts = new Casts(ReadTableFast.class);
+        casts.arg("file").mustBe(stringValue()).asStringVector().findFirst();
+        casts.arg("header").asLogicalVector().findFirst().mustNotBeNA().map(toBoolean());
+        casts.arg("sep").mustBe(stringValue()).asStringVector().findFirst();
+        casts.arg("quote").mustBe(stringValue()).asStringVector().findFirst();
+        casts.arg("na.strings").mustBe(stringValue()).asStringVector();
+        casts.arg("colClasses").asStringVector();
+        casts.arg("skip").asIntegerVector().findFirst().mustNotBeNA();
+        casts.arg("comment.char").mustBe(stringValue()).asStringVector().findFirst();
+    }
+
+    @Specialization
+    @TruffleBoundary
+    protected Object readTable(String file, boolean header, String sep, String quote, RStringVector naStrings, RStringVector colClasses, int skip, String commentChar) {
+        if (sep.length() != 1 || commentChar.length() > 1 || skip < 0) {
+            return RNull.instance;
+        }
+        int nclasses = colClasses.getLength();
+        TruffleFile truffleFile = getRContext().getSafeTruffleFile(file);
+        DelimitedFileReader.Result result;
+        try {
+            if (!truffleFile.isRegularFile() || isCompressed(truffleFile)) {
+                return RNull.instance;
+            }
+            long size = truffleFile.size();
+            String[] na = new String[naStrings.getLength()];
+            for (int i = 0; i < na.length; i++) {
+                na[i] = naStrings.getDataAt(i);
+            }
+            IntPredicate numericColumns = null;
+            if (isPlainDecimalLocale(getRContext().stateRLocale.getLocale(RLocale.NUMERIC))) {
+                // columns without a class are converted like type.convert(as.is = TRUE) does
+                numericColumns = j -> RRuntime.isNA(getColClass(colClasses, j));
+            }
+            result = DelimitedFileReader.read(() -> truffleFile.newByteChannel(Collections.singleton(StandardOpenOption.READ)), size, sep.charAt(0), quote, commentChar, header, skip, na,
+                            numericColumns, DelimitedFileReader.DEFAULT_TASK_SIZE);
+        } catch (IOException | SecurityException e) {
+            throw error(RError.Message.GENERIC, e.getMessage());
+        }
+        if (result == null) {
+            return RNull.instance;
+        }
+        int ncol = result.columns.length;
+        if (nclasses > 1 && nclasses != ncol) {
+            return RNull.instance;
+        }
+        Object[] data = new Object[ncol];
+        String[] names = new String[ncol];
+        RStringVector noNAStrings = RDataFactory.createEmptyStringVector();
+        for (int j = 0; j < ncol; j++) {
+            String colClass = getColClass(colClasses, j);
+            Object column = result.columns[j];
+            if (column instanceof int[]) {
+                data[j] = createIntColumn((int[]) column);
+            } else if (column instanceof double[]) {
+                double[] doubles = (double[]) column;
+                data[j] = RDataFactory.createDoubleVector(doubles, isComplete(doubles));
+            } else if (RRuntime.isNA(colClass)) {
+                // na.strings have been applied already, like scan does in read.table
+                String[] strings = (String[]) column;
+                data[j] = TypeConvert.convertAsIs(RDataFactory.createStringVector(strings, isComplete(strings)), noNAStrings);
+            } else if ("character".equals(colClass)) {
+                String[] strings = (String[]) column;
+                data[j] = RDataFactory.createStringVector(strings, isComplete(strings));
+            } else if ("NULL".equals(colClass)) {
+                data[j] = RNull.instance;
+            } else {
+                return RNull.instance;
+            }
+            names[j] = header ? result.header[j] : "V" + (j + 1);
+        }
+        return RDataFactory.createList(data, RDataFactory.createStringVector(names, RDataFactory.COMPLETE_VECTOR));
+    }
+
+    private static String getColClass(RStringVector colClasses, int column) {
+        int nclasses = colClasses.getLength();
+        if (nclasses == 0) {
+            return RRuntime.STRING_NA;
+        }
+        // the number of classes is checked against the number of columns after reading
+        return nclasses == 1 ? colClasses.getDataAt(0) : column < nclasses ? colClasses.getDataAt(column) : "character";
+    }
+
+    /**
+     * Like {@code type.convert}, returns a logical vector if all elements are NA.
+     */
+    private static Object createIntColumn(int[] column) {
+        boolean complete = true;
+        boolean allNA = true;
+        for (int value : column) {
+            boolean isNA = RRuntime.isNA(value);
+            complete &= !isNA;
+            allNA &= isNA;
+        }
+        if (allNA) {
+            byte[] data = new byte[column.length];
+            Arrays.fill(data, RRuntime.LOGICAL_NA);
+            return RDataFactory.createLogicalVector(data, RDataFactory.INCOMPLETE_VECTOR);
+        }
+        return RDataFactory.createIntVector(column, complete);
+    }
+
+    private static boolean isComplete(double[] column) {
+        for (double d : column) {
+            if (RRuntime.isNA(d)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@code type.convert} parses doubles with the number format of the {@code LC_NUMERIC} locale.
+     * The numbers parsed by {@link DelimitedFileReader} have the same values if the format reads
+     * them as plain decimal numbers.
+     */
+    private static boolean isPlainDecimalLocale(Locale locale) {
+        NumberFormat format = NumberFormat.getInstance(locale);
+        if (!(format instanceof DecimalFormat)) {
+            return false;
+        }
+        DecimalFormat decimalFormat = (DecimalFormat) format;
+        DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        return symbols.getDecimalSeparator() == '.' && symbols.getZeroDigit() == '0' && symbols.getMinusSign() == '-' && decimalFormat.getMultiplier() == 1 &&
+                        decimalFormat.getPositivePrefix().isEmpty() && decimalFormat.getPositiveSuffix().isEmpty() && "-".equals(decimalFormat.getNegativePrefix()) &&
+                        decimalFormat.getNegativeSuffix().isEmpty();
+    }
+
+    private static boolean isComplete(String[] column) {
+        for (String s : column) {
+            if (RRuntime.isNA(s)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@code file()} transparently decompresses gzip, bzip2 and xz files, these are left to the
+     * generic implementation.
+     */
+    private static boolean isCompressed(TruffleFile file) throws IOException {
+        try (SeekableByteChannel channel = file.newByteChannel(Collections.singleton(StandardOpenOption.READ))) {
+            ByteBuffer magic = ByteBuffer.allocate(6);
+            while (magic.hasRemaining() && channel.read(magic) > 0) {
+                // read the header
+            }
+            byte[] b = magic.array();
+            int n = magic.position();
+            boolean gzip = n >= 2 && (b[0] & 0xff) == 0x1f && (b[1] & 0xff) == 0x8b;
+            boolean bzip2 = n >= 3 && b[0] == 'B' && b[1] == 'Z' && b[2] == 'h';
+            boolean xz = n >= 6 && (b[0] & 0xff) == 0xfd && b[1] == '7' && b[2] == 'z' && b[3] == 'X' && b[4] == 'Z' && b[5] == 0;
+            return gzip || bzip2 || xz;
+        }
+    }
+}
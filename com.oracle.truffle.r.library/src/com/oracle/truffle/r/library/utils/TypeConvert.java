@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -141,9 +141,18 @@ public abstract class TypeConvert extends RExternalBuiltinNode.Arg5 {
         return firstNonNAPos == 0 ? RDataFactory.COMPLETE_VECTOR : RDataFactory.INCOMPLETE_VECTOR;
     }
 
-    @Specialization
+    /**
+     * Converts {@code x} to logical, integer or double vector if all its elements can be converted,
+     * otherwise returns {@code x}. This is the {@code as.is = TRUE} variant of
+     * {@code type.convert}.
+     */
     @TruffleBoundary
-    protected Object typeConvert(RStringVector x, RStringVector naStrings, boolean asIs, @SuppressWarnings("unused") Object dec, @SuppressWarnings("unused") Object numeral) {
+    public static RAbstractVector convertAsIs(RStringVector x, RStringVector naStrings) {
+        RAbstractVector result = convertNonCharacter(x, naStrings);
+        return result == null ? x : result;
+    }
+
+    private static RAbstractVector convertNonCharacter(RStringVector x, RStringVector naStrings) {
         if (x.getLength() == 0) {
             return RDataFactory.createEmptyLogicalVector();
         }
@@ -197,14 +206,22 @@ public abstract class TypeConvert extends RExternalBuiltinNode.Arg5 {
             }
         }
         // fall through target - conversion to int, double or logical failed
+        return null;
+    }
 
-        if (asIs) {
+    @Specialization
+    @TruffleBoundary
+    protected Object typeConvert(RStringVector x, RStringVector naStrings, boolean asIs, @SuppressWarnings("unused") Object dec, @SuppressWarnings("unused") Object numeral) {
+        RAbstractVector converted = convertNonCharacter(x, naStrings);
+        if (converted != null) {
+            return converted;
+        } else if (asIs) {
             return x;
         } else {
             // collect levels for a factor result
             TreeMap<String, Integer> levels = new TreeMap<>();
             for (int j = 0; j < x.getLength(); j++) {
-                s = x.getDataAt(j);
+                String s = x.getDataAt(j);
                 if (!isNA(s, naStrings)) {
                     levels.put(s, 0);
                 }
@@ -218,7 +235,7 @@ public abstract class TypeConvert extends RExternalBuiltinNode.Arg5 {
             int[] data = new int[x.getLength()];
             boolean complete = true;
             for (int j = 0; j < data.length; j++) {
-                s = x.getDataAt(j);
+                String s = x.getDataAt(j);
                 if (!isNA(s, naStrings)) {
                     data[j] = levels.get(s);
                 } else {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -2175,6 +2175,42 @@ const SEXP *(STRING_PTR_RO)(SEXP x) {
     return ((const SEXP *) DATAPTR_RO(x));
 }
 
+// Bulk access to string vectors and lists: a single transition materializes the native mirror of
+// the CHARSXP/element handles, the rest of the copying happens in native code. Loops over
+// STRING_ELT/VECTOR_ELT otherwise pay one up-call per element.
+
+static R_xlen_t fastr_region_size(SEXP x, R_xlen_t from, R_xlen_t n) {
+    R_xlen_t len = XLENGTH(x);
+    if (from < 0 || from >= len || n <= 0) {
+        return 0;
+    }
+    return len - from > n ? n : len - from;
+}
+
+R_xlen_t FASTR_STRING_GET_REGION(SEXP x, R_xlen_t from, R_xlen_t n, SEXP *buf) {
+    TRACE0();
+    R_xlen_t size = fastr_region_size(x, from, n);
+    if (size > 0) {
+        const SEXP *data = STRING_PTR_RO(x);
+        for (R_xlen_t i = 0; i < size; i++) {
+            buf[i] = data[from + i];
+        }
+    }
+    return size;
+}
+
+R_xlen_t FASTR_VECTOR_GET_REGION(SEXP x, R_xlen_t from, R_xlen_t n, SEXP *buf) {
+    TRACE0();
+    R_xlen_t size = fastr_region_size(x, from, n);
+    if (size > 0) {
+        const SEXP *data = (const SEXP *) DATAPTR_RO(x);
+        for (R_xlen_t i = 0; i < size; i++) {
+            buf[i] = data[from + i];
+        }
+    }
+    return size;
+}
+
 // The ALTREP framework
 
 void* STDVEC_DATAPTR(SEXP x) {
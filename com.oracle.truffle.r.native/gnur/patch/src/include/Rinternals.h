@@ -835,6 +835,9 @@ R_xlen_t REAL_GET_REGION(SEXP sx, R_xlen_t i, R_xlen_t n, double *buf);
 R_xlen_t LOGICAL_GET_REGION(SEXP sx, R_xlen_t i, R_xlen_t n, int *buf);
 R_xlen_t COMPLEX_GET_REGION(SEXP sx, R_xlen_t i, R_xlen_t n, Rcomplex *buf);
 R_xlen_t RAW_GET_REGION(SEXP sx, R_xlen_t i, R_xlen_t n, Rbyte *buf);
+/* FastR specific: bulk read of string/list element handles with a single up-call */
+R_xlen_t FASTR_STRING_GET_REGION(SEXP sx, R_xlen_t i, R_xlen_t n, SEXP *buf);
+R_xlen_t FASTR_VECTOR_GET_REGION(SEXP sx, R_xlen_t i, R_xlen_t n, SEXP *buf);
 
 /* metadata access */
 int INTEGER_IS_SORTED(SEXP x);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -23,7 +23,9 @@
 package com.oracle.truffle.r.nodes.builtin;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
@@ -130,6 +132,11 @@ public abstract class RBuiltinPackage {
         return builtins;
     }
 
+    public List<Source> getOverrideSources() {
+        ArrayList<Source> sources = rSources.get(getName());
+        return sources == null ? Collections.emptyList() : sources;
+    }
+
     /**
      * Runtime component of the package initialization process.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,6 +27,7 @@ import static com.oracle.truffle.r.runtime.context.FastROptions.LoadPackagesNati
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.oracle.truffle.api.CompilerAsserts;
@@ -70,8 +71,46 @@ public final class RBuiltinPackages implements RBuiltinLookup {
         return instance;
     }
 
-    public static void loadBase(RContext context, MaterializedFrame baseFrame) {
+    /**
+     * Set if {@link #basePackage} was created by {@link #preInitialize} and not used by
+     * {@link #loadBase} yet.
+     */
+    private static boolean basePackagePreInitialized;
+
+    /**
+     * Registers the builtins and creates the functions for the primitives ahead of
+     * {@link #loadBase}, while the initial context is pre-initialized.
+     *
+     * @return the sources that {@link #loadBase} will evaluate.
+     */
+    public static List<Source> preInitialize(RContext context) {
         basePackage = new BasePackage(context);
+        basePackagePreInitialized = true;
+        for (Map.Entry<String, RBuiltinFactory> entrySet : basePackage.getBuiltins().entrySet()) {
+            if (entrySet.getValue().getKind() != RBuiltinKind.INTERNAL) {
+                createFunction(context.getLanguage(), entrySet.getValue(), entrySet.getKey());
+            }
+        }
+        ArrayList<Source> sources = new ArrayList<>();
+        sources.add(getBaseSource(context));
+        sources.addAll(basePackage.getOverrideSources());
+        return sources;
+    }
+
+    private static Source getBaseSource(RContext context) {
+        TruffleFile basePathbase = REnvVars.getRHomeTruffleFile(context).resolve("library").resolve("base").resolve("R").resolve("base");
+        try {
+            return RSource.fromFileName(context, basePathbase.toString(), true);
+        } catch (IOException ex) {
+            throw RSuicide.rSuicide(String.format("unable to open the base package %s", basePathbase));
+        }
+    }
+
+    public static void loadBase(RContext context, MaterializedFrame baseFrame) {
+        if (!basePackagePreInitialized) {
+            basePackage = new BasePackage(context);
+        }
+        basePackagePreInitialized = false;
         RBuiltinPackage pkg = basePackage;
         REnvironment baseEnv = REnvironment.baseEnv(context);
         BaseVariables.initialize(baseEnv, context);
@@ -95,13 +134,7 @@ public final class RBuiltinPackages implements RBuiltinLookup {
         }
         // Now "load" the package
         TruffleFile baseDirPath = REnvVars.getRHomeTruffleFile(context).resolve("library").resolve("base");
-        TruffleFile basePathbase = baseDirPath.resolve("R").resolve("base");
-        Source baseSource = null;
-        try {
-            baseSource = RSource.fromFileName(context, basePathbase.toString(), true);
-        } catch (IOException ex) {
-            throw RSuicide.rSuicide(String.format("unable to open the base package %s", basePathbase));
-        }
+        Source baseSource = getBaseSource(context);
         // Load the (stub) DLL for base
         if (RContext.getInstance().getOption(LoadPackagesNativeCode)) {
             String path = baseDirPath.resolve("libs").resolve("base.so").toString();
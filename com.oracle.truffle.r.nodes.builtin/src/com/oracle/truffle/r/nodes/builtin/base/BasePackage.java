@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,6 +27,8 @@ import java.util.function.Supplier;
 import com.oracle.truffle.api.frame.MaterializedFrame;
 import com.oracle.truffle.r.library.utils.Download.CurlDownload;
 import com.oracle.truffle.r.library.utils.DownloadNodeGen.CurlDownloadNodeGen;
+import com.oracle.truffle.r.library.utils.ReadTableFast;
+import com.oracle.truffle.r.library.utils.ReadTableFastNodeGen;
 import com.oracle.truffle.r.nodes.RRootNode;
 import com.oracle.truffle.r.nodes.access.variables.ReadVariableNode;
 import com.oracle.truffle.r.nodes.binary.BinaryArithmeticNodeGen;
@@ -34,6 +36,7 @@ import com.oracle.truffle.r.nodes.binary.BinaryArithmeticSpecial;
 import com.oracle.truffle.r.nodes.binary.BinaryBooleanNodeGen;
 import com.oracle.truffle.r.nodes.binary.BinaryBooleanScalarNodeGen;
 import com.oracle.truffle.r.nodes.binary.BinaryBooleanSpecial;
+import com.oracle.truffle.r.nodes.builtin.RBuiltinFactory;
 import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
 import com.oracle.truffle.r.nodes.builtin.RBuiltinPackage;
 import com.oracle.truffle.r.nodes.builtin.base.AttachFunctions.Attach;
@@ -580,10 +583,12 @@ import com.oracle.truffle.r.nodes.builtin.base.SortFunctions.PartialSort;
 import com.oracle.truffle.r.nodes.builtin.base.SortFunctions.QSort;
 import com.oracle.truffle.r.nodes.builtin.base.SortFunctions.RadixSort;
 import com.oracle.truffle.r.nodes.builtin.base.SortFunctions.Sort;
+import com.oracle.truffle.r.nodes.builtin.base.SortFunctions.SortedMark;
 import com.oracle.truffle.r.nodes.builtin.base.SortFunctionsFactory.PartialSortNodeGen;
 import com.oracle.truffle.r.nodes.builtin.base.SortFunctionsFactory.QSortNodeGen;
 import com.oracle.truffle.r.nodes.builtin.base.SortFunctionsFactory.RadixSortNodeGen;
 import com.oracle.truffle.r.nodes.builtin.base.SortFunctionsFactory.SortNodeGen;
+import com.oracle.truffle.r.nodes.builtin.base.SortFunctionsFactory.SortedMarkNodeGen;
 import com.oracle.truffle.r.nodes.builtin.base.StartsEndsWithFunctions.EndsWith;
 import com.oracle.truffle.r.nodes.builtin.base.StartsEndsWithFunctions.StartsWith;
 import com.oracle.truffle.r.nodes.builtin.base.StartsEndsWithFunctionsFactory.EndsWithNodeGen;
@@ -724,6 +729,8 @@ import com.oracle.truffle.r.nodes.builtin.base.infix.WhileBuiltin;
 import com.oracle.truffle.r.nodes.builtin.base.infix.WhileBuiltinNodeGen;
 import com.oracle.truffle.r.nodes.builtin.base.system.SystemFunction;
 import com.oracle.truffle.r.nodes.builtin.base.system.SystemFunctionNodeGen;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRClosureCacheStats;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRClosureCacheStatsNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.ChannelPoll;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.ChannelReceive;
@@ -732,12 +739,14 @@ import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.ChannelSend;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.CloseChannel;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.CreateChannel;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.CreateForkChannel;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.Emit;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.FastRContextClose;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.FastRContextNew;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.Get;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.GetChannel;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.Interrupt;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.Join;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.Next;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContext.Spawn;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContextFactory;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContextFactory.ChannelPollNodeGen;
@@ -747,9 +756,11 @@ import com.oracle.truffle.r.nodes.builtin.fastr.FastRContextFactory.ChannelSendN
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContextFactory.CloseChannelNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContextFactory.CreateChannelNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContextFactory.CreateForkChannelNodeGen;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRContextFactory.EmitNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContextFactory.GetChannelNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContextFactory.InterruptNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContextFactory.JoinNodeGen;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRContextFactory.NextNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRContextFactory.SpawnNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRDebug;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRDebugNodeGen;
@@ -817,7 +828,15 @@ import com.oracle.truffle.r.nodes.builtin.fastr.FastRInteropFactory.ToShortNodeG
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRJavaGDResize;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRLibPaths;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRLibPathsNodeGen;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRMemStats;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRMemStatsNodeGen;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRNativeMemStats;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRNativeMemStatsNodeGen;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRObjectSize;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRObjectSizeNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastROptionBuiltin;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRParLapply;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRParLapplyNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRPatchPackage;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRPatchPackageNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRPkgSource;
@@ -829,6 +848,8 @@ import com.oracle.truffle.r.nodes.builtin.fastr.FastRRefCountInfo;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRRefCountInfoNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRRegisterFunctions;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRRegisterFunctionsNodeGen;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRS3DispatchCacheStats;
+import com.oracle.truffle.r.nodes.builtin.fastr.FastRS3DispatchCacheStatsNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRSVGFileName;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRSVGFileNameNodeGen;
 import com.oracle.truffle.r.nodes.builtin.fastr.FastRSVGGetContent;
@@ -882,6 +903,7 @@ import com.oracle.truffle.r.runtime.RInternalError;
 import com.oracle.truffle.r.runtime.RVisibility;
 import com.oracle.truffle.r.runtime.builtins.FastPathFactory;
 import com.oracle.truffle.r.runtime.builtins.RBuiltin;
+import com.oracle.truffle.r.runtime.builtins.RBuiltinDescriptor;
 import com.oracle.truffle.r.runtime.context.RContext;
 import com.oracle.truffle.r.runtime.data.RFunction;
 import com.oracle.truffle.r.runtime.nodes.RFastPathNode;
@@ -1120,6 +1142,7 @@ public final class BasePackage extends RBuiltinPackage {
         add(MaxCol.class, MaxCol::create);
         add(CacheClass.class, CacheClassNodeGen::create);
         add(CurlDownload.class, CurlDownloadNodeGen::create);
+        add(ReadTableFast.class, ReadTableFastNodeGen::create);
         add(Date.class, DateNodeGen::create);
         add(Date2POSIXlt.class, Date2POSIXltNodeGen::create);
         add(AsPOSIXct.class, AsPOSIXctNodeGen::create);
@@ -1193,6 +1216,8 @@ public final class BasePackage extends RBuiltinPackage {
         add(Spawn.class, SpawnNodeGen::create);
         add(Interrupt.class, InterruptNodeGen::create);
         add(Join.class, JoinNodeGen::create);
+        add(Emit.class, EmitNodeGen::create);
+        add(Next.class, NextNodeGen::create);
         add(FastRRegisterFunctions.class, FastRRegisterFunctionsNodeGen::create);
         add(FastrDqrls.class, FastrDqrlsNodeGen::create);
         add(FastRDebug.class, FastRDebugNodeGen::create);
@@ -1232,6 +1257,12 @@ public final class BasePackage extends RBuiltinPackage {
         add(ToLong.class, ToLongNodeGen::create);
         add(ToShort.class, ToShortNodeGen::create);
         add(FastRRefCountInfo.class, FastRRefCountInfoNodeGen::create);
+        add(FastRNativeMemStats.class, FastRNativeMemStatsNodeGen::create);
+        add(FastRMemStats.class, FastRMemStatsNodeGen::create);
+        add(FastRObjectSize.class, FastRObjectSizeNodeGen::create);
+        add(FastRClosureCacheStats.class, FastRClosureCacheStatsNodeGen::create);
+        add(FastRS3DispatchCacheStats.class, FastRS3DispatchCacheStatsNodeGen::create);
+        add(FastRParLapply.class, FastRParLapplyNodeGen::create);
         add(FastRPkgSource.class, FastRPkgSourceNodeGen::create);
         add(FastRPrintError.class, FastRPrintErrorNodeGen::create);
         add(FastRRCallerTrace.class, FastRRCallerTrace::create);
@@ -1502,7 +1533,9 @@ public final class BasePackage extends RBuiltinPackage {
         add(QSort.class, QSortNodeGen::create);
         add(RadixSort.class, RadixSortNodeGen::create);
         add(Sort.class, SortNodeGen::create);
+        add(SortedMark.class, SortedMarkNodeGen::create);
         add(Split.class, SplitNodeGen::create);
+        add(GroupReduce.class, GroupReduceNodeGen::create);
         add(Sprintf.class, SprintfNodeGen::create);
         add(StandardGeneric.class, StandardGenericNodeGen::create);
         add(StartsWith.class, StartsWithNodeGen::create);
@@ -1530,6 +1563,7 @@ public final class BasePackage extends RBuiltinPackage {
         add(SysUmask.class, SysUmaskNodeGen::create);
         add(SysUnSetEnv.class, SysUnSetEnvNodeGen::create);
         add(SystemFunction.class, SystemFunctionNodeGen::create);
+        add(TableCounts.class, TableCountsNodeGen::create);
         add(Tabulate.class, TabulateNodeGen::create);
         add(TempDir.class, TempDirNodeGen::create);
         add(TempFile.class, TempFileNodeGen::create);
@@ -1625,6 +1659,20 @@ public final class BasePackage extends RBuiltinPackage {
         }
     }
 
+    /**
+     * Returns the operation implementing a unary arithmetic builtin, e.g., {@code sqrt} or
+     * {@code exp}, or {@code null} if the given builtin is not one of them.
+     */
+    public static UnaryArithmeticFactory getUnaryArithmetic(RBuiltinDescriptor builtin) {
+        if (builtin instanceof RBuiltinFactory) {
+            Supplier<RBuiltinNode> constructor = ((RBuiltinFactory) builtin).getConstructor();
+            if (constructor instanceof UnaryArithmeticBuiltinFactory) {
+                return ((UnaryArithmeticBuiltinFactory) constructor).unaryFactory;
+            }
+        }
+        return null;
+    }
+
     private static final class UnaryArithmeticBuiltinFactory implements Supplier<RBuiltinNode> {
         private final UnaryArithmeticFactory unaryFactory;
 
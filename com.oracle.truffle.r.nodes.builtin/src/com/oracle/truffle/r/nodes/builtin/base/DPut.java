@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -52,9 +52,9 @@ public abstract class DPut extends RBuiltinNode.Arg3 {
     @Specialization
     @TruffleBoundary
     protected Object dput(Object x, int file, int opts) {
-        String string = RDeparse.deparse(x, RDeparse.DEFAULT_CUTOFF, true, opts, -1);
         try (RConnection openConn = RConnection.fromIndex(file).forceOpen("wt")) {
-            openConn.writeString(string, true);
+            RDeparse.deparse(x, RDeparse.DEFAULT_CUTOFF, true, opts, -1, chunk -> openConn.writeString(chunk, false));
+            openConn.writeString("", true);
         } catch (IOException ex) {
             throw error(RError.Message.GENERIC, ex.getMessage());
         }
@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995-2012, The R Core Team
  * Copyright (c) 2003, The R Foundation
- * Copyright (c) 2014, 2018, Oracle and/or its affiliates
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -23,11 +23,15 @@ import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.toBoolean;
 import static com.oracle.truffle.r.runtime.builtins.RBehavior.PURE;
 import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.INTERNAL;
 
+import java.io.IOException;
+import java.util.ArrayList;
+
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
 import com.oracle.truffle.r.runtime.RDeparse;
 import com.oracle.truffle.r.runtime.RError;
+import com.oracle.truffle.r.runtime.RInternalError;
 import com.oracle.truffle.r.runtime.RRuntime;
 import com.oracle.truffle.r.runtime.builtins.RBuiltin;
 import com.oracle.truffle.r.runtime.data.RDataFactory;
@@ -55,7 +59,53 @@ public abstract class Deparse extends RBuiltinNode.Arg5 {
             widthCutoff = RDeparse.DEFAULT_CUTOFF;
         }
 
-        String[] data = RDeparse.deparse(expr, widthCutoff, backtick, control, nlines).split("\n");
-        return RDataFactory.createStringVector(data, RDataFactory.COMPLETE_VECTOR);
+        LineCollector lines = new LineCollector();
+        try {
+            RDeparse.deparse(expr, widthCutoff, backtick, control, nlines, lines);
+        } catch (IOException e) {
+            throw RInternalError.shouldNotReachHere(e);
+        }
+        return RDataFactory.createStringVector(lines.getLines(), RDataFactory.COMPLETE_VECTOR);
+    }
+
+    /**
+     * Splits the deparsed chunks into lines as they arrive. The result is the same as splitting
+     * the whole text at {@code '\n'} with {@link String#split(String)}, i.e., trailing empty lines
+     * are dropped.
+     */
+    private static final class LineCollector implements RDeparse.DeparseSink {
+        private final ArrayList<String> lines = new ArrayList<>();
+        private final StringBuilder current = new StringBuilder();
+        private boolean empty = true;
+
+        @Override
+        public void write(String chunk) {
+            empty &= chunk.isEmpty();
+            int start = 0;
+            int nl;
+            while ((nl = chunk.indexOf('\n', start)) >= 0) {
+                if (current.length() == 0) {
+                    lines.add(chunk.substring(start, nl));
+                } else {
+                    current.append(chunk, start, nl);
+                    lines.add(current.toString());
+                    current.setLength(0);
+                }
+                start = nl + 1;
+            }
+            current.append(chunk, start, chunk.length());
+        }
+
+        String[] getLines() {
+            if (empty) {
+                return new String[]{""};
+            }
+            lines.add(current.toString());
+            int n = lines.size();
+            while (n > 0 && lines.get(n - 1).isEmpty()) {
+                n--;
+            }
+            return lines.subList(0, n).toArray(new String[n]);
+        }
     }
 }
@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995-2012, The R Core Team
  * Copyright (c) 2003, The R Foundation
- * Copyright (c) 2014, 2020, Oracle and/or its affiliates
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -24,6 +24,10 @@ import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.integerValue
 import static com.oracle.truffle.r.runtime.builtins.RBehavior.PURE;
 import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.INTERNAL;
 
+import java.text.DecimalFormatSymbols;
+import java.util.Formatter;
+import java.util.Locale;
+
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
@@ -34,6 +38,7 @@ import com.oracle.truffle.r.runtime.builtins.RBuiltin;
 import com.oracle.truffle.r.runtime.data.RAttributable;
 import com.oracle.truffle.r.runtime.data.RDataFactory;
 import com.oracle.truffle.r.runtime.data.RDoubleVector;
+import com.oracle.truffle.r.runtime.data.RIntVector;
 import com.oracle.truffle.r.runtime.data.model.RAbstractVector;
 
 @RBuiltin(name = "formatC", kind = INTERNAL, parameterNames = {"x", "mode", "width", "digits", "format", "flag", "i.strlen"}, behavior = PURE)
@@ -114,8 +119,20 @@ public abstract class FormatC extends RBuiltinNode.Arg7 {
         if ("d".equals(format)) {
             String form = "%" + flag + width + "d";
             if (type == RType.Integer) {
-                for (int i = 0; i < x.getLength(); i++) {
-                    result[i] = String.format(form, x.getDataAtAsObject(i));
+                Sprintf.FormatPlan plan = Sprintf.getPlan(form);
+                if (x instanceof RIntVector && plan.isSingleIntegerConversion() && hasAsciiDigits()) {
+                    // the plan gives the same result as String.format with ASCII digits
+                    RIntVector intX = (RIntVector) x;
+                    StringBuilder sb = new StringBuilder();
+                    for (int i = 0; i < result.length; i++) {
+                        sb.setLength(0);
+                        plan.appendInteger(sb, intX.getDataAt(i));
+                        result[i] = sb.toString();
+                    }
+                } else {
+                    for (int i = 0; i < x.getLength(); i++) {
+                        result[i] = String.format(form, x.getDataAtAsObject(i));
+                    }
                 }
             } else {
                 throw error(Message.GENERIC, "'type' must be \"integer\" for  \"d\"-format");
@@ -168,11 +185,14 @@ public abstract class FormatC extends RBuiltinNode.Arg7 {
                     } /* if(do_fg) for(i..) */
                 } else {
                     String form = "%" + flag + width + "." + dig + format;
-                    String form2 = "%" + width + "s";
+                    boolean trim = "g".equals(format) || "f".equals(format);
+                    StringBuilder sb = new StringBuilder();
+                    Formatter formatter = new Formatter(sb);
                     for (int i = 0; i < x.getLength(); i++) {
-                        String str = String.format(form, x.getDataAtAsObject(i));
-                        str = ("g".equals(format) || "f".equals(format)) ? trimZero(str) : str;
-                        result[i] = String.format(form2, str);
+                        sb.setLength(0);
+                        formatter.format(form, x.getDataAtAsObject(i));
+                        String str = trim ? trimZero(sb.toString()) : sb.toString();
+                        result[i] = padToWidth(str, width);
                     }
                 }
             } else {
@@ -182,6 +202,31 @@ public abstract class FormatC extends RBuiltinNode.Arg7 {
         return result;
     }
 
+    private static boolean hasAsciiDigits() {
+        return DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getZeroDigit() == '0';
+    }
+
+    /**
+     * Same as {@code String.format("%" + width + "s", str)}.
+     */
+    private static String padToWidth(String str, int width) {
+        int padding = Math.abs(width) - str.length();
+        if (padding <= 0) {
+            return str;
+        }
+        StringBuilder sb = new StringBuilder(str.length() + padding);
+        if (width < 0) {
+            sb.append(str);
+        }
+        for (int i = 0; i < padding; i++) {
+            sb.append(' ');
+        }
+        if (width > 0) {
+            sb.append(str);
+        }
+        return sb.toString();
+    }
+
     private static String trimZero(String str) {
         int e = str.indexOf('e');
         int i = e < 0 ? str.length() : e;
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.nodes.builtin.base;
+
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.gte;
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.integerValue;
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.stringValue;
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.toBoolean;
+import static com.oracle.truffle.r.runtime.builtins.RBehavior.PURE;
+import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.INTERNAL;
+import static com.oracle.truffle.r.runtime.context.FastROptions.FullPrecisionSum;
+
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.ImportStatic;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
+import com.oracle.truffle.r.runtime.DSLConfig;
+import com.oracle.truffle.r.runtime.RInternalError;
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.builtins.RBuiltin;
+import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RDoubleVector;
+import com.oracle.truffle.r.runtime.data.RIntVector;
+import com.oracle.truffle.r.runtime.data.RNull;
+import com.oracle.truffle.r.runtime.data.VectorDataLibrary;
+
+/**
+ * Applies one of the builtin reducers {@code sum}, {@code mean}, {@code min}, {@code max} or
+ * {@code length} to every group of {@code x} in a single pass, without materializing the groups.
+ * {@code group} holds the 1-based group of each element ({@code NA} elements belong to no group),
+ * as computed by {@code tapply} or by the factor given to {@code split}. This is used by the FastR
+ * versions of {@code tapply} and {@code aggregate}.
+ *
+ * The result for a group is the same as applying the reducer (with the given {@code na.rm}) to the
+ * vector {@code split} would produce for it. Groups without any element get the start value of the
+ * reduction, the caller is expected to mask them. Whenever the reducer would warn or change the
+ * result type ({@code min} or {@code max} of a group with only {@code NA} values removed, integer
+ * overflow in {@code sum}) or would use a different summation ({@code FullPrecisionSum}), the
+ * result is {@code NULL} and the caller has to fall back to applying the function to each group.
+ */
+@ImportStatic(DSLConfig.class)
+@RBuiltin(name = ".fastr.groupreduce", kind = INTERNAL, parameterNames = {"x", "group", "ngroup", "op", "na.rm"}, behavior = PURE)
+public abstract class GroupReduce extends RBuiltinNode.Arg5 {
+
+    private enum Reducer {
+        SUM,
+        MEAN,
+        MIN,
+        MAX,
+        LENGTH;
+
+        static Reducer fromName(String name) {
+            switch (name) {
+                case "sum":
+                    return SUM;
+                case "mean":
+                    return MEAN;
+                case "min":
+                    return MIN;
+                case "max":
+                    return MAX;
+                case "length":
+                    return LENGTH;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    static {
+        Casts casts = new Casts(GroupReduce.class);
+        casts.arg("group").mustBe(integerValue()).asIntegerVector();
+        casts.arg("ngroup").asIntegerVector().findFirst().mustBe(gte(0));
+        casts.arg("op").mustBe(stringValue()).asStringVector().findFirst();
+        casts.arg("na.rm").asLogicalVector().findFirst(RRuntime.LOGICAL_FALSE).map(toBoolean());
+    }
+
+    @Specialization(guards = "x.getLength() == group.getLength()", limit = "getTypedVectorDataLibraryCacheSize()")
+    protected Object reduce(RIntVector x, RIntVector group, int ngroup, String op, boolean naRm,
+                    @CachedLibrary("x.getData()") VectorDataLibrary xDataLib) {
+        Reducer reducer = Reducer.fromName(op);
+        if (reducer == null) {
+            return RNull.instance;
+        } else if (reducer == Reducer.LENGTH) {
+            return countGroups(group.getReadonlyData(), ngroup);
+        }
+        return reduceInt(xDataLib.getReadonlyIntData(x.getData()), group.getReadonlyData(), ngroup, reducer, naRm);
+    }
+
+    @Specialization(guards = "x.getLength() == group.getLength()", limit = "getTypedVectorDataLibraryCacheSize()")
+    protected Object reduce(RDoubleVector x, RIntVector group, int ngroup, String op, boolean naRm,
+                    @CachedLibrary("x.getData()") VectorDataLibrary xDataLib) {
+        Reducer reducer = Reducer.fromName(op);
+        if (reducer == null || (reducer == Reducer.SUM && getRContext().getOption(FullPrecisionSum))) {
+            return RNull.instance;
+        } else if (reducer == Reducer.LENGTH) {
+            return countGroups(group.getReadonlyData(), ngroup);
+        }
+        return reduceDouble(xDataLib.getReadonlyDoubleData(x.getData()), group.getReadonlyData(), ngroup, reducer, naRm);
+    }
+
+    @Fallback
+    protected RNull reduce(@SuppressWarnings("unused") Object x, @SuppressWarnings("unused") Object group, @SuppressWarnings("unused") Object ngroup,
+                    @SuppressWarnings("unused") Object op, @SuppressWarnings("unused") Object naRm) {
+        return RNull.instance;
+    }
+
+    private static boolean isValidGroup(int g, int ngroup) {
+        return g >= 1 && g <= ngroup;
+    }
+
+    @TruffleBoundary
+    private static Object reduceInt(int[] x, int[] group, int ngroup, Reducer reducer, boolean naRm) {
+        if (reducer == Reducer.MEAN) {
+            double[] values = new double[x.length];
+            for (int i = 0; i < x.length; i++) {
+                values[i] = RRuntime.isNA(x[i]) ? RRuntime.DOUBLE_NA : x[i];
+            }
+            return reduceDouble(values, group, ngroup, reducer, naRm);
+        }
+        int[] result = new int[ngroup];
+        int[] count = new int[ngroup];
+        int[] kept = new int[ngroup];
+        boolean[] isNA = new boolean[ngroup];
+        if (reducer == Reducer.MIN || reducer == Reducer.MAX) {
+            // the start values of UnaryArithmeticReduceNode
+            Arrays.fill(result, reducer == Reducer.MIN ? RRuntime.INT_MAX_VALUE : RRuntime.INT_MIN_VALUE);
+        }
+        for (int i = 0; i < x.length; i++) {
+            int g = group[i];
+            if (RRuntime.isNA(g)) {
+                continue;
+            }
+            if (!isValidGroup(g, ngroup)) {
+                return RNull.instance;
+            }
+            g--;
+            count[g]++;
+            if (isNA[g]) {
+                continue;
+            }
+            int value = x[i];
+            if (RRuntime.isNA(value)) {
+                if (!naRm) {
+                    isNA[g] = true;
+                    result[g] = RRuntime.INT_NA;
+                }
+                continue;
+            }
+            kept[g]++;
+            switch (reducer) {
+                case SUM:
+                    long sum = (long) result[g] + value;
+                    if (sum > Integer.MAX_VALUE || sum <= RRuntime.INT_NA) {
+                        // sum switches to a double result on overflow
+                        return RNull.instance;
+                    }
+                    result[g] = (int) sum;
+                    break;
+                case MIN:
+                    result[g] = Math.min(result[g], value);
+                    break;
+                case MAX:
+                    result[g] = Math.max(result[g], value);
+                    break;
+                default:
+                    throw RInternalError.shouldNotReachHere();
+            }
+        }
+        boolean complete = true;
+        for (int g = 0; g < ngroup; g++) {
+            if (isNA[g]) {
+                complete = false;
+            } else if (count[g] > 0 && kept[g] == 0 && reducer != Reducer.SUM) {
+                // min and max warn and return an infinite double value
+                return RNull.instance;
+            }
+        }
+        return RDataFactory.createIntVector(result, complete);
+    }
+
+    @TruffleBoundary
+    private static Object reduceDouble(double[] x, int[] group, int ngroup, Reducer reducer, boolean naRm) {
+        double[] result = new double[ngroup];
+        int[] count = new int[ngroup];
+        int[] kept = new int[ngroup];
+        boolean[] done = new boolean[ngroup];
+        if (reducer == Reducer.MIN || reducer == Reducer.MAX) {
+            Arrays.fill(result, reducer == Reducer.MIN ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY);
+        }
+        for (int i = 0; i < x.length; i++) {
+            int g = group[i];
+            if (RRuntime.isNA(g)) {
+                continue;
+            }
+            if (!isValidGroup(g, ngroup)) {
+                return RNull.instance;
+            }
+            g--;
+            count[g]++;
+            if (done[g]) {
+                continue;
+            }
+            double value = x[i];
+            if (RRuntime.isNAorNaN(value)) {
+                if (naRm) {
+                    continue;
+                } else if (reducer == Reducer.MEAN || RRuntime.isNA(value)) {
+                    // mean returns the first NA or NaN, the other reducers only stop at NA
+                    result[g] = value;
+                    done[g] = true;
+                    continue;
+                }
+            }
+            kept[g]++;
+            switch (reducer) {
+                case SUM:
+                case MEAN:
+                    result[g] += value;
+                    break;
+                case MIN:
+                    result[g] = min(result[g], value);
+                    break;
+                case MAX:
+                    result[g] = max(result[g], value);
+                    break;
+                default:
+                    throw RInternalError.shouldNotReachHere();
+            }
+        }
+        boolean complete = true;
+        for (int g = 0; g < ngroup; g++) {
+            if (done[g]) {
+                complete &= !RRuntime.isNA(result[g]);
+            } else if (reducer == Reducer.MEAN) {
+                result[g] = kept[g] == 0 ? Double.NaN : result[g] / kept[g];
+            } else if (count[g] > 0 && kept[g] == 0 && reducer != Reducer.SUM) {
+                // min and max warn for groups without non-missing values
+                return RNull.instance;
+            }
+        }
+        return RDataFactory.createDoubleVector(result, complete);
+    }
+
+    @TruffleBoundary
+    private static Object countGroups(int[] group, int ngroup) {
+        int[] count = new int[ngroup];
+        for (int i = 0; i < group.length; i++) {
+            int g = group[i];
+            if (!RRuntime.isNA(g)) {
+                if (!isValidGroup(g, ngroup)) {
+                    return RNull.instance;
+                }
+                count[g - 1]++;
+            }
+        }
+        return RDataFactory.createIntVector(count, RDataFactory.COMPLETE_VECTOR);
+    }
+
+    /**
+     * As {@code BinaryArithmetic.Min}: a {@code NaN} accumulator sticks and -0 is smaller than 0.
+     */
+    private static double min(double left, double right) {
+        if (left != left) {
+            return left;
+        } else if (left == 0.0d && right == 0.0d && Double.doubleToRawLongBits(right) == Double.doubleToRawLongBits(-0.0d)) {
+            return right;
+        } else {
+            return left <= right ? left : right;
+        }
+    }
+
+    /**
+     * As {@code BinaryArithmetic.Max}: a {@code NaN} accumulator sticks and 0 is larger than -0.
+     */
+    private static double max(double left, double right) {
+        if (left != left) {
+            return left;
+        } else if (left == 0.0d && right == 0.0d && Double.doubleToRawLongBits(left) == Double.doubleToRawLongBits(-0.0d)) {
+            return right;
+        } else {
+            return left >= right ? left : right;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -39,7 +39,9 @@ import com.oracle.truffle.r.nodes.builtin.base.OrderNodeGen.CmpNodeGen;
 import com.oracle.truffle.r.runtime.RRuntime;
 import com.oracle.truffle.r.runtime.RType;
 import com.oracle.truffle.r.runtime.builtins.RBuiltin;
+import com.oracle.truffle.r.runtime.data.RDoubleArrayVectorData;
 import com.oracle.truffle.r.runtime.data.RDoubleVector;
+import com.oracle.truffle.r.runtime.data.RIntArrayVectorData;
 import com.oracle.truffle.r.runtime.data.RIntVector;
 import com.oracle.truffle.r.runtime.data.RRawVector;
 import com.oracle.truffle.r.runtime.data.RComplexVector;
@@ -56,17 +58,24 @@ public abstract class IsUnsorted extends RBuiltinNode.Arg2 {
     @Child private BinaryMapBooleanFunctionNode gt = new BinaryMapBooleanFunctionNode(BinaryCompare.GREATER_THAN.createOperation());
 
     private final ConditionProfile strictlyProfile = ConditionProfile.createBinaryProfile();
+    private final ConditionProfile knownSortedProfile = ConditionProfile.createBinaryProfile();
 
     static {
         Casts casts = new Casts(IsUnsorted.class);
         casts.arg("strictly").asLogicalVector().findFirst().mustNotBeNA().map(toBoolean());
     }
 
-    @Specialization
-    protected byte isUnsorted(RDoubleVector x, boolean strictly) {
+    @Specialization(limit = "getTypedVectorDataLibraryCacheSize()")
+    protected byte isUnsorted(RDoubleVector x, boolean strictly,
+                    @CachedLibrary("x.getData()") VectorDataLibrary dataLib) {
+        if (knownSortedProfile.profile(!strictly && VectorDataLibrary.isSortedWithoutNA(dataLib, x.getData(), false))) {
+            return RRuntime.LOGICAL_FALSE;
+        }
         double last = x.getDataAt(0);
+        boolean seenNA = Double.isNaN(last);
         for (int k = 1; k < x.getLength(); k++) {
             double current = x.getDataAt(k);
+            seenNA |= Double.isNaN(current);
             if (strictlyProfile.profile(strictly)) {
                 if (ge.applyLogical(last, current) == RRuntime.LOGICAL_TRUE) {
                     return RRuntime.LOGICAL_TRUE;
@@ -78,14 +87,24 @@ public abstract class IsUnsorted extends RBuiltinNode.Arg2 {
             }
             last = current;
         }
+        if (!seenNA && x.getData() instanceof RDoubleArrayVectorData) {
+            // remember the result for the next is.unsorted, order or sort
+            ((RDoubleArrayVectorData) x.getData()).setSorted(false);
+        }
         return RRuntime.LOGICAL_FALSE;
     }
 
-    @Specialization
-    protected byte isUnsorted(RIntVector x, boolean strictly) {
+    @Specialization(limit = "getTypedVectorDataLibraryCacheSize()")
+    protected byte isUnsorted(RIntVector x, boolean strictly,
+                    @CachedLibrary("x.getData()") VectorDataLibrary dataLib) {
+        if (knownSortedProfile.profile(!strictly && VectorDataLibrary.isSortedWithoutNA(dataLib, x.getData(), false))) {
+            return RRuntime.LOGICAL_FALSE;
+        }
         int last = x.getDataAt(0);
+        boolean seenNA = RRuntime.isNA(last);
         for (int k = 1; k < x.getLength(); k++) {
             int current = x.getDataAt(k);
+            seenNA |= RRuntime.isNA(current);
             if (strictlyProfile.profile(strictly)) {
                 if (ge.applyLogical(last, current) == RRuntime.LOGICAL_TRUE) {
                     return RRuntime.LOGICAL_TRUE;
@@ -97,6 +116,10 @@ public abstract class IsUnsorted extends RBuiltinNode.Arg2 {
             }
             last = current;
         }
+        if (!seenNA && x.getData() instanceof RIntArrayVectorData) {
+            // remember the result for the next is.unsorted, order or sort
+            ((RIntArrayVectorData) x.getData()).setSorted(false);
+        }
         return RRuntime.LOGICAL_FALSE;
     }
 
@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995, 1996  Robert Gentleman and Ross Ihaka
  * Copyright (c) 1997-2014,  The R Core Team
- * Copyright (c) 2016, 2020, Oracle and/or its affiliates
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -87,6 +87,22 @@ public abstract class Merge extends RBuiltinNode.Arg4 {
         }
     }
 
+    /**
+     * The shell sort leaves an already sorted array and its index untouched, so it can be skipped
+     * if the data is known to be sorted or a linear scan finds it non-decreasing.
+     */
+    private static boolean isSorted(VectorDataLibrary dataLib, Object data, int[] x, int n) {
+        if (VectorDataLibrary.isSortedWithoutNA(dataLib, data, false)) {
+            return true;
+        }
+        for (int i = 1; i < n; i++) {
+            if (x[i - 1] > x[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Specialization(limit = "getTypedVectorDataLibraryCacheSize()")
     RList merge(RIntVector xInds, RIntVector yInds, boolean allX, boolean allY,
                     @CachedLibrary("xInds.getData()") VectorDataLibrary xIndsDataLib,
@@ -104,8 +120,12 @@ public abstract class Merge extends RBuiltinNode.Arg4 {
         }
         int[] xIndsData = xIndsDataLib.getReadonlyIntData(xInds.getData());
         int[] yIndsData = yIndsDataLib.getReadonlyIntData(yInds.getData());
-        isortWithIndex(xIndsData, ix, nx);
-        isortWithIndex(yIndsData, iy, ny);
+        if (!isSorted(xIndsDataLib, xInds.getData(), xIndsData, nx)) {
+            isortWithIndex(xIndsData, ix, nx);
+        }
+        if (!isSorted(yIndsDataLib, yInds.getData(), yIndsData, ny)) {
+            isortWithIndex(yIndsData, iy, ny);
+        }
 
         /* 1. determine result sizes */
         int nxLone = 0;
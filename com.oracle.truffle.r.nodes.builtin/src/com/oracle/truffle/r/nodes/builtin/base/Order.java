@@ -2,7 +2,7 @@
  * Copyright (c) 1995, 1996, 1997  Robert Gentleman and Ross Ihaka
  * Copyright (c) 1995-2014, The R Core Team
  * Copyright (c) 2002-2008, The R Foundation
- * Copyright (c) 2016, 2022, Oracle and/or its affiliates
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -77,6 +77,7 @@ public abstract class Order extends RPrecedenceBuiltinNode {
 
     private final BranchProfile error = BranchProfile.create();
     private final ConditionProfile notRemoveNAs = ConditionProfile.createBinaryProfile();
+    private final ConditionProfile knownSorted = ConditionProfile.createBinaryProfile();
     private final ValueProfile vectorProfile = ValueProfile.createClassProfile();
 
     /**
@@ -90,6 +91,10 @@ public abstract class Order extends RPrecedenceBuiltinNode {
         RAbstractVector v = vectorProfile.profile(vIn);
         Object vData = v.getData();
         int n = vecDataLib.getLength(vData);
+        if (knownSorted.profile(VectorDataLibrary.isSortedWithoutNA(vecDataLib, vData, dec))) {
+            // there are no NAs to remove or place and the order of ties is kept
+            return RDataFactory.createIntSequence(1, 1, n);
+        }
         reportWork(n);
 
         int[] indx = createIndexes(v, vecDataLib, n, naLast);
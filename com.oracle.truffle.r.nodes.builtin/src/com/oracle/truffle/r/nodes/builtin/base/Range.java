@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,8 @@ import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.PRIMITIVE;
 
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.profiles.ConditionProfile;
 import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
 import com.oracle.truffle.r.nodes.unary.UnaryArithmeticReduceNode;
 import com.oracle.truffle.r.nodes.unary.UnaryArithmeticReduceNode.ReduceSemantics;
@@ -38,6 +40,9 @@ import com.oracle.truffle.r.runtime.RRuntime;
 import com.oracle.truffle.r.runtime.builtins.RBuiltin;
 import com.oracle.truffle.r.runtime.data.RArgsValuesAndNames;
 import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RDoubleVector;
+import com.oracle.truffle.r.runtime.data.RIntVector;
+import com.oracle.truffle.r.runtime.data.VectorDataLibrary;
 import com.oracle.truffle.r.runtime.data.model.RAbstractAtomicVector;
 import com.oracle.truffle.r.runtime.data.model.RAbstractVector;
 import com.oracle.truffle.r.runtime.ops.BinaryArithmetic;
@@ -73,7 +78,25 @@ public abstract class Range extends RBuiltinNode.Arg3 {
     @Specialization(guards = {"args.getLength() == 1", "isAtomicVector(args.getArgument(0))"})
     protected RAbstractVector rangeLengthOne(RArgsValuesAndNames args, boolean naRm, boolean finite,
                     @Cached("createMinReduce()") UnaryArithmeticReduceNode minReduce,
-                    @Cached("createMaxReduce()") UnaryArithmeticReduceNode maxReduce) {
+                    @Cached("createMaxReduce()") UnaryArithmeticReduceNode maxReduce,
+                    @Cached("createBinaryProfile()") ConditionProfile sortedProfile,
+                    @CachedLibrary(limit = "getGenericDataLibraryCacheSize()") VectorDataLibrary dataLib) {
+        Object arg = args.getArgument(0);
+        if (!finite && (arg instanceof RIntVector || arg instanceof RDoubleVector)) {
+            // the extremes of a vector known to be sorted and without NAs are at its ends
+            Object data = ((RAbstractVector) arg).getData();
+            int len = dataLib.getLength(data);
+            boolean descending = VectorDataLibrary.isSortedWithoutNA(dataLib, data, true);
+            if (sortedProfile.profile(len > 0 && (descending || VectorDataLibrary.isSortedWithoutNA(dataLib, data, false)))) {
+                int minIndex = descending ? len - 1 : 0;
+                int maxIndex = descending ? 0 : len - 1;
+                if (arg instanceof RIntVector) {
+                    return RDataFactory.createIntVector(new int[]{dataLib.getIntAt(data, minIndex), dataLib.getIntAt(data, maxIndex)}, RDataFactory.COMPLETE_VECTOR);
+                } else {
+                    return RDataFactory.createDoubleVector(new double[]{dataLib.getDoubleAt(data, minIndex), dataLib.getDoubleAt(data, maxIndex)}, RDataFactory.COMPLETE_VECTOR);
+                }
+            }
+        }
         Object min = minReduce.executeReduce(args.getArgument(0), naRm || finite, finite);
         Object max = maxReduce.executeReduce(args.getArgument(0), naRm || finite, finite);
         return createResult(min, max);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,6 +34,7 @@ import static com.oracle.truffle.r.runtime.RError.Message.INVALID_LOGICAL;
 import static com.oracle.truffle.r.runtime.RError.Message.NOT_NUMERIC_VECTOR;
 import static com.oracle.truffle.r.runtime.RError.Message.ONLY_ATOMIC_CAN_BE_SORTED;
 import static com.oracle.truffle.r.runtime.RError.Message.RAW_SORT;
+import static com.oracle.truffle.r.runtime.builtins.RBehavior.MODIFIES_STATE;
 import static com.oracle.truffle.r.runtime.builtins.RBehavior.PURE;
 import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.INTERNAL;
 
@@ -42,6 +43,7 @@ import java.util.Collections;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.r.nodes.builtin.NodeWithArgumentCasts.Casts;
@@ -53,7 +55,9 @@ import com.oracle.truffle.r.runtime.builtins.RBuiltin;
 import com.oracle.truffle.r.runtime.data.RArgsValuesAndNames;
 import com.oracle.truffle.r.runtime.data.RComplexVector;
 import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RDoubleArrayVectorData;
 import com.oracle.truffle.r.runtime.data.RDoubleVector;
+import com.oracle.truffle.r.runtime.data.RIntArrayVectorData;
 import com.oracle.truffle.r.runtime.data.RIntVector;
 import com.oracle.truffle.r.runtime.data.RLogicalVector;
 import com.oracle.truffle.r.runtime.data.RNull;
@@ -130,13 +134,23 @@ public class SortFunctions {
     }
 
     protected static RDoubleVector jdkSort(RDoubleVector vec, boolean decreasing, VectorDataLibrary vecDataLib) {
-        double[] data = vec.materialize().getDataCopy();
-        return RDataFactory.createDoubleVector(sort(data, decreasing), vecDataLib.isComplete(vec.getData()));
+        double[] data = sort(vec.materialize().getDataCopy(), decreasing);
+        RDoubleVector result = RDataFactory.createDoubleVector(data, vecDataLib.isComplete(vec.getData()));
+        // NA and NaN values end up at the end of the sorted array (at the start if decreasing)
+        if (data.length == 0 || !Double.isNaN(data[decreasing ? 0 : data.length - 1])) {
+            ((RDoubleArrayVectorData) result.getData()).setSorted(decreasing);
+        }
+        return result;
     }
 
     protected static RIntVector jdkSort(RIntVector vec, boolean decreasing, VectorDataLibrary vecDataLib) {
-        int[] data = vec.materialize().getDataCopy();
-        return RDataFactory.createIntVector(sort(data, decreasing), vecDataLib.isComplete(vec.getData()));
+        int[] data = sort(vec.materialize().getDataCopy(), decreasing);
+        RIntVector result = RDataFactory.createIntVector(data, vecDataLib.isComplete(vec.getData()));
+        // NA is the smallest integer value
+        if (data.length == 0 || !RRuntime.isNA(data[decreasing ? data.length - 1 : 0])) {
+            ((RIntArrayVectorData) result.getData()).setSorted(decreasing);
+        }
+        return result;
     }
 
     protected static RStringVector jdkSort(RStringVector vec, boolean decreasing, VectorDataLibrary vecDataLib) {
@@ -267,6 +281,76 @@ public class SortFunctions {
         }
     }
 
+    /**
+     * Records in the vector data that {@code x} is sorted in the given direction and contains no
+     * {@code NA} values, if that is the case, and returns {@code x}. The FastR version of
+     * {@code sort.int} passes its results through it, so that {@code sort}, {@code order},
+     * {@code is.unsorted}, {@code unique} and {@code range} do not have to scan them again. Any
+     * other value of {@code x} and an {@code NA} direction are ignored.
+     */
+    @RBuiltin(name = ".fastr.sortedmark", kind = INTERNAL, parameterNames = {"x", "decreasing"}, behavior = MODIFIES_STATE)
+    public abstract static class SortedMark extends RBuiltinNode.Arg2 {
+
+        static {
+            Casts casts = new Casts(SortedMark.class);
+            // sort.int accepts anything as.logical can convert, so must this
+            casts.arg("decreasing").asLogicalVector().findFirst(RRuntime.LOGICAL_NA);
+        }
+
+        @Specialization(guards = "!isNA(decreasing)")
+        protected RIntVector mark(RIntVector x, byte decreasing) {
+            if (x.getData() instanceof RIntArrayVectorData) {
+                RIntArrayVectorData data = (RIntArrayVectorData) x.getData();
+                boolean decr = RRuntime.fromLogical(decreasing);
+                if (!data.isSorted(decr, true) && isSortedWithoutNA(data.getReadonlyIntData(), decr)) {
+                    data.setSorted(decr);
+                }
+            }
+            return x;
+        }
+
+        @Specialization(guards = "!isNA(decreasing)")
+        protected RDoubleVector mark(RDoubleVector x, byte decreasing) {
+            if (x.getData() instanceof RDoubleArrayVectorData) {
+                RDoubleArrayVectorData data = (RDoubleArrayVectorData) x.getData();
+                boolean decr = RRuntime.fromLogical(decreasing);
+                if (!data.isSorted(decr, true) && isSortedWithoutNA(data.getReadonlyDoubleData(), decr)) {
+                    data.setSorted(decr);
+                }
+            }
+            return x;
+        }
+
+        @Fallback
+        protected Object mark(Object x, @SuppressWarnings("unused") Object decreasing) {
+            return x;
+        }
+
+        protected static boolean isNA(byte value) {
+            return RRuntime.isNA(value);
+        }
+
+        @TruffleBoundary
+        private static boolean isSortedWithoutNA(int[] data, boolean decreasing) {
+            for (int i = 0; i < data.length; i++) {
+                if (RRuntime.isNA(data[i]) || (i > 0 && (decreasing ? data[i - 1] < data[i] : data[i - 1] > data[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @TruffleBoundary
+        private static boolean isSortedWithoutNA(double[] data, boolean decreasing) {
+            for (int i = 0; i < data.length; i++) {
+                if (Double.isNaN(data[i]) || (i > 0 && (decreasing ? data[i - 1] < data[i] : data[i - 1] > data[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     /**
      * This a helper function for the code in sort.R. It does NOT return the input vectors sorted,
      * but returns an {@link RIntVector} of indices (positions) indicating the sort order (Or
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -36,12 +36,14 @@ import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
 import com.oracle.truffle.r.runtime.RRuntime;
 import com.oracle.truffle.r.runtime.builtins.RBuiltin;
+import com.oracle.truffle.r.runtime.data.RDoubleVector;
 import com.oracle.truffle.r.runtime.data.RIntVector;
 import com.oracle.truffle.r.runtime.data.VectorDataLibrary;
 
 /**
- * Fast path check if a vector is already sorted. For now we simply return {@code FALSE}. This
- * should be improved.
+ * Fast path check if a vector is already sorted. This only consults the sortedness known by the
+ * vector data (sequences, ALTREP vectors and the results of {@code sort}), it never scans the
+ * vector.
  */
 @RBuiltin(name = "sorted_fpass", kind = INTERNAL, parameterNames = {"x", "decr", "nalast"}, behavior = PURE)
 public abstract class SortedFastPass extends RBuiltinNode.Arg3 {
@@ -56,11 +58,21 @@ public abstract class SortedFastPass extends RBuiltinNode.Arg3 {
     @Specialization(limit = "getTypedVectorDataLibraryCacheSize()")
     protected byte isSorted(RIntVector x, boolean decr, byte nalast,
                     @CachedLibrary("x.getData()") VectorDataLibrary dataLib) {
+        return isSorted(x.getData(), decr, nalast, dataLib);
+    }
+
+    @Specialization(limit = "getTypedVectorDataLibraryCacheSize()")
+    protected byte isSorted(RDoubleVector x, boolean decr, byte nalast,
+                    @CachedLibrary("x.getData()") VectorDataLibrary dataLib) {
+        return isSorted(x.getData(), decr, nalast, dataLib);
+    }
+
+    private static byte isSorted(Object data, boolean decr, byte nalast, VectorDataLibrary dataLib) {
         if (RRuntime.isNA(nalast)) {
-            // TODO: we may add support for this into the library
-            return RRuntime.LOGICAL_FALSE;
+            // NAs would have to be removed, so the data must be known not to contain any
+            return RRuntime.asLogical(VectorDataLibrary.isSortedWithoutNA(dataLib, data, decr));
         }
-        return RRuntime.asLogical(dataLib.isSorted(x.getData(), decr, RRuntime.fromLogical(nalast)));
+        return RRuntime.asLogical(dataLib.isSorted(data, decr, RRuntime.fromLogical(nalast)));
     }
 
     @Fallback
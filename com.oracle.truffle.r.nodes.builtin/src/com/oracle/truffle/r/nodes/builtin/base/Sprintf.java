@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,8 @@ import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.stringValue;
 import static com.oracle.truffle.r.runtime.builtins.RBehavior.PURE;
 import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.INTERNAL;
 
+import java.util.ArrayList;
+import java.util.Formatter;
 import java.util.IllegalFormatException;
 import java.util.Locale;
 
@@ -34,6 +36,7 @@ import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
 import com.oracle.truffle.r.runtime.ArgumentsSignature;
+import com.oracle.truffle.r.runtime.Collections.BoundedLRUCache;
 import com.oracle.truffle.r.runtime.RError;
 import com.oracle.truffle.r.runtime.RError.Message;
 import com.oracle.truffle.r.runtime.RInternalError;
@@ -105,10 +108,7 @@ public abstract class Sprintf extends RBuiltinNode.Arg2 {
     @Specialization
     @TruffleBoundary
     protected RStringVector sprintf(String fmt, RIntVector x) {
-        String[] r = new String[x.getLength()];
-        for (int k = 0; k < r.length; k++) {
-            r[k] = format(fmt, x.getDataAt(k));
-        }
+        String[] r = formatElements(fmt, new Object[]{x}, x.getLength());
         return RDataFactory.createStringVector(r, RDataFactory.COMPLETE_VECTOR);
     }
 
@@ -140,9 +140,15 @@ public abstract class Sprintf extends RBuiltinNode.Arg2 {
     @Specialization
     @TruffleBoundary
     protected RStringVector sprintf(String fmt, RDoubleVector x) {
-        String[] r = new String[x.getLength()];
-        for (int k = 0; k < r.length; k++) {
-            r[k] = sprintf(fmt, x.getDataAt(k));
+        String[] r;
+        char f = Character.toLowerCase(firstFormatChar(fmt));
+        if (f == 'x' || f == 'd') {
+            r = new String[x.getLength()];
+            for (int k = 0; k < r.length; k++) {
+                r[k] = sprintf(fmt, x.getDataAt(k));
+            }
+        } else {
+            r = formatElements(fmt, new Object[]{x}, x.getLength());
         }
         return RDataFactory.createStringVector(r, RDataFactory.COMPLETE_VECTOR);
     }
@@ -168,10 +174,7 @@ public abstract class Sprintf extends RBuiltinNode.Arg2 {
     @Specialization
     @TruffleBoundary
     protected RStringVector sprintf(String fmt, RStringVector x) {
-        String[] r = new String[x.getLength()];
-        for (int k = 0; k < r.length; k++) {
-            r[k] = format(fmt, x.getDataAt(k));
-        }
+        String[] r = formatElements(fmt, new Object[]{x}, x.getLength());
         return RDataFactory.createStringVector(r, RDataFactory.COMPLETE_VECTOR);
     }
 
@@ -184,10 +187,7 @@ public abstract class Sprintf extends RBuiltinNode.Arg2 {
     @Specialization
     @TruffleBoundary
     protected RStringVector sprintf(String fmt, RLogicalVector x) {
-        String[] r = new String[x.getLength()];
-        for (int k = 0; k < r.length; k++) {
-            r[k] = format(fmt, x.getDataAt(k));
-        }
+        String[] r = formatElements(fmt, new Object[]{x}, x.getLength());
         return RDataFactory.createStringVector(r, RDataFactory.COMPLETE_VECTOR);
     }
 
@@ -242,6 +242,9 @@ public abstract class Sprintf extends RBuiltinNode.Arg2 {
             } else {
                 return RDataFactory.createStringVector(fmt);
             }
+        } else if (hasEqualLengths(values, maxLength)) {
+            String[] r = formatElements(fmt, values, maxLength);
+            return RDataFactory.createStringVector(r, RDataFactory.COMPLETE_VECTOR);
         } else {
             String[] r = new String[maxLength];
             for (int k = 0; k < r.length; k++) {
@@ -313,7 +316,36 @@ public abstract class Sprintf extends RBuiltinNode.Arg2 {
         }
     }
 
+    private static boolean hasEqualLengths(Object[] values, int length) {
+        for (Object value : values) {
+            if (value instanceof RAbstractVector && ((RAbstractVector) value).getLength() != length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Formats {@code length} elements of {@code values}, which are scalars or vectors of the given
+     * length, using the plan of {@code fmt} where possible.
+     */
+    private String[] formatElements(String fmt, Object[] values, int length) {
+        FormatPlan plan = getPlan(fmt);
+        FormatPlan.Buffers buffers = new FormatPlan.Buffers();
+        String[] r = new String[length];
+        for (int k = 0; k < length; k++) {
+            String formatted = plan.format(values, k, buffers);
+            r[k] = formatted != null ? formatted : formatWithoutPlan(fmt, createSprintfArgs(values, k, length));
+        }
+        return r;
+    }
+
     private String format(String fmt, Object... args) {
+        String formatted = getPlan(fmt).format(args, 0, new FormatPlan.Buffers());
+        return formatted != null ? formatted : formatWithoutPlan(fmt, args);
+    }
+
+    private String formatWithoutPlan(String fmt, Object... args) {
         char[] conversions = new char[args.length];
         String format = processFormat(fmt, args, conversions);
         adjustValues(args, conversions);
@@ -498,6 +530,408 @@ public abstract class Sprintf extends RBuiltinNode.Arg2 {
         }
     }
 
+    //
+    // format plans
+    //
+
+    private static final int PLAN_CACHE_SIZE = 256;
+
+    private static final BoundedLRUCache<String, FormatPlan> planCache = new BoundedLRUCache<>(PLAN_CACHE_SIZE);
+
+    /**
+     * Returns the plan of {@code fmt}, parsing the format only if it is not cached yet.
+     */
+    @TruffleBoundary
+    static FormatPlan getPlan(String fmt) {
+        return planCache.computeIfAbsent(fmt, FormatPlan::compile);
+    }
+
+    /**
+     * A format string parsed once into literal text and conversions. Integer and string
+     * conversions are written directly into the result, floating point conversions use a Java
+     * format specification built once for the conversion. A plan only handles formats and
+     * arguments for which it gives the same result as {@link Sprintf#format(String, Object...)},
+     * otherwise {@link #format} returns {@code null} and the caller falls back to it.
+     */
+    static final class FormatPlan {
+        private static final FormatPlan UNSUPPORTED = new FormatPlan(null, null, 0);
+
+        /**
+         * {@code literals[i]} precedes {@code conversions[i]}, the last literal follows the last
+         * conversion.
+         */
+        private final String[] literals;
+        private final Conversion[] conversions;
+        private final int argCount;
+
+        private FormatPlan(String[] literals, Conversion[] conversions, int argCount) {
+            this.literals = literals;
+            this.conversions = conversions;
+            this.argCount = argCount;
+        }
+
+        static FormatPlan compile(String fmt) {
+            ArrayList<String> literals = new ArrayList<>();
+            ArrayList<Conversion> conversions = new ArrayList<>();
+            char[] cs = fmt.toCharArray();
+            StringBuilder literal = new StringBuilder();
+            int argc = 1;
+            int argCount = 0;
+            int i = 0;
+            try {
+                while (i < cs.length) {
+                    while (i < cs.length && cs[i] != '%') {
+                        literal.append(cs[i++]);
+                    }
+                    if (i == cs.length) {
+                        break;
+                    }
+                    i++;
+                    FormatInfo fi = extractFormatInfo(cs, i, argc);
+                    argc = fi.argc;
+                    i = fi.nextChar;
+                    if (fi.conversion == '%') {
+                        literal.append('%');
+                        continue;
+                    }
+                    if (fi.widthIsArg || fi.precisionIsArg) {
+                        return UNSUPPORTED;
+                    }
+                    for (Conversion c : conversions) {
+                        if (c.arg == fi.numArg - 1) {
+                            // the same argument would be adjusted for only one of the conversions
+                            return UNSUPPORTED;
+                        }
+                    }
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    conversions.add(new Conversion(fi));
+                    argCount = Math.max(argCount, fi.numArg);
+                }
+            } catch (RuntimeException e) {
+                // the slow path reports the error
+                return UNSUPPORTED;
+            }
+            literals.add(literal.toString());
+            return new FormatPlan(literals.toArray(new String[literals.size()]), conversions.toArray(new Conversion[conversions.size()]), argCount);
+        }
+
+        /**
+         * Tells whether the plan is a single {@code d} conversion that {@link #appendInteger} can
+         * write.
+         */
+        boolean isSingleIntegerConversion() {
+            return conversions != null && conversions.length == 1 && literals[0].isEmpty() && literals[1].isEmpty() && conversions[0].kind == 'd' && conversions[0].integerWritable;
+        }
+
+        void appendInteger(StringBuilder sb, int value) {
+            assert isSingleIntegerConversion();
+            conversions[0].appendInteger(sb, value);
+        }
+
+        /**
+         * Formats the element {@code index} of {@code values}, whose entries are either scalars or
+         * vectors of the same length, or returns {@code null} if the plan cannot format it.
+         */
+        String format(Object[] values, int index, Buffers buffers) {
+            if (conversions == null || argCount > values.length) {
+                return null;
+            }
+            StringBuilder sb = buffers.result;
+            sb.setLength(0);
+            for (int i = 0; i < conversions.length; i++) {
+                sb.append(literals[i]);
+                if (!conversions[i].append(sb, values[conversions[i].arg], index, buffers)) {
+                    return null;
+                }
+            }
+            sb.append(literals[conversions.length]);
+            return sb.toString();
+        }
+
+        /**
+         * Reusable buffers and formatters for one {@code sprintf} call.
+         */
+        static final class Buffers {
+            final StringBuilder result = new StringBuilder();
+            private final StringBuilder scratch = new StringBuilder();
+            private Formatter plainFormatter;
+            private Formatter localizedFormatter;
+
+            /**
+             * Formats {@code value} like {@code String.format((Locale) null, spec, value)}.
+             */
+            String formatPlain(String spec, double value) {
+                if (plainFormatter == null) {
+                    plainFormatter = new Formatter(scratch, (Locale) null);
+                }
+                scratch.setLength(0);
+                plainFormatter.format(spec, value);
+                return scratch.toString();
+            }
+
+            /**
+             * Formats {@code value} like {@code String.format(spec, value)}.
+             */
+            String formatLocalized(String spec, double value) {
+                if (localizedFormatter == null) {
+                    localizedFormatter = new Formatter(scratch);
+                }
+                scratch.setLength(0);
+                localizedFormatter.format(spec, value);
+                return scratch.toString();
+            }
+        }
+    }
+
+    private static final class Conversion {
+        /**
+         * One of {@code d}, {@code x}, {@code X}, {@code o}, {@code s}, {@code g}, {@code G} or
+         * another floating point conversion.
+         */
+        final char kind;
+        final int arg;
+        final int width;
+        final int precision;
+        final boolean adjustLeft;
+        final boolean alwaysSign;
+        final boolean spacePrefix;
+        final boolean padZero;
+        /**
+         * Whether the flags are valid for an integer {@code d}, {@code x} or {@code o} conversion,
+         * which is also used for integer arguments of {@code g}.
+         */
+        final boolean integerWritable;
+        final boolean stringWritable;
+        /**
+         * Whether an {@code NA} can be written; it is formatted as a string without the sign and
+         * zero padding flags.
+         */
+        final boolean naWritable;
+        /**
+         * The Java format specification of a floating point conversion.
+         */
+        final String spec;
+
+        Conversion(FormatInfo fi) {
+            kind = fi.conversion;
+            arg = fi.numArg - 1;
+            width = fi.width;
+            precision = fi.precision;
+            adjustLeft = fi.adjustLeft;
+            alwaysSign = fi.alwaysSign;
+            spacePrefix = fi.spacePrefix;
+            padZero = fi.padZero;
+            boolean widthValid = (!adjustLeft && !padZero) || width >= 0;
+            boolean integerFlags = kind == 'd' || kind == 'g' || kind == 'G' ? !(alwaysSign && spacePrefix) : !alwaysSign && !spacePrefix;
+            integerWritable = !fi.alternate && !(adjustLeft && padZero) && integerFlags && widthValid && precision < 0;
+            stringWritable = !fi.alternate && !padZero && !alwaysSign && !spacePrefix && widthValid;
+            naWritable = !fi.alternate && !spacePrefix && (!adjustLeft || width >= 0);
+            if (isFloatingPoint()) {
+                StringBuilder sb = new StringBuilder().append('%');
+                fi.appendFlags(null, sb);
+                spec = sb.append(kind).toString();
+            } else {
+                spec = null;
+            }
+        }
+
+        private boolean isFloatingPoint() {
+            return "aAeEfgG".indexOf(kind) != -1;
+        }
+
+        boolean append(StringBuilder sb, Object value, int index, FormatPlan.Buffers buffers) {
+            if (value instanceof RIntVector) {
+                return appendInt(sb, ((RIntVector) value).getDataAt(index), buffers);
+            } else if (value instanceof Integer) {
+                return appendInt(sb, (Integer) value, buffers);
+            } else if (value instanceof RDoubleVector) {
+                return appendDouble(sb, ((RDoubleVector) value).getDataAt(index), buffers);
+            } else if (value instanceof Double) {
+                return appendDouble(sb, (Double) value, buffers);
+            } else if (value instanceof RStringVector) {
+                return appendString(sb, ((RStringVector) value).getDataAt(index));
+            } else if (value instanceof String) {
+                return appendString(sb, (String) value);
+            } else if (value instanceof RLogicalVector) {
+                return appendLogical(sb, ((RLogicalVector) value).getDataAt(index), buffers);
+            } else if (value instanceof Byte) {
+                return appendLogical(sb, (Byte) value, buffers);
+            }
+            return false;
+        }
+
+        private boolean appendNA(StringBuilder sb) {
+            if (!naWritable) {
+                return false;
+            }
+            appendJustified(sb, RRuntime.STRING_NA);
+            return true;
+        }
+
+        private boolean appendInt(StringBuilder sb, int value, FormatPlan.Buffers buffers) {
+            if (RRuntime.isNA(value)) {
+                return appendNA(sb);
+            }
+            switch (kind) {
+                case 'd':
+                case 'x':
+                case 'X':
+                case 'o':
+                case 'g':
+                case 'G':
+                    if (!integerWritable) {
+                        return false;
+                    }
+                    appendInteger(sb, value);
+                    return true;
+                case 's':
+                    return stringWritable && appendJustified(sb, Integer.toString(value));
+                default:
+                    return appendDouble(sb, value, buffers);
+            }
+        }
+
+        private boolean appendLogical(StringBuilder sb, byte value, FormatPlan.Buffers buffers) {
+            if (RRuntime.isNA(value)) {
+                return appendNA(sb);
+            }
+            if (kind == 's') {
+                return stringWritable && appendJustified(sb, RRuntime.logicalToString(value));
+            }
+            return appendInt(sb, value, buffers);
+        }
+
+        private boolean appendDouble(StringBuilder sb, double value, FormatPlan.Buffers buffers) {
+            if (RRuntime.isNA(value)) {
+                return appendNA(sb);
+            }
+            switch (kind) {
+                case 'd':
+                case 'x':
+                case 'X':
+                case 'o':
+                    if (!integerWritable || value != (int) value) {
+                        return false;
+                    }
+                    appendInteger(sb, (int) value);
+                    return true;
+                case 's':
+                    return stringWritable && appendJustified(sb, value == (int) value ? Integer.toString((int) value) : Double.toString(value));
+                case 'g':
+                case 'G':
+                    try {
+                        // C removes trailing zeroes for g/G, see processFormat
+                        String formatted = buffers.formatLocalized(spec, value);
+                        int end = formatted.length();
+                        boolean removedZeroes = false;
+                        while (end > 0 && formatted.charAt(end - 1) == '0') {
+                            end--;
+                            removedZeroes = true;
+                        }
+                        if (removedZeroes && end > 0 && formatted.charAt(end - 1) == '.') {
+                            end--;
+                        }
+                        sb.append(formatted, 0, end);
+                    } catch (IllegalFormatException e) {
+                        return false;
+                    }
+                    return true;
+                default:
+                    try {
+                        sb.append(buffers.formatPlain(spec, value));
+                    } catch (IllegalFormatException e) {
+                        return false;
+                    }
+                    return true;
+            }
+        }
+
+        private boolean appendString(StringBuilder sb, String value) {
+            if (RRuntime.isNA(value)) {
+                return appendNA(sb);
+            }
+            return kind == 's' && stringWritable && appendJustified(sb, value);
+        }
+
+        /**
+         * Appends {@code value} like the Java {@code %s} conversion with the width, precision and
+         * {@code -} flag of this conversion.
+         */
+        private boolean appendJustified(StringBuilder sb, String value) {
+            int length = precision >= 0 ? Math.min(precision, value.length()) : value.length();
+            int padding = width - length;
+            if (!adjustLeft) {
+                appendRepeated(sb, ' ', padding);
+            }
+            sb.append(value, 0, length);
+            if (adjustLeft) {
+                appendRepeated(sb, ' ', padding);
+            }
+            return true;
+        }
+
+        /**
+         * Appends {@code value} like the Java {@code %d}, {@code %x} or {@code %o} conversions.
+         */
+        void appendInteger(StringBuilder sb, int value) {
+            String digits = null;
+            long magnitude = 0;
+            int length;
+            char sign = 0;
+            if (kind == 'x' || kind == 'X') {
+                digits = Integer.toHexString(value);
+                if (kind == 'X') {
+                    digits = digits.toUpperCase(Locale.ROOT);
+                }
+                length = digits.length();
+            } else if (kind == 'o') {
+                digits = Integer.toOctalString(value);
+                length = digits.length();
+            } else {
+                magnitude = Math.abs((long) value);
+                length = 1;
+                for (long rest = magnitude / 10; rest > 0; rest /= 10) {
+                    length++;
+                }
+                if (value < 0) {
+                    sign = '-';
+                } else if (alwaysSign) {
+                    sign = '+';
+                } else if (spacePrefix) {
+                    sign = ' ';
+                }
+                if (sign != 0) {
+                    length++;
+                }
+            }
+            int padding = width - length;
+            if (!adjustLeft && !padZero) {
+                appendRepeated(sb, ' ', padding);
+            }
+            if (sign != 0) {
+                sb.append(sign);
+            }
+            if (padZero) {
+                appendRepeated(sb, '0', padding);
+            }
+            if (digits != null) {
+                sb.append(digits);
+            } else {
+                sb.append(magnitude);
+            }
+            if (adjustLeft) {
+                appendRepeated(sb, ' ', padding);
+            }
+        }
+
+        private static void appendRepeated(StringBuilder sb, char c, int count) {
+            for (int i = 0; i < count; i++) {
+                sb.append(c);
+            }
+        }
+    }
+
     //
     // format info parsing
     //
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.nodes.builtin.base;
+
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.instanceOf;
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.integerValue;
+import static com.oracle.truffle.r.runtime.builtins.RBehavior.PURE;
+import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.INTERNAL;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
+import com.oracle.truffle.r.runtime.Collections.NonRecursiveHashMapInt;
+import com.oracle.truffle.r.runtime.RError;
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.builtins.RBuiltin;
+import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RIntVector;
+import com.oracle.truffle.r.runtime.data.RList;
+
+/**
+ * Counts the combinations of factor codes for {@code table}. {@code codes} is a list of integer
+ * vectors of the same length holding 1-based codes, the i-th of them with {@code dims[i]} levels.
+ * The result has {@code prod(dims)} elements, the count of each combination in the order of a
+ * contingency table, i.e., the first factor varies fastest. Elements with an {@code NA} code are
+ * not counted. This is equivalent to {@code tabulate} of the combined index that {@code table}
+ * computes, but without the full-length temporaries for the index.
+ *
+ * Large inputs are split into chunks counted by {@link ForkJoinPool} workers. A chunk counts into
+ * an array with one element per combination if the table is not larger than the chunk, otherwise
+ * (sparse combinations) into a hash map of the combinations it actually contains.
+ */
+@RBuiltin(name = ".fastr.tablecounts", kind = INTERNAL, parameterNames = {"codes", "dims"}, behavior = PURE)
+public abstract class TableCounts extends RBuiltinNode.Arg2 {
+
+    /**
+     * Minimal number of elements for which the counting is split across worker threads.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    /**
+     * Minimal number of elements counted by a single worker thread.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 18;
+
+    static {
+        Casts casts = new Casts(TableCounts.class);
+        casts.arg("codes").mustBe(instanceOf(RList.class));
+        casts.arg("dims").mustBe(integerValue()).asIntegerVector();
+    }
+
+    @Specialization
+    protected RIntVector count(RList codes, RIntVector dims) {
+        int nkeys = codes.getLength();
+        if (dims.getLength() != nkeys) {
+            throw error(RError.Message.INVALID_ARGUMENT, "dims");
+        }
+        int[][] keys = new int[nkeys][];
+        long[] multipliers = new long[nkeys];
+        long nbins = 1;
+        for (int k = 0; k < nkeys; k++) {
+            Object key = codes.getDataAt(k);
+            int dim = dims.getDataAt(k);
+            if (!(key instanceof RIntVector) || RRuntime.isNA(dim) || dim < 0) {
+                throw error(RError.Message.INVALID_ARGUMENT, "codes");
+            }
+            keys[k] = ((RIntVector) key).getReadonlyData();
+            if (keys[k].length != keys[0].length) {
+                throw error(RError.Message.NOT_ALL_SAME_LENGTH);
+            }
+            multipliers[k] = nbins;
+            nbins *= dim;
+            if (nbins > Integer.MAX_VALUE) {
+                throw error(RError.Message.INVALID_ARGUMENT, "dims");
+            }
+        }
+        return RDataFactory.createIntVector(countCombinations(keys, multipliers, (int) nbins), RDataFactory.COMPLETE_VECTOR);
+    }
+
+    @TruffleBoundary
+    private static int[] countCombinations(int[][] keys, long[] multipliers, int nbins) {
+        int[] counts = new int[nbins];
+        int length = keys.length == 0 ? 0 : keys[0].length;
+        int nchunks = Math.min(length / MIN_CHUNK_SIZE, ForkJoinPool.getCommonPoolParallelism() * 2);
+        if (length < PARALLEL_THRESHOLD || nchunks < 2) {
+            for (int i = 0; i < length; i++) {
+                int bin = bin(keys, multipliers, nbins, i);
+                if (bin >= 0) {
+                    counts[bin]++;
+                }
+            }
+            return counts;
+        }
+        ArrayList<ChunkCounter> chunks = new ArrayList<>(nchunks);
+        for (int c = 0; c < nchunks; c++) {
+            chunks.add(new ChunkCounter(keys, multipliers, nbins, (int) ((long) length * c / nchunks), (int) ((long) length * (c + 1) / nchunks)));
+        }
+        ForkJoinTask.invokeAll(chunks);
+        for (ChunkCounter chunk : chunks) {
+            chunk.mergeInto(counts);
+        }
+        return counts;
+    }
+
+    /**
+     * The index of the combination of codes at position {@code i} or {@code -1} if any of the
+     * codes is {@code NA} or the combination is outside of the table.
+     */
+    private static int bin(int[][] keys, long[] multipliers, int nbins, int i) {
+        long bin = 0;
+        for (int k = 0; k < keys.length; k++) {
+            int code = keys[k][i];
+            if (RRuntime.isNA(code)) {
+                return -1;
+            }
+            bin += multipliers[k] * (code - 1);
+        }
+        return bin >= 0 && bin < nbins ? (int) bin : -1;
+    }
+
+    private static final class ChunkCounter extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] keys;
+        private final long[] multipliers;
+        private final int nbins;
+        private final int from;
+        private final int to;
+
+        /**
+         * Dense counts, one per combination, or {@code null} if the combinations are sparse.
+         */
+        private int[] counts;
+        /**
+         * Sparse counts: the combinations in the order of first occurrence and their counts.
+         */
+        private int[] distinctBins;
+        private int[] distinctCounts;
+        private int distinct;
+
+        ChunkCounter(int[][] keys, long[] multipliers, int nbins, int from, int to) {
+            this.keys = keys;
+            this.multipliers = multipliers;
+            this.nbins = nbins;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (nbins <= to - from) {
+                counts = new int[nbins];
+                for (int i = from; i < to; i++) {
+                    int bin = bin(keys, multipliers, nbins, i);
+                    if (bin >= 0) {
+                        counts[bin]++;
+                    }
+                }
+            } else {
+                NonRecursiveHashMapInt slots = new NonRecursiveHashMapInt(to - from);
+                distinctBins = new int[to - from];
+                distinctCounts = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    int bin = bin(keys, multipliers, nbins, i);
+                    if (bin >= 0) {
+                        int slot = slots.get(bin);
+                        if (slot < 0) {
+                            slot = distinct++;
+                            slots.put(bin, slot);
+                            distinctBins[slot] = bin;
+                        }
+                        distinctCounts[slot]++;
+                    }
+                }
+            }
+        }
+
+        void mergeInto(int[] result) {
+            if (counts != null) {
+                for (int bin = 0; bin < nbins; bin++) {
+                    result[bin] += counts[bin];
+                }
+            } else {
+                for (int slot = 0; slot < distinct; slot++) {
+                    result[distinctBins[slot]] += distinctCounts[slot];
+                }
+            }
+        }
+    }
+}
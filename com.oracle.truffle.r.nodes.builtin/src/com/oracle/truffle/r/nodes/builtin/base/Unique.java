@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -48,7 +48,9 @@ import com.oracle.truffle.r.runtime.builtins.RBuiltin;
 import com.oracle.truffle.r.runtime.data.RComplex;
 import com.oracle.truffle.r.runtime.data.RComplexVector;
 import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RDoubleArrayVectorData;
 import com.oracle.truffle.r.runtime.data.RDoubleVector;
+import com.oracle.truffle.r.runtime.data.RIntArrayVectorData;
 import com.oracle.truffle.r.runtime.data.RIntVector;
 import com.oracle.truffle.r.runtime.data.RList;
 import com.oracle.truffle.r.runtime.data.RLogicalVector;
@@ -67,6 +69,7 @@ public abstract class Unique extends RBuiltinNode.Arg4 {
     private static final long BIG_THRESHOLD = 100;
 
     private final ConditionProfile bigProfile = ConditionProfile.createBinaryProfile();
+    private final ConditionProfile sortedProfile = ConditionProfile.createBinaryProfile();
 
     static {
         Casts casts = new Casts(Unique.class);
@@ -260,6 +263,22 @@ public abstract class Unique extends RBuiltinNode.Arg4 {
         Object vecData = vec.getData();
         int vecLength = vecLib.getLength(vecData);
         reportWork(vecLength);
+        boolean descending = VectorDataLibrary.isSortedWithoutNA(vecLib, vecData, true);
+        if (sortedProfile.profile(descending || VectorDataLibrary.isSortedWithoutNA(vecLib, vecData, false))) {
+            // duplicates are adjacent, no hashing needed
+            int[] data = new int[vecLength];
+            int ind = 0;
+            SeqIterator it = vecLib.iterator(vecData);
+            while (vecLib.nextLoopCondition(vecData, it)) {
+                int val = vecLib.getNextInt(vecData, it);
+                if (ind == 0 || data[ind - 1] != val) {
+                    data[ind++] = val;
+                }
+            }
+            RIntVector result = RDataFactory.createIntVector(Arrays.copyOf(data, ind), RDataFactory.COMPLETE_VECTOR);
+            ((RIntArrayVectorData) result.getData()).setSorted(descending);
+            return result;
+        }
         if (bigProfile.profile(vecLength * (long) vecLength > BIG_THRESHOLD)) {
             NonRecursiveHashSetInt set = new NonRecursiveHashSetInt();
             int[] data = new int[16];
@@ -393,6 +412,22 @@ public abstract class Unique extends RBuiltinNode.Arg4 {
         int vecLen = vecDataLib.getLength(vecData);
         boolean isVecComplete = vecDataLib.isComplete(vecData);
         reportWork(vecLen);
+        boolean descending = VectorDataLibrary.isSortedWithoutNA(vecDataLib, vecData, true);
+        if (sortedProfile.profile(descending || VectorDataLibrary.isSortedWithoutNA(vecDataLib, vecData, false))) {
+            // duplicates are adjacent, no hashing needed
+            double[] data = new double[vecLen];
+            int ind = 0;
+            SeqIterator vecIter = vecDataLib.iterator(vecData);
+            while (vecDataLib.nextLoopCondition(vecData, vecIter)) {
+                double val = vecDataLib.getNextDouble(vecData, vecIter);
+                if (ind == 0 || data[ind - 1] != val) {
+                    data[ind++] = val;
+                }
+            }
+            RDoubleVector result = RDataFactory.createDoubleVector(Arrays.copyOf(data, ind), RDataFactory.COMPLETE_VECTOR);
+            ((RDoubleArrayVectorData) result.getData()).setSorted(descending);
+            return result;
+        }
         if (bigProfile.profile(vecLen * (long) vecLen > BIG_THRESHOLD)) {
             NonRecursiveHashSetDouble set = new NonRecursiveHashSetDouble(vecLen);
             double[] data = new double[vecLen];
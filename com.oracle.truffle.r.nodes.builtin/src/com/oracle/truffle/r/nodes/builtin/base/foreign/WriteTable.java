@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995-2012, The R Core Team
  * Copyright (c) 2003, The R Foundation
- * Copyright (c) 2014, 2020, Oracle and/or its affiliates
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -24,6 +24,8 @@ import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.stringValue;
 import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.toBoolean;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntFunction;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Specialization;
@@ -79,6 +81,22 @@ public abstract class WriteTable extends RExternalBuiltinNode.Arg11 {
         casts.arg(10).mustNotBeNull().asLogicalVector().findFirst().mustNotBeNA().map(toBoolean());
     }
 
+    /**
+     * Rows are formatted into a reusable buffer that is handed to the connection once it holds at
+     * least this many characters, always at a row boundary.
+     */
+    private static final int SLAB_SIZE = 1 << 16;
+
+    /**
+     * Number of rows whose double cells are formatted ahead of writing them out.
+     */
+    private static final int BLOCK_ROWS = 1 << 14;
+
+    /**
+     * Double cells are formatted in parallel chunks only for blocks with at least this many cells.
+     */
+    private static final int PARALLEL_MIN_CELLS = 1 << 12;
+
     // Transcribed from GnuR, library/utils/src/io.c
 
     @Specialization
@@ -109,27 +127,38 @@ public abstract class WriteTable extends RExternalBuiltinNode.Arg11 {
                     throw new IllegalArgumentException("corrupt matrix -- dims not not match length");
                 }
 
-                StringBuilder tmp = new StringBuilder();
-                for (int i = 0; i < nr; i++) {
-                    if (!(rnames instanceof RNull)) {
-                        tmp.append(encodeElement2((RStringVector) rnames, i, quoteRn, qmethod, cdec));
-                        tmp.append(csep);
+                StringBuilder tmp = new StringBuilder(SLAB_SIZE + 1024);
+                String[][] formatted = new String[nc][];
+                for (int blockStart = 0; blockStart < nr; blockStart += BLOCK_ROWS) {
+                    int blockEnd = Math.min(nr, blockStart + BLOCK_ROWS);
+                    if (x instanceof RDoubleVector) {
+                        for (int j = 0; j < nc; j++) {
+                            formatted[j] = formatDoubles((RDoubleVector) x, blockStart + j * nr, blockEnd - blockStart, cdec);
+                        }
                     }
-                    for (int j = 0; j < nc; j++) {
-                        if (j > 0) {
+                    for (int i = blockStart; i < blockEnd; i++) {
+                        if (!(rnames instanceof RNull)) {
+                            appendElement2(tmp, (RStringVector) rnames, i, quoteRn, qmethod, cdec);
                             tmp.append(csep);
                         }
-                        if (isna(x, i + j * nr)) {
-                            tmp.append(cna);
-                        } else {
-                            tmp.append(encodeElement2(x, i + j * nr, quoteCol[j], qmethod, cdec));
-                            /* if(cdec) change_dec(tmp, cdec, TYPEOF(x)); */
+                        for (int j = 0; j < nc; j++) {
+                            if (j > 0) {
+                                tmp.append(csep);
+                            }
+                            if (formatted[j] != null) {
+                                String cell = formatted[j][i - blockStart];
+                                tmp.append(cell == null ? cna : cell);
+                            } else if (isna(x, i + j * nr)) {
+                                tmp.append(cna);
+                            } else {
+                                appendElement2(tmp, x, i + j * nr, quoteCol[j], qmethod, cdec);
+                            }
                         }
+                        tmp.append(ceol);
+                        writeIfFull(con, tmp);
                     }
-                    tmp.append(ceol);
-                    con.writeString(tmp.toString(), false);
-                    tmp.setLength(0);
                 }
+                writeRemaining(con, tmp);
             }
         } catch (IOException | IllegalArgumentException ex) {
             throw RError.error(RError.SHOW_CALLER, RError.Message.GENERIC, ex.getMessage());
@@ -142,9 +171,11 @@ public abstract class WriteTable extends RExternalBuiltinNode.Arg11 {
                     throws IOException {
 
         /* handle factors internally, check integrity */
+        Object[] columns = new Object[nc];
         RStringVector[] levels = new RStringVector[nc];
         for (int j = 0; j < nc; j++) {
             Object xjObj = x.getDataAtAsObject(j);
+            columns[j] = xjObj;
             if (xjObj instanceof RAbstractContainer) {
                 RAbstractContainer xj = (RAbstractContainer) xjObj;
                 if (xj.getLength() != nr) {
@@ -160,46 +191,90 @@ public abstract class WriteTable extends RExternalBuiltinNode.Arg11 {
             }
         }
 
-        StringBuilder tmp = new StringBuilder();
-        for (int i = 0; i < nr; i++) {
-            // if (i % 1000 == 999)
-            // R_CheckUserInterrupt();
-            if (!(rnames instanceof RNull)) {
-                tmp.append(encodeElement2((RStringVector) rnames, i, quoteRn, qmethod, cdec)).append(csep);
-            }
+        StringBuilder tmp = new StringBuilder(SLAB_SIZE + 1024);
+        String[][] formatted = new String[nc][];
+        for (int blockStart = 0; blockStart < nr; blockStart += BLOCK_ROWS) {
+            int blockEnd = Math.min(nr, blockStart + BLOCK_ROWS);
             for (int j = 0; j < nc; j++) {
-                Object xjObj = x.getDataAtAsObject(j);
-                if (j > 0) {
+                if (columns[j] instanceof RDoubleVector && levels[j] == null) {
+                    formatted[j] = formatDoubles((RDoubleVector) columns[j], blockStart, blockEnd - blockStart, cdec);
+                }
+            }
+            for (int i = blockStart; i < blockEnd; i++) {
+                // if (i % 1000 == 999)
+                // R_CheckUserInterrupt();
+                if (!(rnames instanceof RNull)) {
+                    appendElement2(tmp, (RStringVector) rnames, i, quoteRn, qmethod, cdec);
                     tmp.append(csep);
                 }
-                if (xjObj instanceof RAbstractContainer) {
-                    RAbstractContainer xj = (RAbstractContainer) xjObj;
-                    if (isna(xj, i)) {
-                        tmp.append(cna);
-                    } else {
-                        if (levels[j] != null) {
-                            tmp.append(encodeElement2(levels[j], (int) xj.getDataAtAsObject(i) - 1, quoteCol[j], qmethod, cdec));
+                for (int j = 0; j < nc; j++) {
+                    Object xjObj = columns[j];
+                    if (j > 0) {
+                        tmp.append(csep);
+                    }
+                    if (formatted[j] != null) {
+                        String cell = formatted[j][i - blockStart];
+                        tmp.append(cell == null ? cna : cell);
+                    } else if (xjObj instanceof RAbstractContainer) {
+                        RAbstractContainer xj = (RAbstractContainer) xjObj;
+                        if (isna(xj, i)) {
+                            tmp.append(cna);
                         } else {
-                            tmp.append(encodeElement2((RAbstractVector) xj, i, quoteCol[j], qmethod, cdec));
+                            if (levels[j] != null) {
+                                appendElement2(tmp, levels[j], (int) xj.getDataAtAsObject(i) - 1, quoteCol[j], qmethod, cdec);
+                            } else {
+                                appendElement2(tmp, (RAbstractVector) xj, i, quoteCol[j], qmethod, cdec);
+                            }
                         }
-                        /* if(cdec) change_dec(tmp, cdec, TYPEOF(xj)); */
+                    } else {
+                        tmp.append(encodePrimitiveElement(xjObj, cna, quoteRn, qmethod, cdec));
                     }
-                } else {
-                    tmp.append(encodePrimitiveElement(xjObj, cna, quoteRn, qmethod));
-                    /* if(cdec) change_dec(tmp, cdec, TYPEOF(xj)); */
                 }
+                tmp.append(ceol);
+                writeIfFull(con, tmp);
             }
-            tmp.append(ceol);
+        }
+        writeRemaining(con, tmp);
+    }
+
+    /**
+     * Formats {@code n} elements of {@code x} starting at {@code offset}, NA elements are left as
+     * {@code null}. The values are read on the calling thread, the formatting itself does not
+     * touch any R state and is split into parallel chunks for larger blocks.
+     */
+    private static String[] formatDoubles(RDoubleVector x, int offset, int n, char cdec) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = x.getDataAt(offset + i);
+        }
+        String[] result = new String[n];
+        IntFunction<String> format = i -> RRuntime.isNA(values[i]) ? null : changeDec(DoubleVectorPrinter.encodeReal(values[i]), cdec);
+        if (n >= PARALLEL_MIN_CELLS) {
+            Arrays.parallelSetAll(result, format);
+        } else {
+            Arrays.setAll(result, format);
+        }
+        return result;
+    }
+
+    private static void writeIfFull(RConnection con, StringBuilder tmp) throws IOException {
+        if (tmp.length() >= SLAB_SIZE) {
+            writeRemaining(con, tmp);
+        }
+    }
+
+    private static void writeRemaining(RConnection con, StringBuilder tmp) throws IOException {
+        if (tmp.length() > 0) {
             con.writeString(tmp.toString(), false);
             tmp.setLength(0);
         }
     }
 
-    private static String encodeStringElement(String p0, boolean quote, boolean qmethod) {
+    private static void appendStringElement(StringBuilder sb, String p0, boolean quote, boolean qmethod) {
         if (!quote) {
-            return p0;
+            sb.append(p0);
+            return;
         }
-        StringBuilder sb = new StringBuilder();
         sb.append('"');
         for (int i = 0; i < p0.length(); i++) {
             char p = p0.charAt(i);
@@ -209,29 +284,38 @@ public abstract class WriteTable extends RExternalBuiltinNode.Arg11 {
             sb.append(p);
         }
         sb.append('"');
+    }
+
+    private static String encodeStringElement(String p0, boolean quote, boolean qmethod) {
+        if (!quote) {
+            return p0;
+        }
+        StringBuilder sb = new StringBuilder();
+        appendStringElement(sb, p0, quote, qmethod);
         return sb.toString();
     }
 
     /* a version of EncodeElement with different escaping of char strings */
-    private static String encodeElement2(RAbstractVector x, int indx, boolean quote, boolean qmethod, char cdec) {
+    private static void appendElement2(StringBuilder sb, RAbstractVector x, int indx, boolean quote, boolean qmethod, char cdec) {
         if (indx < 0 || indx >= x.getLength()) {
             throw new IllegalArgumentException("index out of range");
         }
         if (x instanceof RStringVector) {
             RStringVector sx = (RStringVector) x;
             String p0 = /* translateChar */sx.getDataAt(indx);
-            return encodeStringElement(p0, quote, qmethod);
+            appendStringElement(sb, p0, quote, qmethod);
+        } else {
+            sb.append(encodeElement(x, indx, quote ? '"' : 0, cdec));
         }
-        return encodeElement(x, indx, quote ? '"' : 0, cdec);
     }
 
-    private static String encodePrimitiveElement(Object o, String cna, boolean quote, boolean qmethod) {
+    private static String encodePrimitiveElement(Object o, String cna, boolean quote, boolean qmethod, char cdec) {
         if (o instanceof Integer) {
             int v = (int) o;
             return RRuntime.isNA(v) ? cna : RRuntime.intToStringNoCheck(v);
         } else if (o instanceof Double) {
             double v = (double) o;
-            return RRuntime.isNA(v) ? cna : DoubleVectorPrinter.encodeReal(v);
+            return RRuntime.isNA(v) ? cna : changeDec(DoubleVectorPrinter.encodeReal(v), cdec);
         } else if (o instanceof Byte) {
             byte v = (byte) o;
             return RRuntime.isNA(v) ? cna : RRuntime.logicalToStringNoCheck(v);
@@ -240,7 +324,7 @@ public abstract class WriteTable extends RExternalBuiltinNode.Arg11 {
             return RRuntime.isNA(v) ? cna : encodeStringElement(v, quote, qmethod);
         } else if (o instanceof RComplex) {
             RComplex v = (RComplex) o;
-            return RRuntime.isNA(v) ? cna : ComplexVectorPrinter.encodeComplex(v);
+            return RRuntime.isNA(v) ? cna : changeDec(ComplexVectorPrinter.encodeComplex(v), cdec);
         } else if (o instanceof RRaw) {
             RRaw v = (RRaw) o;
             return RRuntime.rawToHexString(v.getValue());
@@ -266,10 +350,10 @@ public abstract class WriteTable extends RExternalBuiltinNode.Arg11 {
         }
     }
 
-    private static String encodeElement(Object x, int indx, @SuppressWarnings("unused") char quote, @SuppressWarnings("unused") char dec) {
+    private static String encodeElement(Object x, int indx, @SuppressWarnings("unused") char quote, char dec) {
         if (x instanceof RDoubleVector) {
             RDoubleVector v = (RDoubleVector) x;
-            return DoubleVectorPrinter.encodeReal(v.getDataAt(indx));
+            return changeDec(DoubleVectorPrinter.encodeReal(v.getDataAt(indx)), dec);
         }
         if (x instanceof RIntVector) {
             RIntVector v = (RIntVector) x;
@@ -281,7 +365,7 @@ public abstract class WriteTable extends RExternalBuiltinNode.Arg11 {
         }
         if (x instanceof RComplexVector) {
             RComplexVector v = (RComplexVector) x;
-            return ComplexVectorPrinter.encodeComplex(v.getDataAt(indx));
+            return changeDec(ComplexVectorPrinter.encodeComplex(v.getDataAt(indx)), dec);
         }
         if (x instanceof RRawVector) {
             RRawVector v = (RRawVector) x;
@@ -290,6 +374,14 @@ public abstract class WriteTable extends RExternalBuiltinNode.Arg11 {
         throw RInternalError.unimplemented();
     }
 
+    /**
+     * Replaces the decimal point of a formatted double or complex number, like {@code change_dec}
+     * in GnuR.
+     */
+    private static String changeDec(String formatted, char cdec) {
+        return cdec == '.' ? formatted : formatted.replace('.', cdec);
+    }
+
     @TruffleBoundary
     private static boolean isFactor(RAbstractContainer v) {
         RStringVector hierarchy = ClassHierarchyNode.getClassHierarchy(v);
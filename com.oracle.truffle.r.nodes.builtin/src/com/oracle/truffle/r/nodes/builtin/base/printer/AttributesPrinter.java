@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995, 1996  Robert Gentleman and Ross Ihaka
  * Copyright (c) 1997-2013,  The R Core Team
- * Copyright (c) 2016, 2019, Oracle and/or its affiliates
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -110,6 +110,7 @@ final class AttributesPrinter implements ValuePrinter<RAttributable> {
                     S4ObjectPrinter.printS4(printCtx, a.getValue());
                 } else {
                     if (a.getValue() instanceof RAttributable && ((RAttributable) a.getValue()).isObject()) {
+                        printCtx.flushOutput();
                         RContext.getEngine().printResult(ctx, a.getValue());
                     } else {
                         ValuePrinters.INSTANCE.print(a.getValue(), printCtx);
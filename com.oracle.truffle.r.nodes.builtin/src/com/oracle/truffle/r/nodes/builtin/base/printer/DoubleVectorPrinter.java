@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995, 1996  Robert Gentleman and Ross Ihaka
  * Copyright (c) 1997-2013,  The R Core Team
- * Copyright (c) 2016, 2021, Oracle and/or its affiliates
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -24,7 +24,6 @@ import java.io.IOException;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.r.runtime.RRuntime;
 import com.oracle.truffle.r.runtime.Utils;
-import com.oracle.truffle.r.runtime.data.RDataFactory;
 import com.oracle.truffle.r.runtime.data.RDoubleVector;
 import com.oracle.truffle.r.runtime.data.nodes.VectorAccess;
 import com.oracle.truffle.r.runtime.data.nodes.VectorAccess.RandomIterator;
@@ -85,40 +84,46 @@ public final class DoubleVectorPrinter extends VectorPrinter<RDoubleVector> {
 
     @TruffleBoundary
     public static DoubleVectorMetrics formatDoubleVector(RandomIterator iter, VectorAccess access, int offs, int n, int nsmall, int digits, int sciPen, int naWidth) {
-        int left;
-        int right;
-        int sleft;
-        int mnl;
-        int mxl;
-        int rgt;
-        int mxsl;
-        int mxns;
-        int wF;
-        int neg;
-        int sgn;
-        int kpower;
-        int nsig;
-        boolean roundingwidens;
-        boolean naflag;
-        boolean nanflag;
-        boolean posinf;
-        boolean neginf;
+        DoubleMetricsCollector collector = new DoubleMetricsCollector(digits);
+        for (int i = 0; i < n; i++) {
+            collector.add(access.getDouble(iter, offs + i));
+        }
+        return collector.getMetrics(nsmall, sciPen, naWidth);
+    }
 
-        // output arguments
-        int w;
-        int d;
-        int e;
-
-        nanflag = false;
-        naflag = false;
-        posinf = false;
-        neginf = false;
-        neg = 0;
-        rgt = mxl = mxsl = mxns = RRuntime.INT_MIN_VALUE;
-        mnl = RRuntime.INT_MAX_VALUE;
+    /**
+     * Accumulates the format metrics of a sequence of doubles. This is the common part of
+     * {@link #formatDoubleVector} and of the scalar {@link #encodeReal(double)}; it does not touch
+     * any vector or context state, so it can also be used from helper threads. An instance is meant
+     * to be used for one sequence only, {@link #getMetrics} consumes the accumulated state.
+     */
+    private static final class DoubleMetricsCollector {
+        private final int digits;
+
+        private boolean naflag;
+        private boolean nanflag;
+        private boolean posinf;
+        private boolean neginf;
+        private int neg;
+        private int rgt = RRuntime.INT_MIN_VALUE;
+        private int mxl = RRuntime.INT_MIN_VALUE;
+        private int mxsl = RRuntime.INT_MIN_VALUE;
+        private int mxns = RRuntime.INT_MIN_VALUE;
+        private int mnl = RRuntime.INT_MAX_VALUE;
+
+        DoubleMetricsCollector(int digits) {
+            this.digits = digits;
+        }
+
+        void add(double xi) {
+            int left;
+            int right;
+            int sleft;
+            int sgn;
+            int kpower;
+            int nsig;
+            boolean roundingwidens;
 
-        for (int i = 0; i < n; i++) {
-            double xi = access.getDouble(iter, offs + i);
             if (!RRuntime.isFinite(xi)) {
                 if (RRuntime.isNA(xi)) {
                     naflag = true;
@@ -165,64 +170,72 @@ public final class DoubleVectorPrinter extends VectorPrinter<RDoubleVector> {
                 }
             }
         }
-        /*
-         * F Format: use "F" format WHENEVER we use not more space than 'E' and still satisfy
-         * 'R_print.digits' {but as if nsmall==0 !}
-         *
-         * E Format has the form [S]X[.XXX]E+XX[X]
-         *
-         * This is indicated by setting *e to non-zero (usually 1) If the additional exponent digit
-         * is required *e is set to 2
-         */
 
-        /*-- These 'mxsl' & 'rgt' are used in F Format
-         * AND in the ____ if(.) "F" else "E" ___ below: */
-        if (digits == 0) {
-            rgt = 0;
-        }
-        if (mxl < 0) {
-            mxsl = 1 + neg; /* we use %#w.dg, so have leading zero */
-        }
+        DoubleVectorMetrics getMetrics(int nsmall, int sciPen, int naWidth) {
+            int wF;
+            int w;
+            int d;
+            int e;
 
-        /* use nsmall only *after* comparing "F" vs "E": */
-        if (rgt < 0) {
-            rgt = 0;
-        }
-        wF = mxsl + rgt + (rgt != 0 ? 1 : 0); /* width for F format */
-
-        /*-- 'see' how "E" Exponential format would be like : */
-        e = (mxl > 100 || mnl <= -99) ? 2 : 1; /* 3 digit exponent */
-        if (mxns != RRuntime.INT_MIN_VALUE) {
-            d = mxns - 1;
-            w = neg + (d > 0 ? 1 : 0) + d + 4 + e; /* width for E format */
-            if (wF <= w + sciPen) { /* Fixpoint if it needs less space */
+            /*
+             * F Format: use "F" format WHENEVER we use not more space than 'E' and still satisfy
+             * 'R_print.digits' {but as if nsmall==0 !}
+             *
+             * E Format has the form [S]X[.XXX]E+XX[X]
+             *
+             * This is indicated by setting *e to non-zero (usually 1) If the additional exponent
+             * digit is required *e is set to 2
+             */
+
+            /*-- These 'mxsl' & 'rgt' are used in F Format
+             * AND in the ____ if(.) "F" else "E" ___ below: */
+            if (digits == 0) {
+                rgt = 0;
+            }
+            if (mxl < 0) {
+                mxsl = 1 + neg; /* we use %#w.dg, so have leading zero */
+            }
+
+            /* use nsmall only *after* comparing "F" vs "E": */
+            if (rgt < 0) {
+                rgt = 0;
+            }
+            wF = mxsl + rgt + (rgt != 0 ? 1 : 0); /* width for F format */
+
+            /*-- 'see' how "E" Exponential format would be like : */
+            e = (mxl > 100 || mnl <= -99) ? 2 : 1; /* 3 digit exponent */
+            if (mxns != RRuntime.INT_MIN_VALUE) {
+                d = mxns - 1;
+                w = neg + (d > 0 ? 1 : 0) + d + 4 + e; /* width for E format */
+                if (wF <= w + sciPen) { /* Fixpoint if it needs less space */
+                    e = 0;
+                    if (nsmall > rgt) {
+                        rgt = nsmall;
+                        wF = mxsl + rgt + (rgt != 0 ? 1 : 0);
+                    }
+                    d = rgt;
+                    w = wF;
+                } /* else : "E" Exponential format -- all done above */
+            } else { /* when all x[i] are non-finite */
+                w = 0; /* to be increased */
+                d = 0;
                 e = 0;
-                if (nsmall > rgt) {
-                    rgt = nsmall;
-                    wF = mxsl + rgt + (rgt != 0 ? 1 : 0);
-                }
-                d = rgt;
-                w = wF;
-            } /* else : "E" Exponential format -- all done above */
-        } else { /* when all x[i] are non-finite */
-            w = 0; /* to be increased */
-            d = 0;
-            e = 0;
-        }
-        if (naflag && w < naWidth) {
-            w = naWidth;
-        }
-        if (nanflag && w < 3) {
-            w = 3;
-        }
-        if (posinf && w < 3) {
-            w = 3;
-        }
-        if (neginf && w < 4) {
-            w = 4;
-        }
+            }
+            if (naflag && w < naWidth) {
+                w = naWidth;
+            }
+            if (nanflag && w < 3) {
+                w = 3;
+            }
+            if (posinf && w < 3) {
+                w = 3;
+            }
+            if (neginf && w < 4) {
+                w = 4;
+            }
 
-        return new DoubleVectorMetrics(w, d, e);
+            return new DoubleVectorMetrics(w, d, e);
+        }
     }
 
     @SuppressWarnings("unused") private static final int DBL_DIG = 15;
@@ -379,10 +392,9 @@ public final class DoubleVectorPrinter extends VectorPrinter<RDoubleVector> {
 
     @TruffleBoundary
     public static String encodeReal(double x, int digits, char cdec, int sciPen, String naString) {
-        RDoubleVector value = RDataFactory.createDoubleVectorFromScalar(x);
-        VectorAccess access = value.slowPathAccess();
-        RandomIterator iter = access.randomAccess(value);
-        DoubleVectorMetrics dm = formatDoubleVector(iter, access, 0, 1, 0, digits, sciPen, naString.length());
+        DoubleMetricsCollector collector = new DoubleMetricsCollector(digits);
+        collector.add(x);
+        DoubleVectorMetrics dm = collector.getMetrics(0, sciPen, naString.length());
         return encodeReal(x, dm.maxWidth, dm.d, dm.e, cdec, naString);
     }
 
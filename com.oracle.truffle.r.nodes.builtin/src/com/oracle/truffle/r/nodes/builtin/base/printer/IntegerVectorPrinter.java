@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995, 1996  Robert Gentleman and Ross Ihaka
  * Copyright (c) 1997-2013,  The R Core Team
- * Copyright (c) 2016, 2021, Oracle and/or its affiliates
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -61,8 +61,8 @@ public final class IntegerVectorPrinter extends VectorPrinter<RIntVector> {
 
         @Override
         protected void printElement(int i, FormatMetrics fm) throws IOException {
-            String v = encodeInteger(access.getInt(iterator, i), fm.maxWidth, printCtx.parameters());
-            out.print(v);
+            appendInteger(out.elementBuffer(), access.getInt(iterator, i), fm.maxWidth, printCtx.parameters());
+            out.printElementBuffer();
         }
 
         @Override
@@ -134,7 +134,11 @@ public final class IntegerVectorPrinter extends VectorPrinter<RIntVector> {
 
     public static String encodeInteger(int initialX, int w, PrintParameters pp) {
         StringBuilder str = new StringBuilder(w);
+        appendInteger(str, initialX, w, pp);
+        return str.toString();
+    }
 
+    static void appendInteger(StringBuilder str, int initialX, int w, PrintParameters pp) {
         int x = initialX;
         if (RRuntime.isNA(x)) {
             String id = pp.getNaString();
@@ -163,7 +167,6 @@ public final class IntegerVectorPrinter extends VectorPrinter<RIntVector> {
                 x = appendDigit(x, i, str);
             }
         }
-        return str.toString();
     }
 
     private static int appendDigit(int x, int digit, StringBuilder str) {
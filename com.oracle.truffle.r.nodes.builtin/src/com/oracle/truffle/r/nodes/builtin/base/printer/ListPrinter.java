@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995, 1996  Robert Gentleman and Ross Ihaka
  * Copyright (c) 1997-2013,  The R Core Team
- * Copyright (c) 2016, 2022, Oracle and/or its affiliates
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -209,6 +209,7 @@ final class ListPrinter extends AbstractValuePrinter<RAbstractListVector> {
                 out.println(tagbuf);
                 Object si = s.getDataAt(i);
                 if (si instanceof RAttributable && ((RAttributable) si).isObject()) {
+                    printCtx.flushOutput();
                     RContext.getEngine().printResult(RContext.getInstance(), si);
                 } else {
                     ValuePrinters.INSTANCE.print(si, printCtx);
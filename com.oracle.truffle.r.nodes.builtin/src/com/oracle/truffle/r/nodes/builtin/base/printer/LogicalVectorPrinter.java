@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995, 1996  Robert Gentleman and Ross Ihaka
  * Copyright (c) 1997-2013,  The R Core Team
- * Copyright (c) 2016, 2021, Oracle and/or its affiliates
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -59,7 +59,12 @@ public final class LogicalVectorPrinter extends VectorPrinter<RLogicalVector> {
 
         @Override
         protected void printElement(int i, FormatMetrics fm) throws IOException {
-            out.print(encodeLogical(access.getLogical(iterator, i), fm.maxWidth, printCtx.parameters()));
+            String id = logicalId(access.getLogical(iterator, i), printCtx.parameters());
+            int blanks = fm.maxWidth - id.length();
+            if (blanks > 0) {
+                out.printBlanks(blanks);
+            }
+            out.print(id);
         }
 
         @Override
@@ -92,15 +97,18 @@ public final class LogicalVectorPrinter extends VectorPrinter<RLogicalVector> {
         return fieldwidth;
     }
 
-    static String encodeLogical(byte x, int w, PrintParameters pp) {
-        String id;
+    private static String logicalId(byte x, PrintParameters pp) {
         if (x == RRuntime.LOGICAL_NA) {
-            id = pp.getNaString();
+            return pp.getNaString();
         } else if (x != RRuntime.LOGICAL_FALSE) {
-            id = "TRUE";
+            return "TRUE";
         } else {
-            id = "FALSE";
+            return "FALSE";
         }
+    }
+
+    static String encodeLogical(byte x, int w, PrintParameters pp) {
+        String id = logicalId(x, pp);
         if (id.length() == w) {
             return id;
         }
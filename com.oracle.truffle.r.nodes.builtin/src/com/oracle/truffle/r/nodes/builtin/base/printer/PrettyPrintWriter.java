@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,6 +22,7 @@
  */
 package com.oracle.truffle.r.nodes.builtin.base.printer;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.Writer;
 
@@ -29,10 +30,50 @@ import com.oracle.truffle.r.runtime.data.RAttributable;
 
 public class PrettyPrintWriter extends PrintWriter implements PrettyWriter {
 
+    private static final char[] BLANKS = "                                                                ".toCharArray();
+
+    private final StringBuilder elementBuffer = new StringBuilder();
+
     public PrettyPrintWriter(Writer out) {
         super(out);
     }
 
+    /**
+     * Prints {@code |n|} blanks, i.e., the same as {@code printf("%" + n + "s", "")} without
+     * parsing a format.
+     */
+    public void printBlanks(int n) {
+        int remaining = Math.abs(n);
+        while (remaining > 0) {
+            int len = Math.min(remaining, BLANKS.length);
+            write(BLANKS, 0, len);
+            remaining -= len;
+        }
+    }
+
+    /**
+     * Returns the empty, reusable buffer for encoding a single element, which is then printed by
+     * {@link #printElementBuffer()}.
+     */
+    public StringBuilder elementBuffer() {
+        elementBuffer.setLength(0);
+        return elementBuffer;
+    }
+
+    /**
+     * Prints the contents of {@link #elementBuffer()} without converting it to a string first if
+     * the underlying writer can append it directly.
+     */
+    public void printElementBuffer() {
+        synchronized (lock) {
+            try {
+                out.append(elementBuffer);
+            } catch (IOException e) {
+                setError();
+            }
+        }
+    }
+
     @Override
     public void begin(Object value) {
         if (out instanceof PrettyWriter) {
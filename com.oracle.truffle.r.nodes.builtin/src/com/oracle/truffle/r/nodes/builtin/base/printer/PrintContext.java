@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -85,6 +85,13 @@ final class PrintContext {
         return out;
     }
 
+    /**
+     * Writes out the buffered output before R code that may print on its own is evaluated.
+     */
+    public void flushOutput() {
+        out.flush();
+    }
+
     public Object getAttribute(String attrName) {
         return attrs.get(attrName);
     }
@@ -114,6 +121,9 @@ final class PrintContext {
         PrintContext ctx = new PrintContext(printerNode, parameters, new PrettyPrintWriter(wf.createWriter()));
         if (ctxStack == null) {
             printCtxTL.set(ctxStack = new ArrayDeque<>());
+        } else if (!ctxStack.isEmpty()) {
+            // the output of the nested context must follow what was buffered so far
+            ctxStack.peek().out.flush();
         }
         ctxStack.push(ctx);
         return ctx;
@@ -131,6 +141,8 @@ final class PrintContext {
         if (ctxStack.isEmpty()) {
             ctx.out.close();
             printCtxTL.remove();
+        } else {
+            ctx.out.flush();
         }
 
         return ctx;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,18 +27,69 @@ import java.io.Writer;
 
 import com.oracle.truffle.r.runtime.conn.StdConnections;
 
+/**
+ * Writes the printed text to stdout in chunks of {@link #CHUNK_SIZE} characters. The buffer of a
+ * closed writer is kept per thread and reused by the next writer, so that printing does not
+ * allocate a new buffer every time.
+ */
 class RWriter extends Writer {
 
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final ThreadLocal<StringBuilder> freeBuffer = new ThreadLocal<>();
+
+    private StringBuilder buffer;
+
+    RWriter() {
+        buffer = freeBuffer.get();
+        if (buffer == null) {
+            buffer = new StringBuilder(CHUNK_SIZE);
+        } else {
+            freeBuffer.set(null);
+        }
+    }
+
     @Override
     public void write(char[] cbuf, int off, int len) throws IOException {
-        StdConnections.getStdout().writeString(new String(cbuf, off, len), false);
+        buffer.append(cbuf, off, len);
+        flushIfFull();
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        buffer.append(str, off, off + len);
+        flushIfFull();
+    }
+
+    @Override
+    public Writer append(CharSequence csq) throws IOException {
+        buffer.append(csq);
+        flushIfFull();
+        return this;
+    }
+
+    private void flushIfFull() throws IOException {
+        if (buffer.length() >= CHUNK_SIZE) {
+            flush();
+        }
     }
 
     @Override
     public void flush() throws IOException {
+        if (buffer != null && buffer.length() > 0) {
+            StdConnections.getStdout().writeString(buffer.toString(), false);
+            buffer.setLength(0);
+        }
     }
 
     @Override
     public void close() throws IOException {
+        if (buffer != null) {
+            flush();
+            if (buffer.capacity() <= 4 * CHUNK_SIZE) {
+                freeBuffer.set(buffer);
+            }
+            buffer = null;
+        }
     }
 }
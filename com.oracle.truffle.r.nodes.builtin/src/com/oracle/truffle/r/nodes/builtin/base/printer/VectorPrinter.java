@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995, 1996  Robert Gentleman and Ross Ihaka
  * Copyright (c) 1997-2013,  The R Core Team
- * Copyright (c) 2016, 2021, Oracle and/or its affiliates
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -23,7 +23,6 @@ import static com.oracle.truffle.r.nodes.builtin.base.printer.Utils.asBlankArg;
 import static com.oracle.truffle.r.nodes.builtin.base.printer.Utils.indexWidth;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.r.runtime.RError;
@@ -198,7 +197,7 @@ abstract class VectorPrinter<T extends RAbstractVector> extends AbstractValuePri
                     out.println();
                     width = doLab(i);
                 }
-                out.printf("%" + asBlankArg(gap) + "s", "");
+                out.printBlanks(gap);
                 printElementAndNotify(i, fm);
                 width += w + gap;
             }
@@ -251,12 +250,12 @@ abstract class VectorPrinter<T extends RAbstractVector> extends AbstractValuePri
                 }
                 for (j = 0; j < nperline && (k = i * nperline + j) < n; j++) {
                     StringVectorPrinter.printString(names.getDataAt(k), w, namesPrintCtx);
-                    out.printf("%" + asBlankArg(gap) + "s", "");
+                    out.printBlanks(gap);
                 }
                 out.println();
                 for (j = 0; j < nperline && (k = i * nperline + j) < n; j++) {
                     printElementAndNotify(k, fm);
-                    out.printf("%" + asBlankArg(gap) + "s", "");
+                    out.printBlanks(gap);
                 }
             }
         }
@@ -507,9 +506,11 @@ abstract class VectorPrinter<T extends RAbstractVector> extends AbstractValuePri
                 String s = StringVectorPrinter.encode(tmp, l, pp2);
                 out.printf(fmt, "", s, "");
             } else {
-                String gap = asBlankArg(rlabw - 3 - indexWidth(i + 1));
-                String fmt = "\n%" + gap + "s[%d,]";
-                out.printf(fmt, "", i + 1);
+                out.print('\n');
+                out.printBlanks(rlabw - 3 - indexWidth(i + 1));
+                out.print('[');
+                out.print(i + 1);
+                out.print(",]");
             }
         }
 
@@ -673,12 +674,13 @@ abstract class VectorPrinter<T extends RAbstractVector> extends AbstractValuePri
 
     }
 
-    private static void printVectorIndex(int i, int w, PrintWriter out) {
+    private static void printVectorIndex(int i, int w, PrettyPrintWriter out) {
         /* print index label "[`i']" , using total width `w' (left filling blanks) */
         // out.printf("%*s[%ld]", w - indexWidth(i) - 2, "", i);
-        String blanks = asBlankArg(w - indexWidth(i) - 2);
-        String fmt = "%" + blanks + "s[%d]";
-        out.printf(fmt, "", i);
+        out.printBlanks(w - indexWidth(i) - 2);
+        out.print('[');
+        out.print(i);
+        out.print(']');
     }
 
     private static final class MatrixDimNames {
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.nodes.builtin.fastr;
+
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.toBoolean;
+import static com.oracle.truffle.r.runtime.builtins.RBehavior.COMPLEX;
+import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.PRIMITIVE;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
+import com.oracle.truffle.r.runtime.Collections.CacheStatistics;
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.builtins.RBuiltin;
+import com.oracle.truffle.r.runtime.data.Closure.CallTargetCache;
+import com.oracle.truffle.r.runtime.data.ClosureCache;
+import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RDoubleVector;
+
+/**
+ * Returns the occupancy and the counters of the {@link ClosureCache}s and of the per-closure
+ * {@link CallTargetCache}s. With {@code reset = TRUE} the counters are reset after they are read
+ * and with {@code clear = TRUE} all closure caches are emptied, which releases the ASTs they retain.
+ */
+@RBuiltin(name = ".fastr.closurecache.stats", kind = PRIMITIVE, parameterNames = {"reset", "clear"}, behavior = COMPLEX)
+public abstract class FastRClosureCacheStats extends RBuiltinNode.Arg2 {
+
+    private static final String[] NAMES = new String[]{"caches", "closures", "nodes", "hits", "misses", "evictions", "callTargetHits", "callTargetMisses", "callTargetEvictions"};
+
+    @Override
+    public Object[] getDefaultParameterValues() {
+        return new Object[]{RRuntime.LOGICAL_FALSE, RRuntime.LOGICAL_FALSE};
+    }
+
+    static {
+        Casts casts = new Casts(FastRClosureCacheStats.class);
+        casts.arg("reset").asLogicalVector().findFirst().mustNotBeNA().map(toBoolean());
+        casts.arg("clear").asLogicalVector().findFirst().mustNotBeNA().map(toBoolean());
+    }
+
+    @TruffleBoundary
+    @Specialization
+    protected RDoubleVector stats(boolean reset, boolean clear) {
+        CacheStatistics closures = ClosureCache.getStatistics();
+        CacheStatistics callTargets = CallTargetCache.STATISTICS;
+        double[] data = new double[]{ClosureCache.getCacheCount(), ClosureCache.getTotalSize(), ClosureCache.getTotalWeight(), closures.getHits(), closures.getMisses(), closures.getEvictions(),
+                        callTargets.getHits(), callTargets.getMisses(), callTargets.getEvictions()};
+        if (reset) {
+            closures.reset();
+            callTargets.reset();
+        }
+        if (clear) {
+            ClosureCache.clearAll();
+        }
+        return RDataFactory.createDoubleVector(data, RDataFactory.COMPLETE_VECTOR, RDataFactory.createStringVector(NAMES, RDataFactory.COMPLETE_VECTOR));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -23,6 +23,7 @@
 package com.oracle.truffle.r.nodes.builtin.fastr;
 
 import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.equalTo;
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.gte0;
 import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.instanceOf;
 import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.notEmpty;
 import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.singleElement;
@@ -47,6 +48,7 @@ import com.oracle.truffle.r.runtime.RError;
 import com.oracle.truffle.r.runtime.RSource;
 import com.oracle.truffle.r.runtime.builtins.RBuiltin;
 import com.oracle.truffle.r.runtime.context.ChildContextInfo;
+import com.oracle.truffle.r.runtime.context.ContextResultStream;
 import com.oracle.truffle.r.runtime.context.EvalThread;
 import com.oracle.truffle.r.runtime.context.FastROptions;
 import com.oracle.truffle.r.runtime.context.RContext;
@@ -176,23 +178,28 @@ public class FastRContext {
      * which is done by {@code .fastr.context.join}. The result is a vector that should be passed to
      * {@code .fastr.context.join}.
      *
+     * If {@code stream} is positive, each of the new contexts can emit values with
+     * {@code .fastr.context.emit} while it runs, which the invoking context takes with
+     * {@code .fastr.context.next}. At most {@code stream} values per context are buffered, a
+     * context emitting more values waits until the invoking context takes some of them.
      */
-    @RBuiltin(name = ".fastr.context.spawn", kind = PRIMITIVE, parameterNames = {"exprs", "kind"}, behavior = COMPLEX)
-    public abstract static class Spawn extends RBuiltinNode.Arg2 {
+    @RBuiltin(name = ".fastr.context.spawn", kind = PRIMITIVE, parameterNames = {"exprs", "kind", "stream"}, behavior = COMPLEX)
+    public abstract static class Spawn extends RBuiltinNode.Arg3 {
         @Override
         public Object[] getDefaultParameterValues() {
-            return new Object[]{RMissing.instance, FastROptions.sharedContextsOptionValue ? "SHARE_ALL" : "SHARE_NOTHING"};
+            return new Object[]{RMissing.instance, FastROptions.sharedContextsOptionValue ? "SHARE_ALL" : "SHARE_NOTHING", 0};
         }
 
         static {
             Casts casts = new Casts(Spawn.class);
             CastsHelper.exprs(casts);
             CastsHelper.kind(casts);
+            casts.arg("stream").asIntegerVector().findFirst().mustNotBeNA().mustBe(gte0());
         }
 
         @Specialization
         @TruffleBoundary
-        protected RIntVector spawn(RStringVector exprs, String kind) {
+        protected RIntVector spawn(RStringVector exprs, String kind, int stream) {
             RContext.ContextKind contextKind = RContext.ContextKind.valueOf(kind);
             if (getRContext().getOption(SharedContexts) && contextKind != ContextKind.SHARE_ALL) {
                 throw RError.error(RError.NO_CALLER, RError.Message.GENERIC, "Only shared contexts are allowed");
@@ -210,6 +217,9 @@ public class FastRContext {
                 childContextInfos[i] = createContextInfo(contextKind);
                 data[i] = childContextInfos[i].getId();
                 multiSlotIndices[i] = childContextInfos[i].getMultiSlotInd();
+                if (stream > 0) {
+                    ContextResultStream.create(data[i], getRContext().getId(), stream);
+                }
             }
 
             // convert shared slots to multi slots
@@ -248,6 +258,8 @@ public class FastRContext {
                 for (int i = 0; i < handle.getLength(); i++) {
                     int id = handle.getDataAt(i);
                     Thread thread = getRContext().threads.get(id);
+                    // values not taken by now are not going to be taken anymore
+                    ContextResultStream.cancel(id);
                     if (EvalThread.idToMultiSlotTable.containsKey(id)) {
                         multiSlotIndices[i] = EvalThread.idToMultiSlotTable.remove(id);
                     }
@@ -272,6 +284,48 @@ public class FastRContext {
         }
     }
 
+    /**
+     * Adds {@code value} to the result stream of the current context, which must have been created
+     * by {@code .fastr.context.spawn} with a positive {@code stream} argument. Waits while the
+     * stream's buffer is full.
+     */
+    @RBuiltin(name = ".fastr.context.emit", visibility = OFF, kind = PRIMITIVE, parameterNames = {"value"}, behavior = COMPLEX)
+    public abstract static class Emit extends RBuiltinNode.Arg1 {
+
+        static {
+            Casts.noCasts(Emit.class);
+        }
+
+        @Specialization
+        @TruffleBoundary
+        protected RNull emit(Object value) {
+            ContextResultStream.emit(value);
+            return RNull.instance;
+        }
+    }
+
+    /**
+     * Takes the next value emitted by the context {@code handle}, waiting until there is one. The
+     * value is returned as the only element of a list, {@code NULL} is returned once the context
+     * has finished and all its values were taken. If the evaluation in the context failed, an error
+     * is signaled instead.
+     */
+    @RBuiltin(name = ".fastr.context.next", kind = PRIMITIVE, parameterNames = {"handle"}, behavior = COMPLEX)
+    public abstract static class Next extends RBuiltinNode.Arg1 {
+
+        static {
+            Casts casts = new Casts(Next.class);
+            casts.arg("handle").asIntegerVector().mustBe(singleElement()).findFirst();
+        }
+
+        @Specialization
+        @TruffleBoundary
+        protected Object next(int handle) {
+            Object value = ContextResultStream.next(handle);
+            return value == null ? RNull.instance : RDataFactory.createList(new Object[]{value});
+        }
+    }
+
     @RBuiltin(name = ".fastr.context.interrupt", visibility = OFF, kind = PRIMITIVE, parameterNames = {"handle"}, behavior = COMPLEX)
     public abstract static class Interrupt extends RBuiltinNode.Arg1 {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -747,9 +747,12 @@ public class FastRInterop {
 
         @Specialization
         @TruffleBoundary
-        public Object toArray(RIntVector vec, @SuppressWarnings("unused") RMissing className, boolean flat,
-                        @Cached() R2Foreign r2Foreign) {
-            return toArray(vec, flat, int.class, (array, i) -> Array.set(array, i, r2Foreign.convertNoBox(vec.getDataAt(i))));
+        public Object toArray(RIntVector vec, @SuppressWarnings("unused") RMissing className, boolean flat) {
+            // NA is kept as its int representation, like the NA of a double vector
+            if (isFlat(flat, vec)) {
+                return getRContext().getEnv().asGuestValue(vec.getDataCopy());
+            }
+            return toArray(vec, flat, int.class, (array, i) -> Array.set(array, i, vec.getDataAt(i)));
         }
 
         @Specialization
@@ -777,6 +780,9 @@ public class FastRInterop {
         @Specialization
         @TruffleBoundary
         public Object toArray(RDoubleVector vec, @SuppressWarnings("unused") RMissing className, boolean flat) {
+            if (isFlat(flat, vec)) {
+                return getRContext().getEnv().asGuestValue(vec.getDataCopy());
+            }
             return toArray(vec, flat, double.class, (array, i) -> Array.set(array, i, vec.getDataAt(i)));
         }
 
@@ -817,6 +823,9 @@ public class FastRInterop {
         @Specialization
         @TruffleBoundary
         public Object toArray(RRawVector vec, @SuppressWarnings("unused") RMissing className, boolean flat) {
+            if (isFlat(flat, vec)) {
+                return getRContext().getEnv().asGuestValue(vec.getDataCopy());
+            }
             return toArray(vec, flat, byte.class, (array, i) -> Array.set(array, i, vec.getRawDataAt(i)));
         }
 
@@ -856,6 +865,14 @@ public class FastRInterop {
             return toArray(list, flat, ri.getJavaType(), (array, i) -> Array.set(array, i, r2Foreign.convertNoBox(list.getDataAt(i))));
         }
 
+        /**
+         * Determines whether the resulting Java array is one-dimensional, so that the vector data
+         * can be copied into it in bulk instead of element by element.
+         */
+        private static boolean isFlat(boolean flat, RAbstractVector vec) {
+            return getDim(flat, vec).length == 1;
+        }
+
         private static int[] getDim(boolean flat, RAbstractVector vec) {
             int[] dims;
             if (flat) {
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.nodes.builtin.fastr;
+
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.toBoolean;
+import static com.oracle.truffle.r.runtime.builtins.RBehavior.COMPLEX;
+import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.PRIMITIVE;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.RType;
+import com.oracle.truffle.r.runtime.builtins.RBuiltin;
+import com.oracle.truffle.r.runtime.data.MemoryAccounting;
+import com.oracle.truffle.r.runtime.data.MemoryAccounting.Statistic;
+import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RDoubleVector;
+
+/**
+ * Controls and reports the {@link MemoryAccounting}. {@code enable} starts ({@code TRUE}) or stops
+ * ({@code FALSE}) the accounting, {@code NA} leaves it as is. The result is a matrix with a row for
+ * each type that has any allocations or live bytes and the columns {@code count},
+ * {@code allocated} (bytes) and {@code live} (bytes of large objects not collected yet).
+ */
+@RBuiltin(name = ".fastr.memstats", kind = PRIMITIVE, parameterNames = {"enable", "reset"}, behavior = COMPLEX)
+public abstract class FastRMemStats extends RBuiltinNode.Arg2 {
+
+    @Override
+    public Object[] getDefaultParameterValues() {
+        return new Object[]{RRuntime.LOGICAL_NA, RRuntime.LOGICAL_FALSE};
+    }
+
+    static {
+        Casts casts = new Casts(FastRMemStats.class);
+        casts.arg("enable").asLogicalVector().findFirst(RRuntime.LOGICAL_NA);
+        casts.arg("reset").asLogicalVector().findFirst().mustNotBeNA().map(toBoolean());
+    }
+
+    @TruffleBoundary
+    @Specialization
+    protected RDoubleVector memStats(byte enable, boolean reset) {
+        if (!RRuntime.isNA(enable)) {
+            MemoryAccounting.setEnabled(RRuntime.fromLogical(enable));
+        }
+        RType[] types = MemoryAccounting.getTypes();
+        Statistic[] statistics = Statistic.values();
+        long[] values = MemoryAccounting.getStatistics();
+        if (reset) {
+            MemoryAccounting.reset();
+        }
+        int rows = 0;
+        boolean[] used = new boolean[types.length];
+        for (int i = 0; i < types.length; i++) {
+            for (int j = 0; j < statistics.length; j++) {
+                used[i] |= values[j * types.length + i] != 0;
+            }
+            rows += used[i] ? 1 : 0;
+        }
+        double[] data = new double[rows * statistics.length];
+        String[] rowNames = new String[rows];
+        int row = 0;
+        for (int i = 0; i < types.length; i++) {
+            if (used[i]) {
+                rowNames[row] = types[i].getName();
+                for (int j = 0; j < statistics.length; j++) {
+                    data[j * rows + row] = values[j * types.length + i];
+                }
+                row++;
+            }
+        }
+        String[] colNames = new String[statistics.length];
+        for (int j = 0; j < statistics.length; j++) {
+            colNames[j] = statistics[j].printName;
+        }
+        return RDataFactory.createDoubleVector(data, RDataFactory.COMPLETE_VECTOR, new int[]{rows, statistics.length}, null,
+                        RDataFactory.createList(new Object[]{RDataFactory.createStringVector(rowNames, RDataFactory.COMPLETE_VECTOR),
+                                        RDataFactory.createStringVector(colNames, RDataFactory.COMPLETE_VECTOR)}));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.nodes.builtin.fastr;
+
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.toBoolean;
+import static com.oracle.truffle.r.runtime.builtins.RBehavior.COMPLEX;
+import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.PRIMITIVE;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.builtins.RBuiltin;
+import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RDoubleVector;
+import com.oracle.truffle.r.runtime.ffi.util.NativeArena;
+import com.oracle.truffle.r.runtime.ffi.util.NativeMemory;
+
+/**
+ * Returns the statistics of the native memory used by RFFI: the counters of the
+ * {@link NativeArena}s used for down-call scoped allocations ({@code R_alloc}) and the number of
+ * native memory blocks, e.g., native mirrors data, that are waiting for their owner to be collected.
+ */
+@RBuiltin(name = ".fastr.native.memstats", kind = PRIMITIVE, parameterNames = {"reset"}, behavior = COMPLEX)
+public abstract class FastRNativeMemStats extends RBuiltinNode.Arg1 {
+
+    @Override
+    public Object[] getDefaultParameterValues() {
+        return new Object[]{RRuntime.LOGICAL_FALSE};
+    }
+
+    static {
+        Casts casts = new Casts(FastRNativeMemStats.class);
+        casts.arg("reset").asLogicalVector().findFirst().mustNotBeNA().map(toBoolean());
+    }
+
+    @TruffleBoundary
+    @Specialization
+    protected RDoubleVector memStats(boolean reset) {
+        NativeArena.Statistic[] statistics = NativeArena.Statistic.values();
+        long[] values = NativeArena.getStatistics();
+        double[] data = new double[statistics.length + 1];
+        String[] names = new String[statistics.length + 1];
+        for (int i = 0; i < statistics.length; i++) {
+            data[i] = values[i];
+            names[i] = statistics[i].printName;
+        }
+        data[statistics.length] = NativeMemory.getWrappedMemoryCount();
+        names[statistics.length] = "wrappedBlocks";
+        if (reset) {
+            NativeArena.resetStatistics();
+        }
+        return RDataFactory.createDoubleVector(data, RDataFactory.COMPLETE_VECTOR, RDataFactory.createStringVector(names, RDataFactory.COMPLETE_VECTOR));
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.nodes.builtin.fastr;
+
+import static com.oracle.truffle.r.runtime.builtins.RBehavior.COMPLEX;
+import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.PRIMITIVE;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.r.nodes.access.variables.ReadVariableNode;
+import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
+import com.oracle.truffle.r.nodes.builtin.base.BasePackage;
+import com.oracle.truffle.r.runtime.RCaller;
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.RType;
+import com.oracle.truffle.r.runtime.builtins.RBuiltin;
+import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RDoubleVector;
+import com.oracle.truffle.r.runtime.data.RFunction;
+import com.oracle.truffle.r.runtime.data.RIntVector;
+import com.oracle.truffle.r.runtime.data.RList;
+import com.oracle.truffle.r.runtime.data.model.RAbstractVector;
+import com.oracle.truffle.r.runtime.env.REnvironment;
+import com.oracle.truffle.r.runtime.ops.UnaryArithmetic;
+import com.oracle.truffle.r.runtime.ops.UnaryArithmeticFactory;
+
+/**
+ * {@code .fastr.parLapply(X, FUN)} is equivalent to {@code lapply(X, FUN)}, but evaluates
+ * {@code FUN} on multiple threads where this is safe to do inside one context.
+ *
+ * An R context can only be entered by one thread at a time and neither frames nor promises may be
+ * shared between threads, so closures are never evaluated in parallel. What can run in parallel
+ * are pure builtins implemented by a {@link UnaryArithmetic} operation, e.g., {@code sqrt},
+ * {@code exp} or {@code abs}, applied to a list of plain integer and double vectors: their result
+ * depends only on the element values and computing it touches neither the context nor any
+ * environment. Such a list is processed by {@link ForkJoinPool} workers without entering the
+ * context, each of them computing a contiguous range of the concatenated elements. Any other
+ * {@code X} or {@code FUN} is evaluated sequentially by {@code lapply}.
+ */
+@RBuiltin(name = ".fastr.parLapply", kind = PRIMITIVE, parameterNames = {"X", "FUN"}, behavior = COMPLEX)
+public abstract class FastRParLapply extends RBuiltinNode.Arg2 {
+
+    /**
+     * Minimal total number of values for which the evaluation is split across worker threads.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * Minimal number of values computed by a single worker thread.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+
+    static {
+        Casts.noCasts(FastRParLapply.class);
+    }
+
+    @Specialization
+    protected Object parLapply(VirtualFrame frame, Object x, Object fun) {
+        RList result = tryParallel(x, fun);
+        if (result != null) {
+            return result;
+        }
+        RFunction lapply = ReadVariableNode.lookupFunction("lapply", REnvironment.baseEnv(getRContext()).getFrame());
+        return getRContext().getThisEngine().evalFunction(lapply, frame.materialize(), RCaller.create(frame, getOriginalCall()), true, null, x, fun);
+    }
+
+    @TruffleBoundary
+    private static RList tryParallel(Object x, Object fun) {
+        if (!(x instanceof RList) || ((RList) x).isObject() || !(fun instanceof RFunction) || !((RFunction) fun).isBuiltin()) {
+            return null;
+        }
+        UnaryArithmeticFactory factory = BasePackage.getUnaryArithmetic(((RFunction) fun).getRBuiltin());
+        if (factory == null) {
+            return null;
+        }
+        UnaryArithmetic op = factory.createOperation();
+        RList list = (RList) x;
+        int n = list.getLength();
+        Object[] sources = new Object[n];
+        Object[] results = new Object[n];
+        long[] offsets = new long[n + 1];
+        for (int i = 0; i < n; i++) {
+            Object element = list.getDataAt(i);
+            if (!(element instanceof RIntVector || element instanceof RDoubleVector) || ((RAbstractVector) element).getAttributes() != null) {
+                return null;
+            }
+            RType operandType = ((RAbstractVector) element).getRType();
+            RType type = RType.maxPrecedence(operandType, op.getMinPrecedence());
+            if ((type != RType.Integer && type != RType.Double) || op.calculateResultType(type) != type) {
+                return null;
+            }
+            sources[i] = operandType == RType.Integer ? ((RIntVector) element).getReadonlyData() : ((RDoubleVector) element).getReadonlyData();
+            int length = ((RAbstractVector) element).getLength();
+            results[i] = type == RType.Integer ? new int[length] : new double[length];
+            offsets[i + 1] = offsets[i] + length;
+        }
+        boolean[] incomplete = new boolean[n];
+        long total = offsets[n];
+        int nchunks = (int) Math.min(total / MIN_CHUNK_SIZE, ForkJoinPool.getCommonPoolParallelism() * 2L);
+        if (total < PARALLEL_THRESHOLD || nchunks < 2) {
+            new Chunk(op, sources, results, offsets, incomplete, 0, total).compute();
+        } else {
+            ArrayList<Chunk> chunks = new ArrayList<>(nchunks);
+            for (int c = 0; c < nchunks; c++) {
+                chunks.add(new Chunk(op, sources, results, offsets, incomplete, total * c / nchunks, total * (c + 1) / nchunks));
+            }
+            ForkJoinTask.invokeAll(chunks);
+        }
+        Object[] data = new Object[n];
+        for (int i = 0; i < n; i++) {
+            if (results[i] instanceof int[]) {
+                data[i] = RDataFactory.createIntVector((int[]) results[i], !incomplete[i]);
+            } else {
+                data[i] = RDataFactory.createDoubleVector((double[]) results[i], !incomplete[i]);
+            }
+        }
+        return RDataFactory.createList(data, list.getNames());
+    }
+
+    /**
+     * Computes the values at positions {@code [from, to)} of the concatenation of all elements.
+     */
+    private static final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final UnaryArithmetic op;
+        private final Object[] sources;
+        private final Object[] results;
+        private final long[] offsets;
+        private final boolean[] incomplete;
+        private final long from;
+        private final long to;
+
+        Chunk(UnaryArithmetic op, Object[] sources, Object[] results, long[] offsets, boolean[] incomplete, long from, long to) {
+            this.op = op;
+            this.sources = sources;
+            this.results = results;
+            this.offsets = offsets;
+            this.incomplete = incomplete;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int element = findElement(from);
+            long position = from;
+            while (position < to) {
+                int start = (int) (position - offsets[element]);
+                int end = (int) (Math.min(to, offsets[element + 1]) - offsets[element]);
+                if (start < end && computeElement(sources[element], results[element], start, end)) {
+                    incomplete[element] = true;
+                }
+                position = offsets[element + 1];
+                element++;
+            }
+        }
+
+        private int findElement(long position) {
+            int low = 0;
+            int high = offsets.length - 2;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (offsets[mid] <= position) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns {@code true} if any of the computed values is {@code NA}.
+         */
+        private boolean computeElement(Object source, Object result, int start, int end) {
+            boolean seenNA = false;
+            if (result instanceof int[]) {
+                int[] src = (int[]) source;
+                int[] res = (int[]) result;
+                for (int i = start; i < end; i++) {
+                    res[i] = RRuntime.isNA(src[i]) ? RRuntime.INT_NA : op.op(src[i]);
+                    seenNA |= RRuntime.isNA(res[i]);
+                }
+            } else if (source instanceof int[]) {
+                int[] src = (int[]) source;
+                double[] res = (double[]) result;
+                for (int i = start; i < end; i++) {
+                    res[i] = RRuntime.isNA(src[i]) ? RRuntime.DOUBLE_NA : op.op((double) src[i]);
+                    seenNA |= RRuntime.isNA(res[i]);
+                }
+            } else {
+                double[] src = (double[]) source;
+                double[] res = (double[]) result;
+                for (int i = start; i < end; i++) {
+                    res[i] = RRuntime.isNA(src[i]) ? RRuntime.DOUBLE_NA : op.op(src[i]);
+                    seenNA |= RRuntime.isNA(res[i]);
+                }
+            }
+            return seenNA;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.nodes.builtin.fastr;
+
+import static com.oracle.truffle.r.nodes.builtin.CastBuilder.Predef.toBoolean;
+import static com.oracle.truffle.r.runtime.builtins.RBehavior.COMPLEX;
+import static com.oracle.truffle.r.runtime.builtins.RBuiltinKind.PRIMITIVE;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.r.nodes.builtin.RBuiltinNode;
+import com.oracle.truffle.r.runtime.Collections.CacheStatistics;
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.S3DispatchCache;
+import com.oracle.truffle.r.runtime.builtins.RBuiltin;
+import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RDoubleVector;
+
+/**
+ * Returns the occupancy and the counters of the context-wide {@link S3DispatchCache}. Lookups of
+ * entries that were invalidated by a change of a method binding count as misses. With
+ * {@code reset = TRUE} the counters are reset after they are read and with {@code clear = TRUE} the
+ * cache is emptied.
+ */
+@RBuiltin(name = ".fastr.s3cache.stats", kind = PRIMITIVE, parameterNames = {"reset", "clear"}, behavior = COMPLEX)
+public abstract class FastRS3DispatchCacheStats extends RBuiltinNode.Arg2 {
+
+    private static final String[] NAMES = new String[]{"entries", "hits", "misses", "evictions"};
+
+    @Override
+    public Object[] getDefaultParameterValues() {
+        return new Object[]{RRuntime.LOGICAL_FALSE, RRuntime.LOGICAL_FALSE};
+    }
+
+    static {
+        Casts casts = new Casts(FastRS3DispatchCacheStats.class);
+        casts.arg("reset").asLogicalVector().findFirst().mustNotBeNA().map(toBoolean());
+        casts.arg("clear").asLogicalVector().findFirst().mustNotBeNA().map(toBoolean());
+    }
+
+    @TruffleBoundary
+    @Specialization
+    protected RDoubleVector stats(boolean reset, boolean clear) {
+        S3DispatchCache cache = getRContext().s3DispatchCache;
+        CacheStatistics statistics = cache.getStatistics();
+        double[] data = new double[]{cache.size(), statistics.getHits(), statistics.getMisses(), statistics.getEvictions()};
+        if (reset) {
+            statistics.reset();
+        }
+        if (clear) {
+            cache.clear();
+        }
+        return RDataFactory.createDoubleVector(data, RDataFactory.COMPLETE_VECTOR, RDataFactory.createStringVector(NAMES, RDataFactory.COMPLETE_VECTOR));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -117,7 +117,10 @@ public class TraceHandling {
             binding.dispose();
         }
         if (at == RMissing.instance) {
-            // simple case
+            // simple case, the tracer may inspect the arguments as promises
+            if (!func.isBuiltin()) {
+                RInstrumentation.getFunctionDefinitionNode(func).invalidateStrictArguments();
+            }
             TracerFunctionEntryEventListener listener = new TracerFunctionEntryEventListener(tracer, print);
             binding = RInstrumentation.getInstrumenter().attachExecutionEventListener(RInstrumentation.createFunctionStartFilter(func).build(), listener);
             setOutputHandler();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -262,8 +262,13 @@ public final class RASTBuilder implements RCodeBuilder<RSyntaxNode> {
         }
     }
 
-    public static FastPathFactory createFunctionFastPath(RSyntaxElement body, ArgumentsSignature signature) {
-        return EvaluatedArgumentsVisitor.process(body, signature);
+    public static FastPathFactory createFunctionFastPath(RSyntaxElement body, FormalArguments formals) {
+        RSyntaxElement[] defaults = new RSyntaxElement[formals.getLength()];
+        for (int i = 0; i < defaults.length; i++) {
+            RNode defaultArgument = formals.getDefaultArgument(i);
+            defaults[i] = defaultArgument == null ? null : defaultArgument.asRSyntaxNode();
+        }
+        return EvaluatedArgumentsVisitor.process(body, formals.getSignature(), defaults);
     }
 
     @Override
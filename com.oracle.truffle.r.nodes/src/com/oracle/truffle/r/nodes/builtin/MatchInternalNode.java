@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -38,7 +38,9 @@ import com.oracle.truffle.r.runtime.RType;
 import com.oracle.truffle.r.runtime.data.CharSXPWrapper;
 import com.oracle.truffle.r.runtime.data.RComplex;
 import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RDoubleArrayVectorData;
 import com.oracle.truffle.r.runtime.data.RDoubleVector;
+import com.oracle.truffle.r.runtime.data.RIntArrayVectorData;
 import com.oracle.truffle.r.runtime.data.RIntSeqVectorData;
 import com.oracle.truffle.r.runtime.data.RComplexVector;
 import com.oracle.truffle.r.runtime.data.RIntVector;
@@ -62,6 +64,7 @@ abstract class AbstractMatchNode extends RBaseNode {
     public abstract Object execute(RAbstractVector x, RAbstractVector table, int noMatch);
 
     protected final ConditionProfile bigTableProfile = ConditionProfile.createBinaryProfile();
+    protected final ConditionProfile sortedTableProfile = ConditionProfile.createBinaryProfile();
 
 }
 
@@ -842,8 +845,14 @@ public abstract class MatchInternalNode extends AbstractMatchNode {
             int tableLength = tableDataLib.getLength(tableData);
             int[] result = initResult(xLength, nomatch);
             boolean matchAll = true;
-
             RandomAccessIterator rit = tableDataLib.randomAccessIterator(tableData);
+            if (sortedTableProfile.profile(tableLength >= SortedMatch.MIN_TABLE_LENGTH)) {
+                int direction = SortedMatch.intSortedness(tableDataLib, tableData, rit, tableLength);
+                if (direction != 0 && (SortedMatch.isSearchCheaper(xLength, tableLength) || SortedMatch.isIntSortedLike(xDataLib, xData, direction))) {
+                    matchAll = SortedMatch.matchInt(xDataLib, xData, tableDataLib, tableData, rit, tableLength, direction, result);
+                    return RDataFactory.createIntVector(result, setCompleteState(matchAll, nomatch));
+                }
+            }
             NonRecursiveHashMapInt hashTable;
             if (bigTableProfile.profile(tableLength > (xLength * TABLE_SIZE_FACTOR))) {
                 hashTable = new NonRecursiveHashMapInt(xLength);
@@ -891,6 +900,13 @@ public abstract class MatchInternalNode extends AbstractMatchNode {
             int[] result = initResult(xLength, nomatch);
             boolean matchAll = true;
             RandomAccessIterator rit = tableDataLib.randomAccessIterator(tableData);
+            if (sortedTableProfile.profile(tableLength >= SortedMatch.MIN_TABLE_LENGTH)) {
+                int direction = SortedMatch.doubleSortedness(tableDataLib, tableData, rit, tableLength);
+                if (direction != 0 && (SortedMatch.isSearchCheaper(xLength, tableLength) || SortedMatch.isDoubleSortedLike(xDataLib, xData, direction))) {
+                    matchAll = SortedMatch.matchDouble(xDataLib, xData, tableDataLib, tableData, rit, tableLength, direction, result);
+                    return RDataFactory.createIntVector(result, setCompleteState(matchAll, nomatch));
+                }
+            }
             NonRecursiveHashMapDouble hashTable;
             if (bigTableProfile.profile(tableLength > (xLength * TABLE_SIZE_FACTOR))) {
                 hashTable = new NonRecursiveHashMapDouble(xLength);
@@ -1339,6 +1355,244 @@ public abstract class MatchInternalNode extends AbstractMatchNode {
         }
     }
 
+    /**
+     * Match kernels for tables without NA values that are sorted in increasing or decreasing order,
+     * either according to the vector data sortedness flag or to a scan of the table. Elements of
+     * {@code x} are looked up by galloping forward from the position of the previous element, so a
+     * sorted {@code x} is merged with the table in a single pass, and an element smaller than its
+     * predecessor falls back to a binary search. The lower bound is the first occurrence in the
+     * table, which gives the same index as the hash based lookup.
+     */
+    private static final class SortedMatch {
+        /**
+         * Shorter tables are not checked for sortedness, hashing them is cheap.
+         */
+        static final int MIN_TABLE_LENGTH = 64;
+
+        private SortedMatch() {
+            // no instances
+        }
+
+        /**
+         * Searching is preferred over hashing the table regardless of the order of {@code x} if the
+         * table is large enough to dominate {@code xLength} binary searches.
+         */
+        static boolean isSearchCheaper(int xLength, int tableLength) {
+            return (long) xLength * (Integer.SIZE - Integer.numberOfLeadingZeros(tableLength)) <= tableLength;
+        }
+
+        /**
+         * Returns {@code 1} if the table is sorted in increasing order, {@code -1} if it is sorted
+         * in decreasing order and {@code 0} if it is not sorted or contains an NA. A scan that
+         * proves the array backed data sorted records it in the data.
+         */
+        static int intSortedness(VectorDataLibrary lib, Object data, RandomAccessIterator it, int length) {
+            if (VectorDataLibrary.isSortedWithoutNA(lib, data, false)) {
+                return 1;
+            } else if (VectorDataLibrary.isSortedWithoutNA(lib, data, true)) {
+                return -1;
+            }
+            int direction = 0;
+            int prev = lib.getInt(data, it, 0);
+            if (RRuntime.isNA(prev)) {
+                return 0;
+            }
+            for (int i = 1; i < length; i++) {
+                int value = lib.getInt(data, it, i);
+                if (RRuntime.isNA(value)) {
+                    return 0;
+                }
+                if (value != prev) {
+                    int step = value > prev ? 1 : -1;
+                    if (direction == 0) {
+                        direction = step;
+                    } else if (direction != step) {
+                        return 0;
+                    }
+                }
+                prev = value;
+            }
+            direction = direction == 0 ? 1 : direction;
+            if (data instanceof RIntArrayVectorData) {
+                ((RIntArrayVectorData) data).setSorted(direction < 0);
+            }
+            return direction;
+        }
+
+        static int doubleSortedness(VectorDataLibrary lib, Object data, RandomAccessIterator it, int length) {
+            if (VectorDataLibrary.isSortedWithoutNA(lib, data, false)) {
+                return 1;
+            } else if (VectorDataLibrary.isSortedWithoutNA(lib, data, true)) {
+                return -1;
+            }
+            int direction = 0;
+            double prev = lib.getDouble(data, it, 0);
+            if (Double.isNaN(prev)) {
+                return 0;
+            }
+            for (int i = 1; i < length; i++) {
+                double value = lib.getDouble(data, it, i);
+                if (Double.isNaN(value)) {
+                    return 0;
+                }
+                if (value != prev) {
+                    int step = value > prev ? 1 : -1;
+                    if (direction == 0) {
+                        direction = step;
+                    } else if (direction != step) {
+                        return 0;
+                    }
+                }
+                prev = value;
+            }
+            direction = direction == 0 ? 1 : direction;
+            if (data instanceof RDoubleArrayVectorData) {
+                ((RDoubleArrayVectorData) data).setSorted(direction < 0);
+            }
+            return direction;
+        }
+
+        /**
+         * Checks whether the non-NA elements of {@code x} are ordered in the given direction.
+         */
+        static boolean isIntSortedLike(VectorDataLibrary lib, Object data, int direction) {
+            long prev = Long.MIN_VALUE;
+            SeqIterator it = lib.iterator(data);
+            while (lib.nextLoopCondition(data, it)) {
+                int value = lib.getNextInt(data, it);
+                if (!RRuntime.isNA(value)) {
+                    long key = (long) direction * value;
+                    if (key < prev) {
+                        return false;
+                    }
+                    prev = key;
+                }
+            }
+            return true;
+        }
+
+        static boolean isDoubleSortedLike(VectorDataLibrary lib, Object data, int direction) {
+            double prev = Double.NEGATIVE_INFINITY;
+            SeqIterator it = lib.iterator(data);
+            while (lib.nextLoopCondition(data, it)) {
+                double value = lib.getNextDouble(data, it);
+                if (!Double.isNaN(value)) {
+                    double key = direction * value;
+                    if (key < prev) {
+                        return false;
+                    }
+                    prev = key;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Stores the 1-based table index of each element of {@code x} into {@code result} and
+         * returns {@code true} if all elements matched. The table is compared on {@code direction *
+         * value}, which is increasing; negating is safe as the table contains no NA.
+         */
+        static boolean matchInt(VectorDataLibrary xLib, Object xData, VectorDataLibrary tableLib, Object tableData, RandomAccessIterator rit, int tableLength, int direction,
+                        int[] result) {
+            boolean matchAll = true;
+            int pos = 0;
+            long prev = Long.MIN_VALUE;
+            SeqIterator it = xLib.iterator(xData);
+            while (xLib.nextLoopCondition(xData, it)) {
+                int value = xLib.getNextInt(xData, it);
+                if (RRuntime.isNA(value)) {
+                    matchAll = false;
+                    continue;
+                }
+                long key = (long) direction * value;
+                int lo;
+                int hi;
+                if (key >= prev) {
+                    // gallop forward from the previous position
+                    lo = pos;
+                    long step = 1;
+                    hi = pos;
+                    while (hi < tableLength && (long) direction * tableLib.getInt(tableData, rit, hi) < key) {
+                        lo = hi + 1;
+                        // computed in long arithmetic as pos + step may exceed the int range
+                        hi = (int) Math.min(pos + step, tableLength);
+                        step <<= 1;
+                    }
+                    hi = Math.min(hi, tableLength);
+                } else {
+                    lo = 0;
+                    hi = pos;
+                }
+                while (lo < hi) {
+                    int mid = (lo + hi) >>> 1;
+                    if ((long) direction * tableLib.getInt(tableData, rit, mid) < key) {
+                        lo = mid + 1;
+                    } else {
+                        hi = mid;
+                    }
+                }
+                pos = lo;
+                prev = key;
+                if (lo < tableLength && (long) direction * tableLib.getInt(tableData, rit, lo) == key) {
+                    result[it.getIndex()] = lo + 1;
+                } else {
+                    matchAll = false;
+                }
+            }
+            return matchAll;
+        }
+
+        static boolean matchDouble(VectorDataLibrary xLib, Object xData, VectorDataLibrary tableLib, Object tableData, RandomAccessIterator rit, int tableLength, int direction,
+                        int[] result) {
+            boolean matchAll = true;
+            int pos = 0;
+            double prev = Double.NEGATIVE_INFINITY;
+            SeqIterator it = xLib.iterator(xData);
+            while (xLib.nextLoopCondition(xData, it)) {
+                double value = xLib.getNextDouble(xData, it);
+                if (Double.isNaN(value)) {
+                    matchAll = false;
+                    continue;
+                }
+                double key = direction * value;
+                int lo;
+                int hi;
+                if (key >= prev) {
+                    // gallop forward from the previous position
+                    lo = pos;
+                    long step = 1;
+                    hi = pos;
+                    while (hi < tableLength && direction * tableLib.getDouble(tableData, rit, hi) < key) {
+                        lo = hi + 1;
+                        // computed in long arithmetic as pos + step may exceed the int range
+                        hi = (int) Math.min(pos + step, tableLength);
+                        step <<= 1;
+                    }
+                    hi = Math.min(hi, tableLength);
+                } else {
+                    lo = 0;
+                    hi = pos;
+                }
+                while (lo < hi) {
+                    int mid = (lo + hi) >>> 1;
+                    if (direction * tableLib.getDouble(tableData, rit, mid) < key) {
+                        lo = mid + 1;
+                    } else {
+                        hi = mid;
+                    }
+                }
+                pos = lo;
+                prev = key;
+                if (lo < tableLength && direction * tableLib.getDouble(tableData, rit, lo) == key) {
+                    result[it.getIndex()] = lo + 1;
+                } else {
+                    matchAll = false;
+                }
+            }
+            return matchAll;
+        }
+    }
+
     private static class NonRecursiveHashSetInt {
         private final NonRecursiveHashMapInt map;
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,6 +31,7 @@ import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.frame.Frame;
 import com.oracle.truffle.api.frame.FrameInstance.FrameAccess;
 import com.oracle.truffle.api.frame.FrameSlotTypeException;
@@ -41,8 +42,11 @@ import com.oracle.truffle.r.nodes.RRootNode;
 import com.oracle.truffle.r.nodes.access.ConstantNode;
 import com.oracle.truffle.r.nodes.access.variables.ReadVariableNode;
 import com.oracle.truffle.r.nodes.function.PromiseNode.VarArgNode;
+import com.oracle.truffle.r.nodes.function.opt.EagerEvalHelper;
+import com.oracle.truffle.r.nodes.function.opt.OptStrictArgumentNode;
 import com.oracle.truffle.r.runtime.Arguments;
 import com.oracle.truffle.r.runtime.ArgumentsSignature;
+import com.oracle.truffle.r.runtime.Collections.BoundedLRUCache;
 import com.oracle.truffle.r.runtime.RArguments;
 import com.oracle.truffle.r.runtime.RArguments.S3DefaultArguments;
 import com.oracle.truffle.r.runtime.RDeparse;
@@ -143,6 +147,19 @@ import com.oracle.truffle.r.runtime.nodes.RSyntaxNode;
  */
 public class ArgumentMatcher {
 
+    /**
+     * Maximal number of entries in {@link #permutationCache}.
+     */
+    private static final int PERMUTATION_CACHE_SIZE = 1024;
+
+    /**
+     * Global cache of {@link MatchPermutation}s shared by all call sites and contexts. Call sites
+     * keep their own polymorphic inline caches of permutations, this cache is consulted when they
+     * have to (re)compute a permutation, which is typical for megamorphic sites such as
+     * {@code do.call}, {@code Recall} or {@code ...} forwarding with changing signatures.
+     */
+    private static final BoundedLRUCache<PermutationKey, MatchPermutation> permutationCache = new BoundedLRUCache<>(PERMUTATION_CACHE_SIZE);
+
     /**
      * Match arguments supplied for a specific function call to the formal arguments and wraps them
      * in {@link PromiseNode}s. Used for calls to all functions parsed from R code
@@ -173,7 +190,16 @@ public class ArgumentMatcher {
 
     public static MatchPermutation matchArguments(ArgumentsSignature supplied, ArgumentsSignature formal, RBaseNode callingNode, RBuiltinDescriptor builtin) {
         CompilerAsserts.neverPartOfCompilation();
-        return permuteArguments(supplied, formal, callingNode, index -> false, index -> supplied.getName(index) == null ? "" : supplied.getName(index), builtin);
+        return permutationCache.computeIfAbsent(new PermutationKey(supplied, formal, builtin),
+                        key -> permuteArguments(supplied, formal, callingNode, index -> false, index -> supplied.getName(index) == null ? "" : supplied.getName(index), builtin));
+    }
+
+    /**
+     * Gives access to the global cache of match permutations, e.g., to inspect its hit and miss
+     * counters.
+     */
+    public static BoundedLRUCache<?, ?> getPermutationCache() {
+        return permutationCache;
     }
 
     public static ArgumentsSignature getFunctionSignature(RFunction function) {
@@ -238,9 +264,11 @@ public class ArgumentMatcher {
      *         with default values (in the form of {@link RPromise}s where needed)
      */
     public static RArgsValuesAndNames matchArgumentsEvaluated(FormalArguments formals, RArgsValuesAndNames evaluatedArgs, S3DefaultArguments s3DefaultArguments, RBaseNode callingNode) {
-        MatchPermutation match = permuteArguments(evaluatedArgs.getSignature(), formals.getSignature(), callingNode, index -> {
-            throw RInternalError.unimplemented("S3Dispatch should not have arg length mismatch");
-        }, index -> evaluatedArgs.getSignature().getName(index), null);
+        ArgumentsSignature suppliedSignature = evaluatedArgs.getSignature();
+        MatchPermutation match = permutationCache.computeIfAbsent(new PermutationKey(suppliedSignature, formals.getSignature(), null),
+                        key -> permuteArguments(suppliedSignature, formals.getSignature(), callingNode, index -> {
+                            throw RInternalError.unimplemented("S3Dispatch should not have arg length mismatch");
+                        }, index -> suppliedSignature.getName(index), null));
 
         Object[] evaledArgs = new Object[match.resultPermutation.length];
         for (int formalIndex = 0; formalIndex < match.resultPermutation.length; formalIndex++) {
@@ -362,9 +390,17 @@ public class ArgumentMatcher {
         FormalArguments formals = target.getFormalArguments();
 
         // Rearrange arguments
-        MatchPermutation match = permuteArguments(suppliedSignature, formals.getSignature(), callingNode,
-                        index -> RASTUtils.isLookup(suppliedArgs[index], ArgumentsSignature.VARARG_NAME), index -> getErrorForArgument(suppliedArgs, suppliedSignature, index),
-                        target.getBuiltin());
+        MatchPermutation match;
+        if (containsVarArgsLookup(suppliedArgs)) {
+            // the permutation depends on the nodes, not only on the signature: cannot be cached
+            match = permuteArguments(suppliedSignature, formals.getSignature(), callingNode,
+                            index -> RASTUtils.isLookup(suppliedArgs[index], ArgumentsSignature.VARARG_NAME), index -> getErrorForArgument(suppliedArgs, suppliedSignature, index),
+                            target.getBuiltin());
+        } else {
+            match = permutationCache.computeIfAbsent(new PermutationKey(suppliedSignature, formals.getSignature(), target.getBuiltin()),
+                            key -> permuteArguments(suppliedSignature, formals.getSignature(), callingNode, index -> false, index -> getErrorForArgument(suppliedArgs, suppliedSignature, index),
+                                            target.getBuiltin()));
+        }
 
         RNode[] resArgs = new RNode[match.resultPermutation.length];
 
@@ -396,6 +432,10 @@ public class ArgumentMatcher {
             fastPath = null;
         }
 
+        // values instead of promises for strict closures, see OptStrictArgumentNode
+        Assumption strictArguments = fastPath != null && builtin == null && !noOpt && EagerEvalHelper.optStrict() && areStrictArguments(suppliedArgs) ? fastPath.strictArguments() : null;
+        Assumption callSiteStrict = strictArguments == null ? null : Truffle.getRuntime().createAssumption("strict call site");
+
         // int logicalIndex = 0; As our builtin's 'evalsArgs' is meant for FastR arguments (which
         // take "..." as one), we don't need a logicalIndex
         for (int formalIndex = 0; formalIndex < match.resultPermutation.length; formalIndex++) {
@@ -460,12 +500,39 @@ public class ArgumentMatcher {
                     resArgs[formalIndex] = ConstantNode.create(defaultValue);
                 }
             } else {
-                resArgs[formalIndex] = wrapMatched(formals, builtin, closureCache, suppliedArgs[suppliedIndex], formalIndex, noOpt || hasAssignment, fastPath, allArgPromisesCanOptimize);
+                RNode matched = wrapMatched(formals, builtin, closureCache, suppliedArgs[suppliedIndex], formalIndex, noOpt || hasAssignment, fastPath, allArgPromisesCanOptimize);
+                if (strictArguments != null && matched instanceof PromiseNode) {
+                    matched = new OptStrictArgumentNode(RASTUtils.cloneNode(suppliedArgs[suppliedIndex]), matched, strictArguments, callSiteStrict);
+                }
+                resArgs[formalIndex] = matched;
             }
         }
         return Arguments.create(resArgs, match.resultSignature);
     }
 
+    /**
+     * An argument that cannot be evaluated before the call would have its side effects after those
+     * of the arguments following it, so either all supplied arguments are evaluated before the
+     * call or none.
+     */
+    private static boolean areStrictArguments(RNode[] suppliedArgs) {
+        for (RNode arg : suppliedArgs) {
+            if (arg != null && !EvaluatedArgumentsVisitor.isStrictArgument(arg.asRSyntaxNode())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsVarArgsLookup(RNode[] suppliedArgs) {
+        for (RNode arg : suppliedArgs) {
+            if (arg != null && RASTUtils.isLookup(arg, ArgumentsSignature.VARARG_NAME)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * For given instance of {@link S3DefaultArguments} (can be {@code null}) returns the default
      * value if applicable (i.e. the signature matches). Note: currently, this logic is on purpose
@@ -584,6 +651,37 @@ public class ArgumentMatcher {
         }
     }
 
+    /**
+     * Key of {@link #permutationCache}. The result of {@link #permuteArguments} (if it does not
+     * throw) depends only on the supplied and formal signatures and on the builtin descriptor.
+     * Signatures are interned, therefore they can be compared by identity.
+     */
+    private static final class PermutationKey {
+        private final ArgumentsSignature supplied;
+        private final ArgumentsSignature formal;
+        private final RBuiltinDescriptor builtin;
+
+        PermutationKey(ArgumentsSignature supplied, ArgumentsSignature formal, RBuiltinDescriptor builtin) {
+            this.supplied = supplied;
+            this.formal = formal;
+            this.builtin = builtin;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof PermutationKey)) {
+                return false;
+            }
+            PermutationKey other = (PermutationKey) obj;
+            return supplied == other.supplied && formal == other.formal && builtin == other.builtin;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(supplied) * 31 + System.identityHashCode(formal)) * 31 + System.identityHashCode(builtin);
+        }
+    }
+
     /**
      * This method does the heavy lifting of re-arranging arguments by their names and position,
      * also handling varargs.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -65,6 +65,7 @@ import com.oracle.truffle.r.runtime.ReturnException;
 import com.oracle.truffle.r.runtime.RootBodyNode;
 import com.oracle.truffle.r.runtime.Utils;
 import com.oracle.truffle.r.runtime.Utils.DebugExitException;
+import com.oracle.truffle.r.runtime.builtins.FastPathFactory;
 import com.oracle.truffle.r.runtime.builtins.RBuiltinDescriptor;
 import com.oracle.truffle.r.runtime.context.RContext;
 import com.oracle.truffle.r.runtime.context.TruffleRLanguage;
@@ -123,6 +124,7 @@ public final class FunctionDefinitionNode extends RRootNode implements RSyntaxNo
     private final BranchProfile normalExit = BranchProfile.create();
     private final BranchProfile breakProfile = BranchProfile.create();
     private final BranchProfile nextProfile = BranchProfile.create();
+    private final ConditionProfile eagerPromisesOnlyProfile = ConditionProfile.createBinaryProfile();
 
     @Child private SetVisibilityNode visibility = SetVisibilityNode.create();
 
@@ -149,7 +151,7 @@ public final class FunctionDefinitionNode extends RRootNode implements RSyntaxNo
     private FunctionDefinitionNode(TruffleRLanguage language, SourceSection src, FrameDescriptor frameDesc, SourceSection[] argSourceSections, SaveArgumentsNode saveArguments, RSyntaxNode body,
                     FormalArguments formals,
                     String name, PostProcessArgumentsNode argPostProcess) {
-        super(language, frameDesc, RASTBuilder.createFunctionFastPath(body, formals.getSignature()));
+        super(language, frameDesc, RASTBuilder.createFunctionFastPath(body, formals));
         this.formalArguments = formals;
         this.argSourceSections = argSourceSections;
         assert FrameSlotChangeMonitor.assertValidFrameDescriptor(frameDesc);
@@ -173,6 +175,18 @@ public final class FunctionDefinitionNode extends RRootNode implements RSyntaxNo
         return formalArguments;
     }
 
+    /**
+     * Makes the callers of this function pass promises again, e.g., when debugging or tracing code
+     * that may inspect the arguments is attached to the function.
+     */
+    public void invalidateStrictArguments() {
+        FastPathFactory fastPath = getFastPath();
+        Assumption strictArguments = fastPath == null ? null : fastPath.strictArguments();
+        if (strictArguments != null) {
+            strictArguments.invalidate();
+        }
+    }
+
     @Override
     public ArgumentsSignature getSignature() {
         return formalArguments.getSignature();
@@ -288,6 +302,10 @@ public final class FunctionDefinitionNode extends RRootNode implements RSyntaxNo
     public Object execute(VirtualFrame frame) {
         boolean runOnExitHandlers = true;
         try {
+            if (eagerPromisesOnlyProfile.profile(RArguments.getCall(frame).evaluateOnlyEagerPromises())) {
+                // e.g., a method dispatched on an argument evaluated before a strict closure call
+                RErrorHandling.checkSpeculativeEvaluation();
+            }
             verifyEnclosingAssumptions(frame);
             Object result = body.visibleExecute(frame);
             normalExit.enter();
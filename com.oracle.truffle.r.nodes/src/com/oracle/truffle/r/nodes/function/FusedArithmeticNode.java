@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.nodes.function;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.r.runtime.ArgumentsSignature;
+import com.oracle.truffle.r.runtime.RInternalError;
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.builtins.RBuiltinDescriptor;
+import com.oracle.truffle.r.runtime.context.RContext;
+import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RDoubleVector;
+import com.oracle.truffle.r.runtime.data.RFunction;
+import com.oracle.truffle.r.runtime.data.RIntVector;
+import com.oracle.truffle.r.runtime.data.model.RAbstractVector;
+import com.oracle.truffle.r.runtime.nodes.RNode;
+import com.oracle.truffle.r.runtime.nodes.RSyntaxCall;
+import com.oracle.truffle.r.runtime.nodes.RSyntaxConstant;
+import com.oracle.truffle.r.runtime.nodes.RSyntaxElement;
+import com.oracle.truffle.r.runtime.nodes.RSyntaxLookup;
+import com.oracle.truffle.r.runtime.nodes.RSyntaxNode;
+
+/**
+ * Special for a tree of {@code +}, {@code -}, {@code *} and {@code /} calls, possibly in
+ * parentheses, whose leaves are lookups or constants, e.g. {@code a * 2 + (b - c) / d}. If all the
+ * leaves are integer or double vectors without attributes, of length one or of a common length, and
+ * each operation has a double result, the whole tree is computed in one pass over the vectors
+ * without allocating a vector for each intermediate result. The pass works in chunks, so that the
+ * intermediate values stay in small buffers.
+ *
+ * The leaves are evaluated in order. The first time a value does not allow that, e.g., if it is a
+ * string or if all of them are scalars, the node falls back to the regular specials of the calls
+ * for good, without evaluating the remaining leaves. The leaves evaluated so far are then evaluated
+ * again, like when a special bails out to a full call. Leaves with a class attribute cause a full
+ * call.
+ */
+final class FusedArithmeticNode extends RNode {
+
+    private static final int ADD = -1;
+    private static final int SUBTRACT = -2;
+    private static final int MULTIPLY = -3;
+    private static final int DIV = -4;
+
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * The values of the leaves and the operations in postfix order: non-negative codes are indices
+     * into {@link #leaves}, negative codes are operations.
+     */
+    @CompilationFinal(dimensions = 1) private final int[] program;
+    private final int stackDepth;
+
+    @Children private final RNode[] leaves;
+    /**
+     * The lookups of the functions of the nested calls, which must still be the builtins.
+     */
+    @Children private final RNode[] functions;
+    @CompilationFinal(dimensions = 1) private final RBuiltinDescriptor[] expectedFunctions;
+
+    @Child private RNode unfused;
+    @CompilationFinal private boolean fused = true;
+
+    private FusedArithmeticNode(int[] program, int stackDepth, RNode[] leaves, RNode[] functions, RBuiltinDescriptor[] expectedFunctions, RNode unfused) {
+        this.program = program;
+        this.stackDepth = stackDepth;
+        this.leaves = leaves;
+        this.functions = functions;
+        this.expectedFunctions = expectedFunctions;
+        this.unfused = unfused;
+    }
+
+    /**
+     * Returns a fused special for the call of {@code name} if it is the root of a tree of at least
+     * two arithmetic calls, or {@code unfused}, the regular special for the call, otherwise.
+     */
+    static RNode tryCreate(String name, ArgumentsSignature signature, RSyntaxNode[] arguments, RNode unfused) {
+        if (getOperation(name) == 0 || arguments.length != 2 || signature.getNonNullCount() != 0) {
+            return unfused;
+        }
+        Builder builder = new Builder();
+        if (!builder.addOperation(name, arguments) || builder.operations < 2) {
+            return unfused;
+        }
+        int[] program = new int[builder.program.size()];
+        int depth = 0;
+        int maxDepth = 0;
+        for (int i = 0; i < program.length; i++) {
+            program[i] = builder.program.get(i);
+            depth += program[i] >= 0 ? 1 : -1;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+        return new FusedArithmeticNode(program, maxDepth, builder.leaves.toArray(new RNode[0]), builder.functions.toArray(new RNode[0]),
+                        builder.expectedFunctions.toArray(new RBuiltinDescriptor[0]), unfused);
+    }
+
+    private static int getOperation(String name) {
+        switch (name) {
+            case "+":
+                return ADD;
+            case "-":
+                return SUBTRACT;
+            case "*":
+                return MULTIPLY;
+            case "/":
+                return DIV;
+            default:
+                return 0;
+        }
+    }
+
+    private static final class Builder {
+        private final ArrayList<Integer> program = new ArrayList<>();
+        private final ArrayList<RNode> leaves = new ArrayList<>();
+        private final ArrayList<RNode> functions = new ArrayList<>();
+        private final ArrayList<RBuiltinDescriptor> expectedFunctions = new ArrayList<>();
+        private int operations;
+
+        boolean addOperation(String name, RSyntaxElement[] arguments) {
+            if (!add(arguments[0]) || !add(arguments[1])) {
+                return false;
+            }
+            program.add(getOperation(name));
+            operations++;
+            return true;
+        }
+
+        private boolean add(RSyntaxElement element) {
+            if (element instanceof RSyntaxConstant) {
+                return addLeaf(element);
+            } else if (element instanceof RSyntaxLookup) {
+                String identifier = ((RSyntaxLookup) element).getIdentifier();
+                return !ArgumentsSignature.VARARG_NAME.equals(identifier) && addLeaf(element);
+            } else if (element instanceof RCallSpecialNode) {
+                RSyntaxCall call = (RSyntaxCall) element;
+                RSyntaxElement lhs = call.getSyntaxLHS();
+                RSyntaxElement[] arguments = call.getSyntaxArguments();
+                if (!(lhs instanceof RSyntaxLookup) || call.getSyntaxSignature().getNonNullCount() != 0) {
+                    return false;
+                }
+                String name = ((RSyntaxLookup) lhs).getIdentifier();
+                boolean paren = "(".equals(name) && arguments.length == 1;
+                if (!paren && (getOperation(name) == 0 || arguments.length != 2)) {
+                    return false;
+                }
+                RBuiltinDescriptor expected = RContext.lookupBuiltinDescriptor(name);
+                if (expected == null) {
+                    return false;
+                }
+                functions.add(RContext.getASTBuilder().process(lhs).asRNode());
+                expectedFunctions.add(expected);
+                return paren ? add(arguments[0]) : addOperation(name, arguments);
+            }
+            return false;
+        }
+
+        private boolean addLeaf(RSyntaxElement element) {
+            program.add(leaves.size());
+            leaves.add(ClassCheckNodeGen.create(RContext.getASTBuilder().process(element).asRNode()));
+            return true;
+        }
+    }
+
+    @Override
+    public Object execute(VirtualFrame frame) {
+        if (fused) {
+            Object result = executeFused(frame);
+            if (result != null) {
+                return result;
+            }
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            fused = false;
+        }
+        return unfused.execute(frame);
+    }
+
+    @ExplodeLoop
+    private Object executeFused(VirtualFrame frame) {
+        for (int i = 0; i < functions.length; i++) {
+            Object function = functions[i].execute(frame);
+            if (!(function instanceof RFunction) || ((RFunction) function).getRBuiltin() != expectedFunctions[i]) {
+                return null;
+            }
+        }
+        Object[] values = new Object[leaves.length];
+        int n = 1;
+        for (int i = 0; i < leaves.length; i++) {
+            /*
+             * A leaf that cannot be fused must make the node bail out before the next leaf is
+             * evaluated: the calls evaluated so far may fail, e.g., with a non-numeric argument,
+             * and that error must be reported before any error of a later leaf.
+             */
+            Object value = leaves[i].execute(frame);
+            int length = getLength(value);
+            if (length <= 0 || (length != 1 && n != 1 && length != n)) {
+                return null;
+            }
+            n = Math.max(n, length);
+            values[i] = value;
+        }
+        return evaluate(program, stackDepth, values, n);
+    }
+
+    /**
+     * Returns the length of {@code value} if it is an integer or double scalar or vector without
+     * attributes, or {@code -1} otherwise.
+     */
+    private static int getLength(Object value) {
+        if (value instanceof Double || value instanceof Integer) {
+            return 1;
+        } else if ((value instanceof RDoubleVector || value instanceof RIntVector) && ((RAbstractVector) value).getAttributes() == null) {
+            return ((RAbstractVector) value).getLength();
+        }
+        return -1;
+    }
+
+    /**
+     * Computes the tree for the values of the leaves, which are accepted by
+     * {@link #getLength(Object)} and of length {@code n} or one, or returns {@code null} if the
+     * values do not allow it.
+     */
+    @TruffleBoundary
+    private static RDoubleVector evaluate(int[] program, int stackDepth, Object[] values, int n) {
+        boolean complete = true;
+        Object[] data = new Object[values.length];
+        boolean[] isDouble = new boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value instanceof Double) {
+                complete &= !RRuntime.isNA((double) value);
+                isDouble[i] = true;
+            } else if (value instanceof Integer) {
+                complete &= !RRuntime.isNA((int) value);
+            } else {
+                RAbstractVector vector = (RAbstractVector) value;
+                complete &= vector.isComplete();
+                isDouble[i] = value instanceof RDoubleVector;
+                value = vector.getReadonlyData();
+            }
+            data[i] = value;
+        }
+        if (n == 1 || !hasDoubleResults(program, stackDepth, isDouble)) {
+            // scalars are better handled by the regular specials, integer results need overflow
+            // checks
+            return null;
+        }
+        double[] result = new double[n];
+        int chunkSize = Math.min(n, CHUNK_SIZE);
+        double[][] stack = new double[stackDepth][chunkSize];
+        for (int start = 0; start < n; start += chunkSize) {
+            int length = Math.min(chunkSize, n - start);
+            int sp = 0;
+            for (int code : program) {
+                if (code >= 0) {
+                    load(data[code], n, start, length, stack[sp++]);
+                } else {
+                    sp--;
+                    apply(code, stack[sp - 1], stack[sp], length);
+                }
+            }
+            System.arraycopy(stack[0], 0, result, start, length);
+        }
+        return RDataFactory.createDoubleVector(result, complete);
+    }
+
+    private static boolean hasDoubleResults(int[] program, int stackDepth, boolean[] isDouble) {
+        boolean[] stack = new boolean[stackDepth];
+        int sp = 0;
+        for (int code : program) {
+            if (code >= 0) {
+                stack[sp++] = isDouble[code];
+            } else {
+                sp--;
+                if (!(code == DIV || stack[sp - 1] || stack[sp])) {
+                    return false;
+                }
+                stack[sp - 1] = true;
+            }
+        }
+        return true;
+    }
+
+    private static void load(Object data, int n, int start, int length, double[] dst) {
+        if (data instanceof double[]) {
+            double[] array = (double[]) data;
+            if (array.length == n) {
+                System.arraycopy(array, start, dst, 0, length);
+            } else {
+                Arrays.fill(dst, 0, length, array[0]);
+            }
+        } else if (data instanceof int[]) {
+            int[] array = (int[]) data;
+            if (array.length == n) {
+                for (int i = 0; i < length; i++) {
+                    dst[i] = toDouble(array[start + i]);
+                }
+            } else {
+                Arrays.fill(dst, 0, length, toDouble(array[0]));
+            }
+        } else if (data instanceof Double) {
+            Arrays.fill(dst, 0, length, (double) data);
+        } else {
+            Arrays.fill(dst, 0, length, toDouble((int) data));
+        }
+    }
+
+    private static double toDouble(int value) {
+        return RRuntime.isNA(value) ? RRuntime.DOUBLE_NA : value;
+    }
+
+    /**
+     * Computes {@code left[i] op right[i]} into {@code left}. A {@code NaN} result is corrected to
+     * follow the NA handling of the vector arithmetic.
+     */
+    private static void apply(int operation, double[] left, double[] right, int length) {
+        switch (operation) {
+            case ADD:
+                for (int i = 0; i < length; i++) {
+                    double result = left[i] + right[i];
+                    left[i] = Double.isNaN(result) ? propagateNA(left[i], right[i], result) : result;
+                }
+                break;
+            case SUBTRACT:
+                for (int i = 0; i < length; i++) {
+                    double result = left[i] - right[i];
+                    left[i] = Double.isNaN(result) ? propagateNA(left[i], right[i], result) : result;
+                }
+                break;
+            case MULTIPLY:
+                for (int i = 0; i < length; i++) {
+                    double result = left[i] * right[i];
+                    left[i] = Double.isNaN(result) ? propagateNA(left[i], right[i], result) : result;
+                }
+                break;
+            case DIV:
+                for (int i = 0; i < length; i++) {
+                    double result = left[i] / right[i];
+                    left[i] = Double.isNaN(result) ? propagateNA(left[i], right[i], result) : result;
+                }
+                break;
+            default:
+                throw RInternalError.shouldNotReachHere();
+        }
+    }
+
+    private static double propagateNA(double left, double right, double result) {
+        if (RRuntime.isNA(left)) {
+            return RRuntime.DOUBLE_NA;
+        } else if (RRuntime.isNA(right)) {
+            // NaN op NA is NaN
+            return Double.isNaN(left) ? left : RRuntime.DOUBLE_NA;
+        }
+        return result;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,6 +35,7 @@ import com.oracle.truffle.r.runtime.data.nodes.attributes.GetFixedAttributeNode;
 import com.oracle.truffle.r.nodes.function.visibility.SetVisibilityNode;
 import com.oracle.truffle.r.runtime.Arguments;
 import com.oracle.truffle.r.runtime.ArgumentsSignature;
+import static com.oracle.truffle.r.runtime.context.FastROptions.FuseArithmetic;
 import static com.oracle.truffle.r.runtime.context.FastROptions.UseSpecials;
 import com.oracle.truffle.r.runtime.RDeparse;
 import com.oracle.truffle.r.runtime.RDispatch;
@@ -285,6 +286,9 @@ public final class RCallSpecialNode extends RCallBaseNode implements RSyntaxNode
             // the factory refused to create a special call -> bail out
             return null;
         }
+        if (!inReplace && RContext.getInstance().getOption(FuseArithmetic)) {
+            special = FusedArithmeticNode.tryCreate(name, signature, arguments, special);
+        }
         RBuiltinDescriptor expectedFunction = RContext.lookupBuiltinDescriptor(name);
         RInternalError.guarantee(expectedFunction != null);
 
@@ -14,7 +14,7 @@
  * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
  *
  * Copyright (c) 2014, Purdue University
- * Copyright (c) 2014, 2022, Oracle and/or its affiliates
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates
  *
  * All rights reserved.
  */
@@ -46,6 +46,7 @@ import com.oracle.truffle.r.runtime.RDispatch;
 import com.oracle.truffle.r.runtime.RError;
 import com.oracle.truffle.r.runtime.RInternalError;
 import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.S3DispatchCache;
 import com.oracle.truffle.r.runtime.Utils;
 import com.oracle.truffle.r.runtime.context.RContext;
 import com.oracle.truffle.r.runtime.data.RDataFactory;
@@ -56,6 +57,7 @@ import com.oracle.truffle.r.runtime.data.RStringVector;
 import com.oracle.truffle.r.runtime.env.REnvironment;
 import com.oracle.truffle.r.runtime.env.frame.FrameIndex;
 import com.oracle.truffle.r.runtime.env.frame.FrameSlotChangeMonitor;
+import com.oracle.truffle.r.runtime.env.frame.FrameSlotChangeMonitor.LookupResult;
 import com.oracle.truffle.r.runtime.nodes.RBaseNode;
 
 public abstract class S3FunctionLookupNode extends RBaseNode {
@@ -449,23 +451,7 @@ public abstract class S3FunctionLookupNode extends RBaseNode {
 
         @TruffleBoundary
         private Result executeInternal(String genericName, RStringVector type, String group, MaterializedFrame callerFrame, MaterializedFrame genericDefFrame) {
-            LookupOperation op = (lookupFrame, name, inMethodsTable) -> {
-                return ReadVariableNode.lookupFunction(name, lookupFrame, inMethodsTable, true);
-            };
-
-            GetMethodsTable getTable = () -> {
-                int frameIndex = genericDefFrame == null ? FrameIndex.UNITIALIZED_INDEX : FrameSlotChangeMonitor.getIndexOfIdentifier(genericDefFrame.getFrameDescriptor(), RRuntime.RS3MethodsTable);
-                if (FrameIndex.isUninitializedIndex(frameIndex)) {
-                    return null;
-                }
-                try {
-                    return FrameSlotChangeMonitor.getObject(genericDefFrame, frameIndex);
-                } catch (FrameSlotTypeException e) {
-                    throw RInternalError.shouldNotReachHere();
-                }
-            };
-
-            Result result = performLookup(callerFrame, genericName, group, type, nextMethod, defaultMethod, op, getTable);
+            Result result = lookup(genericName, type, group, callerFrame, genericDefFrame);
 
             if (result == null) {
                 if (throwsError) {
@@ -480,5 +466,67 @@ public abstract class S3FunctionLookupNode extends RBaseNode {
             }
             return result;
         }
+
+        /**
+         * Performs the lookup using the context-wide {@link S3DispatchCache}. The lookup is cached
+         * only if all names it reads can be guarded by frame slot assumptions.
+         */
+        private Result lookup(String genericName, RStringVector type, String group, MaterializedFrame callerFrame, MaterializedFrame genericDefFrame) {
+            S3DispatchCache cache = getRContext().s3DispatchCache;
+            if (!cache.isEnabled()) {
+                return performLookup(callerFrame, genericName, group, type, nextMethod, defaultMethod, UseMethodFunctionLookupGenericNode::lookupFunction, () -> getMethodsTable(genericDefFrame));
+            }
+            S3DispatchCache.Key key = new S3DispatchCache.Key(genericName, group, type.getDataCopy(), callerFrame, genericDefFrame, nextMethod, defaultMethod);
+            Object cached = cache.get(key);
+            if (cached != null) {
+                return cached == S3DispatchCache.NOT_FOUND ? null : (Result) cached;
+            }
+
+            ArrayList<LookupResult> lookups = new ArrayList<>();
+            boolean[] cacheable = new boolean[]{true};
+            LookupOperation op = (lookupFrame, name, inMethodsTable) -> {
+                addLookup(lookups, cacheable, lookupFrame, name);
+                return lookupFunction(lookupFrame, name, inMethodsTable);
+            };
+            GetMethodsTable getTable = () -> {
+                if (genericDefFrame != null) {
+                    addLookup(lookups, cacheable, genericDefFrame, RRuntime.RS3MethodsTable);
+                }
+                return getMethodsTable(genericDefFrame);
+            };
+
+            Result result = performLookup(callerFrame, genericName, group, type, nextMethod, defaultMethod, op, getTable);
+            if (cacheable[0]) {
+                cache.put(key, result, lookups);
+            }
+            return result;
+        }
+
+        private static void addLookup(List<LookupResult> lookups, boolean[] cacheable, MaterializedFrame frame, String name) {
+            if (cacheable[0]) {
+                LookupResult lookup = S3DispatchCache.lookup(frame, name);
+                if (lookup == null) {
+                    cacheable[0] = false;
+                } else {
+                    lookups.add(lookup);
+                }
+            }
+        }
+
+        private static Object lookupFunction(MaterializedFrame frame, String name, boolean inMethodsTable) {
+            return ReadVariableNode.lookupFunction(name, frame, inMethodsTable, true);
+        }
+
+        private static Object getMethodsTable(MaterializedFrame genericDefFrame) {
+            int frameIndex = genericDefFrame == null ? FrameIndex.UNITIALIZED_INDEX : FrameSlotChangeMonitor.getIndexOfIdentifier(genericDefFrame.getFrameDescriptor(), RRuntime.RS3MethodsTable);
+            if (FrameIndex.isUninitializedIndex(frameIndex)) {
+                return null;
+            }
+            try {
+                return FrameSlotChangeMonitor.getObject(genericDefFrame, frameIndex);
+            } catch (FrameSlotTypeException e) {
+                throw RInternalError.shouldNotReachHere();
+            }
+        }
     }
 }
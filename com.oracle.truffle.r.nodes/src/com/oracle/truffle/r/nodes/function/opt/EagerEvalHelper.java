@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,6 +31,7 @@ import static com.oracle.truffle.r.runtime.context.FastROptions.EagerEval;
 import static com.oracle.truffle.r.runtime.context.FastROptions.EagerEvalConstants;
 import static com.oracle.truffle.r.runtime.context.FastROptions.EagerEvalDefault;
 import static com.oracle.truffle.r.runtime.context.FastROptions.EagerEvalExpressions;
+import static com.oracle.truffle.r.runtime.context.FastROptions.EagerEvalStrict;
 import static com.oracle.truffle.r.runtime.context.FastROptions.EagerEvalVariables;
 import com.oracle.truffle.r.runtime.context.RContext;
 import com.oracle.truffle.r.runtime.data.RDataFactory;
@@ -81,6 +82,14 @@ public class EagerEvalHelper {
         return ctx.getOption(EagerEval) || ctx.getOption(EagerEvalExpressions);
     }
 
+    /**
+     * @return Whether to pass values instead of promises to strict closures
+     */
+    public static boolean optStrict() {
+        RContext ctx = RContext.getInstance();
+        return ctx.getOption(EagerEval) || ctx.getOption(EagerEvalStrict);
+    }
+
     /**
      * This methods checks if an argument is a {@link ConstantNode}. Thanks to "..." unrolling, this
      * does not need to handle "..." as special case (which might result in a {@link ConstantNode}
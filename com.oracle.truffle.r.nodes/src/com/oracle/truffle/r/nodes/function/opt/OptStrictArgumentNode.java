@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.nodes.function.opt;
+
+import com.oracle.truffle.api.Assumption;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.profiles.ConditionProfile;
+import com.oracle.truffle.r.nodes.function.PromiseHelperNode;
+import com.oracle.truffle.r.nodes.function.PromiseNode;
+import com.oracle.truffle.r.nodes.function.WrapArgumentNode;
+import com.oracle.truffle.r.runtime.RArguments;
+import com.oracle.truffle.r.runtime.RCaller;
+import com.oracle.truffle.r.runtime.RError;
+import com.oracle.truffle.r.runtime.RErrorHandling;
+import com.oracle.truffle.r.runtime.data.RArgsValuesAndNames;
+import com.oracle.truffle.r.runtime.data.REmpty;
+import com.oracle.truffle.r.runtime.data.RMissing;
+import com.oracle.truffle.r.runtime.data.RPromise;
+import com.oracle.truffle.r.runtime.env.frame.CannotOptimizePromise;
+import com.oracle.truffle.r.runtime.nodes.RNode;
+import com.oracle.truffle.r.runtime.nodes.RSyntaxNode;
+
+/**
+ * Evaluates a supplied argument of a strict closure in the caller and passes its value instead of
+ * a promise. A closure is strict if it forces all its arguments in order before any other
+ * observable action and cannot inspect them as promises, see
+ * {@code com.oracle.truffle.r.runtime.nodes.StrictArgumentsVisitor}. Evaluating the argument
+ * before the call is therefore indistinguishable from evaluating it on the first access, as long
+ * as the evaluation itself has no side effects and raises no condition. The call site only uses
+ * this node if all its supplied arguments consist of side effect free calls, lookups and constants.
+ *
+ * Like in {@link OptForcedEagerPromiseNode}, other side effects are detected by evaluating with
+ * {@code setEvaluateOnlyEagerPromises(true)}, which throws {@link CannotOptimizePromise} instead.
+ * The evaluation is also speculative in the sense of
+ * {@link RErrorHandling#beginSpeculativeEvaluation()}, so that an error, a warning or another
+ * condition throws {@link CannotOptimizePromise} before any handler runs: a condition must be
+ * raised when the callee forces the argument, e.g., after the callee reported an error for an
+ * earlier argument. In any of these cases, this node and all other strict arguments of the same
+ * call site fall back to promises for good: the arguments after this one would otherwise be
+ * evaluated before the side effect that the callee performs when it forces this argument. The
+ * arguments before this one are forced before it by the callee, so their values stay valid.
+ *
+ * The optimization is also abandoned when the closure's {@code strictArguments} assumption is
+ * invalidated, e.g., when a debugger or a tracer is attached to the closure.
+ */
+public final class OptStrictArgumentNode extends PromiseNode {
+
+    @Child private RNode expr;
+    @Child private PromiseHelperNode promiseHelper;
+    @Child private RNode fallback;
+
+    private final ConditionProfile isPromiseProfile = ConditionProfile.createBinaryProfile();
+
+    /**
+     * Holds as long as the closure is strict.
+     */
+    private final Assumption strictArguments;
+
+    /**
+     * Shared by all strict arguments of a call site, invalidated when one of them has side
+     * effects.
+     */
+    private final Assumption callSiteStrict;
+
+    public OptStrictArgumentNode(RNode expr, RNode fallback, Assumption strictArguments, Assumption callSiteStrict) {
+        super(null);
+        this.expr = expr;
+        this.fallback = fallback;
+        this.strictArguments = strictArguments;
+        this.callSiteStrict = callSiteStrict;
+    }
+
+    @Override
+    public Object execute(VirtualFrame frame) {
+        if (!strictArguments.isValid() || !callSiteStrict.isValid()) {
+            return rewriteToFallback().execute(frame);
+        }
+        RCaller currentCaller = RArguments.getCall(frame);
+        boolean previousEvalEagerOnly = currentCaller.evaluateOnlyEagerPromises();
+        Object value;
+        RErrorHandling.beginSpeculativeEvaluation();
+        try {
+            currentCaller.setEvaluateOnlyEagerPromises(true);
+            if (expr instanceof WrapArgumentNode) {
+                // force a promise before the reference count of the value is updated
+                WrapArgumentNode wrap = (WrapArgumentNode) expr;
+                value = wrap.execute(frame, forcePromise(frame, wrap.getOperand().execute(frame)));
+            } else {
+                value = forcePromise(frame, expr.execute(frame));
+            }
+        } catch (CannotOptimizePromise | RError ex) {
+            // an error not signalled through RErrorHandling is reported again by the promise
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            callSiteStrict.invalidate();
+            if (previousEvalEagerOnly) {
+                rewriteToFallback();
+                throw ex instanceof CannotOptimizePromise ? (CannotOptimizePromise) ex : new CannotOptimizePromise();
+            }
+            return rewriteToFallback().execute(frame);
+        } finally {
+            currentCaller.setEvaluateOnlyEagerPromises(previousEvalEagerOnly);
+            RErrorHandling.endSpeculativeEvaluation();
+        }
+        if (value == RMissing.instance || value == REmpty.instance || value instanceof RArgsValuesAndNames) {
+            // the callee must see the missing argument
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            return rewriteToFallback().execute(frame);
+        }
+        return value;
+    }
+
+    private Object forcePromise(VirtualFrame frame, Object value) {
+        if (isPromiseProfile.profile(value instanceof RPromise)) {
+            if (promiseHelper == null) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                promiseHelper = insert(new PromiseHelperNode());
+            }
+            return promiseHelper.evaluate(frame, (RPromise) value);
+        }
+        return value;
+    }
+
+    private RNode rewriteToFallback() {
+        return replace(fallback);
+    }
+
+    @Override
+    public RSyntaxNode getRSyntaxNode() {
+        return getPromiseExpr();
+    }
+
+    @Override
+    public RSyntaxNode getPromiseExpr() {
+        return expr.asRSyntaxNode();
+    }
+}
@@ -2,7 +2,7 @@
  * Copyright (c) 1995, 1996, 1997  Robert Gentleman and Ross Ihaka
  * Copyright (c) 1995-2014, The R Core Team
  * Copyright (c) 2002-2008, The R Foundation
- * Copyright (c) 2015, 2022, Oracle and/or its affiliates
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -20,10 +20,14 @@
  */
 package com.oracle.truffle.r.nodes.objects;
 
+import com.oracle.truffle.api.Assumption;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.ImportStatic;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.MaterializedFrame;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.profiles.BranchProfile;
 import com.oracle.truffle.api.profiles.ConditionProfile;
@@ -32,16 +36,21 @@ import com.oracle.truffle.r.nodes.RASTUtils;
 import com.oracle.truffle.r.nodes.access.variables.LocalReadVariableNode;
 import com.oracle.truffle.r.nodes.access.variables.ReadVariableNode;
 import com.oracle.truffle.r.nodes.helpers.InheritsCheckNode;
+import com.oracle.truffle.r.runtime.DSLConfig;
 import com.oracle.truffle.r.runtime.RCaller;
 import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.StableValue;
 import com.oracle.truffle.r.runtime.Utils;
 import com.oracle.truffle.r.runtime.context.RContext;
 import com.oracle.truffle.r.runtime.data.RFunction;
 import com.oracle.truffle.r.runtime.data.RStringVector;
 import com.oracle.truffle.r.runtime.env.REnvironment;
+import com.oracle.truffle.r.runtime.env.frame.FrameIndex;
+import com.oracle.truffle.r.runtime.env.frame.FrameSlotChangeMonitor;
 import com.oracle.truffle.r.runtime.nodes.RBaseNode;
 
 // transcribed from /src/library/methods/src/methods_list_dispatch.c (R_dispatch_generic function)
+@ImportStatic(DSLConfig.class)
 public abstract class DispatchGeneric extends RBaseNode {
 
     public abstract Object executeObject(VirtualFrame frame, REnvironment mtable, RStringVector classes, RFunction fdef, String fname);
@@ -77,6 +86,50 @@ public abstract class DispatchGeneric extends RBaseNode {
         return LocalReadVariableNode.create(dispatchString, true);
     }
 
+    /**
+     * A method found in a methods table together with the stable value assumption of its table
+     * entry. The assumption is invalidated whenever the entry is re-assigned or removed, which is
+     * what {@code setMethod}, {@code removeMethod} and the reset of inherited methods after
+     * {@code setClass} do to the table.
+     */
+    protected static final class CachedMethod {
+        private final RFunction method;
+        private final Assumption assumption;
+        private final boolean deferred;
+
+        private CachedMethod(RFunction method, Assumption assumption, boolean deferred) {
+            this.method = method;
+            this.assumption = assumption;
+            this.deferred = deferred;
+        }
+
+        public Assumption getAssumption() {
+            return assumption;
+        }
+    }
+
+    protected CachedMethod lookupStableMethod(MaterializedFrame tableFrame, String dispatchString) {
+        int frameIndex = FrameSlotChangeMonitor.getIndexOfIdentifier(tableFrame.getFrameDescriptor(), dispatchString);
+        if (FrameIndex.isUninitializedIndex(frameIndex)) {
+            return null;
+        }
+        Object value = FrameSlotChangeMonitor.getObject(tableFrame, frameIndex);
+        if (!(value instanceof RFunction)) {
+            return null;
+        }
+        StableValue<Object> stableValue = FrameSlotChangeMonitor.getStableValueAssumption(tableFrame, frameIndex, value);
+        if (stableValue == null || stableValue.getValue() != value || !stableValue.getAssumption().isValid()) {
+            // the entry is not stable (anymore), it has to be read on every dispatch
+            return null;
+        }
+        RFunction method = (RFunction) value;
+        return new CachedMethod(method, stableValue.getAssumption(), method.isBuiltin() || getInheritsInternalDispatchCheckNode().execute(method));
+    }
+
+    protected static Assumption getAssumption(CachedMethod cachedMethod) {
+        return cachedMethod == null ? null : cachedMethod.getAssumption();
+    }
+
     private Object dispatchInternal(VirtualFrame frame, REnvironment mtable, RStringVector classes, RFunction fdef, String fname, RFunction f) {
         RFunction method = f;
         if (method == null) {
@@ -96,18 +149,56 @@ public abstract class DispatchGeneric extends RBaseNode {
         return executeMethod.executeObject(frame, method, fname);
     }
 
+    /**
+     * Polymorphic inline cache keyed by the methods table and the argument classes. A hit uses the
+     * method resolved when the entry was created and skips the methods table lookup altogether.
+     */
     @SuppressWarnings("unused")
-    @Specialization(guards = "equalClasses(classes, cachedClasses)")
+    @Specialization(limit = "getCacheSize(4)", guards = {"cachedMethod != null", "mtable.getFrame() == cachedTableFrame", "equalClasses(classes, cachedClasses)"}, assumptions = "methodAssumption")
+    protected Object dispatchStable(VirtualFrame frame, REnvironment mtable, RStringVector classes, RFunction fdef, String fname,
+                    @Cached("classes") RStringVector cachedClasses,
+                    @Cached("mtable.getFrame()") MaterializedFrame cachedTableFrame,
+                    @Cached("lookupStableMethod(cachedTableFrame, createDispatchString(cachedClasses))") CachedMethod cachedMethod,
+                    @Cached("getAssumption(cachedMethod)") Assumption methodAssumption) {
+        if (cachedMethod.deferred) {
+            return RRuntime.DEFERRED_DEFAULT_MARKER;
+        }
+        RFunction method = loadMethod.executeRFunction(frame, cachedMethod.method, fname);
+        return executeMethod.executeObject(frame, method, fname);
+    }
+
+    protected static Assumption createNotInstalledAssumption() {
+        return Truffle.getRuntime().createAssumption("no stable method installed");
+    }
+
+    /**
+     * Dispatch for a signature without a stable methods table entry, e.g., an inherited signature
+     * whose method is only installed in the table by {@code .InheritForDispatch} on its first
+     * dispatch. Once the method is installed, the {@code notInstalled} assumption of this entry is
+     * invalidated, which removes only this entry, so that the next dispatch of the signature can
+     * specialize to {@link #dispatchStable}.
+     */
+    @SuppressWarnings("unused")
+    @Specialization(guards = "equalClasses(classes, cachedClasses)", assumptions = "notInstalled")
     protected Object dispatchCached(VirtualFrame frame, REnvironment mtable, RStringVector classes, RFunction fdef, String fname,
                     @Cached("classes") RStringVector cachedClasses,
                     @Cached("createDispatchString(cachedClasses)") String dispatchString,
                     @Cached("createTableRead(dispatchString)") LocalReadVariableNode tableRead,
-                    @Cached("createClassProfile()") ValueProfile frameAccessProfile) {
+                    @Cached("createClassProfile()") ValueProfile frameAccessProfile,
+                    @Cached("createNotInstalledAssumption()") Assumption notInstalled) {
         RFunction method = (RFunction) tableRead.execute(frame, mtable.getFrame(frameAccessProfile));
+        if (method == null) {
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            Object result = dispatchInternal(frame, mtable, classes, fdef, fname, null);
+            if (lookupStableMethod(mtable.getFrame(), dispatchString) != null) {
+                notInstalled.invalidate();
+            }
+            return result;
+        }
         return dispatchInternal(frame, mtable, classes, fdef, fname, method);
     }
 
-    @Specialization(replaces = "dispatchCached")
+    @Specialization(replaces = {"dispatchStable", "dispatchCached"})
     protected Object dispatch(VirtualFrame frame, REnvironment mtable, RStringVector classes, RFunction fdef, String fname) {
         String dispatchString = createDispatchString(classes);
         RFunction method = (RFunction) mtable.get(dispatchString);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -23,6 +23,7 @@
 package com.oracle.truffle.r.runtime;
 
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.library.ExportLibrary;
 import com.oracle.truffle.api.library.ExportMessage;
@@ -34,6 +35,13 @@ import com.oracle.truffle.r.runtime.data.RComplex;
 import com.oracle.truffle.r.runtime.ffi.AfterDownCallProfiles;
 
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
 public final class Collections {
 
@@ -621,6 +629,222 @@ public final class Collections {
         }
     }
 
+    /**
+     * Hit, miss and eviction counts shared by any number of {@link BoundedLRUCache}s, e.g., by all
+     * instances of a per-node cache, so that they can be reported together.
+     */
+    public static final class CacheStatistics {
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+
+        public void hit() {
+            hits.incrementAndGet();
+        }
+
+        public void miss() {
+            misses.incrementAndGet();
+        }
+
+        public void evicted() {
+            evictions.incrementAndGet();
+        }
+
+        public long getHits() {
+            return hits.get();
+        }
+
+        public long getMisses() {
+            return misses.get();
+        }
+
+        public long getEvictions() {
+            return evictions.get();
+        }
+
+        public void reset() {
+            hits.set(0);
+            misses.set(0);
+            evictions.set(0);
+        }
+    }
+
+    /**
+     * Thread-safe map with a bounded number of entries that evicts the least recently used entry
+     * once the capacity is exceeded. It is meant for global caches shared by all contexts, which
+     * must not grow without bounds. Hits, misses and evictions are counted for diagnostics.
+     *
+     * Optionally, the entries also have a weight given by a weigher function and least recently
+     * used entries are evicted as long as the total weight exceeds the maximal weight, but the most
+     * recently added entry is always kept.
+     */
+    public static final class BoundedLRUCache<K, V> {
+        private final int capacity;
+        private final long maxWeight;
+        private final ToLongFunction<V> weigher;
+        private final CacheStatistics statistics;
+        private final LinkedHashMap<K, Entry<V>> map;
+        private long weight;
+        private long hits;
+        private long misses;
+        private long evictions;
+
+        public BoundedLRUCache(int capacity) {
+            this(capacity, Long.MAX_VALUE, null, null);
+        }
+
+        /**
+         * @param weigher the weight of a value, may be {@code null} if {@code maxWeight} is
+         *            {@link Long#MAX_VALUE}
+         * @param statistics where hits, misses and evictions are counted in addition to this
+         *            cache's own counters, may be {@code null}
+         */
+        public BoundedLRUCache(int capacity, long maxWeight, ToLongFunction<V> weigher, CacheStatistics statistics) {
+            assert capacity > 0 && maxWeight > 0 && (weigher != null || maxWeight == Long.MAX_VALUE);
+            this.capacity = capacity;
+            this.maxWeight = maxWeight;
+            this.weigher = weigher;
+            this.statistics = statistics;
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > BoundedLRUCache.this.capacity) {
+                        evicted(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        /**
+         * A cached value with the weight it had when it was added. The weight of a value may change
+         * while it is cached, e.g., if it is a mutable AST, so the weight added to the total is also
+         * the one subtracted from it when the value leaves the cache.
+         */
+        private static final class Entry<V> {
+            private final V value;
+            private final long weight;
+
+            Entry(V value, long weight) {
+                this.value = value;
+                this.weight = weight;
+            }
+        }
+
+        private void evicted(Entry<V> entry) {
+            weight -= entry.weight;
+            evictions++;
+            if (statistics != null) {
+                statistics.evicted();
+            }
+        }
+
+        /**
+         * Returns the cached value or {@code null}, counting a hit or a miss.
+         */
+        @TruffleBoundary
+        public synchronized V get(K key) {
+            return get(key, null);
+        }
+
+        /**
+         * Returns the cached value if {@code valid} accepts it, counting a hit, or {@code null},
+         * counting a miss. A value that is no longer valid is removed from the cache.
+         *
+         * @param valid may be {@code null} if all cached values are valid
+         */
+        @TruffleBoundary
+        public synchronized V get(K key, Predicate<V> valid) {
+            Entry<V> entry = map.get(key);
+            V value = entry == null ? null : entry.value;
+            if (value != null && valid != null && !valid.test(value)) {
+                map.remove(key);
+                weight -= entry.weight;
+                value = null;
+            }
+            if (value == null) {
+                misses++;
+                if (statistics != null) {
+                    statistics.miss();
+                }
+            } else {
+                hits++;
+                if (statistics != null) {
+                    statistics.hit();
+                }
+            }
+            return value;
+        }
+
+        @TruffleBoundary
+        public synchronized void put(K key, V value) {
+            Entry<V> entry = new Entry<>(value, weigher == null ? 0 : weigher.applyAsLong(value));
+            weight += entry.weight;
+            Entry<V> previous = map.put(key, entry);
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            if (weight > maxWeight) {
+                Iterator<Entry<V>> entries = map.values().iterator();
+                while (weight > maxWeight && map.size() > 1) {
+                    evicted(entries.next());
+                    entries.remove();
+                }
+            }
+        }
+
+        /**
+         * Returns the cached value, or computes and caches a new one. The computation runs outside
+         * of the lock, so it may be executed more than once for the same key by racing threads; it
+         * must therefore be side-effect free. If it throws, nothing is cached.
+         */
+        public V computeIfAbsent(K key, Function<K, V> computation) {
+            V value = get(key);
+            if (value == null) {
+                value = computation.apply(key);
+                put(key, value);
+            }
+            return value;
+        }
+
+        @TruffleBoundary
+        public synchronized void clear() {
+            map.clear();
+            weight = 0;
+        }
+
+        public synchronized int size() {
+            return map.size();
+        }
+
+        public synchronized long getWeight() {
+            return weight;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public long getMaxWeight() {
+            return maxWeight;
+        }
+
+        public synchronized long getHits() {
+            return hits;
+        }
+
+        public synchronized long getMisses() {
+            return misses;
+        }
+
+        public synchronized long getEvictions() {
+            return evictions;
+        }
+    }
+
     @GenerateLibrary
     public abstract static class StackLibrary extends Library {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -255,6 +255,22 @@ public class RChannel {
         return null;
     }
 
+    /**
+     * Converts {@code data} to the form in which it can be handed over to another context, as done
+     * by {@link #send}.
+     */
+    public static Object toMessage(Object data) {
+        return new Output().processOutgoingMessage(data);
+    }
+
+    /**
+     * Converts a value created by {@link #toMessage} in another context back to an R value of the
+     * current context, as done by {@link #receive}.
+     */
+    public static Object fromMessage(Object msg) {
+        return new Input().processedReceivedMessage(msg);
+    }
+
     private static class TransmitterCommon extends RSerialize.RefCounter {
 
         protected static class SerializedRef {
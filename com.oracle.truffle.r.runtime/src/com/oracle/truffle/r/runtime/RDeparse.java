@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995-2012, The R Core Team
  * Copyright (c) 2003, The R Foundation
- * Copyright (c) 2013, 2020, Oracle and/or its affiliates
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -19,6 +19,8 @@
  */
 package com.oracle.truffle.r.runtime;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -100,6 +102,20 @@ public class RDeparse {
     public static final char BACKTICK = '`';
     public static final char DQUOTE = '"';
 
+    /**
+     * Size of the text, in characters, that is buffered before it is passed to a
+     * {@link DeparseSink}.
+     */
+    private static final int SINK_CHUNK_SIZE = 8192;
+
+    /**
+     * Receives the deparsed text in chunks, so that large values are not turned into one string.
+     * The concatenation of all chunks is the result of the corresponding {@code deparse} call.
+     */
+    public interface DeparseSink {
+        void write(String chunk) throws IOException;
+    }
+
     public enum PP {
         FUNCALL,
         RETURN,
@@ -272,6 +288,13 @@ public class RDeparse {
 
         private final ArrayList<SourceSectionElement> sources;
 
+        /**
+         * If not {@code null}, complete parts of {@link #sb} are passed to the sink and removed
+         * from the buffer; {@link #flushed} is the number of characters passed so far.
+         */
+        private final DeparseSink sink;
+        private int flushed;
+
         private final int listCutoff;
         private final int debugCutoff;
         private final boolean backtick;
@@ -289,6 +312,16 @@ public class RDeparse {
         }
 
         DeparseVisitor(boolean storeSource, int cutoff, boolean backtick, int opts, int nlines, int debugCutoff) {
+            this(storeSource, cutoff, backtick, opts, nlines, debugCutoff, null);
+        }
+
+        DeparseVisitor(int cutoff, boolean backtick, int opts, int nlines, DeparseSink sink) {
+            this(false, cutoff, backtick, opts, nlines, -1, sink);
+        }
+
+        private DeparseVisitor(boolean storeSource, int cutoff, boolean backtick, int opts, int nlines, int debugCutoff, DeparseSink sink) {
+            assert sink == null || !storeSource : "source sections need the whole text";
+            this.sink = sink;
             this.listCutoff = cutoff;
             this.backtick = backtick;
             this.opts = opts;
@@ -298,9 +331,23 @@ public class RDeparse {
         }
 
         public String getContents() {
-            // strip surplus newlines
+            stripSurplusNewlines();
+            return sb.toString();
+        }
+
+        /**
+         * Passes the rest of the text to the sink.
+         */
+        public void finish() throws IOException {
+            stripSurplusNewlines();
+            if (sb.length() > 0) {
+                sink.write(sb.toString());
+            }
+        }
+
+        private void stripSurplusNewlines() {
             int length = sb.length();
-            while (length > 1) {
+            while (length > 0 && flushed + length > 1) {
                 char c = sb.charAt(length - 1);
                 if (c != '\n' && c != ' ') {
                     break;
@@ -308,7 +355,32 @@ public class RDeparse {
                 length--;
             }
             sb.setLength(length);
-            return sb.toString();
+        }
+
+        /**
+         * Passes the buffered text to the sink once it is large enough, except for trailing
+         * whitespace that may still be stripped in {@link #stripSurplusNewlines()}.
+         */
+        private void flushIfFull() {
+            if (sink != null && sb.length() >= SINK_CHUNK_SIZE) {
+                int end = sb.length();
+                while (end > 0 && (sb.charAt(end - 1) == '\n' || sb.charAt(end - 1) == ' ')) {
+                    end--;
+                }
+                if (end > 0) {
+                    try {
+                        sink.write(sb.substring(0, end));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    sb.delete(0, end);
+                    flushed += end;
+                }
+            }
+        }
+
+        private int length() {
+            return flushed + sb.length();
         }
 
         private boolean showAttributes() {
@@ -324,7 +396,7 @@ public class RDeparse {
         }
 
         private void checkLength(int nchar) {
-            if (debugCutoff >= 0 && sb.length() + nchar > debugCutoff) {
+            if (debugCutoff >= 0 && length() + nchar > debugCutoff) {
                 throw new MaxLengthReachedException();
             }
         }
@@ -408,8 +480,9 @@ public class RDeparse {
 
         private void printline() {
             sb.append("\n");
+            flushIfFull();
             curLine++;
-            lastLineStart = sb.length();
+            lastLineStart = length();
             if (nlines > 0 && curLine >= nlines) {
                 throw new MaxLinesReachedException();
             }
@@ -438,7 +511,7 @@ public class RDeparse {
 
         private boolean listLinebreak(boolean lbreak) {
             boolean result = lbreak;
-            if ((sb.length() - lastLineStart) > listCutoff) {
+            if ((length() - lastLineStart) > listCutoff) {
                 if (!lbreak) {
                     result = true;
                     indent++;
@@ -1284,6 +1357,19 @@ public class RDeparse {
         return new DeparseVisitor(false, cutoff, backtick, opts, nlines, debugCutoff).appendValue(expr).getContents();
     }
 
+    /**
+     * Deparses {@code expr} like {@link #deparse(Object, int, boolean, int, int)}, but passes the
+     * text to {@code sink} in chunks while it is produced.
+     */
+    @TruffleBoundary
+    public static void deparse(Object expr, int cutoff, boolean backtick, int opts, int nlines, DeparseSink sink) throws IOException {
+        try {
+            new DeparseVisitor(cutoff, backtick, opts, nlines, sink).appendValue(expr).finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     /**
      * Ensure that {@code node} has a {@link SourceSection} by deparsing if necessary.
      */
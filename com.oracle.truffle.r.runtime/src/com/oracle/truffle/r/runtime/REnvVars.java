@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -225,6 +225,18 @@ public final class REnvVars implements RContext.ContextState {
         return new REnvVars(initialEnvVars);
     }
 
+    /**
+     * Replaces the variables of a pre-initialized context, which were read at image build time, and
+     * forgets the {@code R_HOME} found then, so that both are determined again by
+     * {@link #initialize(RContext)}.
+     */
+    public void patch(Map<String, String> initialEnvVars) {
+        envVars.clear();
+        envVars.putAll(initialEnvVars);
+        rHome.set(null);
+        rHomeTruffleFile.set(null);
+    }
+
     private String getEitherCase(String var) {
         String val = getFromEnv(envVars, var);
         return val != null ? val : getFromEnv(envVars, var.toUpperCase());
@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995-2015, The R Core Team
  * Copyright (c) 2003, The R Foundation
- * Copyright (c) 2015, 2022, Oracle and/or its affiliates
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -50,6 +50,7 @@ import com.oracle.truffle.r.runtime.data.RPairList;
 import com.oracle.truffle.r.runtime.data.RStringVector;
 import com.oracle.truffle.r.runtime.env.REnvironment;
 import com.oracle.truffle.r.runtime.env.REnvironment.PutException;
+import com.oracle.truffle.r.runtime.env.frame.CannotOptimizePromise;
 import com.oracle.truffle.r.runtime.interop.FastRInteropTryException;
 import com.oracle.truffle.r.runtime.nodes.RBaseNode;
 
@@ -140,6 +141,11 @@ public class RErrorHandling {
          * {@code true} if in {@link #printWarnings}.
          */
         private boolean inPrintWarning;
+        /**
+         * Greater than zero during a speculative evaluation, see
+         * {@link RErrorHandling#beginSpeculativeEvaluation()}.
+         */
+        private int speculative;
 
         /**
          * {@code .signalSimpleWarning} in "conditions.R".
@@ -211,6 +217,36 @@ public class RErrorHandling {
         return ctx.stateRErrorHandling;
     }
 
+    /**
+     * Starts an evaluation that is abandoned and repeated later if it raises a condition, e.g., an
+     * argument evaluated before the call. Until the matching {@link #endSpeculativeEvaluation()},
+     * an error, a warning or a signalled condition throws {@link CannotOptimizePromise} before any
+     * handler runs or any message is recorded.
+     */
+    public static void beginSpeculativeEvaluation() {
+        getRErrorHandlingState().speculative++;
+    }
+
+    public static void endSpeculativeEvaluation() {
+        getRErrorHandlingState().speculative--;
+    }
+
+    /**
+     * Throws {@link CannotOptimizePromise} during a speculative evaluation. Called when a closure
+     * is invoked while only eager promises may be evaluated: the closure may be an S3 or S4 method
+     * dispatched on a classed argument, whose effects could not be undone if the evaluation is
+     * abandoned later.
+     */
+    public static void checkSpeculativeEvaluation() {
+        checkSpeculativeEvaluation(getRErrorHandlingState());
+    }
+
+    private static void checkSpeculativeEvaluation(ContextStateImpl errorHandlingState) {
+        if (errorHandlingState.speculative > 0) {
+            throw new CannotOptimizePromise();
+        }
+    }
+
     public static HandlerStacks resetAndGetHandlerStacks() {
         HandlerStacks result = new HandlerStacks(getRErrorHandlingState().handlerStack, getRErrorHandlingState().restartStack);
         resetStacks();
@@ -409,6 +445,7 @@ public class RErrorHandling {
     @TruffleBoundary
     public static void signalCondition(RList cond, String msg, Object call) {
         ContextStateImpl errorHandlingState = getRErrorHandlingState();
+        checkSpeculativeEvaluation(errorHandlingState);
         Object oldStack = errorHandlingState.handlerStack;
         try {
             RPairList pList;
@@ -437,9 +474,10 @@ public class RErrorHandling {
      *
      */
     static void signalError(RBaseNode callObj, Message msg, Object... args) {
+        ContextStateImpl errorHandlingState = getRErrorHandlingState();
+        checkSpeculativeEvaluation(errorHandlingState);
         Object call = findCaller(callObj);
         String fMsg = formatMessage(msg, args);
-        ContextStateImpl errorHandlingState = getRErrorHandlingState();
         Object oldStack = errorHandlingState.handlerStack;
         try {
             RPairList pList;
@@ -764,6 +802,7 @@ public class RErrorHandling {
          * destroy any visibility setting made by the calling builtin prior to this call.
          */
         ContextStateImpl errorHandlingState = getRErrorHandlingState();
+        checkSpeculativeEvaluation(errorHandlingState);
         RFunction f = errorHandlingState.getDotSignalSimpleWarning();
         if (f != null) {
             RContext.getRRuntimeASTAccess().callback(f, context, new Object[]{warningMessage, call});
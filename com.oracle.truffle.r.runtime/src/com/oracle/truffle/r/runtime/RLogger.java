@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -73,6 +73,14 @@ public class RLogger {
      */
     public static final String LOGGER_RFFI = "com.oracle.truffle.r.rffi";
 
+    /**
+     * Count RFFI up-calls per R-API function and print the counts, sorted by frequency, when the
+     * initial context is finalized. Use this to find native code that calls e.g.
+     * {@code STRING_ELT} in a loop and would benefit from the region (bulk) access functions.
+     * Enable with mx r --log.R.com.oracle.truffle.r.rffi.upcallCounts.level=INFO.
+     */
+    public static final String LOGGER_RFFI_UPCALL_COUNTS = "com.oracle.truffle.r.rffi.upcallCounts";
+
     /**
      * Log ALTREP framework functionality:<br>
      * <ul>
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.runtime;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.frame.Frame;
+import com.oracle.truffle.api.frame.FrameDescriptor;
+import com.oracle.truffle.r.runtime.Collections.BoundedLRUCache;
+import com.oracle.truffle.r.runtime.Collections.CacheStatistics;
+import com.oracle.truffle.r.runtime.context.FastROptions;
+import com.oracle.truffle.r.runtime.context.RContext;
+import com.oracle.truffle.r.runtime.env.frame.FrameSlotChangeMonitor;
+import com.oracle.truffle.r.runtime.env.frame.FrameSlotChangeMonitor.FrameAndIndexLookupResult;
+import com.oracle.truffle.r.runtime.env.frame.FrameSlotChangeMonitor.LookupResult;
+
+/**
+ * Context-wide cache of S3 method lookups, used by call sites that have seen too many different
+ * generics or classes to cache the lookups themselves. An entry remembers the frame slot lookups
+ * ({@link FrameSlotChangeMonitor#lookup(Frame, Object)}) the method lookup depended on and it is
+ * only used while all of them are valid, i.e., until a binding of one of the looked up names is
+ * defined, changed or removed in one of the environments on the way.
+ */
+public final class S3DispatchCache {
+
+    /**
+     * The value cached for lookups that did not find any method.
+     */
+    public static final Object NOT_FOUND = new Object();
+
+    public static final class Key {
+        private final String generic;
+        private final String group;
+        private final String[] classes;
+        private final FrameDescriptor callerDescriptor;
+        private final Frame genericDefFrame;
+        private final boolean nextMethod;
+        private final boolean defaultMethod;
+        private final int hash;
+
+        /**
+         * The lookup results are valid for all frames sharing a frame descriptor, therefore the
+         * caller frame is represented by its descriptor. The frame defining the generic is only
+         * searched for the S3 methods table and is compared by identity.
+         */
+        public Key(String generic, String group, String[] classes, Frame callerFrame, Frame genericDefFrame, boolean nextMethod, boolean defaultMethod) {
+            this.generic = generic;
+            this.group = group;
+            this.classes = classes;
+            this.callerDescriptor = callerFrame.getFrameDescriptor();
+            this.genericDefFrame = genericDefFrame;
+            this.nextMethod = nextMethod;
+            this.defaultMethod = defaultMethod;
+            this.hash = Objects.hash(generic, group, Arrays.hashCode(classes), System.identityHashCode(callerDescriptor), System.identityHashCode(genericDefFrame), nextMethod, defaultMethod);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash && callerDescriptor == other.callerDescriptor && genericDefFrame == other.genericDefFrame && nextMethod == other.nextMethod &&
+                            defaultMethod == other.defaultMethod && generic.equals(other.generic) && Objects.equals(group, other.group) && Arrays.equals(classes, other.classes);
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final LookupResult[] lookups;
+
+        Entry(Object value, LookupResult[] lookups) {
+            this.value = value;
+            this.lookups = lookups;
+        }
+
+        boolean isValid() {
+            for (LookupResult lookup : lookups) {
+                if (!lookup.isValid()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final CacheStatistics statistics = new CacheStatistics();
+    private volatile BoundedLRUCache<Key, Entry> cache;
+    private volatile boolean initialized;
+
+    private BoundedLRUCache<Key, Entry> getCache() {
+        if (!initialized) {
+            initCache();
+        }
+        return cache;
+    }
+
+    private synchronized void initCache() {
+        if (!initialized) {
+            int size = RContext.getInstance().getNonNegativeIntOption(FastROptions.S3DispatchCacheSize);
+            cache = size == 0 ? null : new BoundedLRUCache<>(size, Long.MAX_VALUE, null, statistics);
+            initialized = true;
+        }
+    }
+
+    public boolean isEnabled() {
+        return getCache() != null;
+    }
+
+    /**
+     * Returns the value cached for the given key, {@link #NOT_FOUND} if no method was found, or
+     * {@code null} if there is no valid entry.
+     */
+    @TruffleBoundary
+    public Object get(Key key) {
+        BoundedLRUCache<Key, Entry> c = getCache();
+        if (c == null) {
+            return null;
+        }
+        Entry entry = c.get(key, Entry::isValid);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Caches the value of a lookup, {@code null} meaning that no method was found.
+     *
+     * @param lookups the results of {@link #lookup(Frame, String)} for all names the lookup
+     *            depended on
+     */
+    @TruffleBoundary
+    public void put(Key key, Object value, List<LookupResult> lookups) {
+        BoundedLRUCache<Key, Entry> c = getCache();
+        if (c != null) {
+            c.put(key, new Entry(value == null ? NOT_FOUND : value, lookups.toArray(new LookupResult[lookups.size()])));
+        }
+    }
+
+    /**
+     * Returns a lookup result whose validity implies that the value of {@code identifier} seen from
+     * {@code frame} did not change, or {@code null} if there is no such result and the lookup cannot
+     * be cached.
+     */
+    public static LookupResult lookup(Frame frame, String identifier) {
+        LookupResult result = FrameSlotChangeMonitor.lookup(frame, identifier);
+        // such results only guarantee the location of the binding, not its value
+        return result instanceof FrameAndIndexLookupResult ? null : result;
+    }
+
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    public int size() {
+        BoundedLRUCache<Key, Entry> c = getCache();
+        return c == null ? 0 : c.size();
+    }
+
+    public void clear() {
+        BoundedLRUCache<Key, Entry> c = getCache();
+        if (c != null) {
+            c.clear();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,6 +24,7 @@ package com.oracle.truffle.r.runtime.builtins;
 
 import java.util.function.Supplier;
 
+import com.oracle.truffle.api.Assumption;
 import com.oracle.truffle.r.runtime.RVisibility;
 import com.oracle.truffle.r.runtime.context.RContext;
 import com.oracle.truffle.r.runtime.nodes.RFastPathNode;
@@ -63,6 +64,11 @@ public interface FastPathFactory {
         public boolean forcedEagerPromise(int index) {
             return false;
         }
+
+        @Override
+        public Assumption strictArguments() {
+            return null;
+        }
     };
 
     FastPathFactory FORCED_EAGER_ARGS = new FastPathFactory() {
@@ -86,6 +92,11 @@ public interface FastPathFactory {
         public boolean forcedEagerPromise(int index) {
             return !RContext.getInstance().noEagerEvalOption();
         }
+
+        @Override
+        public Assumption strictArguments() {
+            return null;
+        }
     };
 
     static FastPathFactory fromRBuiltin(RBuiltin builtin, final Supplier<RFastPathNode> factory) {
@@ -115,6 +126,11 @@ public interface FastPathFactory {
             public boolean forcedEagerPromise(int index) {
                 return false;
             }
+
+            @Override
+            public Assumption strictArguments() {
+                return null;
+            }
         };
     }
 
@@ -139,6 +155,11 @@ public interface FastPathFactory {
             public boolean forcedEagerPromise(int index) {
                 return false;
             }
+
+            @Override
+            public Assumption strictArguments() {
+                return null;
+            }
         };
     }
 
@@ -148,6 +169,13 @@ public interface FastPathFactory {
 
     boolean forcedEagerPromise(int index);
 
+    /**
+     * Returns an assumption that holds as long as the callers of the function may evaluate all
+     * supplied arguments before the call and pass their values instead of promises, or
+     * {@code null} if they may not.
+     */
+    Assumption strictArguments();
+
     /**
      * Visibility of the output. This corresponds to {@link RBuiltin#visibility()}
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -81,6 +81,11 @@ public class ConnectionSupport {
          */
         private int hwm = 2;
 
+        /**
+         * The selector used by all socket connections of this context.
+         */
+        private final SocketSelector socketSelector = new SocketSelector();
+
         private ContextStateImpl() {
             for (int i = 0; i < MAX_CONNECTIONS; i++) {
                 allConnections.add(i, null);
@@ -176,6 +181,7 @@ public class ConnectionSupport {
                     ref.clear();
                 }
             }
+            socketSelector.close();
         }
 
         private static void closeAndDestroy(BaseRConnection con) {
@@ -197,6 +203,10 @@ public class ConnectionSupport {
         return RContext.getInstance().stateRConnection;
     }
 
+    static SocketSelector getSocketSelector() {
+        return getContextStateImpl().socketSelector;
+    }
+
     private static final class ModeException extends IOException {
         private static final long serialVersionUID = 1L;
 
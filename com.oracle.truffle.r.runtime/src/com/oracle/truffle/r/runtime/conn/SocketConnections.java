@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,12 +31,9 @@ import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
 import java.nio.channels.Channels;
 import java.nio.channels.SelectionKey;
-import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
-import java.util.HashMap;
-import java.util.Set;
 import java.util.zip.GZIPOutputStream;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -158,32 +155,29 @@ public class SocketConnections {
 
         }
 
+        /**
+         * Waits on the context's {@link SocketSelector} until some of the connections are ready for
+         * reading or writing. A connection with input already buffered is ready for reading without
+         * waiting. Connections that were made write-only by {@code gzcon} are never ready.
+         */
         @TruffleBoundary
         public static byte[] select(RSocketConnection[] socketConnections, boolean write, long timeout) throws IOException {
-            int op = write ? SelectionKey.OP_WRITE : SelectionKey.OP_READ;
-
-            HashMap<RSocketConnection, SelectionKey> table = new HashMap<>();
-            Selector selector = Selector.open();
-            for (RSocketConnection con : socketConnections) {
+            SocketChannel[] channels = new SocketChannel[socketConnections.length];
+            boolean[] ready = new boolean[socketConnections.length];
+            for (int i = 0; i < socketConnections.length; i++) {
+                RSocketConnection con = socketConnections[i];
                 con.checkOpen();
-
-                SocketChannel sc = (SocketChannel) con.theConnection.getChannel();
-                sc.configureBlocking(false);
-                table.put(con, sc.register(selector, op));
-            }
-            int select;
-            if (timeout >= 0) {
-                select = selector.select(timeout);
-            } else {
-                select = selector.select();
+                if (con.theConnection instanceof RSocketDelegateConection) {
+                    BufferedSocketChannel channel = ((RSocketDelegateConection) con.theConnection).getBufferedChannel();
+                    channels[i] = channel.channel;
+                    ready[i] = !write && channel.hasBufferedInput();
+                }
             }
+            ConnectionSupport.getSocketSelector().select(channels, ready, write, timeout);
 
             byte[] result = new byte[socketConnections.length];
-            if (select > 0) {
-                Set<SelectionKey> selectedKeys = selector.selectedKeys();
-                for (int i = 0; i < result.length; i++) {
-                    result[i] = RRuntime.asLogical(selectedKeys.contains(table.get(socketConnections[i])));
-                }
+            for (int i = 0; i < result.length; i++) {
+                result[i] = RRuntime.asLogical(ready[i]);
             }
             return result;
         }
@@ -191,11 +185,140 @@ public class SocketConnections {
 
     private interface RSocketDelegateConection {
         SocketChannel getSocketChannel();
+
+        BufferedSocketChannel getBufferedChannel();
+    }
+
+    /**
+     * Wraps a socket channel that is always in non-blocking mode and registered with the context's
+     * {@link SocketSelector}. Reads and writes go through direct buffers that are allocated once
+     * per connection. For blocking connections, a read waits for input up to the connection's
+     * timeout and returns {@code 0} if there is none; writes always wait until all data is written
+     * and fail if the timeout elapses first.
+     */
+    private static final class BufferedSocketChannel implements ByteChannel {
+        private static final int BUFFER_SIZE = 16 * 1024;
+
+        private final SocketChannel channel;
+        private final SocketSelector selector;
+        private final boolean blocking;
+        /**
+         * The timeout in milliseconds, negative for no timeout.
+         */
+        private final long timeout;
+        /**
+         * Kept in read mode: the bytes between position and limit were received but not consumed
+         * yet.
+         */
+        private final ByteBuffer readBuffer;
+        private ByteBuffer writeBuffer;
+
+        BufferedSocketChannel(SocketChannel channel, RSocketConnection base) throws IOException {
+            this.channel = channel;
+            this.selector = ConnectionSupport.getSocketSelector();
+            this.blocking = base.isBlocking();
+            this.timeout = base.timeout < 0 ? -1 : base.timeout * 1000L;
+            this.readBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            readBuffer.flip();
+            channel.configureBlocking(false);
+        }
+
+        boolean hasBufferedInput() {
+            return readBuffer.hasRemaining();
+        }
+
+        /**
+         * Reads more input into the buffer.
+         *
+         * @return the number of bytes read, or {@code -1} at the end of the stream.
+         */
+        private int fill() throws IOException {
+            readBuffer.compact();
+            try {
+                int n = channel.read(readBuffer);
+                while (n == 0 && blocking) {
+                    if (!selector.await(channel, SelectionKey.OP_READ, timeout)) {
+                        break;
+                    }
+                    n = channel.read(readBuffer);
+                }
+                return n;
+            } finally {
+                readBuffer.flip();
+            }
+        }
+
+        int readByte() throws IOException {
+            if (!readBuffer.hasRemaining() && fill() <= 0) {
+                return -1;
+            }
+            return readBuffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (!readBuffer.hasRemaining()) {
+                int n = fill();
+                if (n <= 0) {
+                    return n;
+                }
+            }
+            int n = Math.min(readBuffer.remaining(), dst.remaining());
+            int limit = readBuffer.limit();
+            readBuffer.limit(readBuffer.position() + n);
+            dst.put(readBuffer);
+            readBuffer.limit(limit);
+            return n;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            int total = src.remaining();
+            if (src.isDirect()) {
+                drain(src);
+                return total;
+            }
+            if (writeBuffer == null) {
+                writeBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            }
+            while (src.hasRemaining()) {
+                int n = Math.min(src.remaining(), writeBuffer.remaining());
+                int limit = src.limit();
+                src.limit(src.position() + n);
+                writeBuffer.put(src);
+                src.limit(limit);
+                writeBuffer.flip();
+                try {
+                    drain(writeBuffer);
+                } finally {
+                    writeBuffer.clear();
+                }
+            }
+            return total;
+        }
+
+        private void drain(ByteBuffer buf) throws IOException {
+            while (buf.hasRemaining()) {
+                if (channel.write(buf) == 0 && !selector.await(channel, SelectionKey.OP_WRITE, timeout)) {
+                    throw new IOException("timeout writing to socket");
+                }
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
     }
 
     private abstract static class RSocketReadWriteConnection extends DelegateReadWriteRConnection implements RSocketDelegateConection {
-        private Socket socket;
         private SocketChannel channel;
+        private BufferedSocketChannel bufferedChannel;
         protected final RSocketConnection thisBase;
 
         protected RSocketReadWriteConnection(RSocketConnection base) {
@@ -205,23 +328,12 @@ public class SocketConnections {
 
         protected void openStreams(SocketChannel socketArg) throws IOException {
             channel = socketArg;
-            socket = socketArg.socket();
-            if (thisBase.isBlocking()) {
-                channel.configureBlocking(true);
-                // Java (int) timeouts do not meet the POSIX standard of 31 days
-                long millisTimeout = ((long) thisBase.timeout) * 1000;
-                if (millisTimeout > Integer.MAX_VALUE) {
-                    millisTimeout = Integer.MAX_VALUE;
-                }
-                socket.setSoTimeout((int) millisTimeout);
-            } else {
-                channel.configureBlocking(false);
-            }
+            bufferedChannel = new BufferedSocketChannel(socketArg, thisBase);
         }
 
         @Override
         public ByteChannel getChannel() {
-            return channel;
+            return bufferedChannel;
         }
 
         @Override
@@ -229,6 +341,16 @@ public class SocketConnections {
             return channel;
         }
 
+        @Override
+        public BufferedSocketChannel getBufferedChannel() {
+            return bufferedChannel;
+        }
+
+        @Override
+        protected int readInternal() throws IOException {
+            return bufferedChannel.readByte();
+        }
+
         @Override
         public boolean isSeekable() {
             return false;
@@ -246,7 +368,8 @@ public class SocketConnections {
         protected void openStreams(SocketChannel socketArg) throws IOException {
             socket = socketArg.socket();
             if (!socketArg.isBlocking()) {
-                // have to block with GZIPOutputStream
+                // have to block with GZIPOutputStream, which requires leaving the selector first
+                ConnectionSupport.getSocketSelector().deregister(socketArg);
                 socketArg.configureBlocking(true);
             }
             GZIPOutputStream gzipOS = new GZIPOutputStream(socket.getOutputStream());
@@ -290,15 +413,18 @@ public class SocketConnections {
     private abstract static class RSocketReadWriteNonBlockConnection extends DelegateReadWriteRConnection implements RSocketDelegateConection {
         private Socket socket;
         private SocketChannel socketChannel;
+        private BufferedSocketChannel bufferedChannel;
+        private final RSocketConnection thisBase;
 
         protected RSocketReadWriteNonBlockConnection(RSocketConnection base) {
             super(base, 0);
+            this.thisBase = base;
         }
 
         protected void openStreams(Socket socketArg) throws IOException {
             this.socket = socketArg;
             this.socketChannel = socket.getChannel();
-            socketChannel.configureBlocking(false);
+            this.bufferedChannel = new BufferedSocketChannel(socketChannel, thisBase);
         }
 
         @Override
@@ -309,7 +435,7 @@ public class SocketConnections {
 
         @Override
         public ByteChannel getChannel() {
-            return socketChannel;
+            return bufferedChannel;
         }
 
         @Override
@@ -317,13 +443,23 @@ public class SocketConnections {
             return socketChannel;
         }
 
+        @Override
+        public BufferedSocketChannel getBufferedChannel() {
+            return bufferedChannel;
+        }
+
+        @Override
+        protected int readInternal() throws IOException {
+            return bufferedChannel.readByte();
+        }
+
         @Override
         public boolean isSeekable() {
             return false;
         }
     }
 
-    private static class RServerSocketConnection extends RSocketReadWriteConnection implements RSocketDelegateConection {
+    private static class RServerSocketConnection extends RSocketReadWriteConnection {
         private final SocketChannel connectionSocket;
 
         RServerSocketConnection(RSocketConnection base) throws IOException {
@@ -347,17 +483,6 @@ public class SocketConnections {
             super.close();
             connectionSocket.close();
         }
-
-        @Override
-        public ByteChannel getChannel() {
-            return connectionSocket;
-        }
-
-        @Override
-        public SocketChannel getSocketChannel() {
-            return connectionSocket;
-        }
-
     }
 
     private static class RClientSocketConnection extends RSocketReadWriteConnection {
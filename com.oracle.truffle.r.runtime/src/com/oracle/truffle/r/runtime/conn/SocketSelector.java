@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.runtime.conn;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * The selector shared by all socket connections of a context. A socket channel is registered once,
+ * with no interest, when it is first waited for and stays registered until it is closed; a wait
+ * only sets the interest of the channels it waits for and clears it again afterwards. This
+ * replaces opening a new {@link Selector} for every {@code socketSelect} and allows the socket
+ * channels to stay in non-blocking mode, with blocking reads and writes emulated by waiting for
+ * the channel.
+ */
+public final class SocketSelector {
+
+    private Selector selector;
+
+    public SocketSelector() {
+        // the selector is opened when it is first needed
+    }
+
+    private Selector getSelector() throws IOException {
+        if (selector == null) {
+            selector = Selector.open();
+        }
+        return selector;
+    }
+
+    private SelectionKey register(SocketChannel channel) throws IOException {
+        Selector sel = getSelector();
+        SelectionKey key = channel.keyFor(sel);
+        if (key != null && !key.isValid()) {
+            // the cancelled key is only removed by the next selection
+            sel.selectNow();
+            sel.selectedKeys().clear();
+            key = null;
+        }
+        return key == null ? channel.register(sel, 0) : key;
+    }
+
+    /**
+     * Removes {@code channel} from the selector, which is necessary before switching it to blocking
+     * mode.
+     */
+    @TruffleBoundary
+    synchronized void deregister(SocketChannel channel) throws IOException {
+        if (selector != null) {
+            SelectionKey key = channel.keyFor(selector);
+            if (key != null) {
+                key.cancel();
+                selector.selectNow();
+                selector.selectedKeys().clear();
+            }
+        }
+    }
+
+    /**
+     * Waits until {@code channel} is ready for any of the operations {@code ops}.
+     *
+     * @param timeoutMillis the maximal time to wait, a negative value waits without a limit.
+     * @return {@code false} if the timeout elapsed.
+     */
+    @TruffleBoundary
+    synchronized boolean await(SocketChannel channel, int ops, long timeoutMillis) throws IOException {
+        SelectionKey key = register(channel);
+        Set<SelectionKey> selected = selector.selectedKeys();
+        long deadline = System.nanoTime() + timeoutMillis * 1000000L;
+        key.interestOps(ops);
+        try {
+            while (true) {
+                if (timeoutMillis < 0) {
+                    selector.select();
+                } else {
+                    long remaining = (deadline - System.nanoTime()) / 1000000L;
+                    if (remaining <= 0) {
+                        selector.selectNow();
+                    } else {
+                        selector.select(remaining);
+                    }
+                }
+                if (selected.contains(key) && (key.readyOps() & ops) != 0) {
+                    return true;
+                }
+                selected.clear();
+                if (timeoutMillis >= 0 && System.nanoTime() - deadline >= 0) {
+                    return false;
+                }
+            }
+        } finally {
+            if (key.isValid()) {
+                key.interestOps(0);
+            }
+            selected.clear();
+        }
+    }
+
+    /**
+     * Implements {@code socketSelect}: marks in {@code ready} which of the {@code channels} are
+     * ready for reading ({@code write == false}) or writing. Elements already set in {@code ready},
+     * e.g., connections with buffered input, or {@code null} channels are not waited for, and if
+     * any element is already set, the selection does not block. If no channel is left to wait for,
+     * the selector is not used at all and the call only waits for a positive timeout if no element
+     * is set.
+     *
+     * @param timeoutMillis the maximal time to wait, a negative value waits without a limit.
+     */
+    @TruffleBoundary
+    public synchronized void select(SocketChannel[] channels, boolean[] ready, boolean write, long timeoutMillis) throws IOException {
+        int op = write ? SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+        SelectionKey[] keys = new SelectionKey[channels.length];
+        boolean anyReady = false;
+        boolean anyRegistered = false;
+        for (int i = 0; i < channels.length; i++) {
+            anyReady |= ready[i];
+            if (!ready[i] && channels[i] != null) {
+                keys[i] = register(channels[i]);
+                keys[i].interestOps(op);
+                anyRegistered = true;
+            }
+        }
+        if (!anyRegistered) {
+            // nothing can become ready, so waiting without a limit would never end
+            if (!anyReady && timeoutMillis > 0) {
+                sleep(timeoutMillis);
+            }
+            return;
+        }
+        Set<SelectionKey> selected = selector.selectedKeys();
+        try {
+            if (anyReady || timeoutMillis == 0) {
+                selector.selectNow();
+            } else if (timeoutMillis > 0) {
+                selector.select(timeoutMillis);
+            } else {
+                selector.select();
+            }
+            for (int i = 0; i < channels.length; i++) {
+                if (keys[i] != null && selected.contains(keys[i]) && (keys[i].readyOps() & op) != 0) {
+                    ready[i] = true;
+                }
+            }
+        } finally {
+            for (SelectionKey key : keys) {
+                if (key != null && key.isValid()) {
+                    key.interestOps(0);
+                }
+            }
+            selected.clear();
+        }
+    }
+
+    private void sleep(long timeoutMillis) {
+        long deadline = System.nanoTime() + timeoutMillis * 1000000L;
+        long remaining = timeoutMillis;
+        try {
+            while (remaining > 0) {
+                // unlike Thread.sleep, this does not hold the lock while waiting
+                wait(remaining);
+                remaining = (deadline - System.nanoTime()) / 1000000L;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TruffleBoundary
+    public synchronized void close() {
+        if (selector != null) {
+            try {
+                selector.close();
+            } catch (IOException ex) {
+                // ignore
+            }
+            selector = null;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.runtime.context;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.r.runtime.RChannel;
+import com.oracle.truffle.r.runtime.RError;
+
+/**
+ * A bounded buffer of values emitted by a child context spawned with
+ * {@code .fastr.context.spawn(exprs, stream = n)} and consumed by the parent one value at a time.
+ *
+ * The child adds values with {@code .fastr.context.emit(value)}, which blocks while the buffer
+ * holds {@code capacity} values not yet taken by the parent. The parent takes them with
+ * {@code .fastr.context.next(handle)}. When the evaluation in the child ends, {@link EvalThread}
+ * finishes the stream, either normally or with the error that terminated the evaluation, and the
+ * parent sees the end (or gets the error) once it has consumed all buffered values. Joining the
+ * child cancels its stream: buffered values are dropped and any further values are discarded
+ * without blocking, so that a child cannot wait forever for a parent that no longer reads. Disposing
+ * the parent cancels and removes the streams it neither drained nor joined.
+ *
+ * The values cross context boundaries in the same form as with {@link RChannel}.
+ */
+public final class ContextResultStream {
+
+    private static final Map<Integer, ContextResultStream> streams = new ConcurrentHashMap<>();
+
+    private final int owner;
+    private final int capacity;
+    private final ArrayDeque<Object> buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition notEmpty = lock.newCondition();
+
+    private boolean finished;
+    private boolean cancelled;
+    private String error;
+
+    private ContextResultStream(int owner, int capacity) {
+        this.owner = owner;
+        this.capacity = capacity;
+        this.buffer = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Creates the stream of the child context with the given id, read by the context with id
+     * {@code owner}. Must be called before the child starts evaluating.
+     */
+    public static void create(int contextId, int owner, int capacity) {
+        assert capacity > 0;
+        streams.put(contextId, new ContextResultStream(owner, capacity));
+    }
+
+    private static ContextResultStream get(int contextId) {
+        ContextResultStream stream = streams.get(contextId);
+        if (stream == null) {
+            throw RError.error(RError.SHOW_CALLER2, RError.Message.GENERIC, "context " + contextId + " has no result stream");
+        }
+        return stream;
+    }
+
+    /**
+     * Adds {@code value} to the stream of the current (child) context, waiting while the buffer is
+     * full.
+     */
+    @TruffleBoundary
+    public static void emit(Object value) {
+        ContextResultStream stream = get(RContext.getInstance().getId());
+        Object msg = RChannel.toMessage(value);
+        stream.lock.lock();
+        try {
+            while (stream.buffer.size() >= stream.capacity && !stream.cancelled) {
+                stream.notFull.await();
+            }
+            if (!stream.cancelled) {
+                stream.buffer.add(msg);
+                stream.notEmpty.signal();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw RError.error(RError.SHOW_CALLER2, RError.Message.GENERIC, "interrupted while emitting a result");
+        } finally {
+            stream.lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next value emitted by the child context with the given id, waiting until there is
+     * one. Returns {@code null} once the child has finished and all its values were taken.
+     */
+    @TruffleBoundary
+    public static Object next(int contextId) {
+        ContextResultStream stream = get(contextId);
+        Object msg;
+        stream.lock.lock();
+        try {
+            while (stream.buffer.isEmpty() && !stream.finished) {
+                stream.notEmpty.await();
+            }
+            msg = stream.buffer.poll();
+            if (msg != null) {
+                stream.notFull.signal();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw RError.error(RError.SHOW_CALLER2, RError.Message.GENERIC, "interrupted while waiting for a result");
+        } finally {
+            stream.lock.unlock();
+        }
+        if (msg != null) {
+            return RChannel.fromMessage(msg);
+        }
+        streams.remove(contextId);
+        if (stream.error != null) {
+            throw RError.error(RError.SHOW_CALLER2, RError.Message.GENERIC, "evaluation in context " + contextId + " failed: " + stream.error);
+        }
+        return null;
+    }
+
+    /**
+     * Marks the stream of the child context with the given id, if any, as finished. {@code error}
+     * describes why the evaluation failed or is {@code null} if it completed normally.
+     */
+    static void finish(int contextId, String error) {
+        ContextResultStream stream = streams.get(contextId);
+        if (stream != null) {
+            stream.lock.lock();
+            try {
+                stream.finished = true;
+                stream.error = error;
+                stream.notEmpty.signalAll();
+                if (stream.cancelled) {
+                    streams.remove(contextId);
+                }
+            } finally {
+                stream.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Cancels the stream of the child context with the given id, if any, releasing a producer
+     * blocked on the full buffer. The stream is removed once the child has finished.
+     */
+    public static void cancel(int contextId) {
+        ContextResultStream stream = streams.get(contextId);
+        if (stream != null) {
+            stream.lock.lock();
+            try {
+                stream.cancel();
+                if (stream.finished) {
+                    streams.remove(contextId);
+                }
+            } finally {
+                stream.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Cancels and removes the streams read by the context with id {@code owner}, which is being
+     * disposed.
+     */
+    static void dispose(int owner) {
+        for (Map.Entry<Integer, ContextResultStream> entry : streams.entrySet()) {
+            ContextResultStream stream = entry.getValue();
+            if (stream.owner == owner) {
+                stream.lock.lock();
+                try {
+                    stream.cancel();
+                } finally {
+                    stream.lock.unlock();
+                }
+                streams.remove(entry.getKey(), stream);
+            }
+        }
+    }
+
+    private void cancel() {
+        cancelled = true;
+        buffer.clear();
+        notFull.signalAll();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -169,6 +169,13 @@ public interface Engine {
         }
     }
 
+    /**
+     * Performs the part of {@link #activate} that does not depend on the process the context will
+     * run in, e.g., registering the builtins and parsing the base package. Invoked while the
+     * context is pre-initialized during a native image build.
+     */
+    void preInitialize();
+
     /**
      * Make the engine ready for evaluations.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -97,6 +97,7 @@ public final class EvalThread extends Thread {
     public static RList run(TruffleContext truffleContext, ChildContextInfo info, Source source) {
         RList result = null;
         Object parent = null;
+        String streamError = null;
         try {
             parent = truffleContext.enter(null);
             // this is the engine for the new child context
@@ -107,19 +108,23 @@ public final class EvalThread extends Thread {
         } catch (ParseException e) {
             e.report(info.getStdout());
             result = createErrorResult(e.getMessage());
+            streamError = e.getMessage();
         } catch (ExitException e) {
             // termination, treat this as "success"
             result = RDataFactory.createList(new Object[]{e.getStatus()});
         } catch (RError e) {
             // nothing to do
             result = RDataFactory.createList(new Object[]{RNull.instance});
+            streamError = e.getMessage();
         } catch (Throwable t) {
             // some internal error
             RInternalError.reportErrorAndConsoleLog(t, info.getId());
             result = createErrorResult(t.getClass().getSimpleName());
+            streamError = t.getClass().getSimpleName();
         } finally {
             truffleContext.leave(null, parent);
             truffleContext.close();
+            ContextResultStream.finish(info.getId(), streamError);
         }
         return result;
     }
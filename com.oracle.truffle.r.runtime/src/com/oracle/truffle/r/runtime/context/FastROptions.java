@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -76,6 +76,12 @@ public class FastROptions {
 
     @Option(category = OptionCategory.EXPERT, stability = OptionStability.EXPERIMENTAL, help = "Enable or disable cache of AST instances specialized for given R environment.") //
     public static final OptionKey<Boolean> EnableClosureCallTargetsCache = new OptionKey<>(true);
+    @Option(category = OptionCategory.EXPERT, stability = OptionStability.EXPERIMENTAL, usageSyntax = "[1, inf)", help = "Maximal number of closures held by the closure cache of a single call site, least recently used closures are evicted.") //
+    public static final OptionKey<Integer> ClosureCacheSize = new OptionKey<>(256);
+    @Option(category = OptionCategory.EXPERT, stability = OptionStability.EXPERIMENTAL, usageSyntax = "[1, inf)", help = "Maximal number of AST nodes retained by the closure cache of a single call site, least recently used closures are evicted.") //
+    public static final OptionKey<Integer> ClosureCacheWeight = new OptionKey<>(100000);
+    @Option(category = OptionCategory.EXPERT, stability = OptionStability.EXPERIMENTAL, usageSyntax = "[0, inf)", help = "Maximal number of S3 method lookups held by the context-wide cache used by megamorphic dispatch call sites, 0 disables the cache.") //
+    public static final OptionKey<Integer> S3DispatchCacheSize = new OptionKey<>(4096);
 
     @Option(category = OptionCategory.INTERNAL, usageSyntax = "<name1>,<name2>,...", help = "Turn on debugging output for 'name1', 'name2', etc.")//
     public static final OptionKey<String> Debug = new OptionKey<>("");
@@ -93,6 +99,8 @@ public class FastROptions {
     public static final OptionKey<Boolean> RefCountIncrementOnly = new OptionKey<>(false);
     @Option(category = OptionCategory.INTERNAL, help = "Whether the fast-path special call nodes should be created for simple enough arguments.") //
     public static final OptionKey<Boolean> UseSpecials = new OptionKey<>(true);
+    @Option(category = OptionCategory.INTERNAL, help = "Whether nested arithmetic on vectors is computed in one pass without intermediate vectors.") //
+    public static final OptionKey<Boolean> FuseArithmetic = new OptionKey<>(true);
     @Option(category = OptionCategory.EXPERT, help = "Generate source sections for unserialized code.") //
     public static final OptionKey<Boolean> ForceSources = new OptionKey<>(false);
     @Option(category = OptionCategory.INTERNAL, help = "Whether all child contexts are to be shared contexts.") //
@@ -112,6 +120,8 @@ public class FastROptions {
     public static final OptionKey<Boolean> EagerEvalDefault = new OptionKey<>(false);
     @Option(category = OptionCategory.INTERNAL, help = "Enables optimistic eager evaluation of trivial expressions.") //
     public static final OptionKey<Boolean> EagerEvalExpressions = new OptionKey<>(false);
+    @Option(category = OptionCategory.INTERNAL, help = "Evaluates supplied arguments of closures that force all their arguments in order and have no side effects in the caller and passes them as values instead of promises.") //
+    public static final OptionKey<Boolean> EagerEvalStrict = new OptionKey<>(true);
     @Option(category = OptionCategory.INTERNAL, usageSyntax = "[0,inf)", help = "Enables inline caches for promises evaluation.") //
     public static final OptionKey<Integer> PromiseCacheSize = new OptionKey<>(3);
     @Option(category = OptionCategory.INTERNAL, usageSyntax = "[0, inf)", help = "Factor by which are multiplied all DSL 'limit' values where applicable.") //
@@ -130,6 +140,8 @@ public class FastROptions {
     public static final OptionKey<Boolean> RestrictForceSplitting = new OptionKey<>(true);
     @Option(category = OptionCategory.INTERNAL, help = "Turn on explicit GC via the gc built-in. Otherwise calls to gc are ignored.") //
     public static final OptionKey<Boolean> EnableExplicitGC = new OptionKey<>(false);
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "[0, inf)", help = "Minimal vector length for which density, distribution and quantile functions are evaluated in parallel. Zero disables the parallel evaluation.") //
+    public static final OptionKey<Integer> NMathParallelThreshold = new OptionKey<>(0);
 
     // Discontinued since rc12
     // only a warning is printed to use the default logger mechanism
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -98,6 +98,7 @@ import com.oracle.truffle.r.runtime.RRuntime;
 import com.oracle.truffle.r.runtime.RRuntimeASTAccess;
 import com.oracle.truffle.r.runtime.RSerialize;
 import com.oracle.truffle.r.runtime.ReturnException;
+import com.oracle.truffle.r.runtime.S3DispatchCache;
 import com.oracle.truffle.r.runtime.TempPathName;
 import com.oracle.truffle.r.runtime.Utils;
 import com.oracle.truffle.r.runtime.builtins.RBuiltinDescriptor;
@@ -259,8 +260,8 @@ public final class RContext {
         }
     }
 
-    private final RStartParams startParameters;
-    private final RCmdOptions cmdOptions;
+    private RStartParams startParameters;
+    private RCmdOptions cmdOptions;
     private final RContext.ContextKind contextKind;
     private final Map<Class<?>, RootCallTarget> cachedCallTargets = new HashMap<>();
 
@@ -287,9 +288,9 @@ public final class RContext {
 
     private ExecutorService executor;
 
-    private final InputStream stdin;
-    private final OutputStreamWriter stdout;
-    private final OutputStreamWriter stderr;
+    private InputStream stdin;
+    private OutputStreamWriter stdout;
+    private OutputStreamWriter stderr;
 
     private final Engine engine;
     private final TruffleRLanguage language;
@@ -350,8 +351,13 @@ public final class RContext {
     // initialization is fully complete - singleContext flag is not good enough for that
     private static final Assumption isSingleContextAssumption = Truffle.getRuntime().createAssumption("is single RContext");
 
-    private final Env env;
+    private Env env;
     private final boolean initial;
+    /**
+     * Set if this context was pre-initialized during a native image build and not patched yet, see
+     * {@link #patchContext(Env, Instrumenter)}.
+     */
+    private boolean preInitialized;
     /**
      * State that is used to support interposing on loadNamespace() for overrides.
      */
@@ -401,11 +407,12 @@ public final class RContext {
     public final List<String> libraryPaths = new ArrayList<>(1);
     public final Map<Integer, Thread> threads = new ConcurrentHashMap<>();
     public final LanguageClosureCache languageClosureCache = new LanguageClosureCache();
+    public final S3DispatchCache s3DispatchCache = new S3DispatchCache();
     public final Map<String, Source> sourceCache = new ConcurrentHashMap<>();
 
-    private final AllocationReporter allocationReporter;
+    private AllocationReporter allocationReporter;
 
-    private final FastROptions fastrOptions;
+    private FastROptions fastrOptions;
 
     private ContextState[] contextStates() {
         return new ContextState[]{stateREnvVars, stateRLocale, stateRProfile, stateTempPath, stateROptions, stateREnvironment, stateRErrorHandling, stateRConnection, stateStdConnections, stateRNG,
@@ -431,12 +438,7 @@ public final class RContext {
     private RContext(TruffleRLanguage language, Env env, Instrumenter instrumenter, boolean isInitial) {
         this.language = language;
         embedded = FastROptions.IsNativeEmbeddedMode.getValue(env.getOptions());
-        String[] args;
-        if (env.getApplicationArguments().length == 0) {
-            args = new String[]{"R", "--vanilla", "--no-echo", "--silent", "--no-restore"};
-        } else {
-            args = env.getApplicationArguments();
-        }
+        String[] args = getArguments(env);
 
         Object initialInfo = env.getConfig().get(ChildContextInfo.CONFIG_KEY);
         if (initialInfo == null) {
@@ -471,7 +473,9 @@ public final class RContext {
             initialEnvVars = info.getEnv() == null ? Collections.emptyMap() : info.getEnv();
         }
 
-        outputWelcomeMessage(startParameters);
+        if (!env.isPreInitialization()) {
+            outputWelcomeMessage(startParameters);
+        }
 
         this.stdin = env.in();
         this.stdout = new OutputStreamWriter(env.out());
@@ -511,6 +515,14 @@ public final class RContext {
         this.fastrOptions = new FastROptions(this);
     }
 
+    private static String[] getArguments(Env env) {
+        if (env.getApplicationArguments().length == 0) {
+            return new String[]{"R", "--vanilla", "--no-echo", "--silent", "--no-restore"};
+        } else {
+            return env.getApplicationArguments();
+        }
+    }
+
     static void outputWelcomeMessage(RStartParams rsp) {
         /*
          * Outputting the welcome message here has the virtue that the VM initialization delay
@@ -528,6 +540,10 @@ public final class RContext {
      */
     @SuppressFBWarnings(value = "ST_WRITE_TO_STATIC_FROM_INSTANCE_METHOD", justification = "intentional")
     public RContext initializeContext() {
+        if (env.isPreInitialization()) {
+            preInitialize();
+            return this;
+        }
         fastrOptions.initialize();
 
         // this must happen before engine activation in the code below
@@ -608,6 +624,54 @@ public final class RContext {
         return this;
     }
 
+    /**
+     * Pre-initializes the initial context while a native image is built: the builtins are
+     * registered and the base package is parsed. Anything that depends on the process, e.g., the
+     * environment variables, the working directory, the temporary directory, the options, native
+     * code or the profiles, is left to {@link #patchContext(Env, Instrumenter)}, which then runs the
+     * regular initialization. Other contexts are not pre-initialized and are rejected when patched.
+     */
+    private void preInitialize() {
+        if (!initial || parentContext != null || embedded || contextKind != ContextKind.SHARE_NOTHING) {
+            return;
+        }
+        fastrOptions.initialize();
+        engine.preInitialize();
+        preInitialized = true;
+    }
+
+    /**
+     * Binds a pre-initialized context to the environment it runs in and completes its
+     * initialization.
+     *
+     * @return {@code false} if the context was not pre-initialized or cannot be used with
+     *         {@code newEnv}, in which case a new context is created instead.
+     */
+    public boolean patchContext(Env newEnv, Instrumenter newInstrumenter) {
+        if (!preInitialized || FastROptions.IsNativeEmbeddedMode.getValue(newEnv.getOptions()) || newEnv.getConfig().get(ChildContextInfo.CONFIG_KEY) != null) {
+            return false;
+        }
+        preInitialized = false;
+        this.env = newEnv;
+        this.cmdOptions = RCmdOptions.parseArguments(getArguments(newEnv), true);
+        this.startParameters = new RStartParams(cmdOptions, false);
+        this.stdin = newEnv.in();
+        this.stdout = new OutputStreamWriter(newEnv.out());
+        this.stderr = new OutputStreamWriter(newEnv.err());
+        stateREnvVars.patch(System.getenv());
+        stateInstrumentation.patchInstrumenter(newInstrumenter);
+
+        allocationReporter.removeActiveListener(ALLOCATION_ACTIVATION_LISTENER);
+        this.allocationReporter = newEnv.lookup(AllocationReporter.class);
+        allocationReporter.addActiveListener(ALLOCATION_ACTIVATION_LISTENER);
+        RDataFactory.setAllocationTracingEnabled(allocationReporter.isActive());
+
+        this.fastrOptions = new FastROptions(this);
+        outputWelcomeMessage(startParameters);
+        initializeContext();
+        return true;
+    }
+
     /**
      * Factored out for embedded setup, where this initialization may be customized after the
      * context is initialized but before VM really starts execution.
@@ -672,6 +736,7 @@ public final class RContext {
                 parentContext.sharedChild = null;
             }
             state = EnumSet.of(State.DISPOSED);
+            ContextResultStream.dispose(id);
 
             assert !initial || EvalThread.threadCnt.get() == 0 : "Did not close all children contexts";
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -67,6 +67,11 @@ import com.oracle.truffle.r.runtime.interop.Foreign2R;
         implementationName = "FastR",
         characterMimeTypes = {RRuntime.R_APP_MIME, RRuntime.R_TEXT_MIME},
         defaultMimeType = RRuntime.R_APP_MIME,
+        // Every language instance, with its ASTs and call targets, belongs to one context. SHARED
+        // would require moving the static state of a single context (e.g. RContext.embedded and
+        // childInfo, RBuiltinPackages.basePackage) into RContext, and nodes could no longer cache
+        // functions, environments or frame slot assumptions of the context that specialized them
+        // without guarding on that context.
         contextPolicy = ContextPolicy.EXCLUSIVE,
         interactive = true,
         fileTypeDetectors = RFileTypeDetector.class,
@@ -136,6 +141,12 @@ public final class TruffleRLanguage extends TruffleLanguage<RContext> {
         return activeContexts > 0;
     }
 
+    /**
+     * Set once the initial context is initialized. A context pre-initialized in a native image does
+     * not set it, because the flag would be stored in the image heap: if the pre-initialized
+     * context is refused by {@link #patchContext(RContext, Env)}, the context created instead must
+     * still be the initial one.
+     */
     private static boolean systemInitialized;
 
     @Override
@@ -143,11 +154,20 @@ public final class TruffleRLanguage extends TruffleLanguage<RContext> {
         activeContexts++;
         if (!systemInitialized) {
             initialize();
-            systemInitialized = true;
+            systemInitialized = !context.getEnv().isPreInitialization();
         }
         context.initializeContext();
     }
 
+    @Override
+    protected boolean patchContext(RContext context, Env newEnv) {
+        if (context.patchContext(newEnv, newEnv.lookup(Instrumenter.class))) {
+            systemInitialized = true;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     protected RContext createContext(Env env) {
         boolean initialContext = !systemInitialized;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,6 +32,7 @@ import com.oracle.truffle.api.TruffleLogger;
 import com.oracle.truffle.api.frame.FrameDescriptor;
 import com.oracle.truffle.api.frame.MaterializedFrame;
 import com.oracle.truffle.r.runtime.ArgumentsSignature;
+import com.oracle.truffle.r.runtime.Collections.CacheStatistics;
 import com.oracle.truffle.r.runtime.RCaller;
 import com.oracle.truffle.r.runtime.RLogger;
 import com.oracle.truffle.r.runtime.Utils;
@@ -241,8 +242,13 @@ public final class Closure implements Cloneable {
         }
     }
 
+    /**
+     * Per-closure LRU cache of call targets keyed by the frame descriptor they were specialized
+     * for. The hits, misses and evictions of all instances are counted in {@link #STATISTICS}.
+     */
     public abstract static class CallTargetCache {
         private static final int CACHE_SIZE = 2;
+        public static final CacheStatistics STATISTICS = new CacheStatistics();
 
         @SuppressWarnings({"unchecked", "rawtypes"}) private WeakReference<FrameDescriptor>[] cacheKeys = new WeakReference[CACHE_SIZE];
         private RootCallTarget[] cacheValues = new RootCallTarget[CACHE_SIZE];
@@ -281,6 +287,7 @@ public final class Closure implements Cloneable {
             }
             // put the value into the cache if not found
             if (resultIdx == -1) {
+                STATISTICS.miss();
                 if (emptyIdx != -1) {
                     resultIdx = emptyIdx;
                 } else {
@@ -289,10 +296,13 @@ public final class Closure implements Cloneable {
                     int finalLastUsedIdx = lastUsedIdx;
                     int finalLastUsedValue = lastUsedValue;
                     log(() -> String.format("Closure Cache for '%s' evicted item %d with last used value %d", closureName, finalLastUsedIdx, finalLastUsedValue));
+                    STATISTICS.evicted();
                     resultIdx = lastUsedIdx;
                 }
                 cacheKeys[resultIdx] = new WeakReference<>(desc);
                 cacheValues[resultIdx] = generateCallTarget(processExpr(canReuseExpr, expr), closureName);
+            } else {
+                STATISTICS.hit();
             }
             // update last used
             for (int i = 0; i < CACHE_SIZE; i++) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2018, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,9 +22,16 @@
  */
 package com.oracle.truffle.r.runtime.data;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.NodeUtil;
+import com.oracle.truffle.r.runtime.Collections.BoundedLRUCache;
+import com.oracle.truffle.r.runtime.Collections.CacheStatistics;
+import com.oracle.truffle.r.runtime.context.FastROptions;
 import com.oracle.truffle.r.runtime.context.RContext;
 import com.oracle.truffle.r.runtime.nodes.RBaseNode;
 import com.oracle.truffle.r.runtime.nodes.RNode;
@@ -33,15 +40,24 @@ import com.oracle.truffle.r.runtime.nodes.RSyntaxNode;
 /**
  * Class that enables the caching of {@link Closure}s for certain expressions ({@link RNode}s).
  * Instance of this class is supposed to be a field in AST node, which is using the cache. The field
- * must be initialized in the constructor, but the underlying data structure (ConcurrentHashMap) is
- * initialized lazily. All methods are thread safe.
+ * must be initialized in the constructor, but the underlying data structure ({@link BoundedLRUCache})
+ * is initialized lazily. All methods are thread safe.
  * 
  * Closures need to be cached so that we cache the corresponding call-targets and if the expression
  * is evaluated again, we invoke it through the same call-target, which may be compiled by Truffle.
+ *
+ * Nodes that evaluate generated code, e.g., {@code do.call}, may see an unbounded number of keys, so
+ * each cache is limited by the number of entries ({@link FastROptions#ClosureCacheSize}) and by the
+ * number of AST nodes retained by its closures ({@link FastROptions#ClosureCacheWeight}). Hits,
+ * misses and evictions of all caches are counted together and the occupancy of the live caches can
+ * be queried with {@link #getCacheCount()}, {@link #getTotalSize()} and {@link #getTotalWeight()}.
  */
 public abstract class ClosureCache<K> {
 
-    private ConcurrentHashMap<K, Closure> cache;
+    private static final CacheStatistics STATISTICS = new CacheStatistics();
+    private static final Set<BoundedLRUCache<?, Closure>> LIVE_CACHES = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private BoundedLRUCache<K, Closure> cache;
 
     public Closure getOrCreatePromiseClosure(K key) {
         return getOrCreateClosure(Closure.PROMISE_CLOSURE_WRAPPER_NAME, key);
@@ -66,7 +82,69 @@ public abstract class ClosureCache<K> {
 
     private synchronized void initMap() {
         if (cache == null) {
-            cache = new ConcurrentHashMap<>();
+            RContext context = RContext.getInstance();
+            int size = Math.max(1, context.getNonNegativeIntOption(FastROptions.ClosureCacheSize));
+            int weight = Math.max(1, context.getNonNegativeIntOption(FastROptions.ClosureCacheWeight));
+            BoundedLRUCache<K, Closure> newCache = new BoundedLRUCache<>(size, weight, ClosureCache::weigh, STATISTICS);
+            LIVE_CACHES.add(newCache);
+            cache = newCache;
+        }
+    }
+
+    private static long weigh(Closure closure) {
+        return NodeUtil.countNodes(closure.getExpr());
+    }
+
+    /**
+     * Hits, misses and evictions of all closure caches since the start or the last
+     * {@link CacheStatistics#reset()}.
+     */
+    public static CacheStatistics getStatistics() {
+        return STATISTICS;
+    }
+
+    /**
+     * The number of closure caches that have been used and not yet garbage collected.
+     */
+    public static int getCacheCount() {
+        return snapshot().size();
+    }
+
+    /**
+     * The number of closures held by all live closure caches.
+     */
+    public static long getTotalSize() {
+        long result = 0;
+        for (BoundedLRUCache<?, Closure> c : snapshot()) {
+            result += c.size();
+        }
+        return result;
+    }
+
+    /**
+     * The number of AST nodes retained by all live closure caches.
+     */
+    public static long getTotalWeight() {
+        long result = 0;
+        for (BoundedLRUCache<?, Closure> c : snapshot()) {
+            result += c.getWeight();
+        }
+        return result;
+    }
+
+    /**
+     * Removes all closures from all live closure caches.
+     */
+    public static void clearAll() {
+        for (BoundedLRUCache<?, Closure> c : snapshot()) {
+            c.clear();
+        }
+    }
+
+    @TruffleBoundary
+    private static ArrayList<BoundedLRUCache<?, Closure>> snapshot() {
+        synchronized (LIVE_CACHES) {
+            return new ArrayList<>(LIVE_CACHES);
         }
     }
 
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.runtime.data;
+
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleLanguage.Env;
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.context.RContext;
+
+/**
+ * Bulk copies of host Java primitive arrays wrapped by the foreign vector data classes.
+ *
+ * The foreign wrappers read their elements one by one through interop, which is the only option
+ * for a general foreign array. When the wrapped object is a plain Java primitive array, the
+ * materialization can instead be done directly on the array, e.g. with {@link System#arraycopy}.
+ * Each method returns {@code null} if the foreign object is not a host array of a supported
+ * component type, in which case the caller falls back to the element-wise interop path.
+ */
+final class ForeignHostArrays {
+
+    private ForeignHostArrays() {
+    }
+
+    private static Object getHostArray(Object foreign) {
+        Env env = RContext.getInstance().getEnv();
+        if (env.isHostObject(foreign)) {
+            Object array = env.asHostObject(foreign);
+            if (array != null && array.getClass().isArray()) {
+                return array;
+            }
+        }
+        return null;
+    }
+
+    @TruffleBoundary
+    static double[] copyDoubles(Object foreign) {
+        Object array = getHostArray(foreign);
+        if (array instanceof double[]) {
+            return Arrays.copyOf((double[]) array, ((double[]) array).length);
+        } else if (array instanceof float[]) {
+            float[] floats = (float[]) array;
+            double[] result = new double[floats.length];
+            for (int i = 0; i < floats.length; i++) {
+                result[i] = floats[i];
+            }
+            return result;
+        }
+        return null;
+    }
+
+    @TruffleBoundary
+    static int[] copyInts(Object foreign) {
+        Object array = getHostArray(foreign);
+        if (array instanceof int[]) {
+            return Arrays.copyOf((int[]) array, ((int[]) array).length);
+        } else if (array instanceof short[]) {
+            short[] shorts = (short[]) array;
+            int[] result = new int[shorts.length];
+            for (int i = 0; i < shorts.length; i++) {
+                result[i] = shorts[i];
+            }
+            return result;
+        } else if (array instanceof byte[]) {
+            byte[] bytes = (byte[]) array;
+            int[] result = new int[bytes.length];
+            for (int i = 0; i < bytes.length; i++) {
+                result[i] = bytes[i];
+            }
+            return result;
+        }
+        return null;
+    }
+
+    @TruffleBoundary
+    static byte[] copyLogicals(Object foreign) {
+        Object array = getHostArray(foreign);
+        if (array instanceof boolean[]) {
+            boolean[] booleans = (boolean[]) array;
+            byte[] result = new byte[booleans.length];
+            for (int i = 0; i < booleans.length; i++) {
+                result[i] = RRuntime.asLogical(booleans[i]);
+            }
+            return result;
+        }
+        return null;
+    }
+}
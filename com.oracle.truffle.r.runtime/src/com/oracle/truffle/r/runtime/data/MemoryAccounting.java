@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.runtime.data;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.r.runtime.RType;
+
+/**
+ * Approximate accounting of the memory allocated by {@link RDataFactory}, per {@link RType}. When
+ * enabled, every reported allocation is sized with {@link RObjectSize#getObjectSize} and added to
+ * the allocation counters. Objects of at least {@link #LIVE_TRACKING_THRESHOLD} bytes, which make
+ * up most of the footprint, are also tracked with phantom references, so that the live bytes
+ * counter drops when they are collected; smaller objects are not included in the live bytes.
+ *
+ * Enabling the accounting registers an {@link RDataFactory.Listener}, which invalidates the fast
+ * allocation path, therefore it is disabled by default. Exact sizes of particular objects are
+ * computed by {@link RObjectSize#getRecursiveObjectSize}.
+ */
+public final class MemoryAccounting {
+
+    /**
+     * Minimal size in bytes of the objects included in the live bytes counters.
+     */
+    public static final int LIVE_TRACKING_THRESHOLD = 4096;
+
+    /**
+     * The statistics kept for each type, in the order of the values of {@link #getStatistics()}.
+     */
+    public enum Statistic {
+        COUNT("count"),
+        ALLOCATED("allocated"),
+        LIVE("live");
+
+        public final String printName;
+
+        Statistic(String printName) {
+            this.printName = printName;
+        }
+    }
+
+    private static final RType[] TYPES = RType.values();
+
+    private static final AtomicLongArray allocatedCounts = new AtomicLongArray(TYPES.length);
+    private static final AtomicLongArray allocatedBytes = new AtomicLongArray(TYPES.length);
+    private static final AtomicLongArray liveBytes = new AtomicLongArray(TYPES.length);
+
+    private static final ReferenceQueue<RBaseObject> collected = new ReferenceQueue<>();
+    private static final Set<TrackedObject> tracked = ConcurrentHashMap.newKeySet();
+
+    private static boolean enabled;
+
+    private static final RDataFactory.Listener LISTENER = MemoryAccounting::record;
+
+    private MemoryAccounting() {
+        // only static methods
+    }
+
+    private static final class TrackedObject extends PhantomReference<RBaseObject> {
+        private final int type;
+        private final long size;
+
+        TrackedObject(RBaseObject referent, int type, long size) {
+            super(referent, collected);
+            this.type = type;
+            this.size = size;
+        }
+    }
+
+    public static synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops the accounting. The counters keep their values when the accounting is
+     * stopped, but the live bytes are not updated until it is started again.
+     */
+    public static synchronized void setEnabled(boolean newState) {
+        if (enabled != newState) {
+            enabled = newState;
+            if (newState) {
+                RDataFactory.addListener(LISTENER);
+            } else {
+                RDataFactory.removeListener(LISTENER);
+            }
+        }
+    }
+
+    /**
+     * Resets the allocation counters. The live bytes of objects that are still tracked are kept.
+     */
+    public static void reset() {
+        for (int i = 0; i < TYPES.length; i++) {
+            allocatedCounts.set(i, 0);
+            allocatedBytes.set(i, 0);
+        }
+    }
+
+    /**
+     * Returns the types for which {@link #getStatistics()} has values.
+     */
+    public static RType[] getTypes() {
+        return TYPES;
+    }
+
+    /**
+     * Returns the statistics as a {@code TYPES.length x Statistic.values().length} column-major
+     * matrix.
+     */
+    @TruffleBoundary
+    public static long[] getStatistics() {
+        expungeCollected();
+        long[] result = new long[TYPES.length * Statistic.values().length];
+        for (int i = 0; i < TYPES.length; i++) {
+            result[Statistic.COUNT.ordinal() * TYPES.length + i] = allocatedCounts.get(i);
+            result[Statistic.ALLOCATED.ordinal() * TYPES.length + i] = allocatedBytes.get(i);
+            result[Statistic.LIVE.ordinal() * TYPES.length + i] = liveBytes.get(i);
+        }
+        return result;
+    }
+
+    @TruffleBoundary
+    private static void record(RBaseObject data) {
+        expungeCollected();
+        RType rType = data.getRType();
+        if (rType == null) {
+            return;
+        }
+        int type = rType.ordinal();
+        long size = RObjectSize.getObjectSize(data);
+        allocatedCounts.incrementAndGet(type);
+        allocatedBytes.addAndGet(type, size);
+        if (size >= LIVE_TRACKING_THRESHOLD) {
+            tracked.add(new TrackedObject(data, type, size));
+            liveBytes.addAndGet(type, size);
+        }
+    }
+
+    private static void expungeCollected() {
+        Reference<? extends RBaseObject> ref;
+        while ((ref = collected.poll()) != null) {
+            TrackedObject object = (TrackedObject) ref;
+            if (tracked.remove(object)) {
+                liveBytes.addAndGet(object.type, -object.size);
+            }
+        }
+    }
+}
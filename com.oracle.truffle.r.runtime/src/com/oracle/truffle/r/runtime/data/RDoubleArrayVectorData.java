@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -47,6 +47,12 @@ import com.oracle.truffle.r.runtime.ops.na.NACheck;
 public class RDoubleArrayVectorData implements TruffleObject, ShareableVectorData {
     private final double[] data;
     private boolean complete;
+    /**
+     * Sortedness established by the producer of the data: {@code 1} for increasing, {@code -1}
+     * for decreasing and {@code 0} if unknown. A known sortedness implies that the data contains no
+     * NA or NaN values. Any write resets it.
+     */
+    private byte sortedness;
 
     public RDoubleArrayVectorData(double[] data, boolean complete) {
         this.data = data;
@@ -83,7 +89,9 @@ public class RDoubleArrayVectorData implements TruffleObject, ShareableVectorDat
 
     @ExportMessage
     public RDoubleArrayVectorData copy(@SuppressWarnings("unused") boolean deep) {
-        return new RDoubleArrayVectorData(Arrays.copyOf(data, data.length), isComplete());
+        RDoubleArrayVectorData result = new RDoubleArrayVectorData(Arrays.copyOf(data, data.length), isComplete());
+        result.sortedness = sortedness;
+        return result;
     }
 
     @ExportMessage
@@ -91,6 +99,20 @@ public class RDoubleArrayVectorData implements TruffleObject, ShareableVectorDat
         return complete && ENABLE_COMPLETE;
     }
 
+    @ExportMessage
+    public boolean isSorted(boolean descending, @SuppressWarnings("unused") boolean naLast) {
+        return sortedness == (descending ? -1 : 1);
+    }
+
+    /**
+     * Records that the data is sorted in the given direction. The caller guarantees that this is
+     * the case and that the data contains no NA or NaN values.
+     */
+    public void setSorted(boolean descending) {
+        sortedness = (byte) (descending ? -1 : 1);
+        complete = ENABLE_COMPLETE;
+    }
+
     @ExportMessage
     public double[] getReadonlyDoubleData() {
         return data;
@@ -159,11 +181,13 @@ public class RDoubleArrayVectorData implements TruffleObject, ShareableVectorDat
 
     @ExportMessage
     public SeqWriteIterator writeIterator() {
+        sortedness = 0;
         return new SeqWriteIterator(data, data.length);
     }
 
     @ExportMessage
     public RandomAccessWriteIterator randomAccessWriteIterator() {
+        sortedness = 0;
         return new RandomAccessWriteIterator(data);
     }
 
@@ -188,6 +212,7 @@ public class RDoubleArrayVectorData implements TruffleObject, ShareableVectorDat
     @ExportMessage
     public void setDoubleAt(int index, double value, @Shared("setCompleteProfile") @Cached BranchProfile setCompleteProfile) {
         data[index] = value;
+        sortedness = 0;
         if (RRuntime.isNA(value)) {
             setCompleteProfile.enter();
             complete = false;
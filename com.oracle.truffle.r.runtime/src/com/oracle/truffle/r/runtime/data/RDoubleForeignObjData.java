@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -96,6 +96,10 @@ class RDoubleForeignObjData implements TruffleObject {
     public double[] getDoubleDataCopy(@CachedLibrary(limit = "5") InteropLibrary valueInterop,
                     @CachedLibrary("this.foreign") InteropLibrary interop,
                     @Shared("unprecisseProfile") @Cached("createBinaryProfile()") ConditionProfile unprecisseDoubleProfile) {
+        double[] hostCopy = ForeignHostArrays.copyDoubles(foreign);
+        if (hostCopy != null) {
+            return hostCopy;
+        }
         int len = getLength(interop);
         return getDataAsArray(len, len, valueInterop, interop, unprecisseDoubleProfile);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -94,7 +94,9 @@ public class RDoubleSeqVectorData implements RSeq, TruffleObject {
 
     @ExportMessage
     public RDoubleArrayVectorData materialize() {
-        return new RDoubleArrayVectorData(getDoubleDataCopy(), isComplete());
+        RDoubleArrayVectorData result = new RDoubleArrayVectorData(getDoubleDataCopy(), isComplete());
+        result.setSorted(stride < 0);
+        return result;
     }
 
     @ExportMessage
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -47,6 +47,12 @@ import com.oracle.truffle.r.runtime.ops.na.NACheck;
 public class RIntArrayVectorData implements TruffleObject, ShareableVectorData {
     private final int[] data;
     private boolean complete;
+    /**
+     * Sortedness established by the producer of the data: {@code 1} for increasing, {@code -1}
+     * for decreasing and {@code 0} if unknown. A known sortedness implies that the data contains no
+     * NA values. Any write resets it.
+     */
+    private byte sortedness;
 
     public RIntArrayVectorData(int[] data, boolean complete) {
         this.data = data;
@@ -83,7 +89,9 @@ public class RIntArrayVectorData implements TruffleObject, ShareableVectorData {
 
     @ExportMessage
     public RIntArrayVectorData copy(@SuppressWarnings("unused") boolean deep) {
-        return new RIntArrayVectorData(Arrays.copyOf(data, data.length), isComplete());
+        RIntArrayVectorData result = new RIntArrayVectorData(Arrays.copyOf(data, data.length), isComplete());
+        result.sortedness = sortedness;
+        return result;
     }
 
     @ExportMessage
@@ -91,6 +99,20 @@ public class RIntArrayVectorData implements TruffleObject, ShareableVectorData {
         return complete && ENABLE_COMPLETE;
     }
 
+    @ExportMessage
+    public boolean isSorted(boolean descending, @SuppressWarnings("unused") boolean naLast) {
+        return sortedness == (descending ? -1 : 1);
+    }
+
+    /**
+     * Records that the data is sorted in the given direction. The caller guarantees that this is
+     * the case and that the data contains no NA values.
+     */
+    public void setSorted(boolean descending) {
+        sortedness = (byte) (descending ? -1 : 1);
+        complete = ENABLE_COMPLETE;
+    }
+
     @ExportMessage
     public int[] getReadonlyIntData() {
         return data;
@@ -160,11 +182,13 @@ public class RIntArrayVectorData implements TruffleObject, ShareableVectorData {
 
     @ExportMessage
     public SeqWriteIterator writeIterator() {
+        sortedness = 0;
         return new SeqWriteIterator(data, data.length);
     }
 
     @ExportMessage
     public RandomAccessWriteIterator randomAccessWriteIterator() {
+        sortedness = 0;
         return new RandomAccessWriteIterator(data);
     }
 
@@ -189,6 +213,7 @@ public class RIntArrayVectorData implements TruffleObject, ShareableVectorData {
     @ExportMessage
     public void setIntAt(int index, int value, @Shared("setCompleteProfile") @Cached BranchProfile setCompleteProfile) {
         data[index] = value;
+        sortedness = 0;
         if (RRuntime.isNA(value)) {
             setCompleteProfile.enter();
             complete = false;
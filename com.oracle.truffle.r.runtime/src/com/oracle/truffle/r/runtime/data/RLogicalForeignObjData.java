@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -91,6 +91,10 @@ class RLogicalForeignObjData implements TruffleObject {
     @ExportMessage
     public byte[] getLogicalDataCopy(@CachedLibrary(limit = "5") InteropLibrary valueInterop,
                     @CachedLibrary("this.foreign") InteropLibrary interop) {
+        byte[] hostCopy = ForeignHostArrays.copyLogicals(foreign);
+        if (hostCopy != null) {
+            return hostCopy;
+        }
         int len = getLength(interop);
         return getDataAsArray(len, len, valueInterop, interop);
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -22,8 +22,7 @@
  */
 package com.oracle.truffle.r.runtime.data;
 
-import java.util.ArrayDeque;
-import java.util.HashSet;
+import java.util.Arrays;
 
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.interop.TruffleObject;
@@ -71,51 +70,173 @@ public class RObjectSize {
      */
     @TruffleBoundary
     public static long getRecursiveObjectSize(Object target) {
-        ArrayDeque<Object> stack = new ArrayDeque<>();
-        HashSet<Object> visited = new HashSet<>();
-        stack.push(target);
-        visited.add(target);
+        return getRecursiveObjectSize(target, false);
+    }
 
-        long result = 0;
-        while (!stack.isEmpty()) {
-            Object obj = stack.pop();
-            result += getObjectSizeImpl(obj);
-            if (obj != null) {
-                pushReferences(stack, visited, obj);
+    /**
+     * As {@link #getRecursiveObjectSize(Object)}, but if {@code includeEnvironments} is
+     * {@code true}, the values bound in environments are included as well (the enclosing
+     * environments are not followed). Objects reachable by more than one path are counted once.
+     */
+    @TruffleBoundary
+    public static long getRecursiveObjectSize(Object target, boolean includeEnvironments) {
+        Traversal traversal = Traversal.acquire();
+        try {
+            traversal.push(target);
+            long result = 0;
+            Object obj;
+            while ((obj = traversal.pop()) != null) {
+                result += getObjectSizeImpl(obj);
+                pushReferences(traversal, obj, includeEnvironments);
             }
+            return result;
+        } finally {
+            traversal.release();
         }
-        return result;
     }
 
-    private static void pushReferences(ArrayDeque<Object> stack, HashSet<Object> visited, Object obj) {
+    private static void pushReferences(Traversal traversal, Object obj, boolean includeEnvironments) {
         if (obj instanceof RAttributable) {
             DynamicObject attrs = ((RAttributable) obj).getAttributes();
             if (attrs != null) {
                 Shape shape = attrs.getShape();
                 for (Property prop : shape.getProperties()) {
                     Object propVal = prop.get(attrs, shape);
-                    pushIfNotPresent(stack, visited, propVal);
+                    traversal.push(propVal);
                 }
             }
         }
         if (obj instanceof RAbstractListBaseVector) {
             RAbstractListBaseVector list = (RAbstractListBaseVector) obj;
             for (int i = 0; i < list.getLength(); i++) {
-                pushIfNotPresent(stack, visited, list.getDataAt(i));
+                traversal.push(list.getDataAt(i));
             }
         } else if (obj instanceof RArgsValuesAndNames) {
             RArgsValuesAndNames args = (RArgsValuesAndNames) obj;
             for (int i = 0; i < args.getLength(); i++) {
-                pushIfNotPresent(stack, visited, args.getArgument(i));
+                traversal.push(args.getArgument(i));
+            }
+        } else if (includeEnvironments && obj instanceof REnvironment) {
+            REnvironment env = (REnvironment) obj;
+            RStringVector names = env.ls(true, null, false);
+            for (int i = 0; i < names.getLength(); i++) {
+                Object value = env.get(names.getDataAt(i));
+                if (value instanceof RPromise && ((RPromise) value).isEvaluated()) {
+                    value = ((RPromise) value).getValue();
+                }
+                traversal.push(value);
             }
         }
-        // Note: environments are ignored
+        // Note: environments are otherwise ignored
     }
 
-    private static void pushIfNotPresent(ArrayDeque<Object> stack, HashSet<Object> visited, Object obj) {
-        if (!visited.contains(obj)) {
-            stack.push(obj);
-            visited.add(obj);
+    /**
+     * The state of {@link #getRecursiveObjectSize}: the stack of objects to visit and the identity
+     * set of the objects pushed so far. The set is an open addressing table, which remembers the
+     * used slots so that clearing it costs as much as filling it. Both are kept per thread and
+     * reused, so that measuring does not allocate unless the tables have to grow.
+     */
+    private static final class Traversal {
+
+        private static final int INITIAL_CAPACITY = 256;
+        /**
+         * Tables larger than this are not kept after the traversal.
+         */
+        private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+        private static final ThreadLocal<Traversal> CACHED = new ThreadLocal<>();
+
+        private Object[] stack = new Object[INITIAL_CAPACITY];
+        private int stackSize;
+
+        private Object[] visited = new Object[INITIAL_CAPACITY];
+        private int[] usedSlots = new int[INITIAL_CAPACITY / 2];
+        private int visitedCount;
+
+        static Traversal acquire() {
+            Traversal traversal = CACHED.get();
+            if (traversal == null) {
+                return new Traversal();
+            }
+            // a nested traversal (e.g. from a warning handler) gets a fresh instance
+            CACHED.set(null);
+            return traversal;
+        }
+
+        void release() {
+            for (int i = 0; i < visitedCount; i++) {
+                visited[usedSlots[i]] = null;
+            }
+            visitedCount = 0;
+            Arrays.fill(stack, 0, stackSize, null);
+            stackSize = 0;
+            if (visited.length <= MAX_RETAINED_CAPACITY && stack.length <= MAX_RETAINED_CAPACITY) {
+                CACHED.set(this);
+            }
+        }
+
+        /**
+         * Pushes {@code obj} unless it is {@code null} or has already been pushed.
+         */
+        void push(Object obj) {
+            if (obj != null && mark(obj)) {
+                if (stackSize == stack.length) {
+                    stack = Arrays.copyOf(stack, stackSize * 2);
+                }
+                stack[stackSize++] = obj;
+            }
+        }
+
+        Object pop() {
+            if (stackSize == 0) {
+                return null;
+            }
+            Object obj = stack[--stackSize];
+            stack[stackSize] = null;
+            return obj;
+        }
+
+        private boolean mark(Object obj) {
+            if (visitedCount == usedSlots.length) {
+                grow();
+            }
+            int mask = visited.length - 1;
+            int slot = hashSlot(obj, visited.length);
+            while (visited[slot] != null) {
+                if (visited[slot] == obj) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            visited[slot] = obj;
+            usedSlots[visitedCount++] = slot;
+            return true;
+        }
+
+        /**
+         * The home slot of {@code obj} in a table of {@code length} slots, a power of two larger
+         * than one. The slot is taken from the high bits of the multiplicative hash, which depend
+         * on all bits of the identity hash code, unlike its low bits.
+         */
+        private static int hashSlot(Object obj, int length) {
+            return (System.identityHashCode(obj) * 0x9E3779B9) >>> (Integer.numberOfLeadingZeros(length) + 1);
+        }
+
+        private void grow() {
+            Object[] oldVisited = visited;
+            int[] oldUsedSlots = usedSlots;
+            visited = new Object[oldVisited.length * 2];
+            usedSlots = new int[oldUsedSlots.length * 2];
+            int mask = visited.length - 1;
+            for (int i = 0; i < visitedCount; i++) {
+                Object obj = oldVisited[oldUsedSlots[i]];
+                int slot = hashSlot(obj, visited.length);
+                while (visited[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                visited[slot] = obj;
+                usedSlots[i] = slot;
+            }
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -119,13 +119,23 @@ public abstract class VectorDataLibrary extends Library {
     /**
      * If this method returns {@code true}, then it is guaranteed that this data is sorted in a way
      * specified by the arguments {@code descending} and {@code naLast}. If this method returns
-     * {@code false}, then this data may or may not be sorted.
+     * {@code false}, then this data may or may not be sorted. Sorted data that is known to contain
+     * no {@code NA} values should return {@code true} for both values of {@code naLast}.
      */
     @SuppressWarnings("unused")
     public boolean isSorted(Object receiver, boolean descending, boolean naLast) {
         return false;
     }
 
+    /**
+     * Returns {@code true} if the data is known to be sorted in the given direction and to contain
+     * no {@code NA} (or {@code NaN}) values, i.e., if it is reported as sorted regardless of where
+     * {@code NA} values would be placed.
+     */
+    public static boolean isSortedWithoutNA(VectorDataLibrary dataLib, Object data, boolean descending) {
+        return dataLib.isSorted(data, descending, true) && dataLib.isSorted(data, descending, false);
+    }
+
     /**
      * Returns {@code true} is this data object can be written to.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -333,6 +333,13 @@ public abstract class RFFIContext extends RFFI {
 
     public abstract RFFIFactory.Type getDefaultRFFIType();
 
+    @Override
+    public void beforeFinalize(RContext context) {
+        if (context.getParent() == null) {
+            RFFILog.logUpCallCounts();
+        }
+    }
+
     private RFunctionChildren getFunctionChildrenHolder(RFunction parent) {
         RFunctionChildren children = rffiContextState.protectedFunctionChildren.get(parent);
         if (children == null) {
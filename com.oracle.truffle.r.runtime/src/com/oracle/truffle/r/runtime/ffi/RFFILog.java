@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -23,9 +23,15 @@
 package com.oracle.truffle.r.runtime.ffi;
 
 import static com.oracle.truffle.r.runtime.RLogger.LOGGER_RFFI;
+import static com.oracle.truffle.r.runtime.RLogger.LOGGER_RFFI_UPCALL_COUNTS;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 
 import org.graalvm.collections.EconomicMap;
@@ -62,6 +68,17 @@ public class RFFILog {
      */
     private static final TruffleLogger LOGGER = RLogger.getLogger(LOGGER_RFFI);
 
+    /**
+     * @see RLogger#LOGGER_RFFI_UPCALL_COUNTS
+     */
+    private static final TruffleLogger COUNTS_LOGGER = RLogger.getLogger(LOGGER_RFFI_UPCALL_COUNTS);
+
+    /**
+     * Number of up-calls per R-API function name. Shared by all contexts, native code of any
+     * context goes through the same up-call table.
+     */
+    private static final ConcurrentHashMap<String, LongAdder> upCallCounts = new ConcurrentHashMap<>();
+
     private enum CallMode {
         UP("U", true),
         UP_RETURN("UR", false),
@@ -113,6 +130,52 @@ public class RFFILog {
         logCall(CallMode.DOWN_RETURN, name, getContext().getCallDepth(), result);
     }
 
+    public static boolean upCallCountsEnabled() {
+        return COUNTS_LOGGER.isLoggable(Level.INFO);
+    }
+
+    @TruffleBoundary
+    public static void countUpCall(String name) {
+        upCallCounts.computeIfAbsent(name, n -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns a snapshot of the up-call counters collected so far, sorted by the up-call name.
+     */
+    @TruffleBoundary
+    public static Map<String, Long> getUpCallCounts() {
+        TreeMap<String, Long> result = new TreeMap<>();
+        upCallCounts.forEach((name, count) -> result.put(name, count.sum()));
+        return result;
+    }
+
+    @TruffleBoundary
+    public static void resetUpCallCounts() {
+        upCallCounts.clear();
+    }
+
+    /**
+     * Prints the collected up-call counters, the most frequent up-calls first.
+     */
+    @TruffleBoundary
+    public static void logUpCallCounts() {
+        if (!upCallCountsEnabled() || upCallCounts.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(getUpCallCounts().entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        long total = 0;
+        for (Map.Entry<String, Long> entry : entries) {
+            total += entry.getValue();
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("RFFI up-call counts (total ").append(total).append("):");
+        for (Map.Entry<String, Long> entry : entries) {
+            sb.append(System.lineSeparator()).append(String.format("%12d  %s", entry.getValue(), entry.getKey()));
+        }
+        COUNTS_LOGGER.info(sb.toString());
+    }
+
     public static boolean logEnabled() {
         return LOGGER.isLoggable(Level.FINE);
     }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.runtime.ffi.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Region based allocator for native memory whose lifetime is bound to a down-call, e.g.,
+ * {@code R_alloc}. The memory is carved out of larger chunks and everything allocated within a
+ * scope is released at once by {@link #popScope()}, which is much cheaper than freeing every block
+ * individually. Chunks are kept for reuse by the following scopes, only the chunks over
+ * {@link #MAX_RETAINED_CHUNKS} are given back once the outermost scope is popped.
+ * <p>
+ * Requests larger than {@link #LARGE_ALLOCATION_SIZE} get their own block, which is also freed when
+ * the scope is popped. Memory allocated outside of any scope lives until {@link #dispose()}.
+ * <p>
+ * Instances are not thread safe, they are expected to be used by one context under the down-call
+ * lock.
+ */
+public final class NativeArena {
+
+    static final long CHUNK_SIZE = 64 * 1024;
+    static final long LARGE_ALLOCATION_SIZE = CHUNK_SIZE / 4;
+    static final int MAX_RETAINED_CHUNKS = 4;
+    private static final long ALIGNMENT = 16;
+
+    private long[] chunks = new long[MAX_RETAINED_CHUNKS];
+    private int chunkCount;
+    private int currentChunk = -1;
+    private long offset = CHUNK_SIZE;
+
+    private long[] largeBlocks = new long[16];
+    private int largeCount;
+
+    /**
+     * Saved {@code (currentChunk, offset, largeCount)} triples of the active scopes.
+     */
+    private long[] marks = new long[3 * 8];
+    private int depth;
+
+    private static final LongAdder allocations = new LongAdder();
+    private static final LongAdder allocatedBytes = new LongAdder();
+    private static final LongAdder largeAllocations = new LongAdder();
+    private static final LongAdder chunkAllocations = new LongAdder();
+    private static final LongAdder chunkReuses = new LongAdder();
+    private static final LongAdder scopes = new LongAdder();
+
+    public enum Statistic {
+        ALLOCATIONS("allocations"),
+        ALLOCATED_BYTES("allocatedBytes"),
+        LARGE_ALLOCATIONS("largeAllocations"),
+        CHUNK_ALLOCATIONS("chunkAllocations"),
+        CHUNK_REUSES("chunkReuses"),
+        SCOPES("scopes");
+
+        public final String printName;
+
+        Statistic(String printName) {
+            this.printName = printName;
+        }
+    }
+
+    @TruffleBoundary
+    public void pushScope() {
+        if (3 * (depth + 1) > marks.length) {
+            marks = Arrays.copyOf(marks, marks.length * 2);
+        }
+        int base = 3 * depth;
+        marks[base] = currentChunk;
+        marks[base + 1] = offset;
+        marks[base + 2] = largeCount;
+        depth++;
+        scopes.increment();
+    }
+
+    /**
+     * Releases all the memory allocated since the matching {@link #pushScope()}.
+     */
+    @TruffleBoundary
+    public void popScope() {
+        assert depth > 0 : "unbalanced NativeArena scopes";
+        depth--;
+        int base = 3 * depth;
+        int savedLargeCount = (int) marks[base + 2];
+        for (int i = savedLargeCount; i < largeCount; i++) {
+            NativeMemory.free(largeBlocks[i], "NativeArena large block");
+        }
+        largeCount = savedLargeCount;
+        currentChunk = (int) marks[base];
+        offset = marks[base + 1];
+        if (depth == 0) {
+            int keep = Math.max(MAX_RETAINED_CHUNKS, currentChunk + 1);
+            for (int i = keep; i < chunkCount; i++) {
+                NativeMemory.free(chunks[i], "NativeArena chunk");
+            }
+            chunkCount = Math.min(chunkCount, keep);
+        }
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Allocates {@code size} bytes aligned to 16 bytes. Returns {@code 0} for {@code size == 0} like
+     * GNU-R's {@code R_alloc}.
+     */
+    @TruffleBoundary
+    public long allocate(long size) {
+        if (size <= 0) {
+            return 0L;
+        }
+        allocations.increment();
+        allocatedBytes.add(size);
+        if (size > LARGE_ALLOCATION_SIZE) {
+            return allocateLarge(size);
+        }
+        long aligned = (size + ALIGNMENT - 1) & -ALIGNMENT;
+        if (offset + aligned > CHUNK_SIZE) {
+            nextChunk();
+        }
+        long result = chunks[currentChunk] + offset;
+        offset += aligned;
+        return result;
+    }
+
+    private void nextChunk() {
+        currentChunk++;
+        if (currentChunk == chunkCount) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            }
+            chunks[chunkCount++] = NativeMemory.allocate(CHUNK_SIZE, "NativeArena chunk");
+            chunkAllocations.increment();
+        } else {
+            chunkReuses.increment();
+        }
+        offset = 0;
+    }
+
+    private long allocateLarge(long size) {
+        if (largeCount == largeBlocks.length) {
+            largeBlocks = Arrays.copyOf(largeBlocks, largeBlocks.length * 2);
+        }
+        long result = NativeMemory.allocate(size, "NativeArena large block");
+        largeBlocks[largeCount++] = result;
+        largeAllocations.increment();
+        return result;
+    }
+
+    /**
+     * Frees all the memory held by this arena. The arena must not be used afterwards.
+     */
+    @TruffleBoundary
+    public void dispose() {
+        for (int i = 0; i < largeCount; i++) {
+            NativeMemory.free(largeBlocks[i], "NativeArena large block");
+        }
+        for (int i = 0; i < chunkCount; i++) {
+            NativeMemory.free(chunks[i], "NativeArena chunk");
+        }
+        largeCount = 0;
+        chunkCount = 0;
+        currentChunk = -1;
+        offset = CHUNK_SIZE;
+        depth = 0;
+    }
+
+    /**
+     * Returns the statistics accumulated by all the arenas in the order of {@link Statistic}.
+     */
+    public static long[] getStatistics() {
+        return new long[]{allocations.sum(), allocatedBytes.sum(), largeAllocations.sum(), chunkAllocations.sum(), chunkReuses.sum(), scopes.sum()};
+    }
+
+    public static void resetStatistics() {
+        allocations.reset();
+        allocatedBytes.reset();
+        largeAllocations.reset();
+        chunkAllocations.reset();
+        chunkReuses.reset();
+        scopes.reset();
+    }
+}
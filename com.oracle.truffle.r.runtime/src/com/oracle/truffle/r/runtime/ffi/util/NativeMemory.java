@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -114,6 +114,14 @@ public abstract class NativeMemory {
         return new FreeingNativeMemoryWrapper(address, owner);
     }
 
+    /**
+     * Number of blocks wrapped by {@link #wrapNativeMemory(long, Object)} whose owner has not been
+     * collected and released yet, e.g., the data of native mirrors.
+     */
+    public static int getWrappedMemoryCount() {
+        return FreeingNativeMemoryWrapper.active.size();
+    }
+
     /**
      * Allows to wrap native memory address in the same object as
      * {@link #wrapNativeMemory(long, Object)}, but without cleaning-up the memory when the owning
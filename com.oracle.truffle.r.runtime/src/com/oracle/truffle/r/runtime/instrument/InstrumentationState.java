@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -60,7 +60,7 @@ public final class InstrumentationState implements RContext.ContextState {
     /**
      * The {@link Instrumenter} associated with this {@link RContext}. Never {@code null}.
      */
-    private final Instrumenter instrumenter;
+    private Instrumenter instrumenter;
 
     private TracememContext tracememContext;
 
@@ -239,6 +239,14 @@ public final class InstrumentationState implements RContext.ContextState {
         return instrumenter;
     }
 
+    /**
+     * Replaces the instrumenter of a pre-initialized context by the one of the engine that the
+     * context is patched into. No instrumentation was set up during the pre-initialization.
+     */
+    public void patchInstrumenter(Instrumenter newInstrumenter) {
+        this.instrumenter = newInstrumenter;
+    }
+
     @TruffleBoundary
     public RprofState getRprofState(String name) {
         RprofState state = rprofStates.get(name);
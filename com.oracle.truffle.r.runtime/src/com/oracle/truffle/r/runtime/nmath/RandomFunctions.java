@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -57,6 +57,20 @@ public class RandomFunctions {
         }
     }
 
+    /**
+     * Implemented by random functions of two parameters that can generate a whole vector at once
+     * when the parameters are scalars.
+     */
+    public interface RandFunction2_DoubleBulk {
+        /**
+         * Fills {@code result} with the same values as the corresponding number of
+         * {@code execute(a, b, rand)} calls would give. Returns {@code false} without consuming
+         * any random numbers if the parameters or the generator settings require the element-wise
+         * evaluation, e.g., because a warning should be reported.
+         */
+        boolean generateBulk(double a, double b, RandomNumberProvider rand, double[] result);
+    }
+
     public abstract static class RandFunction1_Double extends RandFunction3_Double {
         public abstract double execute(double a, RandomNumberProvider rand);
 
@@ -98,6 +112,26 @@ public class RandomFunctions {
             return SNorm.normRand(generator, normKind);
         }
 
+        /**
+         * Fills the given range of {@code result} with uniformly distributed values without the
+         * overhead of {@link #unifRand()} for each element.
+         */
+        public void unifRand(double[] result, int from, int to) {
+            generator.genrandDoubles(result, from, to);
+        }
+
+        /**
+         * Fills {@code result} with normally distributed values if the bulk generation is
+         * supported by the current "norm kind", otherwise returns {@code false}.
+         */
+        public boolean normRand(double[] result) {
+            if (normKind != NormKind.INVERSION) {
+                return false;
+            }
+            SNorm.normRandInversion(generator, result);
+            return true;
+        }
+
         public double expRand() {
             return SExp.expRand(generator);
         }
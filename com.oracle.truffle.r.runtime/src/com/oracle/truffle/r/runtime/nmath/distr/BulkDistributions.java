@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.runtime.nmath.distr;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.nmath.DPQ;
+import com.oracle.truffle.r.runtime.nmath.DPQ.EarlyReturn;
+import com.oracle.truffle.r.runtime.nmath.MathFunctions.Function4_2;
+import com.oracle.truffle.r.runtime.nmath.RMath;
+
+/**
+ * Bulk evaluation of the density, distribution and quantile functions over whole arrays. The
+ * arguments are recycled in the same way as in the vectorized R functions and {@code NA} and
+ * {@code NaN} arguments give the same results as when the scalar {@link Function4_2} is evaluated
+ * element by element.
+ *
+ * For the most common distributions called with scalar parameters ({@code dnorm}, {@code pnorm},
+ * {@code qnorm} and {@code dbinom}) there are specialized kernels, which validate the parameters
+ * only once and then execute only the part of the scalar function that follows the validation.
+ * Therefore, the results are bit-identical to the scalar functions. The specialized kernels do not
+ * report any warnings and do not touch the R context, which allows to split large inputs across
+ * {@link ForkJoinPool} workers.
+ */
+public final class BulkDistributions {
+
+    /**
+     * Result flag: at least one element of the result is {@code NA}.
+     */
+    public static final int RESULT_HAS_NA = 1;
+
+    /**
+     * Result flag: a {@code NaN} was produced from non-{@code NaN} arguments, the caller should
+     * report the "NaNs produced" warning.
+     */
+    public static final int RESULT_NANS_PRODUCED = 2;
+
+    /**
+     * Minimal number of elements evaluated by a single worker thread.
+     */
+    private static final int MIN_CHUNK_SIZE = 8192;
+
+    private BulkDistributions() {
+        // only static members
+    }
+
+    /**
+     * Evaluates {@code function} for the recycled arguments and stores the values to
+     * {@code result}, whose length must be the maximum of the arguments lengths. None of the
+     * arguments may be empty. Functions with less than four arguments ignore the trailing ones,
+     * which should be set to a non-{@code NaN} dummy value.
+     *
+     * @param parallelThreshold minimal length of the result for which the evaluation is split
+     *            across worker threads, {@code 0} disables the parallel evaluation.
+     * @return a combination of {@link #RESULT_HAS_NA} and {@link #RESULT_NANS_PRODUCED} flags.
+     */
+    @TruffleBoundary
+    public static int evaluate(Function4_2 function, double[] a, double[] b, double[] c, double[] d, boolean x, boolean y, double[] result, int parallelThreshold) {
+        assert a.length > 0 && b.length > 0 && c.length > 0 && d.length > 0;
+        assert result.length == Math.max(Math.max(a.length, b.length), Math.max(c.length, d.length));
+        boolean parallel = parallelThreshold > 0 && result.length >= parallelThreshold;
+        Kernel kernel = null;
+        if (b.length == 1 && c.length == 1 && d.length == 1 && !Double.isNaN(b[0]) && !Double.isNaN(c[0]) && !Double.isNaN(d[0])) {
+            kernel = createScalarParametersKernel(function, a, b[0], c[0], x, y, result, parallel);
+        }
+        if (kernel == null) {
+            return new GenericKernel(function, a, b, c, d, x, y, result).compute(0, result.length);
+        }
+        if (parallel && kernel.isParallelSafe()) {
+            int chunkSize = Math.max(MIN_CHUNK_SIZE, result.length / (ForkJoinPool.getCommonPoolParallelism() * 4));
+            return ForkJoinPool.commonPool().invoke(new KernelTask(kernel, 0, result.length, chunkSize));
+        }
+        return kernel.compute(0, result.length);
+    }
+
+    private static Kernel createScalarParametersKernel(Function4_2 function, double[] a, double b, double c, boolean x, boolean y, double[] result, boolean parallel) {
+        if (function instanceof DNorm) {
+            if (Double.isFinite(b) && Double.isFinite(c) && c > 0) {
+                return new DNormKernel(a, b, c, x, result);
+            }
+        } else if (function instanceof Pnorm) {
+            if (Double.isFinite(b) && Double.isFinite(c) && c > 0) {
+                return new PnormKernel(a, b, c, x, y, result);
+            }
+        } else if (function instanceof Qnorm) {
+            if (c > 0) {
+                return new QnormKernel(a, b, c, x, y, result);
+            }
+        } else if (function instanceof Dbinom) {
+            if (!(c < 0 || c > 1 || b < 0 || DPQ.nonint(b))) {
+                return new DbinomKernel(a, b, c, x, result, parallel && !containsNonInt(a));
+            }
+        }
+        return null;
+    }
+
+    private static boolean containsNonInt(double[] values) {
+        for (double value : values) {
+            if (DPQ.nonint(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private abstract static class Kernel {
+        protected final double[] result;
+
+        protected Kernel(double[] result) {
+            this.result = result;
+        }
+
+        /**
+         * Computes the elements {@code from} (inclusive) to {@code to} (exclusive) and returns the
+         * result flags.
+         */
+        abstract int compute(int from, int to);
+
+        /**
+         * Kernels that neither report warnings nor access the R context can be evaluated by worker
+         * threads.
+         */
+        abstract boolean isParallelSafe();
+
+        protected final int setValue(int index, double value) {
+            result[index] = value;
+            return Double.isNaN(value) ? RESULT_NANS_PRODUCED : 0;
+        }
+
+        /**
+         * Handles {@code NaN} argument when the other arguments are known not to be {@code NaN}.
+         */
+        protected final int setNaN(int index, double arg) {
+            if (RRuntime.isNA(arg)) {
+                result[index] = RRuntime.DOUBLE_NA;
+                return RESULT_HAS_NA;
+            }
+            result[index] = Double.NaN;
+            return 0;
+        }
+    }
+
+    private static final class KernelTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Kernel kernel;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        KernelTask(Kernel kernel, int from, int to, int chunkSize) {
+            this.kernel = kernel;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= chunkSize) {
+                return kernel.compute(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            KernelTask left = new KernelTask(kernel, from, middle, chunkSize);
+            left.fork();
+            int rightFlags = new KernelTask(kernel, middle, to, chunkSize).compute();
+            return left.join() | rightFlags;
+        }
+    }
+
+    /**
+     * Element by element evaluation of any function, equivalent to the evaluation in the
+     * vectorized math function nodes.
+     */
+    private static final class GenericKernel extends Kernel {
+        private final Function4_2 function;
+        private final double[] a;
+        private final double[] b;
+        private final double[] c;
+        private final double[] d;
+        private final boolean x;
+        private final boolean y;
+
+        GenericKernel(Function4_2 function, double[] a, double[] b, double[] c, double[] d, boolean x, boolean y, double[] result) {
+            super(result);
+            this.function = function;
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        int compute(int from, int to) {
+            int flags = 0;
+            for (int i = from; i < to; i++) {
+                double aValue = a[i % a.length];
+                double bValue = b[i % b.length];
+                double cValue = c[i % c.length];
+                double dValue = d[i % d.length];
+                if (Double.isNaN(aValue) || Double.isNaN(bValue) || Double.isNaN(cValue) || Double.isNaN(dValue)) {
+                    if (RRuntime.isNA(aValue) || RRuntime.isNA(bValue) || RRuntime.isNA(cValue) || RRuntime.isNA(dValue)) {
+                        result[i] = RRuntime.DOUBLE_NA;
+                        flags |= RESULT_HAS_NA;
+                    } else {
+                        result[i] = Double.NaN;
+                    }
+                } else {
+                    double value = function.evaluate(aValue, bValue, cValue, dValue, x, y);
+                    if (Double.isNaN(value)) {
+                        flags |= RESULT_NANS_PRODUCED;
+                    }
+                    result[i] = value;
+                }
+            }
+            return flags;
+        }
+
+        @Override
+        boolean isParallelSafe() {
+            return false;
+        }
+    }
+
+    private static final class DNormKernel extends Kernel {
+        private final double[] xs;
+        private final double mu;
+        private final double sigma;
+        private final boolean giveLog;
+
+        DNormKernel(double[] xs, double mu, double sigma, boolean giveLog, double[] result) {
+            super(result);
+            this.xs = xs;
+            this.mu = mu;
+            this.sigma = sigma;
+            this.giveLog = giveLog;
+        }
+
+        @Override
+        int compute(int from, int to) {
+            int flags = 0;
+            for (int i = from; i < to; i++) {
+                double value = xs[i];
+                if (Double.isNaN(value)) {
+                    flags |= setNaN(i, value);
+                } else {
+                    flags |= setValue(i, DNorm.dnormValidated(value, mu, sigma, giveLog));
+                }
+            }
+            return flags;
+        }
+
+        @Override
+        boolean isParallelSafe() {
+            return true;
+        }
+    }
+
+    private static final class PnormKernel extends Kernel {
+        private final double[] xs;
+        private final double mu;
+        private final double sigma;
+        private final boolean lowerTail;
+        private final boolean logP;
+
+        PnormKernel(double[] xs, double mu, double sigma, boolean lowerTail, boolean logP, double[] result) {
+            super(result);
+            this.xs = xs;
+            this.mu = mu;
+            this.sigma = sigma;
+            this.lowerTail = lowerTail;
+            this.logP = logP;
+        }
+
+        @Override
+        int compute(int from, int to) {
+            int flags = 0;
+            for (int i = from; i < to; i++) {
+                double value = xs[i];
+                if (Double.isNaN(value)) {
+                    flags |= setNaN(i, value);
+                } else {
+                    flags |= setValue(i, Pnorm.pnormValidated(value, mu, sigma, lowerTail, logP));
+                }
+            }
+            return flags;
+        }
+
+        @Override
+        boolean isParallelSafe() {
+            return true;
+        }
+    }
+
+    private static final class QnormKernel extends Kernel {
+        private final double[] ps;
+        private final double mu;
+        private final double sigma;
+        private final boolean lowerTail;
+        private final boolean logP;
+
+        QnormKernel(double[] ps, double mu, double sigma, boolean lowerTail, boolean logP, double[] result) {
+            super(result);
+            this.ps = ps;
+            this.mu = mu;
+            this.sigma = sigma;
+            this.lowerTail = lowerTail;
+            this.logP = logP;
+        }
+
+        @Override
+        int compute(int from, int to) {
+            int flags = 0;
+            for (int i = from; i < to; i++) {
+                double value = ps[i];
+                if (Double.isNaN(value)) {
+                    flags |= setNaN(i, value);
+                } else {
+                    flags |= setValue(i, Qnorm.qnorm(value, mu, sigma, lowerTail, logP));
+                }
+            }
+            return flags;
+        }
+
+        @Override
+        boolean isParallelSafe() {
+            return true;
+        }
+    }
+
+    private static final class DbinomKernel extends Kernel {
+        private final double[] xs;
+        private final double n;
+        private final double p;
+        private final double q;
+        private final boolean giveLog;
+        private final boolean parallelSafe;
+
+        DbinomKernel(double[] xs, double size, double prob, boolean giveLog, double[] result, boolean parallelSafe) {
+            super(result);
+            this.xs = xs;
+            this.n = RMath.forceint(size);
+            this.p = prob;
+            this.q = 1 - prob;
+            this.giveLog = giveLog;
+            this.parallelSafe = parallelSafe;
+        }
+
+        @Override
+        int compute(int from, int to) {
+            int flags = 0;
+            for (int i = from; i < to; i++) {
+                double value = xs[i];
+                if (Double.isNaN(value)) {
+                    flags |= setNaN(i, value);
+                    continue;
+                }
+                try {
+                    // reports warning for non-integer values, which are excluded in parallel mode
+                    DPQ.nonintCheck(value, giveLog);
+                } catch (EarlyReturn e) {
+                    result[i] = e.result;
+                    continue;
+                }
+                if (value < 0 || !Double.isFinite(value)) {
+                    result[i] = DPQ.rd0(giveLog);
+                } else {
+                    flags |= setValue(i, Dbinom.dbinomRaw(RMath.forceint(value), n, p, q, giveLog));
+                }
+            }
+            return flags;
+        }
+
+        @Override
+        boolean isParallelSafe() {
+            return parallelSafe;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995-2012, The R Core Team
  * Copyright (c) 2003, The R Foundation
- * Copyright (c) 2015, 2019, Oracle and/or its affiliates
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -53,7 +53,16 @@ public final class DNorm implements Function3_1 {
             return (x == mu) ? Double.POSITIVE_INFINITY : DPQ.rd0(giveLog);
         }
 
-        x = (x - mu) / sigma;
+        return dnormValidated(x, mu, sigma, giveLog);
+    }
+
+    /**
+     * The part of {@link #evaluate(double, double, double, boolean)} that follows the arguments
+     * validation: {@code x} and {@code mu} must not be {@code NaN}, {@code sigma} must be finite
+     * and positive and {@code x} must not be equal to an infinite {@code mu}.
+     */
+    static double dnormValidated(double xa, double mu, double sigma, boolean giveLog) {
+        double x = (xa - mu) / sigma;
         x = Math.abs(x);
         if (x >= 2 * Math.sqrt(Double.MAX_VALUE)) {
             return DPQ.rd0(giveLog);
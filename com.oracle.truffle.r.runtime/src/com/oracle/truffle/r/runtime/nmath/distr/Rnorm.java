@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995-2012, The R Core Team
  * Copyright (c) 2003, The R Foundation
- * Copyright (c) 2013, 2021, Oracle and/or its affiliates
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -19,6 +19,8 @@
  */
 package com.oracle.truffle.r.runtime.nmath.distr;
 
+import java.util.Arrays;
+
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateUncached;
 import com.oracle.truffle.api.dsl.Specialization;
@@ -27,10 +29,11 @@ import com.oracle.truffle.api.profiles.ConditionProfile;
 import com.oracle.truffle.api.profiles.PrimitiveValueProfile;
 import com.oracle.truffle.r.runtime.nmath.RMathError;
 import com.oracle.truffle.r.runtime.nmath.RandomFunctions.RandFunction2_Double;
+import com.oracle.truffle.r.runtime.nmath.RandomFunctions.RandFunction2_DoubleBulk;
 import com.oracle.truffle.r.runtime.nmath.RandomFunctions.RandomNumberProvider;
 
 @GenerateUncached
-public abstract class Rnorm extends RandFunction2_Double {
+public abstract class Rnorm extends RandFunction2_Double implements RandFunction2_DoubleBulk {
 
     @Specialization
     public double exec(double muIn, double sigmaIn, RandomNumberProvider rand,
@@ -51,6 +54,24 @@ public abstract class Rnorm extends RandFunction2_Double {
         }
     }
 
+    @Override
+    public boolean generateBulk(double mu, double sigma, RandomNumberProvider rand, double[] result) {
+        if (Double.isNaN(mu) || !Double.isFinite(sigma) || sigma < 0.) {
+            return false;
+        }
+        if (sigma == 0. || !Double.isFinite(mu)) {
+            Arrays.fill(result, mu);
+            return true;
+        }
+        if (!rand.normRand(result)) {
+            return false;
+        }
+        for (int i = 0; i < result.length; i++) {
+            result[i] = mu + sigma * result[i];
+        }
+        return true;
+    }
+
     public static Rnorm create() {
         return RnormNodeGen.create();
     }
@@ -1,7 +1,7 @@
 /*
  * Copyright (C) 1998 Ross Ihaka
  * Copyright (c) 1998--2008, The R Core Team
- * Copyright (c) 2016, 2018, Oracle and/or its affiliates
+ * Copyright (c) 2016, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -119,6 +119,30 @@ public final class SNorm {
         // only static members
     }
 
+    /**
+     * Number of normal values generated from one batch of uniform values in
+     * {@link #normRandInversion(RandomNumberGenerator, double[])}.
+     */
+    private static final int INVERSION_CHUNK = 512;
+
+    /**
+     * Bulk version of {@link #normRand(RandomNumberGenerator, NormKind)} for
+     * {@link NormKind#INVERSION}, gives the same values as the corresponding number of
+     * {@code normRand} calls.
+     */
+    public static void normRandInversion(RandomNumberGenerator rand, double[] result) {
+        double[] u = new double[2 * Math.min(result.length, INVERSION_CHUNK)];
+        for (int from = 0; from < result.length; from += INVERSION_CHUNK) {
+            int count = Math.min(INVERSION_CHUNK, result.length - from);
+            rand.genrandDoubles(u, 0, 2 * count);
+            for (int i = 0; i < count; i++) {
+                /* unif_rand() alone is not of high enough precision */
+                double u1 = (int) (BIG * u[2 * i]) + u[2 * i + 1];
+                result[from + i] = Qnorm.qnorm(u1 / BIG, 0.0, 1.0, true, false);
+            }
+        }
+    }
+
     @SuppressWarnings("unused")
     public static double normRand(RandomNumberGenerator rand, NormKind normKind) {
         double s;
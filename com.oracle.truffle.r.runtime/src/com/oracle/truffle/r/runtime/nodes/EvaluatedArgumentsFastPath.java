@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,6 +24,8 @@ package com.oracle.truffle.r.runtime.nodes;
 
 import java.util.Arrays;
 
+import com.oracle.truffle.api.Assumption;
+import com.oracle.truffle.api.Truffle;
 import com.oracle.truffle.r.runtime.ArgumentsSignature;
 import com.oracle.truffle.r.runtime.RVisibility;
 import com.oracle.truffle.r.runtime.builtins.FastPathFactory;
@@ -32,9 +34,11 @@ import com.oracle.truffle.r.runtime.context.RContext;
 final class EvaluatedArgumentsFastPath implements FastPathFactory {
 
     private final boolean[] forcedArguments;
+    private final Assumption strictArguments;
 
-    EvaluatedArgumentsFastPath(boolean[] forcedArguments) {
+    EvaluatedArgumentsFastPath(boolean[] forcedArguments, boolean strict) {
         this.forcedArguments = forcedArguments;
+        this.strictArguments = strict ? Truffle.getRuntime().createAssumption("strict arguments") : null;
     }
 
     @Override
@@ -57,6 +61,11 @@ final class EvaluatedArgumentsFastPath implements FastPathFactory {
         return RContext.getInstance().noEagerEvalOption() ? false : forcedArguments[index];
     }
 
+    @Override
+    public Assumption strictArguments() {
+        return strictArguments;
+    }
+
     public String toString(ArgumentsSignature signature) {
         StringBuilder str = new StringBuilder();
         for (int i = 0; i < signature.getLength(); i++) {
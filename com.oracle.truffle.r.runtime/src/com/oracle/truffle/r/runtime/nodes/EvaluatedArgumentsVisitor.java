@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -223,7 +223,11 @@ public final class EvaluatedArgumentsVisitor extends RSyntaxVisitor<Info> {
         return Info.ANY;
     }
 
-    public static EvaluatedArgumentsFastPath process(RSyntaxElement body, ArgumentsSignature signature) {
+    /**
+     * @param defaults the default values of the formal arguments, {@code null} elements for
+     *            arguments without a default value
+     */
+    public static EvaluatedArgumentsFastPath process(RSyntaxElement body, ArgumentsSignature signature, RSyntaxElement[] defaults) {
         Info info = new EvaluatedArgumentsVisitor().accept(body);
         boolean[] forcedArguments = new boolean[signature.getLength()];
         int cnt = 0;
@@ -237,10 +241,18 @@ public final class EvaluatedArgumentsVisitor extends RSyntaxVisitor<Info> {
         if (cnt == 0) {
             return null;
         } else {
-            return new EvaluatedArgumentsFastPath(forcedArguments);
+            return new EvaluatedArgumentsFastPath(forcedArguments, StrictArgumentsVisitor.isStrict(body, signature, defaults));
         }
     }
 
+    /**
+     * Decides whether {@code node} may be evaluated before the call of a strict closure, see
+     * {@link StrictArgumentsVisitor}.
+     */
+    public static boolean isStrictArgument(RSyntaxElement node) {
+        return StrictArgumentsVisitor.isStrictArgument(node);
+    }
+
     public static boolean isSimpleArgument(RSyntaxElement node) {
         if (node instanceof RSyntaxCall) {
             RSyntaxCall call = (RSyntaxCall) node;
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.runtime.nodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.oracle.truffle.r.runtime.ArgumentsSignature;
+
+/**
+ * Decides whether a closure is strict: its body only calls side effect free functions, it forces
+ * all its formal arguments unconditionally and in the order of their declaration before it could
+ * return, it does not assign to a formal argument before forcing it, and default values of its
+ * formal arguments are constants. Such a closure cannot tell whether its arguments were evaluated
+ * by the caller before the call or lazily on the first access (e.g., there are no
+ * {@code substitute}, {@code missing} or {@code sys.call} calls), so its callers can pass values
+ * instead of promises.
+ *
+ * Like {@link EvaluatedArgumentsVisitor}, the analysis assumes that the well-known function names
+ * are not redefined.
+ */
+final class StrictArgumentsVisitor extends RSyntaxVisitor<Boolean> {
+
+    private static final Set<String> strictFunctions = new HashSet<>(Arrays.asList("{", "(", "if", "for", "while", "return", "<-", "=", "+", "-", "*", "/", "^", "%%", "%/%", ":", ">=", ">",
+                    "<=", "<", "==", "!=", "!", "&", "|", "&&", "||", "abs", "sqrt", "exp", "expm1", "log", "log1p", "log2", "log10", "sin", "cos", "tan", "sinpi", "cospi", "tanpi", "asin",
+                    "acos", "atan", "sinh", "cosh", "tanh", "asinh", "acosh", "atanh", "floor", "ceiling", "trunc", "sign", "gamma", "lgamma", "min", "max", "sum", "prod", "pmin", "pmax",
+                    "length", "c", "is.na", "is.null", "seq_len", "seq_along"));
+
+    /**
+     * The functions of {@link #strictFunctions} that evaluate their arguments conditionally or have
+     * an effect on the frame they are called in.
+     */
+    private static final Set<String> controlFunctions = new HashSet<>(Arrays.asList("{", "if", "for", "while", "return", "<-", "="));
+
+    private final Set<String> formals;
+    private final ArrayList<String> forced = new ArrayList<>();
+    private final Set<String> assigned = new HashSet<>();
+    /**
+     * Greater than zero while visiting code that may not be executed, e.g., a branch of an
+     * {@code if}.
+     */
+    private int conditional;
+
+    private StrictArgumentsVisitor(Set<String> formals) {
+        this.formals = formals;
+    }
+
+    /**
+     * @param defaults the default values of the formal arguments, {@code null} elements for
+     *            arguments without a default value
+     */
+    static boolean isStrict(RSyntaxElement body, ArgumentsSignature signature, RSyntaxElement[] defaults) {
+        if (signature.getLength() == 0 || signature.getVarArgCount() > 0) {
+            return false;
+        }
+        Set<String> formals = new HashSet<>();
+        for (int i = 0; i < signature.getLength(); i++) {
+            String name = signature.getName(i);
+            if (name == null || !formals.add(name) || (defaults[i] != null && !(defaults[i] instanceof RSyntaxConstant))) {
+                return false;
+            }
+        }
+        StrictArgumentsVisitor visitor = new StrictArgumentsVisitor(formals);
+        if (!visitor.accept(body) || visitor.forced.size() != signature.getLength()) {
+            return false;
+        }
+        for (int i = 0; i < signature.getLength(); i++) {
+            if (!signature.getName(i).equals(visitor.forced.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decides whether {@code element} can be evaluated as an argument before the call of a strict
+     * closure: it may only consist of constants, variable lookups and calls of the side effect free
+     * functions that a strict closure may call.
+     */
+    static boolean isStrictArgument(RSyntaxElement element) {
+        if (element instanceof RSyntaxConstant) {
+            return true;
+        } else if (element instanceof RSyntaxLookup) {
+            RSyntaxLookup lookup = (RSyntaxLookup) element;
+            return !lookup.isFunctionLookup() && !lookup.getIdentifier().startsWith("..");
+        } else if (element instanceof RSyntaxCall) {
+            RSyntaxElement lhs = ((RSyntaxCall) element).getSyntaxLHS();
+            if (!(lhs instanceof RSyntaxLookup)) {
+                return false;
+            }
+            String name = ((RSyntaxLookup) lhs).getIdentifier();
+            if (!strictFunctions.contains(name) || controlFunctions.contains(name)) {
+                return false;
+            }
+            for (RSyntaxElement argument : ((RSyntaxCall) element).getSyntaxArguments()) {
+                if (argument == null || !isStrictArgument(argument)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private boolean acceptConditional(RSyntaxElement element) {
+        conditional++;
+        try {
+            return accept(element);
+        } finally {
+            conditional--;
+        }
+    }
+
+    private boolean assign(RSyntaxElement target) {
+        if (!(target instanceof RSyntaxLookup)) {
+            return false;
+        }
+        String name = ((RSyntaxLookup) target).getIdentifier();
+        if (formals.contains(name) && !forced.contains(name)) {
+            // the argument would never be forced
+            return false;
+        }
+        assigned.add(name);
+        return true;
+    }
+
+    @Override
+    protected Boolean visit(RSyntaxCall element) {
+        RSyntaxElement lhs = element.getSyntaxLHS();
+        if (!(lhs instanceof RSyntaxLookup) || !strictFunctions.contains(((RSyntaxLookup) lhs).getIdentifier())) {
+            return false;
+        }
+        RSyntaxElement[] arguments = element.getSyntaxArguments();
+        switch (((RSyntaxLookup) lhs).getIdentifier()) {
+            case "<-":
+            case "=":
+                return arguments.length == 2 && accept(arguments[1]) && assign(arguments[0]);
+            case "if":
+                if (arguments.length != 2 && arguments.length != 3) {
+                    return false;
+                }
+                return accept(arguments[0]) && acceptConditional(arguments[1]) && (arguments.length == 2 || acceptConditional(arguments[2]));
+            case "&&":
+            case "||":
+                return arguments.length == 2 && accept(arguments[0]) && acceptConditional(arguments[1]);
+            case "while":
+                return arguments.length == 2 && accept(arguments[0]) && acceptConditional(arguments[1]);
+            case "for":
+                return arguments.length == 3 && accept(arguments[1]) && assign(arguments[0]) && acceptConditional(arguments[2]);
+            case "return":
+                if (arguments.length > 1 || (arguments.length == 1 && !accept(arguments[0]))) {
+                    return false;
+                }
+                // whatever follows may not be executed
+                conditional++;
+                return true;
+            default:
+                for (RSyntaxElement argument : arguments) {
+                    if (argument != null && !accept(argument)) {
+                        return false;
+                    }
+                }
+                return true;
+        }
+    }
+
+    @Override
+    protected Boolean visit(RSyntaxConstant element) {
+        return true;
+    }
+
+    @Override
+    protected Boolean visit(RSyntaxLookup element) {
+        String name = element.getIdentifier();
+        if (element.isFunctionLookup() || name.startsWith("..")) {
+            return false;
+        }
+        if (formals.contains(name) && !assigned.contains(name) && !forced.contains(name)) {
+            if (conditional > 0) {
+                return false;
+            }
+            forced.add(name);
+        }
+        return true;
+    }
+
+    @Override
+    protected Boolean visit(RSyntaxFunction element) {
+        return false;
+    }
+}
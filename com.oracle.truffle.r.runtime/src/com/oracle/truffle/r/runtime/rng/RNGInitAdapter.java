@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995-2012, The R Core Team
  * Copyright (c) 2003, The R Foundation
- * Copyright (c) 2014, 2018, Oracle and/or its affiliates
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -28,7 +28,19 @@ public abstract class RNGInitAdapter implements RandomNumberGenerator {
     protected static final int MAX_ISEED_SIZE = 625;
 
     // TODO: it seems like GNU R this is shared between the generators (does it matter?)
-    private int[] iSeed = new int[MAX_ISEED_SIZE + 1];
+    private int[] iSeed;
+
+    protected RNGInitAdapter() {
+        this(MAX_ISEED_SIZE);
+    }
+
+    /**
+     * Allows generators with small state to allocate only {@code nSeed} seeds, which then gives
+     * {@code .Random.seed} of the same length as in GNU R.
+     */
+    protected RNGInitAdapter(int nSeed) {
+        iSeed = new int[nSeed + 1];
+    }
 
     @Override
     public void setISeed(int[] seeds) {
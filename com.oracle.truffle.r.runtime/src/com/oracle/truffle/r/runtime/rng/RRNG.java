@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995-2012, The R Core Team
  * Copyright (c) 2003, The R Foundation
- * Copyright (c) 2014, 2022, Oracle and/or its affiliates
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -43,14 +43,18 @@ import com.oracle.truffle.r.runtime.env.frame.ActiveBinding;
 import com.oracle.truffle.r.runtime.env.frame.FrameSlotChangeMonitor;
 import com.oracle.truffle.r.runtime.ffi.BaseRFFI;
 import com.oracle.truffle.r.runtime.nmath.RandomFunctions.RandomNumberProvider;
+import com.oracle.truffle.r.runtime.rng.lecuyer.LecuyerCMRG;
 import com.oracle.truffle.r.runtime.rng.mm.MarsagliaMulticarry;
 import com.oracle.truffle.r.runtime.rng.mt.MersenneTwister;
 import com.oracle.truffle.r.runtime.rng.user.UserRNG;
 
 /**
  * Facade class to the R random number generators, (see src/main/RNG.c in GnuR). The individual
- * generators are implemented in their own class. Currently there are only two implemented, the
- * default, {@link MersenneTwister} and {@link MarsagliaMulticarry}.
+ * generators are implemented in their own class. Currently there are only three implemented, the
+ * default, {@link MersenneTwister}, {@link MarsagliaMulticarry} and {@link LecuyerCMRG}.
+ *
+ * Child contexts of a context that uses {@link LecuyerCMRG} automatically get independent streams
+ * of the parent's generator, see {@link #nextStreamSeeds(RContext)}.
  *
  * The fact that the R programmer can set {@code .Random.seed} explicitly, as opposed to the
  * recommended approach of calling {@code set.seed}, is something of a pain as it changes the
@@ -79,7 +83,7 @@ public class RRNG {
         KNUTH_TAOCP(),
         USER_UNIF(UserRNG::new),
         KNUTH_TAOCP2(),
-        LECUYER_CMRG();
+        LECUYER_CMRG(LecuyerCMRG::new);
 
         @CompilationFinal(dimensions = 1) static final Kind[] VALUES = values();
 
@@ -146,6 +150,12 @@ public class RRNG {
          */
         private Object currentSeeds = null;
 
+        /**
+         * Seeds of the last {@link LecuyerCMRG} stream handed out by
+         * {@link RRNG#nextStreamSeeds(RContext)}, reset when the seed is set.
+         */
+        private int[] lastStreamSeeds;
+
         private ContextStateImpl() {
             this.currentNormKind = DEFAULT_NORM_KIND;
             this.currentSampleKind = REJECTION;
@@ -154,6 +164,21 @@ public class RRNG {
 
         @Override
         public RContext.ContextState initialize(RContext context) {
+            RContext parent = context.getParent();
+            if (parent != null && parent.stateRNG.currentGenerator != null && parent.stateRNG.currentGenerator.getKind() == Kind.LECUYER_CMRG) {
+                // the child gets the next independent stream of the parent's generator
+                ContextStateImpl parentState = parent.stateRNG;
+                RandomNumberGenerator rng = Kind.LECUYER_CMRG.create();
+                rng.setISeed(nextStreamSeeds(parent));
+                this.currentNormKind = parentState.currentNormKind;
+                this.currentSampleKind = parentState.currentSampleKind;
+                this.currentGenerator = rng;
+                this.allGenerators[rng.getKind().ordinal()] = rng;
+                int[] seeds = rng.getSeeds();
+                seeds[0] = Kind.LECUYER_CMRG.ordinal() + 100 * currentNormKind.ordinal() + 10000 * currentSampleKind.ordinal();
+                this.currentSeeds = seeds;
+                return this;
+            }
             int seed = timeToSeed();
             RandomNumberGenerator rng = DEFAULT_KIND.create();
             initGenerator(rng, seed);
@@ -162,6 +187,27 @@ public class RRNG {
             return this;
         }
 
+        private synchronized int[] nextStreamSeeds() {
+            if (lastStreamSeeds == null) {
+                int[] base;
+                if (currentGenerator.getKind() == Kind.LECUYER_CMRG) {
+                    base = currentGenerator.getSeeds();
+                } else {
+                    RandomNumberGenerator rng = Kind.LECUYER_CMRG.create();
+                    initGenerator(rng, timeToSeed());
+                    base = rng.getSeeds();
+                }
+                lastStreamSeeds = LecuyerCMRG.nextStream(base);
+            } else {
+                lastStreamSeeds = LecuyerCMRG.nextStream(lastStreamSeeds);
+            }
+            return lastStreamSeeds.clone();
+        }
+
+        private synchronized void resetStreams() {
+            lastStreamSeeds = null;
+        }
+
         /*
          * Similar to GNUR's RNGkind function.
          */
@@ -228,6 +274,10 @@ public class RRNG {
             assert REnvironment.globalEnv() != null;
             RFunction fun = context.lookupBuiltin(".fastr.set.seed");
             ActiveBinding dotRandomSeed = new ActiveBinding(RType.Any, fun, true);
+            if (currentSeeds != null) {
+                // seeded from the parent's stream in initialize
+                dotRandomSeed.setInitialized(true);
+            }
             Frame frame = REnvironment.globalEnv().getFrame();
             int frameIndex = FrameSlotChangeMonitor.findOrAddAuxiliaryFrameSlot(frame.getFrameDescriptor(), RRNG.RANDOM_SEED);
             FrameSlotChangeMonitor.setActiveBinding(frame, frameIndex, dotRandomSeed, false);
@@ -293,6 +343,31 @@ public class RRNG {
         return getContextState().currentSampleKind;
     }
 
+    /**
+     * Returns seeds (in the {@code .Random.seed} format) of a new {@link LecuyerCMRG} stream that is
+     * independent of the streams returned before and of the current stream of {@code ctx}, if it
+     * uses {@link Kind#LECUYER_CMRG}. Consecutive streams are 2^127 steps apart, the same as with
+     * {@code parallel::nextRNGStream}, and the sequence restarts from the current seed after
+     * {@code set.seed} or {@code RNGkind}, so that the streams are reproducible. This method can be
+     * invoked from any thread.
+     */
+    @TruffleBoundary
+    public static int[] nextStreamSeeds(RContext ctx) {
+        return getContextState(ctx).nextStreamSeeds();
+    }
+
+    /**
+     * Creates a generator for a worker thread that draws from a new independent stream, see
+     * {@link #nextStreamSeeds(RContext)}. The generator is not bound to any context and its state
+     * is not reflected in {@code .Random.seed}.
+     */
+    @TruffleBoundary
+    public static RandomNumberGenerator createStreamGenerator(RContext ctx) {
+        RandomNumberGenerator rng = Kind.LECUYER_CMRG.create();
+        rng.setISeed(nextStreamSeeds(ctx));
+        return rng;
+    }
+
     /**
      * Ask the current generator for a random double. (cf. {@code unif_rand} in RNG.c.
      */
@@ -393,6 +468,7 @@ public class RRNG {
 
     @TruffleBoundary
     private static void changeKindsAndInitGenerator(Integer newSeed, int kindAsInt, int normKindAsInt, int sampleKindAsInt) {
+        getContextState().resetStreams();
         RandomNumberGenerator rng;
         if (kindAsInt != NO_KIND_CHANGE) {
             if (kindAsInt == DEFAULT_KIND_CHANGE) {
@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995-2012, The R Core Team
  * Copyright (c) 2003, The R Foundation
- * Copyright (c) 2014, 2018, Oracle and/or its affiliates
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -37,6 +37,17 @@ public interface RandomNumberGenerator {
 
     double genrandDouble();
 
+    /**
+     * Fills {@code result} from index {@code from} (inclusive) to {@code to} (exclusive) with the
+     * same values as the corresponding number of {@link #genrandDouble()} calls would give.
+     * Generators can override this to keep their state in local variables for the whole batch.
+     */
+    default void genrandDoubles(double[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = genrandDouble();
+        }
+    }
+
     Kind getKind();
 
     /**
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 1995-2012, The R Core Team
+ * Copyright (c) 2003, The R Foundation
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, a copy is available at
+ * https://www.R-project.org/Licenses/
+ */
+package com.oracle.truffle.r.runtime.rng.lecuyer;
+
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.r.runtime.rng.RNGInitAdapter;
+import com.oracle.truffle.r.runtime.rng.RRNG;
+import com.oracle.truffle.r.runtime.rng.RRNG.Kind;
+
+/**
+ * "L'Ecuyer-CMRG" RNG, the combined multiple-recursive generator MRG32k3a. Transcribed from GnuR
+ * RNG.c, the stream jumps are transcribed from rngstream.c in the GnuR parallel package.
+ *
+ * The period of the generator is approximately 2^191 and it can be advanced by 2^127 (a "stream")
+ * or by 2^76 (a "sub-stream") steps in constant time, which is how independent streams for
+ * parallel computations are obtained.
+ */
+public final class LecuyerCMRG extends RNGInitAdapter {
+
+    private static final int N_SEED = 6;
+
+    private static final long M1 = 4294967087L;
+    private static final long M2 = 4294944443L;
+    private static final double NORMC = 2.328306549295727688e-10;
+    private static final long A12 = 1403580;
+    private static final long A13N = 810728;
+    private static final long A21 = 527612;
+    private static final long A23N = 1370589;
+
+    /**
+     * Transition matrices of the two components for 2^127 ({@code A1p127} and {@code A2p127}) and
+     * 2^76 ({@code A1p76} and {@code A2p76}) steps.
+     */
+    @CompilationFinal(dimensions = 2) private static final long[][] A1P127 = powerOfTwo(transition1(), 127, M1);
+    @CompilationFinal(dimensions = 2) private static final long[][] A2P127 = powerOfTwo(transition2(), 127, M2);
+    @CompilationFinal(dimensions = 2) private static final long[][] A1P76 = powerOfTwo(transition1(), 76, M1);
+    @CompilationFinal(dimensions = 2) private static final long[][] A2P76 = powerOfTwo(transition2(), 76, M2);
+
+    public LecuyerCMRG() {
+        super(N_SEED);
+    }
+
+    @Override
+    @TruffleBoundary
+    public void init(int seedParam) {
+        int seed = seedParam;
+        for (int i = 0; i < N_SEED; i++) {
+            seed = (69069 * seed + 1);
+            while (Integer.toUnsignedLong(seed) >= M2) {
+                seed = (69069 * seed + 1);
+            }
+            setISeedItem(i, seed);
+        }
+    }
+
+    @Override
+    @TruffleBoundary
+    public void fixupSeeds(boolean initial) {
+        // first set: not all zero, in [0, m1), second set: not all zero, in [0, m2)
+        if (!isValidComponent(0, M1) || !isValidComponent(3, M2)) {
+            init(RRNG.timeToSeed());
+        }
+    }
+
+    private boolean isValidComponent(int offset, long m) {
+        boolean notAllZero = false;
+        for (int i = offset; i < offset + 3; i++) {
+            long value = Integer.toUnsignedLong(getISeedItem(i));
+            if (value >= m) {
+                return false;
+            }
+            notAllZero |= value != 0;
+        }
+        return notAllZero;
+    }
+
+    @Override
+    public double genrandDouble() {
+        long s0 = Integer.toUnsignedLong(getISeedItem(0));
+        long s1 = Integer.toUnsignedLong(getISeedItem(1));
+        long s2 = Integer.toUnsignedLong(getISeedItem(2));
+        long s3 = Integer.toUnsignedLong(getISeedItem(3));
+        long s4 = Integer.toUnsignedLong(getISeedItem(4));
+        long s5 = Integer.toUnsignedLong(getISeedItem(5));
+
+        long p1 = Math.floorMod(A12 * s1 - A13N * s0, M1);
+        long p2 = Math.floorMod(A21 * s5 - A23N * s3, M2);
+
+        setISeedItem(0, (int) s1);
+        setISeedItem(1, (int) s2);
+        setISeedItem(2, (int) p1);
+        setISeedItem(3, (int) s4);
+        setISeedItem(4, (int) s5);
+        setISeedItem(5, (int) p2);
+        return ((p1 > p2) ? (p1 - p2) : (p1 - p2 + M1)) * NORMC;
+    }
+
+    @Override
+    public void genrandDoubles(double[] result, int from, int to) {
+        long s0 = Integer.toUnsignedLong(getISeedItem(0));
+        long s1 = Integer.toUnsignedLong(getISeedItem(1));
+        long s2 = Integer.toUnsignedLong(getISeedItem(2));
+        long s3 = Integer.toUnsignedLong(getISeedItem(3));
+        long s4 = Integer.toUnsignedLong(getISeedItem(4));
+        long s5 = Integer.toUnsignedLong(getISeedItem(5));
+        for (int i = from; i < to; i++) {
+            long p1 = Math.floorMod(A12 * s1 - A13N * s0, M1);
+            long p2 = Math.floorMod(A21 * s5 - A23N * s3, M2);
+            s0 = s1;
+            s1 = s2;
+            s2 = p1;
+            s3 = s4;
+            s4 = s5;
+            s5 = p2;
+            result[i] = ((p1 > p2) ? (p1 - p2) : (p1 - p2 + M1)) * NORMC;
+        }
+        setISeedItem(0, (int) s0);
+        setISeedItem(1, (int) s1);
+        setISeedItem(2, (int) s2);
+        setISeedItem(3, (int) s3);
+        setISeedItem(4, (int) s4);
+        setISeedItem(5, (int) s5);
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.LECUYER_CMRG;
+    }
+
+    @Override
+    public int getNSeed() {
+        return N_SEED;
+    }
+
+    /**
+     * Returns the seeds of the next stream, i.e. {@code seeds} advanced by 2^127 steps. The seeds
+     * are in the format of {@code .Random.seed}, the first element is copied. Equivalent to
+     * {@code parallel::nextRNGStream}.
+     */
+    public static int[] nextStream(int[] seeds) {
+        return advance(seeds, A1P127, A2P127);
+    }
+
+    /**
+     * Returns the seeds of the next sub-stream, i.e. {@code seeds} advanced by 2^76 steps.
+     * Equivalent to {@code parallel::nextRNGSubStream}.
+     */
+    public static int[] nextSubStream(int[] seeds) {
+        return advance(seeds, A1P76, A2P76);
+    }
+
+    /**
+     * Returns {@code seeds} advanced by 2^{@code log2Steps} steps.
+     */
+    @TruffleBoundary
+    public static int[] advance(int[] seeds, int log2Steps) {
+        return advance(seeds, powerOfTwo(transition1(), log2Steps, M1), powerOfTwo(transition2(), log2Steps, M2));
+    }
+
+    private static int[] advance(int[] seeds, long[][] a1, long[][] a2) {
+        assert seeds.length >= N_SEED + 1;
+        int[] result = new int[N_SEED + 1];
+        result[0] = seeds[0];
+        multiply(a1, seeds, 1, result, M1);
+        multiply(a2, seeds, 4, result, M2);
+        return result;
+    }
+
+    private static void multiply(long[][] a, int[] seeds, int offset, int[] result, long m) {
+        for (int i = 0; i < 3; i++) {
+            long sum = 0;
+            for (int j = 0; j < 3; j++) {
+                sum = (sum + mulMod(a[i][j], Integer.toUnsignedLong(seeds[offset + j]), m)) % m;
+            }
+            result[offset + i] = (int) sum;
+        }
+    }
+
+    private static long[][] transition1() {
+        return new long[][]{{0, 1, 0}, {0, 0, 1}, {M1 - A13N, A12, 0}};
+    }
+
+    private static long[][] transition2() {
+        return new long[][]{{0, 1, 0}, {0, 0, 1}, {M2 - A23N, 0, A21}};
+    }
+
+    /**
+     * Computes {@code a^(2^e) mod m} by repeated squaring.
+     */
+    private static long[][] powerOfTwo(long[][] a, int e, long m) {
+        long[][] result = a;
+        for (int i = 0; i < e; i++) {
+            result = multiply(result, result, m);
+        }
+        return result;
+    }
+
+    private static long[][] multiply(long[][] a, long[][] b, long m) {
+        long[][] result = new long[3][3];
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                long sum = 0;
+                for (int k = 0; k < 3; k++) {
+                    sum = (sum + mulMod(a[i][k], b[k][j], m)) % m;
+                }
+                result[i][j] = sum;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Both factors are smaller than 2^32, so the product fits into an unsigned long.
+     */
+    private static long mulMod(long a, long b, long m) {
+        return Long.remainderUnsigned(a * b, m);
+    }
+}
@@ -1,7 +1,7 @@
 /*
  * Copyright (c) 1995, 1996  Robert Gentleman and Ross Ihaka
  * Copyright (c) 1997-2016,  The R Core Team
- * Copyright (c) 2013, 2018, Oracle and/or its affiliates
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates
  *
  * This program is free software; you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -142,54 +142,72 @@ public final class MersenneTwister extends RNGInitAdapter {
     @Override
     public double genrandDouble() {
         if (bufferIndex == BUFFER_SIZE) {
-            int localDummy0 = getISeedItem(0);
-            int localMti = localDummy0;
-            // It appears that this never happens
-            // sgenrand(4357);
-            assert localMti != N + 1;
-            int pos = 0;
-            while (true) {
-                int loopCount = Math.min(BUFFER_SIZE - pos, N - localMti);
-                for (int i = 0; i < loopCount; i++) {
-                    int y = getMt(localMti + i);
-                    /* Tempering */
-                    y ^= (y >>> 11);
-                    y ^= (y << 7) & TEMPERING_MASK_B;
-                    y ^= (y << 15) & TEMPERING_MASK_C;
-                    y ^= (y >>> 18);
-                    buffer[pos + i] = ((y + Integer.MIN_VALUE) - (double) Integer.MIN_VALUE) * I2_32M1;
-                }
-                for (int i = 0; i < loopCount; i++) {
-                    buffer[pos + i] = fixup(buffer[pos + i]);
-                }
-                localMti += loopCount;
-                pos += loopCount;
-
-                if (pos == BUFFER_SIZE) {
-                    break;
-                }
-                /* generate N words at one time */
-                int kk;
-                for (kk = 0; kk < N - M; kk++) {
-                    int y2y = (getMt(kk) & UPPERMASK) | (getMt(kk + 1) & LOWERMASK);
-                    setMt(kk, getMt(kk + M) ^ (y2y >>> 1) ^ mag01(y2y & 0x1));
-                }
-                for (; kk < N - 1; kk++) {
-                    int y2y = (getMt(kk) & UPPERMASK) | (getMt(kk + 1) & LOWERMASK);
-                    setMt(kk, getMt(kk + (M - N)) ^ (y2y >>> 1) ^ mag01(y2y & 0x1));
-                }
-                int y2y = (getMt(N - 1) & UPPERMASK) | (getMt(0) & LOWERMASK);
-                setMt(N - 1, getMt(M - 1) ^ (y2y >>> 1) ^ mag01(y2y & 0x1));
-
-                localMti = 0;
-            }
-            localDummy0 = localMti;
-            setISeedItem(0, localDummy0);
-            bufferIndex = 0;
+            fillBuffer();
         }
         return buffer[bufferIndex++];
     }
 
+    @Override
+    public void genrandDoubles(double[] result, int from, int to) {
+        int pos = from;
+        while (pos < to) {
+            if (bufferIndex == BUFFER_SIZE) {
+                fillBuffer();
+            }
+            int count = Math.min(to - pos, BUFFER_SIZE - bufferIndex);
+            System.arraycopy(buffer, bufferIndex, result, pos, count);
+            bufferIndex += count;
+            pos += count;
+        }
+    }
+
+    private void fillBuffer() {
+        int localDummy0 = getISeedItem(0);
+        int localMti = localDummy0;
+        // It appears that this never happens
+        // sgenrand(4357);
+        assert localMti != N + 1;
+        int pos = 0;
+        while (true) {
+            int loopCount = Math.min(BUFFER_SIZE - pos, N - localMti);
+            for (int i = 0; i < loopCount; i++) {
+                int y = getMt(localMti + i);
+                /* Tempering */
+                y ^= (y >>> 11);
+                y ^= (y << 7) & TEMPERING_MASK_B;
+                y ^= (y << 15) & TEMPERING_MASK_C;
+                y ^= (y >>> 18);
+                buffer[pos + i] = ((y + Integer.MIN_VALUE) - (double) Integer.MIN_VALUE) * I2_32M1;
+            }
+            for (int i = 0; i < loopCount; i++) {
+                buffer[pos + i] = fixup(buffer[pos + i]);
+            }
+            localMti += loopCount;
+            pos += loopCount;
+
+            if (pos == BUFFER_SIZE) {
+                break;
+            }
+            /* generate N words at one time */
+            int kk;
+            for (kk = 0; kk < N - M; kk++) {
+                int y2y = (getMt(kk) & UPPERMASK) | (getMt(kk + 1) & LOWERMASK);
+                setMt(kk, getMt(kk + M) ^ (y2y >>> 1) ^ mag01(y2y & 0x1));
+            }
+            for (; kk < N - 1; kk++) {
+                int y2y = (getMt(kk) & UPPERMASK) | (getMt(kk + 1) & LOWERMASK);
+                setMt(kk, getMt(kk + (M - N)) ^ (y2y >>> 1) ^ mag01(y2y & 0x1));
+            }
+            int y2y = (getMt(N - 1) & UPPERMASK) | (getMt(0) & LOWERMASK);
+            setMt(N - 1, getMt(M - 1) ^ (y2y >>> 1) ^ mag01(y2y & 0x1));
+
+            localMti = 0;
+        }
+        localDummy0 = localMti;
+        setISeedItem(0, localDummy0);
+        bufferIndex = 0;
+    }
+
     private static int mag01(int v) {
         return (v & 1) != 0 ? MATRIXA : 0;
     }
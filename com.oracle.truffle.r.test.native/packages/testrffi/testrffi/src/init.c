@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,7 @@
 #include "serialization.h"
 #include "promises.h"
 #include "charsxps.h"
+#include "regions.h"
 #include "rapi_helpers.h"
 #include "rffiwrappers.h"
 
@@ -136,6 +137,8 @@ static const R_CallMethodDef CallEntries[] = {
         CALLDEF(charsxp_revert_via_elt, 1),
         CALLDEF(charsxp_revert_via_dataptr, 1),
         CALLDEF(charsxp_tests, 0),
+        CALLDEF(regions_string_get_region, 3),
+        CALLDEF(regions_vector_get_region, 3),
         CALLDEF(promises_create_promise, 2),
         CALLDEF(promises_put_into_env, 2),
         CALLDEF(promises_tests, 0),
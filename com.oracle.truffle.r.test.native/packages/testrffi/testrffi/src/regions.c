@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+#include "regions.h"
+
+#ifndef FASTR
+// GNU R has no bulk read of string or list elements, the element-wise loop gives the same result
+static R_xlen_t region_size(SEXP x, R_xlen_t from, R_xlen_t n) {
+    R_xlen_t len = XLENGTH(x);
+    if (from < 0 || from >= len || n <= 0) {
+        return 0;
+    }
+    return len - from > n ? n : len - from;
+}
+
+static R_xlen_t FASTR_STRING_GET_REGION(SEXP x, R_xlen_t from, R_xlen_t n, SEXP *buf) {
+    R_xlen_t size = region_size(x, from, n);
+    for (R_xlen_t i = 0; i < size; i++) {
+        buf[i] = STRING_ELT(x, from + i);
+    }
+    return size;
+}
+
+static R_xlen_t FASTR_VECTOR_GET_REGION(SEXP x, R_xlen_t from, R_xlen_t n, SEXP *buf) {
+    R_xlen_t size = region_size(x, from, n);
+    for (R_xlen_t i = 0; i < size; i++) {
+        buf[i] = VECTOR_ELT(x, from + i);
+    }
+    return size;
+}
+#endif
+
+typedef R_xlen_t (*get_region_fun)(SEXP x, R_xlen_t from, R_xlen_t n, SEXP *buf);
+typedef SEXP (*elt_fun)(SEXP x, R_xlen_t i);
+
+/**
+ * Reads `n` elements of `x` starting at the zero-based index `from` with a single region read.
+ * Every element handle is checked against the one returned by the element-wise accessor.
+ * @returns The elements that were read, as a vector of the same type as `x`.
+ */
+static SEXP get_region(SEXP x, SEXP from, SEXP n, get_region_fun get, elt_fun elt) {
+    if (TYPEOF(from) != INTSXP || LENGTH(from) != 1 || TYPEOF(n) != INTSXP || LENGTH(n) != 1) {
+        error("`from` and `n` expected integers of length 1");
+    }
+    R_xlen_t start = INTEGER_ELT(from, 0);
+    R_xlen_t size = INTEGER_ELT(n, 0);
+    SEXP *buf = (SEXP *) R_alloc(size > 0 ? size : 1, sizeof(SEXP));
+    R_xlen_t read = get(x, start, size, buf);
+    R_xlen_t expected = start < 0 || start >= XLENGTH(x) || size <= 0 ? 0 : XLENGTH(x) - start;
+    if (expected > size) {
+        expected = size;
+    }
+    if (read != expected) {
+        error("region read returned %ld elements, expected %ld", (long) read, (long) expected);
+    }
+    SEXP result = PROTECT(allocVector(TYPEOF(x), read));
+    for (R_xlen_t i = 0; i < read; i++) {
+        if (buf[i] != elt(x, start + i)) {
+            error("element %ld of the region differs from the element-wise read", (long) i);
+        }
+        if (TYPEOF(x) == STRSXP) {
+            SET_STRING_ELT(result, i, buf[i]);
+        } else {
+            SET_VECTOR_ELT(result, i, buf[i]);
+        }
+    }
+    UNPROTECT(1);
+    return result;
+}
+
+static SEXP string_elt(SEXP x, R_xlen_t i) {
+    return STRING_ELT(x, i);
+}
+
+static SEXP vector_elt(SEXP x, R_xlen_t i) {
+    return VECTOR_ELT(x, i);
+}
+
+/**
+ * A wrapper for FASTR_STRING_GET_REGION.
+ */
+SEXP regions_string_get_region(SEXP x, SEXP from, SEXP n) {
+    if (TYPEOF(x) != STRSXP) {
+        error("`x` expected STRSXP type");
+    }
+    return get_region(x, from, n, FASTR_STRING_GET_REGION, string_elt);
+}
+
+/**
+ * A wrapper for FASTR_VECTOR_GET_REGION.
+ */
+SEXP regions_vector_get_region(SEXP x, SEXP from, SEXP n) {
+    if (TYPEOF(x) != VECSXP) {
+        error("`x` expected VECSXP type");
+    }
+    return get_region(x, from, n, FASTR_VECTOR_GET_REGION, vector_elt);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -228,4 +228,19 @@ public class TestS4 extends TestRBase {
     public void testValidityFunction() {
         assertEval("{ setClass('A11', slots=c(data='numeric'), validity=function(object) {class(object); TRUE}); B11 <- setClass('B11', contains='A11'); B11(data=42) }");
     }
+
+    @Test
+    public void testMethodTableChanges() {
+        // methods set or removed after the dispatch was cached are honoured, also for an inherited
+        // signature, whose method is installed in the methods table by the first dispatch
+        assertEval("{ setGeneric('describe49', function(x) standardGeneric('describe49')); setClass('Base49', representation(v='numeric')); setClass('Derived49', contains='Base49'); " +
+                        "setMethod('describe49', 'Base49', function(x) 'base'); f <- function(x) describe49(x); d <- new('Derived49', v=1); r <- character(); for (i in 1:3) r <- c(r, f(d)); " +
+                        "setMethod('describe49', 'Derived49', function(x) 'derived'); for (i in 1:3) r <- c(r, f(d)); removeMethod('describe49', 'Derived49'); for (i in 1:3) r <- c(r, f(d)); r }");
+        assertEval("{ setGeneric('area49', function(s) standardGeneric('area49')); setClass('Square49', representation(a='numeric')); setMethod('area49', 'Square49', function(s) s@a^2); " +
+                        "f <- function(s) area49(s); s <- new('Square49', a=3); r <- numeric(); for (i in 1:3) r <- c(r, f(s)); " +
+                        "setMethod('area49', 'Square49', function(s) -s@a); for (i in 1:3) r <- c(r, f(s)); removeMethod('area49', 'Square49'); c(r, tryCatch(f(s), error=function(e) NA)) }");
+        assertEval("{ setGeneric('kind49', function(x) standardGeneric('kind49')); setClass('P49', representation(v='numeric')); setClass('Q49', contains='P49'); setClass('R49', contains='P49'); " +
+                        "setMethod('kind49', 'P49', function(x) class(x)); f <- function(x) kind49(x); objs <- list(new('Q49', v=1), new('R49', v=2), new('P49', v=3)); " +
+                        "r <- character(); for (i in 1:3) for (o in objs) r <- c(r, f(o)); setMethod('kind49', 'R49', function(x) 'R'); for (o in objs) r <- c(r, f(o)); r }");
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.builtins;
+
+import org.junit.Test;
+
+import com.oracle.truffle.r.test.TestBase;
+
+public class TestBuiltin_fastrparLapply extends TestBase {
+
+    /**
+     * The expected output is that of the same code with {@code lapply} in GNU R.
+     */
+    private void assertParLapply(String code) {
+        assertEvalFastR(code, code.replace(".fastr.parLapply", "lapply"));
+    }
+
+    private void assertParLapply(Output output, String code) {
+        assertEvalFastR(output, code, code.replace(".fastr.parLapply", "lapply"));
+    }
+
+    @Test
+    public void testfastrparLapplyBuiltin() {
+        // unary arithmetic builtins over plain numeric vectors are computed by worker threads
+        assertParLapply(".fastr.parLapply(list(a = c(1, 4, NA, 9), b = 1:3, c = c(NA_integer_, 4L), d = numeric(0), e = integer(0)), sqrt)");
+        assertParLapply(".fastr.parLapply(list(a = -3:3, b = c(NA, -2L), c = c(-1.5, NaN, -Inf)), abs)");
+        assertParLapply(".fastr.parLapply(list(c(0.5, -0.5, NA), 1:2), exp)");
+        assertParLapply(".fastr.parLapply(list(x = c(2.5, -2.5, NA), y = 5:6), floor)");
+        assertParLapply("{ r <- .fastr.parLapply(list(a = c(1L, NA), b = 1:2, c = c(4, NaN)), sqrt); list(names(r), sapply(r, typeof), sapply(r, anyNA)) }");
+        assertParLapply(".fastr.parLapply(list(), sqrt)");
+    }
+
+    @Test
+    public void testfastrparLapplyLarge() {
+        // more values than PARALLEL_THRESHOLD, split into chunks across and inside the elements
+        String large = "x <- list(p = seq_len(70000L) - 35000L, q = c(seq_len(50000L) / 7, NA, NaN, -Inf), r = c(NA_integer_, -seq_len(30000L)), s = 1, t = numeric(0)); ";
+        assertParLapply("{ " + large + "r <- .fastr.parLapply(x, abs); list(names(r), sapply(r, typeof), sapply(r, length), sapply(r, sum, na.rm = TRUE), sapply(r, anyNA)) }");
+        assertParLapply("{ " + large + "r <- .fastr.parLapply(.fastr.parLapply(x, abs), sqrt); list(sapply(r, typeof), sapply(r, function(v) sum(v[is.finite(v)])), r$q[49999:50003]) }");
+        assertEvalFastR("{ " + large + "identical(.fastr.parLapply(x, abs), lapply(x, abs)) && identical(.fastr.parLapply(x, trunc), lapply(x, trunc)) }", "TRUE");
+        assertEvalFastR("{ x <- lapply(1:200, function(i) seq_len(1000L) * i / 3); identical(.fastr.parLapply(x, log1p), lapply(x, log1p)) }", "TRUE");
+    }
+
+    @Test
+    public void testfastrparLapplyFallback() {
+        // everything else is evaluated sequentially by lapply
+        assertParLapply(".fastr.parLapply(1:3, function(v) v * 2)");
+        assertParLapply(".fastr.parLapply(c(a = 1, b = 4), sqrt)");
+        assertParLapply(".fastr.parLapply(list(1:3, 4:6), sum)");
+        assertParLapply(".fastr.parLapply(list(4, 9), 'sqrt')");
+        assertParLapply(".fastr.parLapply(list(a = c(x = 4), b = 9), sqrt)");
+        assertParLapply(".fastr.parLapply(list(c(TRUE, NA), 1+2i), sqrt)");
+        assertParLapply("{ Math.m45 <- function(x, ...) paste('dispatched', .Generic); .fastr.parLapply(list(structure(4, class = 'm45'), 9), sqrt) }");
+        assertParLapply(".fastr.parLapply(structure(list(a = 1, b = 4), class = 'l45'), sqrt)");
+        // writes to a shared environment happen in the order of the elements
+        assertParLapply("{ n <- 0; r <- .fastr.parLapply(1:5, function(v) { n <<- n + v; n }); list(r, n) }");
+        assertParLapply("{ e <- new.env(); r <- .fastr.parLapply(as.list(letters[1:4]), function(v) assign(v, length(ls(e)), envir = e)); list(r, mget(letters[1:4], envir = e)) }");
+        assertParLapply("{ n <- 0L; x <- as.list(seq_len(70000L)); r <- .fastr.parLapply(x, function(v) { n <<- n + 1L; v + n }); c(length(r), r[[1]], r[[70000L]], n) }");
+        assertParLapply(Output.IgnoreErrorContext, ".fastr.parLapply(list(4, 'a'), sqrt)");
+    }
+}
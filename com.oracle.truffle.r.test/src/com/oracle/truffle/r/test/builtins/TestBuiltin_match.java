@@ -14,7 +14,7 @@
  * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
  *
  * Copyright (c) 2012-2014, Purdue University
- * Copyright (c) 2013, 2020, Oracle and/or its affiliates
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates
  *
  * All rights reserved.
  */
@@ -472,4 +472,26 @@ public class TestBuiltin_match extends TestBase {
         table = String.format("paste('%1$s', seq(from=1, to=10, by=4), '%2$s', sep='')", preffix, suffix);
         assertEval("{ match(" + x + "," + table + ")}");
     }
+
+    @Test
+    public void testMatchSortedTable() {
+        // tables of at least 64 elements that are sorted and have no NA are searched, not hashed
+        assertEval("{ t <- rep(1:50, each = 2); match(c(0L, 1L, 2L, 25L, 50L, 51L, NA), t) }");
+        assertEval("{ t <- rep(1:50, each = 2); match(c(50L, 3L, 3L, 1L, 100L, -5L), t) }");
+        assertEval("{ t <- rep(seq(0.5, 50, by = 0.5), each = 2); match(c(0, 0.5, 0.75, 25, 50, 50.5, NA, NaN), t) }");
+        assertEval("{ t <- rev(rep(1:50, each = 2)); match(c(0L, 1L, 2L, 25L, 50L, 51L, NA), t) }");
+        assertEval("{ t <- rev(rep(1:50, each = 2)); match(c(1L, 49L, 50L, 2L), t) }");
+        assertEval("{ t <- rev(seq(0.5, 100, by = 0.5)); match(c(-1, 0.5, 100, 100.5, 33.25, 33.5, NA), t) }");
+        assertEval("{ t <- sort(c(1:100, 50L)); match(c(50L, 51L, 101L), t) }");
+        assertEval("{ t <- c(1:100, NA); match(c(1L, 100L, NA), t) }");
+        assertEval("{ t <- c(NaN, 1:100); match(c(1, 100, NaN, NA), t) }");
+        assertEval("{ t <- rep(7L, 100); match(c(6L, 7L, 8L), t) }");
+        assertEval("{ t <- 1:1000; x <- c(1000L, 1L, 500L, 2000L, 999L); match(x, t) }");
+        assertEval("{ t <- 1:1000; x <- seq(-10L, 1010L, by = 7L); sum(match(x, t), na.rm = TRUE) }");
+        assertEval("{ t <- sort(c(1:100, 0.5)); match(c(0.5, 1, 100, 101), t) }");
+        assertEval("{ t <- 1:100; t[50] <- 0L; match(c(0L, 50L, 51L), t) }");
+        assertEval("{ t <- 1:100; match(c(1, 50.5, 100), t) }");
+        assertEval("{ t <- as.double(1:100); match(c(1L, 50L, NA), t) }");
+        assertEval("{ t <- c(-0, seq(1, 100)); match(c(0, -0), t) }");
+    }
 }
@@ -14,7 +14,7 @@
  * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
  *
  * Copyright (c) 2012-2014, Purdue University
- * Copyright (c) 2013, 2021, Oracle and/or its affiliates
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates
  *
  * All rights reserved.
  */
@@ -2100,4 +2100,32 @@ public class TestBuiltin_operators extends TestBase {
         assertEval(template("{ %0; %1; temp <- as.logical(rhs); lhs == temp }", lhs, rhs));
     }
 
+    @Test
+    public void testFusedArithmetic() {
+        // NA and NaN propagation
+        assertEval("{ f <- function(a, b, c) a * b + c; f(c(1, NA, 3, NaN), 2, c(NaN, 1, NA, 4)) }");
+        assertEval("{ f <- function(a, b, c) a * b + c; f(c(1L, NA, 3L), 2.5, 1:3) }");
+        assertEval("{ f <- function(a, b, c) (a - b) / c; f(c(NA, NaN, 1, 0), c(NaN, NA, Inf, 0), 0) }");
+        // recycling
+        assertEval("{ f <- function(a, b, c) a * b + c; f(1:6, c(1.5, 2), 3) }");
+        assertEval(Output.IgnoreWarningContext, "{ f <- function(a, b, c) a * b + c; f(1:5, c(1.5, 2), 3) }");
+        assertEval("{ f <- function(a, b, c) a * b + c; f(1:4, double(0), 1) }");
+        // int and double mixes
+        assertEval("{ f <- function(a, b, c) a * b + c; f(1:4, 2L, 0.5) }");
+        assertEval("{ f <- function(a, b, c) a * b + c; f(1:4, 2L, 3L) }");
+        assertEval("{ f <- function(a, b, c) a / b - c; f(1:4, 0L, 1L) }");
+        assertEval(Output.IgnoreWarningContext, "{ f <- function(a, b, c) a * b + c; f(.Machine$integer.max - 0:1, 1L, 1L) }");
+        // leaves with attributes or a class fall back
+        assertEval("{ f <- function(a, b, c) a * b + c; f(c(x=1, y=2), 2, 1) }");
+        assertEval("{ f <- function(a, b, c) a * b + c; f(matrix(1:4, 2), 2, 0.5) }");
+        assertEval("{ `+.foo` <- function(e1, e2) 'foo plus'; f <- function(a, b, c) a * b + c; f(structure(1:3, class='foo'), 2, 1) }");
+        assertEval("{ f <- function(a, b, c) a * b + c; f(1:3, 2, 1); f(structure(1:3, class='foo'), 2, 1) }");
+        // a redefined operator is called
+        assertEval("{ f <- function(a) { `+` <- function(e1, e2) paste(e1, e2); a * 2 + 1 }; f(1:3) }");
+        assertEval("{ f <- function(a) a * 2 + 1; f(1:3); `*` <- function(e1, e2) 'times'; f(1:3) }");
+        // errors are reported in the order of the calls
+        assertEval(Output.IgnoreErrorContext, "{ f <- function() { x <- 'a'; x * 2 + y }; f() }");
+        assertEval("{ f <- function(a, b) a * b + 1; print(f(1:3, 2.5)); tryCatch(f('a', 2), error=function(e) conditionMessage(e)) }");
+        assertEval(Output.IgnoreWarningContext, "{ f <- function(a, b) a * b + 1; print(f(1:3, 2.5)); f(1:3, 1:2 + 0.5) }");
+    }
 }
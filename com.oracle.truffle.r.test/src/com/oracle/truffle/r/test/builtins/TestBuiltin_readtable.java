@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.builtins;
+
+import org.junit.Test;
+
+import com.oracle.truffle.r.test.TestBase;
+
+public class TestBuiltin_readtable extends TestBase {
+
+    private static String readFile(String lines, String read) {
+        return "{ f <- tempfile(fileext = '.csv'); writeLines(c(" + lines + "), f); d <- " + read + "; unlink(f); print(sapply(d, typeof)); d }";
+    }
+
+    @Test
+    public void testreadtableHeader() {
+        assertEval(readFile("'a,b,c', '1,2.5,x', '3,NA,y', '-4,0.125,z'", "read.csv(f)"));
+        assertEval(readFile("'a,b,c', '1,2.5,x', '3,NA,y'", "read.table(f, header = TRUE, sep = ',')"));
+        assertEval(readFile("'1,2.5,x', '3,NA,y'", "read.table(f, sep = ',')"));
+        assertEval(readFile("' first , 2nd name,c', '1,2,3'", "read.csv(f)"));
+        assertEval(readFile("'a,a,b c', '1,2,3'", "read.csv(f)"));
+        assertEval(readFile("'a,a,b c', '1,2,3'", "read.csv(f, check.names = FALSE)"));
+        assertEval(readFile("'skipped', 'a;b', '1;2', '', '3;4'", "read.table(f, header = TRUE, sep = ';', skip = 1)"));
+    }
+
+    @Test
+    public void testreadtableNumbers() {
+        // integers, doubles and the values type.convert reads differently from plain numbers
+        assertEval(readFile("'i,d,big,neg', '0,0.5,2147483647,-0', '12,10.25,2147483648,-2147483647', '-7,1,3000000000,-5'", "read.csv(f)"));
+        assertEval(readFile("'a,b,c,d,e', '007,1e3,0x1A,+5,Inf', '1,2,3,4,5'", "read.csv(f)"));
+        assertEval(readFile("'a,b,c', '1.,.5,-0.0', '2,3,4'", "read.csv(f)"));
+        assertEval(readFile("'a,b', '0.1,123456789012345678', '0.30000000000000004,1234567890123456789'", "read.csv(f)"));
+        assertEval(readFile("'a,b,c', 'TRUE,T,1', 'FALSE,F,x'", "read.csv(f)"));
+        assertEval(readFile("'a,b', '1, 2', '3,4 '", "read.csv(f)"));
+        assertEval(readFile("'a,b', '-2147483648,1', '1,2'", "read.csv(f)"));
+    }
+
+    @Test
+    public void testreadtableQuotes() {
+        assertEval(readFile("'a,b,c', '\"1\",\"x,y\",\"he said \"\"hi\"\"\"', '2,ab\"cd\"e,\"\"'", "read.csv(f)"));
+        assertEval(readFile("'a,b', '\\'1\\',\\'x\\'', '2,y'", "read.table(f, header = TRUE, sep = ',')"));
+        assertEval(readFile("'a,b', '\\'1\\',\\'x\\'', '2,y'", "read.table(f, header = TRUE, sep = ',', quote = '')"));
+        assertEval(readFile("'a|b', '1|\"x|y\"', '2|z'", "read.table(f, header = TRUE, sep = '|')"));
+    }
+
+    @Test
+    public void testreadtableNAStrings() {
+        assertEval(readFile("'a,b,c', 'NA,x,', '2,NA,3', ',y,4'", "read.csv(f)"));
+        assertEval(readFile("'a,b,c', '-,x,.', '2,-,3', '.,y,4'", "read.csv(f, na.strings = c('-', '.'))"));
+        assertEval(readFile("'a,b', 'NA,NA', ',NA'", "read.csv(f)"));
+        assertEval(readFile("'a,b', '\"NA\",\"\"', '1,x'", "read.csv(f)"));
+        assertEval(readFile("'a,b,c', '1,x,2', '3,y,4'", "read.csv(f, colClasses = c('character', NA, 'NULL'))"));
+        assertEval(readFile("'a,b', '1,x', '3,y'", "read.csv(f, colClasses = 'character')"));
+    }
+
+    @Test
+    public void testreadtableComments() {
+        assertEval(readFile("'a,b # header', '# a comment', '1,2 # tail', '', '3,4'", "read.table(f, header = TRUE, sep = ',', comment.char = '#')"));
+        assertEval(readFile("'a,b', '1,2\\r', '3,4\\r'", "read.csv(f)"));
+    }
+
+    @Test
+    public void testreadtableFallback() {
+        // ragged lines, whitespace separated fields and other arguments use the original
+        assertEval(readFile("'a,b,c', '1,2', '3,4,5'", "read.csv(f)"));
+        assertEval(readFile("'a,b,c', '1,2', '3,4,5'", "read.table(f, header = TRUE, sep = ',', fill = FALSE)"));
+        assertEval(readFile("'a b', '1 2', '3  4'", "read.table(f, header = TRUE)"));
+        assertEval(readFile("'a,b', '1,\"x', 'y\"'", "read.csv(f)"));
+        assertEval(readFile("'a,b', '1,x', '2,y'", "read.csv(f, stringsAsFactors = TRUE)"));
+        assertEval(readFile("'a,b', '1,2.5', '2,3.5'", "read.csv(f, colClasses = c('numeric', 'character'))"));
+        assertEval(readFile("'a,b', '1,2', '3,4', '5,6'", "read.csv(f, nrows = 2)"));
+        assertEval(readFile("'a;b', '1,5;2', '3;4'", "read.csv2(f)"));
+        assertEval(readFile("'a,b', '1,2', '3,4'", "read.csv(f, row.names = 1)"));
+        assertEval("{ f <- tempfile(fileext = '.csv.gz'); con <- gzfile(f, 'w'); writeLines(c('a,b', '1,2', '3,4'), con); close(con); d <- read.csv(f); unlink(f); d }");
+        assertEval("read.csv(text = 'a,b\\n1,2\\n3,4')");
+        assertEval("{ f <- tempfile(); writeLines('', f); r <- tryCatch(read.csv(f), error = function(e) conditionMessage(e)); unlink(f); r }");
+        assertEval("tryCatch(read.table('/nonexistent/file.csv', sep = ','), error = function(e) deparse(conditionCall(e)), warning = function(w) deparse(conditionCall(w)))");
+    }
+
+    @Test
+    public void testreadtableLarge() {
+        assertEval("{ n <- 100000L; f <- tempfile(fileext = '.csv'); write.csv(data.frame(i = seq_len(n), d = seq_len(n) / 8, s = paste0('s', seq_len(n)), m = ifelse(seq_len(n) %% 7L == 0L, NA, seq_len(n))), f, row.names = FALSE); " +
+                        "d <- read.csv(f); unlink(f); list(sapply(d, typeof), dim(d), d[c(1, 7, n), ], sum(d$i), sum(d$d), sum(is.na(d$m))) }");
+    }
+}
@@ -14,7 +14,7 @@
  * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
  *
  * Copyright (c) 2012-2014, Purdue University
- * Copyright (c) 2013, 2018, Oracle and/or its affiliates
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates
  *
  * All rights reserved.
  */
@@ -161,4 +161,27 @@ public class TestBuiltin_sort extends TestBase {
         assertEval("{ .Internal(qsort(c(1), F)) }");
         assertEval(Ignored.ImplementationError, "sort(c('FUN', 'simplify', 'USENAMES', 'X'))");
     }
+
+    @Test
+    public void testSortedResults() {
+        // results of sort are remembered as sorted, the functions using that must give the same
+        // answers as when scanning
+        assertEval("{ x <- sort(c(3L, 1L, 2L, 2L)); list(is.unsorted(x), is.unsorted(x, strictly = TRUE), unique(x), range(x), order(x), sort(x)) }");
+        assertEval("{ x <- sort(c(3, 1, 2.5, 1)); list(is.unsorted(x), is.unsorted(x, strictly = TRUE), unique(x), range(x), order(x), sort(x)) }");
+        assertEval("{ x <- sort(c(3L, 1L, 2L, 2L), decreasing = TRUE); list(is.unsorted(x), unique(x), range(x), order(x), order(x, decreasing = TRUE), sort(x)) }");
+        assertEval("{ x <- sort(c(3, 1, 2.5, 1), decreasing = TRUE); list(is.unsorted(x), unique(x), range(x), order(x), sort(x, decreasing = TRUE)) }");
+        assertEval("{ x <- sort(c(3, NA, 1, 2), na.last = TRUE); list(is.unsorted(x), unique(x), range(x), range(x, na.rm = TRUE), order(x)) }");
+        assertEval("{ x <- sort(c(3, NaN, 1, 2), na.last = FALSE); list(is.unsorted(x), unique(x), range(x), order(x)) }");
+        assertEval("{ x <- sort(c(b = 2, a = 1, c = 3)); list(x, unique(x), range(x), order(x)) }");
+        assertEval("{ x <- sort(c(3, 1, 2)); x[2] <- 10; list(is.unsorted(x), unique(x), range(x), order(x)) }");
+        assertEval("{ x <- sort(c(3, 1, 2), method = 'quick'); list(is.unsorted(x), range(x), order(x)) }");
+        assertEval("{ x <- sort(c(3L, 1L, 2L), method = 'shell'); list(is.unsorted(x), range(x), order(x)) }");
+        assertEval("sort.int(1:3, decreasing = 'TRUE')");
+        assertEval("sort.int(c(2, 3, 1), decreasing = 'TRUE')");
+        assertEval("sort(c(2, 3, 1), decreasing = 'FALSE')");
+        assertEval("sort.int(c(2, 3, 1), partial = 2)");
+        assertEval("sort.int(c(2, 3, 1), index.return = TRUE)");
+        assertEval("sort.int(list(1, 2))");
+        assertEval("sort.int(c(2, 3, 1), method = 'radix', partial = 2)");
+    }
 }
@@ -14,7 +14,7 @@
  * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
  *
  * Copyright (c) 2012-2014, Purdue University
- * Copyright (c) 2013, 2020, Oracle and/or its affiliates
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates
  *
  * All rights reserved.
  */
@@ -215,4 +215,34 @@ public class TestBuiltin_sprintf extends TestBase {
         // Note: as.raw may be problematic also in the case of %d, %f, ...
         assertEval(Ignored.Unimplemented, "{ sprintf('%s', as.raw(1)) }");
     }
+
+    @Test
+    public void testFormatPlans() {
+        // a format is parsed once and its plan is reused for arguments of other types
+        assertEval("{ f <- '<%5s|%-4s>'; list(sprintf(f, 'a', 'b'), sprintf(f, 1L, 2L), sprintf(f, 1.5, TRUE), sprintf(f, NA, NA_integer_)) }");
+        assertEval("{ f <- '%d items'; list(sprintf(f, 3L), sprintf(f, 3), sprintf(f, NA_integer_), sprintf(f, TRUE)) }");
+        assertEval("{ f <- '%5.2f'; list(sprintf(f, 1L), sprintf(f, pi), sprintf(f, NA), sprintf(f, -Inf), sprintf(f, NaN)) }");
+        assertEval("{ f <- '%e|%g'; list(sprintf(f, 123456, 123456), sprintf(f, 1L, 1L), sprintf(f, 1e-10, 1e10)) }");
+        assertEval("{ f <- '%s'; list(sprintf(f, 1.0), sprintf(f, 1/3), sprintf(f, 1e15), sprintf(f, 1e-20)) }");
+        assertEval("{ f <- '%d'; sprintf(f, 1L); sprintf(f, 1.5) }");
+        assertEval("{ f <- '%x %X %o'; list(sprintf(f, 255L, 255L, 8L), sprintf(f, 255, 255, 8)) }");
+        // '*' widths and precisions
+        assertEval("sprintf('%*d', 5, 42L)");
+        assertEval("sprintf('%-*d|', 5, 42L)");
+        assertEval("sprintf('%*s|', -6, 'ab')");
+        assertEval("sprintf('%.*f', 3L, pi)");
+        assertEval("sprintf('%*.*f', 10, 2, c(pi, exp(1)))");
+        // percent signs
+        assertEval("sprintf('%%')");
+        assertEval("sprintf('100%% of %d', 5L)");
+        assertEval("sprintf('%d%%%s%%', 1:2, c('a', 'b'))");
+        // vectorised formats
+        assertEval("sprintf(c('%d', '%5d', '%-5d|', '%05d', '%+d'), 42L)");
+        assertEval("sprintf(c('%s', '%5s', '%.1s'), c('abc', 'de'))");
+        assertEval("sprintf(c('%f', '%.0f', '%10.3e', '%g'), c(1.5, 2.25))");
+        assertEval("sprintf(c(a = '%d', b = '%s'), 1:4)");
+        assertEval("sprintf(character(), 1L)");
+        assertEval("sprintf(c('%d', NA), 1L)");
+        assertEval("sprintf(c('%2 %1', '%1'), 'a', 'b')");
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.builtins;
+
+import org.junit.Test;
+
+import com.oracle.truffle.r.test.TestBase;
+
+public class TestBuiltin_table extends TestBase {
+
+    @Test
+    public void testtable() {
+        assertEval("table(c(1, 2, 2, 3, 3, 3))");
+        assertEval("table(c('b', 'a', 'b'), c('x', 'y', 'y'))");
+        assertEval("table(a = c(1L, 2L, 1L, 2L), b = c('u', 'u', 'v', 'v'), c = c(TRUE, TRUE, TRUE, FALSE))");
+        assertEval("table(factor(c('a', 'c'), levels = c('a', 'b', 'c')), factor(c('x', 'x'), levels = c('x', 'y')))");
+        assertEval("table(integer())");
+        assertEval("table(factor(character(), levels = c('a', 'b')), factor(character()))");
+        assertEval("table(c(1, 2), dnn = 'v')");
+        assertEval("table(data.frame(a = c(1, 1, 2), b = c('x', 'y', 'y')))");
+    }
+
+    @Test
+    public void testtableNA() {
+        assertEval("table(c(1, NA, 2, NA, 1))");
+        assertEval("table(c(1, NA, 2, NA, 1), useNA = 'ifany')");
+        assertEval("table(c(1, 2, 1), useNA = 'ifany')");
+        assertEval("table(c(1, 2, 1), useNA = 'always')");
+        assertEval("table(c(1, NA, 2), c('x', 'y', NA), useNA = 'always')");
+        assertEval("table(c(1, NA, 2), c('x', 'y', NA), useNA = 'ifany')");
+        assertEval("table(c(1, NA, 2), exclude = NULL)");
+        assertEval("table(c(1, 2, 3, 2), exclude = 2)");
+        assertEval("table(addNA(factor(c('a', NA, 'b', NA))))");
+        assertEval("table(factor(c('a', NA, 'b'), exclude = NULL), c(1, 1, NA))");
+    }
+
+    @Test
+    public void testtableLarge() {
+        // 2^20 and more elements are counted in parallel chunks, each with one counter per
+        // combination
+        assertEval("{ n <- 2^20 + 5; x <- rep_len(1:7, n); y <- rep_len(c('a', 'b', 'c'), n); table(x, y) }");
+        assertEval("{ n <- 2^21; x <- rep_len(c(1:5, NA), n); table(x, useNA = 'ifany') }");
+        assertEval("{ n <- 2^20 + 3; x <- factor(rep_len(c('a', NA, 'b', 'c'), n)); y <- rep_len(c(TRUE, FALSE, NA), n); table(x, y, useNA = 'always') }");
+        // more combinations than elements in a chunk are counted in hash maps
+        assertEval("{ n <- 2^20; i <- seq_len(n); x <- factor((i * 7L) %% 1000L, levels = 0:999); y <- factor((i * 13L) %% 1009L, levels = 0:1008); t <- table(x, y); " +
+                        "list(dim(t), sum(t), sum(t > 0), max(t), t[cbind(c(1, 8, 500), c(1, 14, 700))], which(t == max(t))[1:5]) }");
+        assertEval("{ n <- 2^20; i <- seq_len(n); x <- factor(ifelse(i %% 11L == 0L, NA, (i * 7L) %% 3000L), levels = 0:2999); y <- factor((i * 13L) %% 997L, levels = 0:996); t <- table(x, y, useNA = 'ifany'); " +
+                        "list(dim(t), sum(t), sum(t[3001, ]), sum(t > 0), t[cbind(c(1, 8, 3001), c(1, 14, 997))]) }");
+    }
+
+    @Test
+    public void testtableBody() {
+        // the combinations are counted by the patched body of table
+        assertEvalFastR("any(grepl('.fastr.tablecounts', deparse(body(table)), fixed = TRUE))", "TRUE");
+        assertEval("{ f <- function(...) table(...); f(c(1, 1, 2), c('a', 'b', 'b')) }");
+        assertEval("table(c(1, 2), c(1, 2, 3))");
+        assertEval("table(list(c(1, 2, 2)))");
+    }
+}
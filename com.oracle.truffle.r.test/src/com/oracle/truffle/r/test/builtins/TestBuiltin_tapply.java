@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.builtins;
+
+import org.junit.Test;
+
+import com.oracle.truffle.r.test.TestBase;
+
+public class TestBuiltin_tapply extends TestBase {
+
+    @Test
+    public void testtapply() {
+        // sum, mean, min, max and length of plain numeric vectors are reduced over the groups
+        assertEval("tapply(c(1, 2, 3, 4, 5), c('a', 'b', 'a', 'b', 'c'), sum)");
+        assertEval("tapply(1:5, c('a', 'b', 'a', 'b', 'c'), sum)");
+        assertEval("tapply(1:6, c(1, 1, 2, 2, 3, 3), mean)");
+        assertEval("tapply(c(1.5, NA, 3, 4), c('a', 'a', 'b', 'b'), max)");
+        assertEval("tapply(c(1.5, NA, 3, 4), c('a', 'a', 'b', 'b'), max, na.rm = TRUE)");
+        assertEval("tapply(c(1.5, NaN, 3, 4), c('a', 'a', 'b', 'b'), mean)");
+        assertEval("tapply(1:4, c('a', 'a', 'b', 'b'), length)");
+        assertEval("tapply(c(.Machine$integer.max, 1L, 2L), c(1, 1, 2), sum)");
+    }
+
+    @Test
+    public void testtapplyGroups() {
+        // NA groups are dropped
+        assertEval("tapply(1:5, c('a', NA, 'a', 'b', NA), sum)");
+        assertEval("tapply(c(1, 2, 3), c(NA, NA, NA), sum)");
+        // empty groups and unused factor levels give NA
+        assertEval("tapply(1:4, factor(c('a', 'a', 'c', 'c'), levels = c('a', 'b', 'c')), sum)");
+        assertEval("tapply(c(1, 2, 3, 4), factor(c('a', 'a', 'c', 'c'), levels = c('a', 'b', 'c')), min)");
+        assertEval("tapply(c(1, 2, 3, 4), factor(c('a', 'a', 'c', 'c'), levels = c('a', 'b', 'c')), length)");
+        assertEval("tapply(c(1, 2, 3, 4), list(c('a', 'a', 'b', 'b'), c('x', 'y', 'y', 'y')), sum)");
+        assertEval("tapply(c(1, 2, 3, 4), list(factor(c('a', 'a', 'b', 'b')), factor(c('x', 'y', 'y', 'y'), levels = c('x', 'y', 'z'))), mean)");
+        assertEval("tapply(numeric(), factor(character(), levels = c('a', 'b')), sum)");
+        assertEval("tapply(c(NA, 2), c('a', 'a'), min, na.rm = TRUE)");
+    }
+
+    @Test
+    public void testtapplyFallback() {
+        // names of x are ignored
+        assertEval("tapply(c(a = 1, b = 2, c = 3), c('x', 'y', 'x'), sum)");
+        // other attributes, extra arguments, other functions and defaults use the original
+        assertEval("tapply(structure(c(1, 2, 3), class = 'foo'), c('x', 'y', 'x'), sum)");
+        assertEval("tapply(c(1, 2, 3, 4), c('x', 'y', 'x', 'y'), sum, 10)");
+        assertEval("tapply(c(1, 2, 3, 4), c('x', 'y', 'x', 'y'), mean, trim = 0.5)");
+        assertEval("tapply(c(1, 2, 3, 4), c('x', 'y', 'x', 'y'), sum, na.rm = NA)");
+        assertEval("tapply(c(1, 2, 3, 4), c('x', 'y', 'x', 'y'), function(v) sum(v))");
+        assertEval("tapply(c(1, 2, 3, 4), factor(c('x', 'x', 'x', 'x'), levels = c('x', 'y')), sum, default = 0)");
+        assertEval("tapply(c(1, 2, 3, 4), c('x', 'y', 'x', 'y'), sum, simplify = FALSE)");
+        assertEval("tapply(c(TRUE, FALSE, TRUE), c('x', 'y', 'x'), sum)");
+        assertEval("tapply(c(1, 2, 3), c('x', 'y'), sum)");
+        // errors and the FUN = NULL result come from the original body
+        assertEval("tryCatch(tapply(c(1, 2, 3), c('x', 'y'), sum), error = function(e) deparse(conditionCall(e)))");
+        assertEval("tapply(c(1, 2, 3), list(), sum)");
+        assertEval("tapply(c(1, 2, 3), c('x', 'y', 'x'))");
+    }
+}
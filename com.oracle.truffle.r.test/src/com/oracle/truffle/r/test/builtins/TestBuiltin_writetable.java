@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.builtins;
+
+import org.junit.Test;
+
+import com.oracle.truffle.r.test.TestBase;
+
+public class TestBuiltin_writetable extends TestBase {
+
+    /**
+     * More rows than one block of pre-formatted double cells, with NA, NaN, infinite values and
+     * strings containing quotes, some of them at the block boundaries.
+     */
+    private static final String LARGE_DATA_FRAME = "n <- 40000L; d <- seq_len(n) / 7; d[c(1L, 1000L, 16384L, 16385L, n)] <- NA; " +
+                    "x <- data.frame(d = d, i = ifelse(seq_len(n) %% 3L == 0L, NA, seq_len(n)), s = paste0('a\\\"b', seq_len(n)), " +
+                    "e = rep(c(Inf, -Inf, NaN, 0.5, 1e-20, 123456789.125, -1e15), length.out = n)); ";
+
+    private static final String LARGE_MATRIX = "n <- 40000L; x <- matrix(seq_len(3L * n) / 3, ncol = 3L); x[c(5L, 16385L, n + 16384L)] <- NA; ";
+
+    /**
+     * Writes {@code x} to a file and prints the number of lines and characters together with the
+     * lines around the block boundaries.
+     */
+    private static String writeFile(String data, String write) {
+        return "{ " + data + "f <- tempfile(); " + write + "; l <- readLines(f); unlink(f); n <- length(l); print(c(n, sum(nchar(l)))); " +
+                        "l[unique(pmin(n, c(1:3, 16384:16387, 32768:32771, n - 1L, n)))] }";
+    }
+
+    @Test
+    public void testwritetable() {
+        assertEval("write.table(data.frame(d = c(1.5, NA, -0.25), i = c(1L, NA, 3L), s = c('x', NA, 'he said \"hi\"')))");
+        assertEval("write.table(data.frame(d = c(1.5, NA, -0.25), s = c('x', NA, 'a\"b')), quote = FALSE, na = '-', sep = '\\t')");
+        assertEval("write.table(data.frame(s = c('x', 'a\"b'), t = c('y', 'c\"d')), quote = 2, qmethod = 'double')");
+        assertEval("write.table(data.frame(s = c('x', 'a\"b')), qmethod = 'escape', row.names = FALSE)");
+        assertEval("write.table(matrix(c(1.5, NA, 3, 1e-20), 2), col.names = FALSE)");
+    }
+
+    @Test
+    public void testwritetableDec() {
+        assertEval("write.table(data.frame(d = c(1.5, NA, -0.25, 1e-20), z = complex(real = 1.5, imaginary = -2.25)), dec = ',')");
+        assertEval("write.csv2(data.frame(d = c(1.5, NA, 1234567.125), i = 1:3, s = c('1.5', 'x', 'y')))");
+        assertEval("write.table(matrix(c(1.5, NA, 3, 0.125), 2), dec = ',')");
+    }
+
+    @Test
+    public void testwritetableLarge() {
+        // the double columns are formatted in parallel blocks
+        assertEval(writeFile(LARGE_DATA_FRAME, "write.table(x, f)"));
+        assertEval(writeFile(LARGE_DATA_FRAME, "write.csv(x, f, row.names = FALSE, na = '')"));
+        assertEval(writeFile(LARGE_DATA_FRAME, "write.table(x, f, quote = FALSE, sep = '\\t', na = '-')"));
+        assertEval(writeFile(LARGE_DATA_FRAME, "write.table(x, f, quote = 3, qmethod = 'double', col.names = NA)"));
+        assertEval(writeFile(LARGE_DATA_FRAME, "write.csv2(x, f)"));
+        assertEval(writeFile(LARGE_MATRIX, "write.table(x, f)"));
+        assertEval(writeFile(LARGE_MATRIX, "write.table(x, f, dec = ',', na = 'missing', col.names = FALSE)"));
+    }
+}
@@ -14,7 +14,7 @@
  * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
  *
  * Copyright (c) 2012-2014, Purdue University
- * Copyright (c) 2013, 2019, Oracle and/or its affiliates
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates
  *
  * All rights reserved.
  */
@@ -516,4 +516,30 @@ public class TestFunctions extends TestBase {
     public void testSrcref() {
         assertEval("1\nf <- quote(function(x, y) \n a + \n foooo); as.list(f); as.list(f)[[4]]; unclass(as.list(f)[[4]]); class(as.list(f)[[4]])");
     }
+
+    @Test
+    public void testStrictArguments() {
+        // argument order
+        assertEval("{ f <- function(x, y) x - y; g <- function(a, b) f(b, a); c(f(1, 2), g(1, 2), f(y=1, x=2), f(1, 2)) }");
+        // arguments with side effects are passed as promises
+        assertEval("{ f <- function(x, y) x + y; a <- f(print(1), 2); b <- f(2, print(3)); c(a, b) }");
+        assertEval("{ f <- function(x, y) x + y; for (i in 1:3) print(f(i, { cat('y', i, '\\n'); i })) }");
+        // missing arguments
+        assertEval("{ f <- function(x, y = 2) x + y; c(f(1), f(1, 3), f(y=4, 1)) }");
+        assertEval("{ f <- function(x, y) x + y; f(1) }");
+        assertEval("{ f <- function(x, y) x + y; g <- function(a, b) f(a, b); print(g(1, 2)); g(1) }");
+        // conditions are raised in the order in which the callee forces the arguments
+        assertEval("{ f <- function(x, y) sqrt(x) + y; f('a', zz) }");
+        assertEval("{ f <- function(x, y) sqrt(x) + y; print(f(4, 1)); tryCatch(f('a', zz), error=function(e) conditionMessage(e)) }");
+        assertEval("{ f <- function(x, y) sqrt(x) + y; withCallingHandlers(f(-1, sqrt(-4)), warning=function(w) { print(conditionCall(w)); invokeRestart('muffleWarning') }) }");
+        assertEval("{ f <- function(x, y) x + y; tryCatch(withCallingHandlers(f(1, zz), error=function(e) cat('handler\\n')), error=function(e) 'caught') }");
+        // arguments dispatching to methods with effects
+        assertEval("{ Ops.noisy48 <- function(e1, e2) { cat('Ops', .Generic, '\\n'); warning('noisy'); get(.Generic)(unclass(e1), unclass(e2)) }; f <- function(x, y) x * y; x <- structure(2, class='noisy48'); for (i in 1:3) print(f(x + i, 2)) }");
+        assertEval("{ length.noisy48 <- function(x) { cat('length\\n'); 10L }; f <- function(x, y) x + y; x <- structure(list(), class='noisy48'); for (i in 1:3) print(f(length(x), i)) }");
+        assertEval(Output.IgnoreWarningContext, "{ setClass('Noisy48', representation(v='numeric')); setMethod('Arith', signature('Noisy48', 'numeric'), function(e1, e2) { cat('Arith\\n'); warning('noisy'); callGeneric(e1@v, e2) }); " +
+                        "f <- function(x, y) x - y; x <- new('Noisy48', v=5); for (i in 1:3) print(f(x + i, 1)) }");
+        // tracing or debugging the callee
+        assertEval("{ f <- function(x, y) x + y; print(f(1, 2)); trace(f, quote(cat('traced\\n')), print=FALSE); r <- f(3, 4); untrace(f); c(r, f(5, 6)) }");
+        assertEval("{ f <- function(x, y) x + y; print(f(1, 2)); debug(f); undebug(f); f(3, 4) }");
+    }
 }
@@ -14,7 +14,7 @@
  * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
  *
  * Copyright (c) 2012-2014, Purdue University
- * Copyright (c) 2013, 2021, Oracle and/or its affiliates
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates
  *
  * All rights reserved.
  */
@@ -179,6 +179,17 @@ public class TestS3Dispatch extends TestRBase {
         assertEval("{ glob_flag <- FALSE; my_generic <- function(x) UseMethod('my_generic', x); my_generic.array <- function(x) glob_flag <<- TRUE; m <- 1:9; dim(m) <- c(3,3); my_generic(x); glob_flag }");
     }
 
+    @Test
+    public void testMegamorphicDispatchCache() {
+        // a call site that has seen more than MAX_CACHE_DEPTH classes looks the methods up through
+        // the context-wide S3 dispatch cache, whose entries follow every change of the methods
+        assertEval("{ gen50 <- function(x) UseMethod('gen50'); gen50.default <- function(x) 'default'; objs <- lapply(paste0('c50_', 1:6), function(cl) structure(1, class = cl)); f <- function(x) gen50(x); run <- function() paste(vapply(objs, f, ''), collapse = ' '); r <- c(run(), run()); gen50.c50_5 <- function(x) 'c5'; r <- c(r, run(), run()); gen50.c50_5 <- function(x) 'c5 again'; r <- c(r, run()); rm(gen50.c50_5); r <- c(r, run()); registerS3method('gen50', 'c50_6', function(x) 'c6 registered'); r <- c(r, run(), run()); gen50.c50_6 <- function(x) 'c6 local'; r <- c(r, run()); rm(gen50.c50_6); r <- c(r, run()); r }");
+        assertEvalFastR("{ invisible(.fastr.s3cache.stats(reset = TRUE, clear = TRUE)); gen50 <- function(x) UseMethod('gen50'); gen50.default <- function(x) 'default'; objs <- lapply(paste0('c50_', 1:6), function(cl) structure(1, class = cl)); f <- function(x) gen50(x); run <- function() paste(vapply(objs, f, ''), collapse = ' '); " +
+                        "run(); run(); s1 <- .fastr.s3cache.stats(); gen50.c50_2 <- function(x) 'c2'; r <- run(); s2 <- .fastr.s3cache.stats(); rm(gen50.c50_2); r <- c(r, run(), run()); s3 <- .fastr.s3cache.stats(); " +
+                        "c(s1[['hits']] > 0, s1[['misses']] > 0, s2[['misses']] > s1[['misses']], s3[['hits']] > s2[['hits']], s3[['entries']] > 0, r == c('default c2 default default default default', rep('default default default default default default', 2))) }",
+                        "rep(TRUE, 8)");
+    }
+
     @Override
     public String getTestDir() {
         return "S3";
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -1594,6 +1594,36 @@ public class TestJavaInterop extends TestBase {
         assertEvalFastR(CREATE_TEST_ARRAYS + "typeof(as.vector(ta$integerMinObjectArray))", "'double'");
     }
 
+    @Test
+    public void testHostArrayCopy() {
+        // updating an element materializes the wrapped host array with a bulk copy
+        assertEvalFastR(CREATE_TEST_ARRAYS + "x <- ta$doubleArray; x[2] <- 10; x", "c(1.1, 10, 1.3)");
+        assertEvalFastR(CREATE_TEST_ARRAYS + "x <- ta$doubleNaNArray; x[1] <- 10; list(x, is.na(x), is.nan(x))", "list(c(10, NaN, 1.3), c(FALSE, TRUE, FALSE), c(FALSE, TRUE, FALSE))");
+        assertEvalFastR(CREATE_TEST_ARRAYS + "x <- ta$floatArray; x[2] <- 10; identical(x, c(as.vector(ta$floatArray)[1], 10, as.vector(ta$floatArray)[3]))", "TRUE");
+        assertEvalFastR(CREATE_TEST_ARRAYS + "x <- ta$floatNaNArray; x[1] <- 10; list(typeof(x), is.na(x), is.nan(x))", "list('double', c(FALSE, TRUE, FALSE), c(FALSE, TRUE, FALSE))");
+        assertEvalFastR(CREATE_TEST_ARRAYS + "x <- ta$integerArray; x[2] <- 10L; x", "c(1L, 10L, 3L)");
+        assertEvalFastR(CREATE_TEST_ARRAYS + "x <- ta$shortArray; x[2] <- 10L; x", "c(1L, 10L, 3L)");
+        assertEvalFastR(CREATE_TEST_ARRAYS + "x <- ta$byteArrayMinMax; x[2] <- 10L; x", "c(-128L, 10L, 127L)");
+        assertEvalFastR(CREATE_TEST_ARRAYS + "x <- ta$booleanArray; x[2] <- NA; x", "c(TRUE, NA, TRUE)");
+        // Integer.MIN_VALUE makes the array a double vector, see testIntegerNA, so it must not
+        // become NA in the copy
+        assertEvalFastR(CREATE_TEST_ARRAYS + "x <- ta$integerMinArray; x[1] <- 10L; list(x, typeof(x), is.na(x))", "list(c(10, 2, " + Integer.MIN_VALUE + "), 'double', c(FALSE, FALSE, FALSE))");
+
+        // complete vectors are handed over in bulk
+        assertEvalFastR("a <- .fastr.interop.asJavaArray(c(1L, 2L, 3L)); a", getRValue(new int[]{1, 2, 3}));
+        assertEvalFastR("a <- .fastr.interop.asJavaArray(c(1.5, -2, 3)); a", getRValue(new double[]{1.5, -2, 3}));
+        assertEvalFastR("a <- .fastr.interop.asJavaArray(as.raw(c(1, 255))); a$getClass()$getName()", "'[B'");
+        // NA is kept as its int and double representation
+        assertEvalFastR("a <- .fastr.interop.asJavaArray(c(1L, NA, 3L)); list(a$getClass()$getName(), a[[1]], a[[2]], a[[3]])", "list('[I', 1L, " + Integer.MIN_VALUE + ", 3L)");
+        assertEvalFastR("a <- .fastr.interop.asJavaArray(c(1.5, NA, NaN)); list(a$getClass()$getName(), a[[1]], is.na(a[[2]]), is.nan(a[[3]]))", "list('[D', 1.5, TRUE, TRUE)");
+        // a matrix is flattened by default and then also handed over in bulk
+        assertEvalFastR("a <- .fastr.interop.asJavaArray(matrix(1:4, 2)); a", getRValue(new int[]{1, 2, 3, 4}));
+        assertEvalFastR("a <- .fastr.interop.asJavaArray(matrix(c(1L, NA, 3L, 4L), 2)); a[[2]]", "" + Integer.MIN_VALUE);
+        assertEvalFastR("a <- .fastr.interop.asJavaArray(matrix(c(1.5, 2, 3, 4), 2)); a", getRValue(new double[]{1.5, 2, 3, 4}));
+        // the element-wise copy into a multi-dimensional array works only for flat results
+        assertEvalFastR(Ignored.ImplementationError, "a <- .fastr.interop.asJavaArray(matrix(1:4, 2),, FALSE); a$getClass()$getName()", "'[[I'");
+    }
+
     @Test
     public void testDoubleNA() {
         assertEvalFastR(CREATE_TRUFFLE_OBJECT + "to$fieldDoubleNaN", "NaN");
@@ -2588,12 +2618,14 @@ public class TestJavaInterop extends TestBase {
         public double[][][] doubleArray3 = {{{1.1, 1.2, 1.3}, {1.1, 1.2, 1.3}}, {{1.1, 1.2, 1.3}, {1.1, 1.2, 1.3}}};
         public double[][] doubleArray2NotSquare = new double[][]{{1.1, 1.2, 1.3}, {1.1, 1.2, 1.3, 1.4}};
         public double[][][] doubleArray3NotSquare = new double[][][]{{{1.1, 1.2, 1.3}, {1.1, 1.2, 1.3, 1.4}}, {{1.1, 1.2, 1.3}, {1.1, 1.2, 1.3, 1.4}}};
+        public double[] doubleNaNArray = {1.1, Double.NaN, 1.3};
 
         public float[] floatArray = {1.1f, 1.2f, 1.3f};
         public float[][] floatArray2 = {{1.1f, 1.2f, 1.3f}, {1.1f, 1.2f, 1.3f}};
         public float[][][] floatArray3 = {{{1.1f, 1.2f, 1.3f}, {1.1f, 1.2f, 1.3f}}, {{1.1f, 1.2f, 1.3f}, {1.1f, 1.2f, 1.3f}}};
         public float[][] floatArray2NotSquare = new float[][]{{1.1f, 1.2f, 1.3f}, {1.1f, 1.2f, 1.3f, 1.4f}};
         public float[][][] floatArray3NotSquare = new float[][][]{{{1.1f, 1.2f, 1.3f}, {1.1f, 1.2f, 1.3f, 1.4f}}, {{1.1f, 1.2f, 1.3f}, {1.1f, 1.2f, 1.3f, 1.4f}}};
+        public float[] floatNaNArray = {1.1f, Float.NaN, 1.3f};
 
         public int[] integerArray = {1, 2, 3};
         public int[] integerMinArray = {1, 2, Integer.MIN_VALUE};
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -181,4 +181,19 @@ public class TestStats extends TestBase {
                         "{ regressionData <- data.frame(x = c(1, 2, 3, 4), y = c(1.5, 3.3, 99, 16)); startingParams <- list(a = 1, q = 2); nls(formula = 'y ~ a*x^q', data = regressionData, start = startingParams) }");
     }
 
+    @Test
+    public void testAggregate() {
+        // sum, mean, min, max and length of plain numeric columns are reduced over the groups
+        assertEval("aggregate(x ~ g, data.frame(x = c(1, 2, 3, 4, 5), g = c('a', 'b', 'a', 'b', 'c')), sum)");
+        assertEval("aggregate(data.frame(x = 1:6, y = c(1.5, 2, NA, 4, 5, 6)), list(g = c(1, 1, 2, 2, 3, 3)), mean)");
+        assertEval("aggregate(data.frame(x = 1:6, y = c(1.5, 2, NA, 4, 5, 6)), list(g = c(1, 1, 2, 2, 3, 3)), mean, na.rm = TRUE)");
+        assertEval("aggregate(data.frame(x = c(3L, 1L, NA, 4L)), list(g = c('a', NA, 'b', 'b')), max)");
+        assertEval("aggregate(data.frame(x = c(3L, 1L, NA, 4L)), list(g = factor(c('a', 'a', 'b', 'b'), levels = c('a', 'b', 'c'))), min)");
+        assertEval("aggregate(data.frame(x = c(3, 1, NA, NA)), list(g = c('a', 'a', 'b', 'b')), min, na.rm = TRUE)");
+        assertEval("aggregate(data.frame(x = c(a = 1, b = 2, c = 3)), list(g = c(1, 1, 2)), length)");
+        assertEval("aggregate(data.frame(x = c(1, 2, 3, 4)), list(g = c(1, 1, 2, 2)), sum, 10)");
+        assertEval("aggregate(data.frame(x = c(1, 2, 3, 4)), list(g = c(1, 1, 2, 2)), mean, trim = 0.5)");
+        assertEval("aggregate(data.frame(x = c(1, 2, 3, 4)), list(g = c(1, 1, 2, 2)), function(v) sum(v))");
+        assertEval("aggregate(data.frame(x = c('a', 'b', 'c')), list(g = c(1, 1, 2)), length)");
+    }
 }
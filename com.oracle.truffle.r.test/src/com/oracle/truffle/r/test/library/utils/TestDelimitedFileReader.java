@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.library.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.IntPredicate;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oracle.truffle.r.library.utils.DelimitedFileReader;
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.test.TestBase;
+
+public class TestDelimitedFileReader extends TestBase {
+
+    private static DelimitedFileReader.Result read(String content, boolean header, String commentChar, long taskSize) throws IOException {
+        return read(content, header, commentChar, null, taskSize);
+    }
+
+    private static DelimitedFileReader.Result read(String content, boolean header, String commentChar, IntPredicate numericColumns, long taskSize) throws IOException {
+        Path path = Files.createTempFile("fastr-delimited", ".csv");
+        try {
+            Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+            return DelimitedFileReader.read(() -> Files.newByteChannel(path), Files.size(path), ',', "\"", commentChar, header, 0, new String[]{"NA"}, numericColumns, taskSize);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testQuotesCommentsAndNA() throws IOException {
+        DelimitedFileReader.Result result = read("a, b ,\"c\"\n1,\"x,y\",NA\n\n# comment\n2,\"he said \"\"hi\"\"\",3 # tail\r\n4,ab\"cd\"e,\n", true, "#", Long.MAX_VALUE);
+        Assert.assertArrayEquals(new String[]{"a", "b", "c"}, result.header);
+        Assert.assertEquals(3, result.rows);
+        Assert.assertArrayEquals(new String[]{"1", "2", "4"}, (String[]) result.columns[0]);
+        Assert.assertArrayEquals(new String[]{"x,y", "he said \"hi\"", "abcde"}, (String[]) result.columns[1]);
+        Assert.assertArrayEquals(new String[]{RRuntime.STRING_NA, "3 ", ""}, (String[]) result.columns[2]);
+        Assert.assertSame(RRuntime.STRING_NA, ((String[]) result.columns[2])[0]);
+    }
+
+    @Test
+    public void testUnsupportedInput() throws IOException {
+        // ragged lines
+        Assert.assertNull(read("1,2\n3\n", false, "", Long.MAX_VALUE));
+        // quoted field spanning lines
+        Assert.assertNull(read("1,\"2\n3\",4\n", false, "", Long.MAX_VALUE));
+        // empty file
+        Assert.assertNull(read("", false, "", Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testParallelSplit() throws IOException {
+        StringBuilder sb = new StringBuilder("x,y\n");
+        int n = 100000;
+        for (int i = 0; i < n; i++) {
+            sb.append(i).append(",\"v").append(i).append("\"\n");
+        }
+        DelimitedFileReader.Result result = read(sb.toString(), true, "", 10000);
+        Assert.assertEquals(n, result.rows);
+        for (int i = 0; i < n; i++) {
+            Assert.assertEquals(Integer.toString(i), ((String[]) result.columns[0])[i]);
+            Assert.assertEquals("v" + i, ((String[]) result.columns[1])[i]);
+        }
+        result = read(sb.toString(), true, "", j -> true, 10000);
+        int[] ints = (int[]) result.columns[0];
+        String[] strings = (String[]) result.columns[1];
+        for (int i = 0; i < n; i++) {
+            Assert.assertEquals(i, ints[i]);
+            Assert.assertEquals("v" + i, strings[i]);
+        }
+    }
+
+    @Test
+    public void testNumericColumns() throws IOException {
+        DelimitedFileReader.Result result = read("1,0.5,x,NA,2147483647,1\n-2,,y,,-2147483647,007\n\"3\",-10.25,3,NA,2147483648,1\n", false, "", j -> j != 2, Long.MAX_VALUE);
+        Assert.assertEquals(3, result.rows);
+        Assert.assertArrayEquals(new int[]{1, -2, 3}, (int[]) result.columns[0]);
+        Assert.assertArrayEquals(new double[]{0.5, RRuntime.DOUBLE_NA, -10.25}, (double[]) result.columns[1], 0);
+        Assert.assertTrue(RRuntime.isNA(((double[]) result.columns[1])[1]));
+        // not selected
+        Assert.assertArrayEquals(new String[]{"x", "y", "3"}, (String[]) result.columns[2]);
+        Assert.assertArrayEquals(new int[]{RRuntime.INT_NA, RRuntime.INT_NA, RRuntime.INT_NA}, (int[]) result.columns[3]);
+        // out of the integer range
+        Assert.assertArrayEquals(new double[]{2147483647, -2147483647, 2147483648d}, (double[]) result.columns[4], 0);
+        // leading zeros are left to type.convert
+        Assert.assertArrayEquals(new String[]{"1", "007", "1"}, (String[]) result.columns[5]);
+    }
+
+    @Test
+    public void testNumberValues() throws IOException {
+        String[] values = {"0.1", "0.30000000000000004", "123456.789", "9007199254740993", "123456789012345678", "-0.000001", "1.7976931348623157"};
+        DelimitedFileReader.Result result = read(String.join("\n", values) + "\n", false, "", j -> true, Long.MAX_VALUE);
+        double[] doubles = (double[]) result.columns[0];
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertEquals(values[i], Double.parseDouble(values[i]), doubles[i], 0);
+        }
+        // exponents, signs, special values and more than 18 digits
+        for (String value : new String[]{"1e3", "+5", "-0.0", "1.", ".5", "Inf", "0x10", " 1", "1234567890123456789", "1.2345678901234567890"}) {
+            result = read("1\n" + value + "\n", false, "", j -> true, Long.MAX_VALUE);
+            Assert.assertArrayEquals(value, new String[]{"1", value}, (String[]) result.columns[0]);
+        }
+    }
+
+    @Test
+    public void testParallelNumericColumns() throws IOException {
+        // the ranges read in parallel have integer, double and non-numeric values
+        StringBuilder sb = new StringBuilder();
+        int n = 100000;
+        for (int i = 0; i < n; i++) {
+            sb.append(i).append(',').append(i > n / 2 ? i + ".5" : Integer.toString(i)).append(',').append(i == n - 1 ? "x" : Integer.toString(i)).append('\n');
+        }
+        DelimitedFileReader.Result result = read(sb.toString(), false, "", j -> true, 10000);
+        Assert.assertEquals(n, result.rows);
+        int[] ints = (int[]) result.columns[0];
+        double[] doubles = (double[]) result.columns[1];
+        String[] strings = (String[]) result.columns[2];
+        for (int i = 0; i < n; i++) {
+            Assert.assertEquals(i, ints[i]);
+            Assert.assertEquals(i > n / 2 ? i + 0.5 : i, doubles[i], 0);
+            Assert.assertEquals(i == n - 1 ? "x" : Integer.toString(i), strings[i]);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.runtime;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oracle.truffle.r.runtime.RRuntime;
+import com.oracle.truffle.r.runtime.nmath.MathFunctions.Function4_2;
+import com.oracle.truffle.r.runtime.nmath.distr.BulkDistributions;
+import com.oracle.truffle.r.runtime.nmath.distr.DNorm;
+import com.oracle.truffle.r.runtime.nmath.distr.Dbinom;
+import com.oracle.truffle.r.runtime.nmath.distr.Pnorm;
+import com.oracle.truffle.r.runtime.nmath.distr.Qnorm;
+import com.oracle.truffle.r.test.TestBase;
+
+public class TestBulkDistributions extends TestBase {
+    private static final int LENGTH = 50000;
+    private static final double[] ONE = {1};
+
+    @Test
+    public void testDNorm() {
+        double[] x = values(-40, 40);
+        check(DNorm.getUncached(), x, new double[]{0.5}, new double[]{2}, false, false);
+        check(DNorm.getUncached(), x, new double[]{0.5}, new double[]{2}, true, false);
+        check(DNorm.getUncached(), x, new double[]{0, 1, Double.POSITIVE_INFINITY}, new double[]{1, 0, 3}, false, false);
+    }
+
+    @Test
+    public void testPnorm() {
+        double[] x = values(-40, 40);
+        for (int i = 0; i < 4; i++) {
+            check(Pnorm.getUncached(), x, new double[]{-1}, new double[]{3}, (i & 1) != 0, (i & 2) != 0);
+        }
+        check(Pnorm.getUncached(), x, new double[]{0, Double.NEGATIVE_INFINITY}, new double[]{0, 1, 2}, true, false);
+    }
+
+    @Test
+    public void testQnorm() {
+        double[] p = values(-0.1, 1.1);
+        for (int i = 0; i < 4; i++) {
+            check(Qnorm.getUncached(), p, new double[]{2}, new double[]{0.5}, (i & 1) != 0, false);
+        }
+        check(Qnorm.getUncached(), values(-20, 0.5), new double[]{2}, new double[]{0.5}, true, true);
+    }
+
+    @Test
+    public void testDbinom() {
+        double[] x = new double[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            x[i] = i % 60 - 5;
+        }
+        x[7] = RRuntime.DOUBLE_NA;
+        x[8] = Double.NaN;
+        x[9] = Double.POSITIVE_INFINITY;
+        check(Dbinom.getUncached(), x, new double[]{50}, new double[]{0.3}, false, false);
+        check(Dbinom.getUncached(), x, new double[]{50}, new double[]{0.3}, true, false);
+        check(Dbinom.getUncached(), x, new double[]{50}, new double[]{1.3}, false, false);
+    }
+
+    private static double[] values(double from, double to) {
+        double[] result = new double[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            result[i] = from + (to - from) * i / LENGTH;
+        }
+        result[3] = RRuntime.DOUBLE_NA;
+        result[4] = Double.NaN;
+        result[5] = Double.POSITIVE_INFINITY;
+        result[6] = Double.NEGATIVE_INFINITY;
+        return result;
+    }
+
+    private static void check(Function4_2 function, double[] a, double[] b, double[] c, boolean x, boolean y) {
+        double[] expected = new double[LENGTH];
+        int expectedFlags = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            double aValue = a[i % a.length];
+            double bValue = b[i % b.length];
+            double cValue = c[i % c.length];
+            if (Double.isNaN(aValue) || Double.isNaN(bValue) || Double.isNaN(cValue)) {
+                boolean na = RRuntime.isNA(aValue) || RRuntime.isNA(bValue) || RRuntime.isNA(cValue);
+                expected[i] = na ? RRuntime.DOUBLE_NA : Double.NaN;
+                expectedFlags |= na ? BulkDistributions.RESULT_HAS_NA : 0;
+            } else {
+                expected[i] = function.evaluate(aValue, bValue, cValue, 1, x, y);
+                expectedFlags |= Double.isNaN(expected[i]) ? BulkDistributions.RESULT_NANS_PRODUCED : 0;
+            }
+        }
+        for (int threshold : new int[]{0, 1000}) {
+            double[] result = new double[LENGTH];
+            int flags = BulkDistributions.evaluate(function, a, b, c, ONE, x, y, result, threshold);
+            Assert.assertEquals(expectedFlags, flags);
+            for (int i = 0; i < LENGTH; i++) {
+                if (Double.doubleToRawLongBits(expected[i]) != Double.doubleToRawLongBits(result[i])) {
+                    Assert.fail("different result at index " + i + ": expected " + expected[i] + ", got " + result[i]);
+                }
+            }
+        }
+    }
+}
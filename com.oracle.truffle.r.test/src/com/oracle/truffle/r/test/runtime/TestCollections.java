@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -24,6 +24,8 @@ package com.oracle.truffle.r.test.runtime;
 
 import com.oracle.truffle.r.runtime.Collections.ArrayListInt;
 import com.oracle.truffle.r.runtime.Collections.ArrayListObj;
+import com.oracle.truffle.r.runtime.Collections.BoundedLRUCache;
+import com.oracle.truffle.r.runtime.Collections.CacheStatistics;
 import com.oracle.truffle.r.runtime.ffi.AfterDownCallProfiles;
 import com.oracle.truffle.r.test.TestBase;
 import org.junit.Assert;
@@ -136,4 +138,91 @@ public class TestCollections extends TestBase {
         list.add(33);
         list.get(1);
     }
+
+    @Test
+    public void testBoundedLRUCache() {
+        BoundedLRUCache<String, Integer> cache = new BoundedLRUCache<>(2);
+        Assert.assertNull(cache.get("a"));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        Assert.assertEquals(Integer.valueOf(1), cache.get("a"));
+        // "b" is now the least recently used entry
+        cache.put("c", 3);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertNull(cache.get("b"));
+        Assert.assertEquals(Integer.valueOf(3), cache.computeIfAbsent("c", key -> -1));
+        Assert.assertEquals(Integer.valueOf(4), cache.computeIfAbsent("d", key -> 4));
+        Assert.assertEquals(2, cache.getHits());
+        Assert.assertEquals(3, cache.getMisses());
+        Assert.assertEquals(2, cache.getEvictions());
+    }
+
+    @Test
+    public void testBoundedLRUCacheWeight() {
+        CacheStatistics statistics = new CacheStatistics();
+        BoundedLRUCache<String, Integer> cache = new BoundedLRUCache<>(10, 10, Integer::longValue, statistics);
+        cache.put("a", 4);
+        cache.put("b", 4);
+        Assert.assertEquals(8, cache.getWeight());
+        Assert.assertEquals(Integer.valueOf(4), cache.get("a"));
+        // "b" is now the least recently used entry
+        cache.put("c", 5);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(9, cache.getWeight());
+        Assert.assertNull(cache.get("b"));
+        // replacing an entry adjusts the weight
+        cache.put("c", 1);
+        Assert.assertEquals(5, cache.getWeight());
+        // an entry heavier than the limit is kept, but everything else is evicted
+        cache.put("d", 20);
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(20, cache.getWeight());
+        cache.clear();
+        Assert.assertEquals(0, cache.getWeight());
+        Assert.assertEquals(1, statistics.getHits());
+        Assert.assertEquals(1, statistics.getMisses());
+        Assert.assertEquals(3, statistics.getEvictions());
+        Assert.assertEquals(cache.getEvictions(), statistics.getEvictions());
+        statistics.reset();
+        Assert.assertEquals(0, statistics.getEvictions());
+    }
+
+    @Test
+    public void testBoundedLRUCacheValidity() {
+        CacheStatistics statistics = new CacheStatistics();
+        BoundedLRUCache<String, Integer> cache = new BoundedLRUCache<>(10, 10, Integer::longValue, statistics);
+        cache.put("a", 3);
+        cache.put("b", 4);
+        Assert.assertEquals(Integer.valueOf(3), cache.get("a", v -> v < 4));
+        // a value that is no longer valid is a miss and it is removed
+        Assert.assertNull(cache.get("b", v -> v < 4));
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(3, cache.getWeight());
+        Assert.assertNull(cache.get("b"));
+        Assert.assertEquals(1, statistics.getHits());
+        Assert.assertEquals(2, statistics.getMisses());
+        Assert.assertEquals(0, statistics.getEvictions());
+    }
+
+    @Test
+    public void testBoundedLRUCacheChangingWeight() {
+        BoundedLRUCache<String, int[]> cache = new BoundedLRUCache<>(2, 10, v -> v[0], null);
+        int[] a = {3};
+        int[] b = {4};
+        cache.put("a", a);
+        cache.put("b", b);
+        // the weights counted when the values were added are subtracted when they leave
+        a[0] = 100;
+        b[0] = 1;
+        cache.put("c", new int[]{2});
+        Assert.assertEquals(6, cache.getWeight());
+        cache.put("b", new int[]{5});
+        Assert.assertEquals(7, cache.getWeight());
+        cache.get("c", v -> false);
+        Assert.assertEquals(5, cache.getWeight());
+        cache.put("d", new int[]{1});
+        cache.put("e", new int[]{1});
+        Assert.assertEquals(2, cache.getWeight());
+        Assert.assertEquals(2, cache.getEvictions());
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.runtime;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oracle.truffle.r.runtime.rng.RandomNumberGenerator;
+import com.oracle.truffle.r.runtime.rng.lecuyer.LecuyerCMRG;
+import com.oracle.truffle.r.runtime.rng.mt.MersenneTwister;
+import com.oracle.truffle.r.test.TestBase;
+
+public class TestRNGStreams extends TestBase {
+
+    /**
+     * Initial scrambling of the seed as done by {@code set.seed}.
+     */
+    private static int scramble(int seed) {
+        int result = seed;
+        for (int i = 0; i < 50; i++) {
+            result = (69069 * result + 1);
+        }
+        return result;
+    }
+
+    @Test
+    public void testLecuyerSeeding() {
+        // set.seed(123, kind = "L'Ecuyer-CMRG"); runif(2) in GNU R
+        LecuyerCMRG rng = new LecuyerCMRG();
+        rng.init(scramble(123));
+        Assert.assertArrayEquals(new int[]{1806547166, -983674937, 643431772, 1162448557, -959247990, -133913213}, Arrays.copyOfRange(rng.getSeeds(), 1, 7));
+        Assert.assertEquals(0.1663742155315906, rng.genrandDouble(), 0);
+        Assert.assertEquals(0.38984565788132536, rng.genrandDouble(), 0);
+    }
+
+    @Test
+    public void testLecuyerGnuRSeeds() {
+        // RNGkind("L'Ecuyer-CMRG"); set.seed(1); .Random.seed in GNU R
+        LecuyerCMRG rng = new LecuyerCMRG();
+        rng.init(scramble(1));
+        Assert.assertArrayEquals(new int[]{1280795612, -169270483, -442010614, -603558397, -222347416, 1489374793}, Arrays.copyOfRange(rng.getSeeds(), 1, 7));
+        // set.seed(123); parallel::nextRNGStream(.Random.seed) in GNU R
+        rng.init(scramble(123));
+        Assert.assertArrayEquals(new int[]{1801422725, -2057975723, 1156894209, 1595475487, 210384600, -1655729657}, Arrays.copyOfRange(LecuyerCMRG.nextStream(rng.getSeeds()), 1, 7));
+
+        // the kind is reset so that it does not leak into other tests
+        assertEval("{ RNGkind(\"L'Ecuyer-CMRG\"); set.seed(1); x <- .Random.seed; RNGkind(\"default\"); x }");
+        assertEval("{ RNGkind(\"L'Ecuyer-CMRG\"); set.seed(1); x <- runif(3); RNGkind(\"default\"); x }");
+        assertEval("{ RNGkind(\"L'Ecuyer-CMRG\"); set.seed(1); s <- parallel::nextRNGStream(.Random.seed); RNGkind(\"default\"); list(s, parallel::nextRNGStream(s)) }");
+        assertEval("{ RNGkind(\"L'Ecuyer-CMRG\"); set.seed(1); s <- parallel::nextRNGSubStream(.Random.seed); RNGkind(\"default\"); s }");
+        assertEval("{ RNGkind(\"L'Ecuyer-CMRG\"); set.seed(123); .Random.seed <- parallel::nextRNGStream(.Random.seed); x <- c(.Random.seed, runif(2)); RNGkind(\"default\"); x }");
+        assertEval("{ set.seed(42, kind = \"L'Ecuyer-CMRG\"); x <- rnorm(5); RNGkind(\"default\"); x }");
+    }
+
+    @Test
+    public void testLecuyerJump() {
+        LecuyerCMRG rng = new LecuyerCMRG();
+        rng.init(scramble(42));
+        int[] advanced = LecuyerCMRG.advance(rng.getSeeds().clone(), 10);
+        for (int i = 0; i < 1024; i++) {
+            rng.genrandDouble();
+        }
+        Assert.assertArrayEquals(rng.getSeeds(), advanced);
+
+        int[] stream = LecuyerCMRG.nextStream(rng.getSeeds());
+        Assert.assertArrayEquals(LecuyerCMRG.advance(rng.getSeeds(), 127), stream);
+        Assert.assertArrayEquals(LecuyerCMRG.advance(rng.getSeeds(), 76), LecuyerCMRG.nextSubStream(rng.getSeeds()));
+        Assert.assertEquals(rng.getSeeds()[0], stream[0]);
+    }
+
+    @Test
+    public void testBulkGeneration() {
+        checkBulk(new LecuyerCMRG(), new LecuyerCMRG());
+        checkBulk(new MersenneTwister(), new MersenneTwister());
+    }
+
+    private static void checkBulk(RandomNumberGenerator bulk, RandomNumberGenerator scalar) {
+        bulk.init(scramble(7));
+        scalar.init(scramble(7));
+        double[] values = new double[3000];
+        // mix scalar and bulk requests to cover partially consumed buffers
+        values[0] = bulk.genrandDouble();
+        bulk.genrandDoubles(values, 1, 1000);
+        bulk.genrandDoubles(values, 1000, values.length);
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertEquals(scalar.genrandDouble(), values[i], 0);
+        }
+        Assert.assertEquals(scalar.genrandDouble(), bulk.genrandDouble(), 0);
+    }
+}
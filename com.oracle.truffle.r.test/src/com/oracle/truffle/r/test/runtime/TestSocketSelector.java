@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.runtime;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oracle.truffle.r.runtime.conn.SocketSelector;
+import com.oracle.truffle.r.test.TestBase;
+
+public class TestSocketSelector extends TestBase {
+
+    @Test(timeout = 10000)
+    public void testNoChannels() throws IOException {
+        SocketSelector selector = new SocketSelector();
+        try {
+            // the selector was never opened and there is nothing to wait for
+            boolean[] ready = new boolean[2];
+            selector.select(new SocketChannel[2], ready, false, -1);
+            Assert.assertFalse(ready[0]);
+            Assert.assertFalse(ready[1]);
+            selector.select(new SocketChannel[0], new boolean[0], true, -1);
+
+            long start = System.nanoTime();
+            selector.select(new SocketChannel[1], new boolean[1], false, 100);
+            Assert.assertTrue(System.nanoTime() - start >= 90 * 1000000L);
+
+            ready = new boolean[]{true, false};
+            selector.select(new SocketChannel[2], ready, false, -1);
+            Assert.assertTrue(ready[0]);
+            Assert.assertFalse(ready[1]);
+        } finally {
+            selector.close();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testChannels() throws IOException {
+        SocketSelector selector = new SocketSelector();
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress()); SocketChannel peer = server.accept()) {
+                client.configureBlocking(false);
+                SocketChannel[] channels = {null, client};
+
+                boolean[] ready = new boolean[2];
+                selector.select(channels, ready, false, 0);
+                Assert.assertFalse(ready[1]);
+
+                selector.select(channels, ready, true, -1);
+                Assert.assertFalse(ready[0]);
+                Assert.assertTrue(ready[1]);
+
+                peer.write(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+                ready = new boolean[2];
+                selector.select(channels, ready, false, -1);
+                Assert.assertFalse(ready[0]);
+                Assert.assertTrue(ready[1]);
+
+                // an element already set does not block the selection
+                ready = new boolean[]{true, false};
+                client.read(ByteBuffer.allocate(3));
+                selector.select(channels, ready, false, -1);
+                Assert.assertTrue(ready[0]);
+                Assert.assertFalse(ready[1]);
+            }
+        } finally {
+            selector.close();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.runtime.data;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.oracle.truffle.r.runtime.data.RDataFactory;
+import com.oracle.truffle.r.runtime.data.RDoubleVector;
+import com.oracle.truffle.r.runtime.data.RList;
+import com.oracle.truffle.r.runtime.data.RObjectSize;
+import com.oracle.truffle.r.test.TestBase;
+
+public class RObjectSizeTests extends TestBase {
+
+    @Test
+    public void testSharedElementsCountedOnce() {
+        RDoubleVector vec = RDataFactory.createDoubleVector(new double[]{1, 2, 3}, true);
+        RList list = RDataFactory.createList(new Object[]{vec, vec, vec});
+        long expected = RObjectSize.getObjectSize(list) + RObjectSize.getObjectSize(vec);
+        assertEquals(expected, RObjectSize.getRecursiveObjectSize(list));
+    }
+
+    @Test
+    public void testManyElements() {
+        Object[] elements = new Object[10000];
+        long expected = 0;
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = RDataFactory.createDoubleVector(new double[i % 7], true);
+            expected += RObjectSize.getObjectSize(elements[i]);
+        }
+        RList list = RDataFactory.createList(elements);
+        expected += RObjectSize.getObjectSize(list);
+        assertEquals(expected, RObjectSize.getRecursiveObjectSize(list));
+        // the traversal state is reused, the result must not depend on the previous run
+        assertEquals(expected, RObjectSize.getRecursiveObjectSize(list));
+        RList nested = RDataFactory.createList(new Object[]{list, list});
+        assertEquals(expected + RObjectSize.getObjectSize(nested), RObjectSize.getRecursiveObjectSize(nested));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.runtime.data;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.oracle.truffle.r.runtime.data.RDoubleArrayVectorData;
+import com.oracle.truffle.r.runtime.data.RDoubleSeqVectorData;
+import com.oracle.truffle.r.runtime.data.RIntArrayVectorData;
+import com.oracle.truffle.r.runtime.data.RIntSeqVectorData;
+import com.oracle.truffle.r.runtime.data.VectorDataLibrary;
+import com.oracle.truffle.r.runtime.data.VectorDataLibrary.RandomAccessWriteIterator;
+import com.oracle.truffle.r.runtime.data.VectorDataLibrary.SeqWriteIterator;
+import com.oracle.truffle.r.test.TestBase;
+
+public class VectorDataSortednessTests extends TestBase {
+
+    private static final VectorDataLibrary LIB = VectorDataLibrary.getFactory().getUncached();
+
+    @Test
+    public void testSetSorted() {
+        RIntArrayVectorData data = new RIntArrayVectorData(new int[]{1, 2, 2, 5}, false);
+        assertFalse(LIB.isSorted(data, false, true));
+        data.setSorted(false);
+        assertTrue(VectorDataLibrary.isSortedWithoutNA(LIB, data, false));
+        assertFalse(LIB.isSorted(data, true, true));
+        assertTrue("no NA values in sorted data", LIB.isComplete(data));
+        assertTrue("copy keeps sortedness", VectorDataLibrary.isSortedWithoutNA(LIB, LIB.copy(data, false), false));
+
+        RDoubleArrayVectorData ddata = new RDoubleArrayVectorData(new double[]{3, 2.5, -1}, true);
+        ddata.setSorted(true);
+        assertTrue(VectorDataLibrary.isSortedWithoutNA(LIB, ddata, true));
+        assertFalse(LIB.isSorted(ddata, false, false));
+    }
+
+    @Test
+    public void testWriteResetsSorted() {
+        RIntArrayVectorData data = new RIntArrayVectorData(new int[]{1, 2, 3}, true);
+        data.setSorted(false);
+        LIB.setIntAt(data, 0, 1);
+        assertFalse(LIB.isSorted(data, false, true));
+
+        data.setSorted(false);
+        SeqWriteIterator it = LIB.writeIterator(data);
+        LIB.commitWriteIterator(data, it, true);
+        assertFalse(LIB.isSorted(data, false, true));
+
+        RDoubleArrayVectorData ddata = new RDoubleArrayVectorData(new double[]{1, 2, 3}, true);
+        ddata.setSorted(false);
+        RandomAccessWriteIterator rit = LIB.randomAccessWriteIterator(ddata);
+        LIB.commitRandomAccessWriteIterator(ddata, rit, true);
+        assertFalse(LIB.isSorted(ddata, false, true));
+    }
+
+    @Test
+    public void testMaterializedSequence() {
+        Object up = LIB.materialize(new RIntSeqVectorData(1, 1, 10));
+        assertTrue(up instanceof RIntArrayVectorData);
+        assertTrue(VectorDataLibrary.isSortedWithoutNA(LIB, up, false));
+        Object down = LIB.materialize(new RDoubleSeqVectorData(10, -0.5, 10));
+        assertTrue(down instanceof RDoubleArrayVectorData);
+        assertTrue(VectorDataLibrary.isSortedWithoutNA(LIB, down, true));
+        assertFalse(LIB.isSorted(down, false, true));
+    }
+}
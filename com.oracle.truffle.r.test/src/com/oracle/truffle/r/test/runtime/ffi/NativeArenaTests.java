@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.runtime.ffi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.oracle.truffle.r.runtime.ffi.util.NativeArena;
+import com.oracle.truffle.r.runtime.ffi.util.NativeMemory;
+import org.junit.Test;
+
+public class NativeArenaTests {
+
+    @Test
+    public void testScopeReusesMemory() {
+        NativeArena arena = new NativeArena();
+        try {
+            arena.pushScope();
+            long first = arena.allocate(3);
+            long second = arena.allocate(8);
+            assertEquals(0, first % 16);
+            assertEquals(0, second % 16);
+            assertNotEquals(first, second);
+            NativeMemory.putLong(second, 0, 42);
+            assertEquals(42, NativeMemory.getLong(second, 0));
+            arena.popScope();
+
+            arena.pushScope();
+            assertEquals(first, arena.allocate(16));
+            arena.pushScope();
+            long nested = arena.allocate(1);
+            arena.popScope();
+            assertEquals(nested, arena.allocate(1));
+            arena.popScope();
+            assertEquals(0, arena.getDepth());
+        } finally {
+            arena.dispose();
+        }
+    }
+
+    @Test
+    public void testLargeAndZeroAllocations() {
+        NativeArena arena = new NativeArena();
+        try {
+            long before = NativeArena.getStatistics()[NativeArena.Statistic.LARGE_ALLOCATIONS.ordinal()];
+            arena.pushScope();
+            assertEquals(0L, arena.allocate(0));
+            long large = arena.allocate(1024 * 1024);
+            NativeMemory.putByte(large, 1024 * 1024 - 1, (byte) 1);
+            // many small allocations spanning several chunks
+            for (int i = 0; i < 10000; i++) {
+                assertTrue(arena.allocate(100) != 0);
+            }
+            arena.popScope();
+            long after = NativeArena.getStatistics()[NativeArena.Statistic.LARGE_ALLOCATIONS.ordinal()];
+            assertTrue(after > before);
+        } finally {
+            arena.dispose();
+        }
+    }
+}
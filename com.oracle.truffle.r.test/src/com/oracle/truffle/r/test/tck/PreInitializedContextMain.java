@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 3 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 3 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 3 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.truffle.r.test.tck;
+
+import java.lang.reflect.Method;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+
+import com.oracle.truffle.r.runtime.context.RContext;
+
+/**
+ * Pre-initializes an R context the way a native image build does and then creates a context that
+ * cannot use it, because it is bound to an explicit engine, or one that patches it. Run in a fresh
+ * VM by {@link PreInitializedContextTest}, since the initial context of a VM can only be created
+ * once.
+ */
+public final class PreInitializedContextMain {
+
+    private PreInitializedContextMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("polyglot.image-build-time.PreinitializeContexts", "R");
+        try {
+            Class<?> holder = Class.forName("org.graalvm.polyglot.Engine$ImplHolder", true, PreInitializedContextMain.class.getClassLoader());
+            Method preInitialize = holder.getDeclaredMethod("preInitializeEngine");
+            preInitialize.setAccessible(true);
+            preInitialize.invoke(null);
+        } finally {
+            System.clearProperty("polyglot.image-build-time.PreinitializeContexts");
+        }
+        boolean patched = args.length > 0 && args[0].equals("patched");
+        if (patched) {
+            try (Context context = Context.newBuilder("R").allowAllAccess(true).build()) {
+                report(context);
+            }
+        } else {
+            try (Engine engine = Engine.create(); Context context = Context.newBuilder("R").engine(engine).allowAllAccess(true).build()) {
+                report(context);
+            }
+        }
+    }
+
+    private static void report(Context context) {
+        // Checkstyle: stop print method check
+        System.out.println("value=" + context.eval("R", "sum(1:10)").asInt());
+        System.out.println("initialized=" + RContext.isInitialContextInitialized());
+        System.out.println("pid=" + (RContext.getInitialPid() != 0));
+        // Checkstyle: resume print method check
+    }
+}